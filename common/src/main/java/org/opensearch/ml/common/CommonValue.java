@@ -56,7 +56,7 @@ public class CommonValue {
         public static final String ML_MODEL_INDEX = ".plugins-ml-model";
         public static final String ML_TASK_INDEX = ".plugins-ml-task";
         public static final Integer ML_MODEL_GROUP_INDEX_SCHEMA_VERSION = 2;
-        public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 10;
+        public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 11;
         public static final String ML_CONNECTOR_INDEX = ".plugins-ml-connector";
         public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 2;
         public static final Integer ML_CONNECTOR_SCHEMA_VERSION = 3;
@@ -186,6 +186,9 @@ public class CommonValue {
                         + MLModel.MODEL_CONTENT_FIELD
                         + "\" : {\"type\": \"binary\"},\n"
                         + "      \""
+                        + MLModel.MODEL_CONTENT_ENCODING_FIELD
+                        + "\" : {\"type\": \"keyword\"},\n"
+                        + "      \""
                         + MLModel.CHUNK_NUMBER_FIELD
                         + "\" : {\"type\": \"long\"},\n"
                         + "      \""
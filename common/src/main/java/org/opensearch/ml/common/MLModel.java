@@ -16,6 +16,7 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.Guardrails;
 import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.model.MLModelConfig;
@@ -26,11 +27,15 @@ import org.opensearch.ml.common.model.QuestionAnsweringModelConfig;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.model.MetricsCorrelationModelConfig;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
+import java.util.zip.InflaterInputStream;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.USER;
@@ -49,6 +54,9 @@ public class MLModel implements ToXContentObject {
     public static final String MODEL_VERSION_FIELD = "model_version";
     public static final String OLD_MODEL_CONTENT_FIELD = "content";
     public static final String MODEL_CONTENT_FIELD = "model_content";
+    // compression of the content of a model chunk, the content isn't compressed if absent
+    public static final String MODEL_CONTENT_ENCODING_FIELD = "model_content_encoding";
+    public static final String DEFLATE_MODEL_CONTENT_ENCODING = "deflate";
 
     public static final String DESCRIPTION_FIELD = "description";
     public static final String MODEL_FORMAT_FIELD = "model_format";
@@ -453,6 +461,8 @@ public class MLModel implements ToXContentObject {
         String version = null;
         Integer oldVersion = null;
         String content = null;
+        byte[] binaryContent = null;
+        String contentEncoding = null;
         String oldContent = null;
         User user = null;
 
@@ -500,7 +510,15 @@ public class MLModel implements ToXContentObject {
                     modelGroupId = parser.text();
                     break;
                 case MODEL_CONTENT_FIELD:
-                    content = parser.text();
+                    // chunks indexed as SMILE hold the content as a raw binary value
+                    if (parser.currentToken() == XContentParser.Token.VALUE_EMBEDDED_OBJECT) {
+                        binaryContent = parser.binaryValue();
+                    } else {
+                        content = parser.text();
+                    }
+                    break;
+                case MODEL_CONTENT_ENCODING_FIELD:
+                    contentEncoding = parser.text();
                     break;
                 case OLD_MODEL_CONTENT_FIELD:
                     oldContent = parser.text();
@@ -622,6 +640,10 @@ public class MLModel implements ToXContentObject {
                     break;
             }
         }
+        if (binaryContent != null || (content != null && contentEncoding != null)) {
+            byte[] contentBytes = binaryContent != null ? binaryContent : Base64.getDecoder().decode(content);
+            content = Base64.getEncoder().encodeToString(decodeModelContent(contentBytes, contentEncoding));
+        }
         return MLModel.builder()
                 .name(name)
                 .modelGroupId(modelGroupId)
@@ -659,6 +681,24 @@ public class MLModel implements ToXContentObject {
                 .build();
     }
 
+    /**
+     * Decode the content of a model chunk.
+     * @param content content as stored in the chunk
+     * @param encoding value of the model_content_encoding field, null if the content isn't compressed
+     * @return decompressed content
+     */
+    public static byte[] decodeModelContent(byte[] content, String encoding) throws IOException {
+        if (encoding == null) {
+            return content;
+        }
+        if (!DEFLATE_MODEL_CONTENT_ENCODING.equals(encoding)) {
+            throw new MLException("Unsupported model chunk encoding: " + encoding);
+        }
+        try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(content))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
     public static MLModel fromStream(StreamInput in) throws IOException {
         MLModel mlModel = new MLModel(in);
         return mlModel;
@@ -8,6 +8,7 @@ package org.opensearch.ml.common.connector;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -16,6 +17,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 
 import java.io.IOException;
+import java.util.Locale;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
@@ -26,37 +28,86 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
     public static final String MAX_CONNECTION_FIELD = "max_connection";
     public static final String CONNECTION_TIMEOUT_FIELD = "connection_timeout";
     public static final String READ_TIMEOUT_FIELD = "read_timeout";
+    public static final String MAX_RETRY_TIMES_FIELD = "max_retry_times";
+    public static final String RETRY_BACKOFF_MILLIS_FIELD = "retry_backoff_millis";
+    public static final String RETRY_TIMEOUT_SECONDS_FIELD = "retry_timeout_seconds";
+    public static final String RETRY_BACKOFF_POLICY_FIELD = "retry_backoff_policy";
+    public static final String MAX_CONCURRENCY_FIELD = "max_concurrency";
 
     public static final Integer MAX_CONNECTION_DEFAULT_VALUE = Integer.valueOf(30);
     public static final Integer CONNECTION_TIMEOUT_DEFAULT_VALUE = Integer.valueOf(30000);
     public static final Integer READ_TIMEOUT_DEFAULT_VALUE = Integer.valueOf(30000);
+    public static final Integer MAX_RETRY_TIMES_DEFAULT_VALUE = Integer.valueOf(0);
+    public static final Integer RETRY_BACKOFF_MILLIS_DEFAULT_VALUE = Integer.valueOf(200);
+    public static final Integer RETRY_TIMEOUT_SECONDS_DEFAULT_VALUE = Integer.valueOf(30);
+    public static final RetryBackoffPolicy RETRY_BACKOFF_POLICY_DEFAULT_VALUE = RetryBackoffPolicy.EXPONENTIAL_FULL_JITTER;
+
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_RETRY_AND_CONCURRENCY = Version.V_2_14_0;
 
     private Integer maxConnections;
     private Integer connectionTimeout;
     private Integer readTimeout;
+    // retries of throttled requests, 0 disables retrying. Blocking predict calls wait out the backoff on the
+    // predict thread, non-blocking ones schedule the retry
+    private Integer maxRetryTimes;
+    private Integer retryBackoffMillis;
+    private Integer retryTimeoutSeconds;
+    private RetryBackoffPolicy retryBackoffPolicy;
+    // upper bound of the adaptive concurrency limit of a model, null disables the limit
+    private Integer maxConcurrency;
 
-    @Builder(toBuilder = true)
     public ConnectorClientConfig(
         Integer maxConnections,
         Integer connectionTimeout,
         Integer readTimeout
+    ) {
+        this(maxConnections, connectionTimeout, readTimeout, null, null, null, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public ConnectorClientConfig(
+        Integer maxConnections,
+        Integer connectionTimeout,
+        Integer readTimeout,
+        Integer maxRetryTimes,
+        Integer retryBackoffMillis,
+        Integer retryTimeoutSeconds,
+        RetryBackoffPolicy retryBackoffPolicy,
+        Integer maxConcurrency
     ) {
         this.maxConnections = maxConnections;
         this.connectionTimeout = connectionTimeout;
         this.readTimeout = readTimeout;
-
+        this.maxRetryTimes = maxRetryTimes;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.retryTimeoutSeconds = retryTimeoutSeconds;
+        this.retryBackoffPolicy = retryBackoffPolicy;
+        this.maxConcurrency = maxConcurrency;
     }
 
     public ConnectorClientConfig(StreamInput input) throws IOException {
         this.maxConnections = input.readOptionalInt();
         this.connectionTimeout = input.readOptionalInt();
         this.readTimeout = input.readOptionalInt();
+        if (input.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RETRY_AND_CONCURRENCY)) {
+            this.maxRetryTimes = input.readOptionalInt();
+            this.retryBackoffMillis = input.readOptionalInt();
+            this.retryTimeoutSeconds = input.readOptionalInt();
+            if (input.readBoolean()) {
+                this.retryBackoffPolicy = input.readEnum(RetryBackoffPolicy.class);
+            }
+            this.maxConcurrency = input.readOptionalInt();
+        }
     }
 
     public ConnectorClientConfig() {
         this.maxConnections = MAX_CONNECTION_DEFAULT_VALUE;
         this.connectionTimeout = CONNECTION_TIMEOUT_DEFAULT_VALUE;
         this.readTimeout = READ_TIMEOUT_DEFAULT_VALUE;
+        this.maxRetryTimes = MAX_RETRY_TIMES_DEFAULT_VALUE;
+        this.retryBackoffMillis = RETRY_BACKOFF_MILLIS_DEFAULT_VALUE;
+        this.retryTimeoutSeconds = RETRY_TIMEOUT_SECONDS_DEFAULT_VALUE;
+        this.retryBackoffPolicy = RETRY_BACKOFF_POLICY_DEFAULT_VALUE;
     }
 
     @Override
@@ -65,6 +116,18 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         out.writeOptionalInt(maxConnections);
         out.writeOptionalInt(connectionTimeout);
         out.writeOptionalInt(readTimeout);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RETRY_AND_CONCURRENCY)) {
+            out.writeOptionalInt(maxRetryTimes);
+            out.writeOptionalInt(retryBackoffMillis);
+            out.writeOptionalInt(retryTimeoutSeconds);
+            if (retryBackoffPolicy != null) {
+                out.writeBoolean(true);
+                out.writeEnum(retryBackoffPolicy);
+            } else {
+                out.writeBoolean(false);
+            }
+            out.writeOptionalInt(maxConcurrency);
+        }
     }
 
     @Override
@@ -79,6 +142,21 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         if (readTimeout != null) {
             builder.field(READ_TIMEOUT_FIELD, readTimeout);
         }
+        if (maxRetryTimes != null) {
+            builder.field(MAX_RETRY_TIMES_FIELD, maxRetryTimes);
+        }
+        if (retryBackoffMillis != null) {
+            builder.field(RETRY_BACKOFF_MILLIS_FIELD, retryBackoffMillis);
+        }
+        if (retryTimeoutSeconds != null) {
+            builder.field(RETRY_TIMEOUT_SECONDS_FIELD, retryTimeoutSeconds);
+        }
+        if (retryBackoffPolicy != null) {
+            builder.field(RETRY_BACKOFF_POLICY_FIELD, retryBackoffPolicy.name().toLowerCase(Locale.ROOT));
+        }
+        if (maxConcurrency != null) {
+            builder.field(MAX_CONCURRENCY_FIELD, maxConcurrency);
+        }
         return builder.endObject();
     }
 
@@ -91,6 +169,11 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         Integer maxConnections = null;
         Integer connectionTimeout = null;
         Integer readTimeout = null;
+        Integer maxRetryTimes = null;
+        Integer retryBackoffMillis = null;
+        Integer retryTimeoutSeconds = null;
+        RetryBackoffPolicy retryBackoffPolicy = null;
+        Integer maxConcurrency = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -107,6 +190,33 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 case READ_TIMEOUT_FIELD:
                     readTimeout = parser.intValue();
                     break;
+                case MAX_RETRY_TIMES_FIELD:
+                    maxRetryTimes = parser.intValue();
+                    if (maxRetryTimes < 0) {
+                        throw new IllegalArgumentException("max_retry_times must not be negative");
+                    }
+                    break;
+                case RETRY_BACKOFF_MILLIS_FIELD:
+                    retryBackoffMillis = parser.intValue();
+                    if (retryBackoffMillis < 0) {
+                        throw new IllegalArgumentException("retry_backoff_millis must not be negative");
+                    }
+                    break;
+                case RETRY_TIMEOUT_SECONDS_FIELD:
+                    retryTimeoutSeconds = parser.intValue();
+                    if (retryTimeoutSeconds < 0) {
+                        throw new IllegalArgumentException("retry_timeout_seconds must not be negative");
+                    }
+                    break;
+                case RETRY_BACKOFF_POLICY_FIELD:
+                    retryBackoffPolicy = RetryBackoffPolicy.from(parser.text());
+                    break;
+                case MAX_CONCURRENCY_FIELD:
+                    maxConcurrency = parser.intValue();
+                    if (maxConcurrency <= 0) {
+                        throw new IllegalArgumentException("max_concurrency must be positive");
+                    }
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -116,6 +226,11 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 .maxConnections(maxConnections)
                 .connectionTimeout(connectionTimeout)
                 .readTimeout(readTimeout)
+                .maxRetryTimes(maxRetryTimes)
+                .retryBackoffMillis(retryBackoffMillis)
+                .retryTimeoutSeconds(retryTimeoutSeconds)
+                .retryBackoffPolicy(retryBackoffPolicy)
+                .maxConcurrency(maxConcurrency)
                 .build();
     }
 }
@@ -49,6 +49,9 @@ public class HttpConnector extends AbstractConnector {
 
     //TODO: add RequestConfig like request time out,
 
+    @EqualsAndHashCode.Exclude
+    private transient volatile RequestBodyTemplate predictRequestBodyTemplate;
+
     @Builder
     public HttpConnector(String name, String description, String version, String protocol,
                          Map<String, String> parameters, Map<String, String> credential, List<ConnectorAction> actions,
@@ -294,6 +297,7 @@ public class HttpConnector extends AbstractConnector {
         }
         if (updateContent.getActions() != null) {
             this.actions = updateContent.getActions();
+            this.predictRequestBodyTemplate = null;
         }
         if (updateContent.getBackendRoles() != null) {
             this.backendRoles = updateContent.getBackendRoles();
@@ -311,6 +315,11 @@ public class HttpConnector extends AbstractConnector {
         Optional<ConnectorAction> predictAction = findPredictAction();
         if (predictAction.isPresent() && predictAction.get().getRequestBody() != null) {
             String payload = predictAction.get().getRequestBody();
+            RequestBodyTemplate template = getPredictRequestBodyTemplate(payload);
+            String renderedPayload = template == null ? null : template.render(parameters);
+            if (renderedPayload != null) {
+                return (T) renderedPayload;
+            }
             payload = fillNullParameters(parameters, payload);
             StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
             payload = substitutor.replace(payload);
@@ -323,6 +332,18 @@ public class HttpConnector extends AbstractConnector {
         return (T) parameters.get("http_body");
     }
 
+    /**
+     * The predict request body is compiled once and reused until the connector actions change.
+     */
+    private RequestBodyTemplate getPredictRequestBodyTemplate(String requestBody) {
+        RequestBodyTemplate template = predictRequestBodyTemplate;
+        if (template == null || template.getSource() != requestBody) {
+            template = RequestBodyTemplate.compile(requestBody);
+            predictRequestBodyTemplate = template;
+        }
+        return template;
+    }
+
     protected String fillNullParameters(Map<String, String> parameters, String payload) {
         List<String> bodyParams = findStringParametersWithNullDefaultValue(payload);
         String newPayload = payload;
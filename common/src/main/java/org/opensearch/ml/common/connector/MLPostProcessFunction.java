@@ -6,8 +6,10 @@
 package org.opensearch.ml.common.connector;
 
 import org.opensearch.ml.common.connector.functions.postprocess.BedrockEmbeddingPostProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.ChatCompletionPostProcessFunction;
 import org.opensearch.ml.common.connector.functions.postprocess.CohereRerankPostProcessFunction;
 import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingPostProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingResponseParser;
 import org.opensearch.ml.common.output.model.ModelTensor;
 
 import java.util.HashMap;
@@ -23,27 +25,46 @@ public class MLPostProcessFunction {
     public static final String COHERE_RERANK = "connector.post_process.cohere.rerank";
     public static final String DEFAULT_EMBEDDING = "connector.post_process.default.embedding";
     public static final String DEFAULT_RERANK = "connector.post_process.default.rerank";
+    public static final String OPENAI_CHAT = "connector.post_process.openai.chat";
+    public static final String BEDROCK_CLAUDE = "connector.post_process.bedrock.claude";
+    public static final String BEDROCK_CLAUDE_MESSAGES = "connector.post_process.bedrock.claude.messages";
+    public static final String BEDROCK_TITAN = "connector.post_process.bedrock.titan";
 
     private static final Map<String, String> JSON_PATH_EXPRESSION = new HashMap<>();
 
     private static final Map<String, Function<Object, List<ModelTensor>>> POST_PROCESS_FUNCTIONS = new HashMap<>();
 
+    private static final Map<String, EmbeddingResponseParser> RESPONSE_PARSERS = new HashMap<>();
+
     static {
         EmbeddingPostProcessFunction embeddingPostProcessFunction = new EmbeddingPostProcessFunction();
         BedrockEmbeddingPostProcessFunction bedrockEmbeddingPostProcessFunction = new BedrockEmbeddingPostProcessFunction();
         CohereRerankPostProcessFunction cohereRerankPostProcessFunction = new CohereRerankPostProcessFunction();
+        ChatCompletionPostProcessFunction chatCompletionPostProcessFunction = new ChatCompletionPostProcessFunction();
         JSON_PATH_EXPRESSION.put(OPENAI_EMBEDDING, "$.data[*].embedding");
         JSON_PATH_EXPRESSION.put(COHERE_EMBEDDING, "$.embeddings");
         JSON_PATH_EXPRESSION.put(DEFAULT_EMBEDDING, "$[*]");
         JSON_PATH_EXPRESSION.put(BEDROCK_EMBEDDING, "$.embedding");
         JSON_PATH_EXPRESSION.put(COHERE_RERANK, "$.results");
         JSON_PATH_EXPRESSION.put(DEFAULT_RERANK, "$[*]");
+        JSON_PATH_EXPRESSION.put(OPENAI_CHAT, "$.choices[0].message.content");
+        JSON_PATH_EXPRESSION.put(BEDROCK_CLAUDE, "$.completion");
+        JSON_PATH_EXPRESSION.put(BEDROCK_CLAUDE_MESSAGES, "$.content[0].text");
+        JSON_PATH_EXPRESSION.put(BEDROCK_TITAN, "$.results[0].outputText");
         POST_PROCESS_FUNCTIONS.put(OPENAI_EMBEDDING, embeddingPostProcessFunction);
         POST_PROCESS_FUNCTIONS.put(COHERE_EMBEDDING, embeddingPostProcessFunction);
         POST_PROCESS_FUNCTIONS.put(DEFAULT_EMBEDDING, embeddingPostProcessFunction);
         POST_PROCESS_FUNCTIONS.put(BEDROCK_EMBEDDING, bedrockEmbeddingPostProcessFunction);
         POST_PROCESS_FUNCTIONS.put(COHERE_RERANK, cohereRerankPostProcessFunction);
         POST_PROCESS_FUNCTIONS.put(DEFAULT_RERANK, cohereRerankPostProcessFunction);
+        POST_PROCESS_FUNCTIONS.put(OPENAI_CHAT, chatCompletionPostProcessFunction);
+        POST_PROCESS_FUNCTIONS.put(BEDROCK_CLAUDE, chatCompletionPostProcessFunction);
+        POST_PROCESS_FUNCTIONS.put(BEDROCK_CLAUDE_MESSAGES, chatCompletionPostProcessFunction);
+        POST_PROCESS_FUNCTIONS.put(BEDROCK_TITAN, chatCompletionPostProcessFunction);
+        RESPONSE_PARSERS.put(OPENAI_EMBEDDING, new EmbeddingResponseParser("data", "embedding", false));
+        RESPONSE_PARSERS.put(COHERE_EMBEDDING, new EmbeddingResponseParser("embeddings", null, false));
+        RESPONSE_PARSERS.put(DEFAULT_EMBEDDING, new EmbeddingResponseParser(null, null, false));
+        RESPONSE_PARSERS.put(BEDROCK_EMBEDDING, new EmbeddingResponseParser("embedding", null, true));
     }
 
     public static String getResponseFilter(String postProcessFunction) {
@@ -54,6 +75,15 @@ public class MLPostProcessFunction {
         return POST_PROCESS_FUNCTIONS.get(postProcessFunction);
     }
 
+    /**
+     * Get the parser which reads the model response of the post process function as a stream.
+     * @param postProcessFunction post process function name
+     * @return response parser, or null if the post process function needs the whole response
+     */
+    public static EmbeddingResponseParser getResponseParser(String postProcessFunction) {
+        return RESPONSE_PARSERS.get(postProcessFunction);
+    }
+
     public static boolean contains(String postProcessFunction) {
         return POST_PROCESS_FUNCTIONS.containsKey(postProcessFunction);
     }
@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.ml.common.utils.StringUtils.isJson;
+
+/**
+ * Connector request body compiled into literal segments and parameter slots, so a payload can be rendered without
+ * regex matching and template scanning on every predict request.
+ *
+ * It renders the same payload as filling null parameters and substituting "${parameters.*}" placeholders:
+ * <ul>
+ *     <li>"${parameters.key}" is replaced with the parameter value, or kept as is if the parameter is missing.</li>
+ *     <li>"${parameters.key:-default}" falls back to the default value if the parameter is missing.</li>
+ *     <li>"\"${parameters.key:-null}\"" including the quotes is replaced with null if the parameter is missing or null.</li>
+ * </ul>
+ * Templates using the "$${parameters." escape and parameter values containing placeholders need recursive
+ * substitution, which is not supported here. Callers must fall back to full substitution in these cases.
+ *
+ * If every placeholder is inside a JSON string of a valid JSON template, the payload is valid JSON as long as the
+ * parameter values don't need escaping, so the payload is only parsed to validate it when that's not the case.
+ */
+public class RequestBodyTemplate {
+
+    private static final String PARAMETERS_PREFIX = "${parameters.";
+    private static final String ESCAPED_PARAMETERS_PREFIX = "$" + PARAMETERS_PREFIX;
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+    private static final String NULL_DEFAULT_VALUE = "null";
+
+    @Getter
+    private final String source;
+    private final String[] literals;
+    private final Slot[] slots;
+    private final int literalLength;
+    private final boolean stringSlotsOnly;
+
+    private RequestBodyTemplate(String source, List<String> literals, List<Slot> slots) {
+        this.source = source;
+        this.literals = literals.toArray(new String[0]);
+        this.slots = slots.toArray(new Slot[0]);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+        this.stringSlotsOnly = computeStringSlotsOnly();
+    }
+
+    /**
+     * Compile a request body template.
+     * @param source request body with "${parameters.*}" placeholders
+     * @return compiled template, or null if the template needs full substitution
+     */
+    public static RequestBodyTemplate compile(String source) {
+        if (source == null || source.contains(ESCAPED_PARAMETERS_PREFIX)) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean inString = false;
+        int position = 0;
+        while (position < source.length()) {
+            int start = source.indexOf(PARAMETERS_PREFIX, position);
+            int end = start < 0 ? -1 : source.indexOf('}', start + PARAMETERS_PREFIX.length());
+            if (end < 0) {
+                inString = appendLiteral(literal, source, position, source.length(), inString);
+                break;
+            }
+            String variable = source.substring(start + PARAMETERS_PREFIX.length(), end);
+            if (variable.contains("$")) {
+                // nested placeholders or placeholders in default values need recursive substitution
+                return null;
+            }
+            String key = variable;
+            String defaultValue = null;
+            int delimiter = variable.indexOf(DEFAULT_VALUE_DELIMITER);
+            if (delimiter >= 0) {
+                key = variable.substring(0, delimiter);
+                defaultValue = variable.substring(delimiter + DEFAULT_VALUE_DELIMITER.length());
+            }
+            boolean quotedNullDefault = NULL_DEFAULT_VALUE.equals(defaultValue)
+                && isWord(key)
+                && start > 0
+                && source.charAt(start - 1) == '"'
+                && end + 1 < source.length()
+                && source.charAt(end + 1) == '"';
+            boolean slotInString;
+            if (quotedNullDefault) {
+                // the slot includes the quotes around the placeholder, so it renders a JSON string or null
+                inString = appendLiteral(literal, source, position, start - 1, inString);
+                slotInString = !inString;
+                position = end + 2;
+            } else {
+                inString = appendLiteral(literal, source, position, start, inString);
+                slotInString = inString;
+                position = end + 1;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(new Slot(key, defaultValue, variable, quotedNullDefault, slotInString));
+        }
+        literals.add(literal.toString());
+        return new RequestBodyTemplate(source, literals, slots);
+    }
+
+    /**
+     * Render the payload with the given parameters.
+     * @param parameters parameters, can be null
+     * @return payload, or null if parameter values need full substitution
+     */
+    public String render(Map<String, String> parameters) {
+        String[] values = new String[slots.length];
+        int length = literalLength;
+        boolean validationNeeded = !stringSlotsOnly;
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            String value = parameters == null ? null : parameters.get(slot.key);
+            if (value != null && value.contains(PARAMETERS_PREFIX)) {
+                return null;
+            }
+            if (slot.quotedNullDefault) {
+                value = value == null ? NULL_DEFAULT_VALUE : "\"" + value + "\"";
+            } else if (value == null) {
+                if (slot.defaultValue != null) {
+                    value = slot.defaultValue;
+                } else {
+                    value = PARAMETERS_PREFIX + slot.variable + "}";
+                    validationNeeded = true;
+                }
+            }
+            if (!validationNeeded && slot.inString && !isStringSafe(value, slot.quotedNullDefault)) {
+                validationNeeded = true;
+            }
+            values[i] = value;
+            length += value.length();
+        }
+        StringBuilder payload = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            payload.append(literals[i]).append(values[i]);
+        }
+        payload.append(literals[slots.length]);
+        String result = payload.toString();
+        if (validationNeeded && !isJson(result)) {
+            throw new IllegalArgumentException("Invalid payload: " + result);
+        }
+        return result;
+    }
+
+    private boolean computeStringSlotsOnly() {
+        StringBuilder placeholderPayload = new StringBuilder(literalLength);
+        for (int i = 0; i < slots.length; i++) {
+            if (!slots[i].inString) {
+                return false;
+            }
+            placeholderPayload.append(literals[i]).append(slots[i].quotedNullDefault ? "\"\"" : "");
+        }
+        placeholderPayload.append(literals[slots.length]);
+        return isJson(placeholderPayload.toString());
+    }
+
+    private static boolean appendLiteral(StringBuilder literal, String source, int start, int end, boolean inString) {
+        boolean escaped = false;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            literal.append(c);
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = inString;
+            } else if (c == '"') {
+                inString = !inString;
+            }
+        }
+        return inString;
+    }
+
+    private static boolean isWord(String key) {
+        if (key.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9') && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if the value can be put in a JSON string without escaping.
+     */
+    private static boolean isStringSafe(String value, boolean quoted) {
+        int start = quoted ? 1 : 0;
+        int end = quoted ? value.length() - 1 : value.length();
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Slot {
+        private final String key;
+        private final String defaultValue;
+        private final String variable;
+        private final boolean quotedNullDefault;
+        private final boolean inString;
+
+        Slot(String key, String defaultValue, String variable, boolean quotedNullDefault, boolean inString) {
+            this.key = key;
+            this.defaultValue = defaultValue;
+            this.variable = variable;
+            this.quotedNullDefault = quotedNullDefault;
+            this.inString = inString;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import java.util.Locale;
+
+/**
+ * How long to wait before retrying a throttled remote model request.
+ */
+public enum RetryBackoffPolicy {
+    // always wait retry_backoff_millis
+    CONSTANT,
+    // wait half of the exponential backoff plus a random part of the other half
+    EXPONENTIAL_EQUAL_JITTER,
+    // wait a random time between zero and the exponential backoff
+    EXPONENTIAL_FULL_JITTER;
+
+    public static RetryBackoffPolicy from(String value) {
+        try {
+            return RetryBackoffPolicy.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Unsupported retry backoff policy: " + value);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions.postprocess;
+
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the "response" tensor of chat completion models from the generated text, which is the same output a
+ * painless post process function returning the text produces, without parsing the model response a second time.
+ * Chat models return null content when the message carries tool calls instead of text, which is mapped to a null
+ * "response" rather than rejected as a malformed model output.
+ */
+public class ChatCompletionPostProcessFunction extends ConnectorPostProcessFunction<Object> {
+
+    public static final String RESPONSE_FIELD = "response";
+
+    @Override
+    public List<ModelTensor> apply(Object input) {
+        if (input == null) {
+            List<ModelTensor> modelTensors = new ArrayList<>();
+            modelTensors.add(buildModelTensor(null));
+            return modelTensors;
+        }
+        return super.apply(input);
+    }
+
+    @Override
+    public void validate(Object input) {
+        if (input instanceof String) {
+            return;
+        }
+        if (!(input instanceof List)) {
+            throw new IllegalArgumentException("Post process function input is not a String or a List of String.");
+        }
+        for (Object text : (List<?>) input) {
+            if (text != null && !(text instanceof String)) {
+                throw new IllegalArgumentException("Post process function input is not a String or a List of String.");
+            }
+        }
+    }
+
+    @Override
+    public List<ModelTensor> process(Object input) {
+        List<ModelTensor> modelTensors = new ArrayList<>();
+        if (input instanceof String) {
+            modelTensors.add(buildModelTensor((String) input));
+        } else {
+            for (Object text : (List<?>) input) {
+                modelTensors.add(buildModelTensor((String) text));
+            }
+        }
+        return modelTensors;
+    }
+
+    private ModelTensor buildModelTensor(String text) {
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap.put(RESPONSE_FIELD, text);
+        return ModelTensor.builder().name(RESPONSE_FIELD).dataAsMap(dataAsMap).build();
+    }
+}
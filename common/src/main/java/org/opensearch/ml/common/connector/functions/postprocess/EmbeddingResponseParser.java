@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions.postprocess;
+
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses embeddings from a remote model response token by token, so embedding values are decoded straight into
+ * float arrays instead of building the whole JSON document and boxing every value.
+ * It supports the response formats of the built-in embedding post process functions:
+ * <ul>
+ *     <li>OpenAI: {"data": [{"embedding": [...]}, ...]}</li>
+ *     <li>Cohere: {"embeddings": [[...], ...]}</li>
+ *     <li>Bedrock: {"embedding": [...]}</li>
+ *     <li>Default: [[...], ...]</li>
+ * </ul>
+ */
+public class EmbeddingResponseParser {
+    private static final int INITIAL_EMBEDDING_SIZE = 256;
+
+    private final String embeddingsField;
+    private final String embeddingField;
+    private final boolean singleEmbedding;
+
+    /**
+     * @param embeddingsField field of the root object which holds the embeddings, null if the root is the embeddings
+     * @param embeddingField field of each embeddings element which holds the embedding, null if the element is the embedding
+     * @param singleEmbedding true if the response has only one embedding
+     */
+    public EmbeddingResponseParser(String embeddingsField, String embeddingField, boolean singleEmbedding) {
+        this.embeddingsField = embeddingsField;
+        this.embeddingField = embeddingField;
+        this.singleEmbedding = singleEmbedding;
+    }
+
+    public List<ModelTensor> parse(XContentParser parser) throws IOException {
+        XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (embeddingsField != null) {
+            if (token != XContentParser.Token.START_OBJECT || !moveToField(parser, embeddingsField)) {
+                throw new IllegalArgumentException("Can't run post process function as model output is null");
+            }
+            token = parser.nextToken();
+        }
+        List<ModelTensor> modelTensors = new ArrayList<>();
+        if (singleEmbedding) {
+            if (token != XContentParser.Token.START_ARRAY) {
+                throw new IllegalArgumentException("Post process function input is not a List.");
+            }
+            modelTensors.add(createModelTensor(parseEmbedding(parser)));
+            return modelTensors;
+        }
+        if (token != XContentParser.Token.START_ARRAY) {
+            throw new IllegalArgumentException("Post process function input is not a List.");
+        }
+        while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+            if (embeddingField != null) {
+                if (token != XContentParser.Token.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (!moveToField(parser, embeddingField)) {
+                    // JSON path skips elements without the embedding field
+                    continue;
+                }
+                token = parser.nextToken();
+            }
+            if (token != XContentParser.Token.START_ARRAY) {
+                throw new IllegalArgumentException("The embedding should be a non-empty List containing List of Float values.");
+            }
+            modelTensors.add(createModelTensor(parseEmbedding(parser)));
+            if (embeddingField != null) {
+                skipToEndOfObject(parser);
+            }
+        }
+        return modelTensors;
+    }
+
+    /**
+     * Move the parser to the name of the given field of the current object. If the field doesn't exist, the parser is
+     * left at the end of the object.
+     */
+    private boolean moveToField(XContentParser parser, String field) throws IOException {
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME && field.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private void skipToEndOfObject(XContentParser parser) throws IOException {
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    private float[] parseEmbedding(XContentParser parser) throws IOException {
+        float[] embedding = new float[INITIAL_EMBEDDING_SIZE];
+        int size = 0;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+            if (token != XContentParser.Token.VALUE_NUMBER) {
+                throw new IllegalArgumentException("The embedding should be a non-empty List containing Float values.");
+            }
+            if (size == embedding.length) {
+                embedding = Arrays.copyOf(embedding, size << 1);
+            }
+            embedding[size++] = parser.floatValue();
+        }
+        return size == embedding.length ? embedding : Arrays.copyOf(embedding, size);
+    }
+
+    private ModelTensor createModelTensor(float[] embedding) {
+        Number[] data = new Number[embedding.length];
+        for (int i = 0; i < embedding.length; i++) {
+            data[i] = embedding[i];
+        }
+        return ModelTensor
+                .builder()
+                .name("sentence_embedding")
+                .dataType(MLResultDataType.FLOAT32)
+                .shape(new long[]{embedding.length})
+                .data(data)
+                .build();
+    }
+}
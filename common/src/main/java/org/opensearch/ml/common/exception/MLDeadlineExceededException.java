@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.exception;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+
+/**
+ * This exception is thrown when work of a predict request is dropped because the deadline of the request passed,
+ * so nobody waits for its result anymore.
+ */
+public class MLDeadlineExceededException extends OpenSearchStatusException {
+
+    /**
+     * Constructor with error message.
+     * @param message message of the exception
+     */
+    public MLDeadlineExceededException(String message) {
+        super(message, RestStatus.REQUEST_TIMEOUT);
+    }
+}
@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
@@ -79,6 +80,10 @@ public class MLInput implements Input {
 
     private int version = 1;
 
+    // Deadline of the predict request as System.nanoTime(), null if the request has no deadline.
+    // It's only meaningful on the node which set it, so it isn't serialized.
+    private transient Long deadline;
+
     @Builder(toBuilder = true)
     public MLInput(FunctionName algorithm, MLAlgoParams parameters, MLInputDataset inputDataset) {
         validate(algorithm);
@@ -99,6 +104,17 @@ public class MLInput implements Input {
         }
     }
 
+    /**
+     * @return milliseconds left until the deadline, negative once it passed, null if there's no deadline
+     */
+    public Long getRemainingTimeInMillis() {
+        return deadline == null ? null : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public boolean isDeadlineExceeded() {
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+
     private void validate(FunctionName algorithm) {
         if (algorithm == null) {
             throw new IllegalArgumentException("algorithm can't be null");
@@ -8,6 +8,7 @@ package org.opensearch.ml.common.model;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -17,32 +18,94 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 
 import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
 @Setter
 @Getter
 public class MLDeploySetting implements ToXContentObject, Writeable {
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_RUNTIME_SETTINGS = Version.V_2_14_0;
     public static final String IS_AUTO_DEPLOY_ENABLED_FIELD = "is_auto_deploy_enabled";
+    public static final String PREDICTOR_REPLICAS_FIELD = "predictor_replicas";
+    public static final String INTRA_OP_THREADS_FIELD = "intra_op_threads";
+    public static final String INTER_OP_THREADS_FIELD = "inter_op_threads";
+    public static final String ONNX_OPTIMIZATION_LEVEL_FIELD = "onnx_optimization_level";
+    public static final String ONNX_EXECUTION_MODE_FIELD = "onnx_execution_mode";
+    public static final Set<String> ONNX_OPTIMIZATION_LEVELS = Set.of("NO_OPT", "BASIC_OPT", "EXTENDED_OPT", "ALL_OPT");
+    public static final Set<String> ONNX_EXECUTION_MODES = Set.of("SEQUENTIAL", "PARALLEL");
 
     private Boolean isAutoDeployEnabled;
+    // number of predictors of a local model per device, so concurrent requests don't wait for one predictor
+    private Integer predictorReplicas;
+    // threads of one forward pass of a local model
+    private Integer intraOpThreads;
+    // threads running independent operators of a local model in parallel
+    private Integer interOpThreads;
+    private String onnxOptimizationLevel;
+    private String onnxExecutionMode;
 
-    @Builder(toBuilder = true)
     public MLDeploySetting(Boolean isAutoDeployEnabled) {
+        this(isAutoDeployEnabled, null, null, null, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public MLDeploySetting(Boolean isAutoDeployEnabled, Integer predictorReplicas, Integer intraOpThreads, Integer interOpThreads,
+                           String onnxOptimizationLevel, String onnxExecutionMode) {
+        if (predictorReplicas != null && predictorReplicas <= 0) {
+            throw new IllegalArgumentException("predictor replicas must be positive");
+        }
+        if (intraOpThreads != null && intraOpThreads <= 0) {
+            throw new IllegalArgumentException("intra-op threads must be positive");
+        }
+        if (interOpThreads != null && interOpThreads <= 0) {
+            throw new IllegalArgumentException("inter-op threads must be positive");
+        }
+        if (onnxOptimizationLevel != null && !ONNX_OPTIMIZATION_LEVELS.contains(onnxOptimizationLevel)) {
+            throw new IllegalArgumentException("Wrong ONNX optimization level, must be one of " + ONNX_OPTIMIZATION_LEVELS);
+        }
+        if (onnxExecutionMode != null && !ONNX_EXECUTION_MODES.contains(onnxExecutionMode)) {
+            throw new IllegalArgumentException("Wrong ONNX execution mode, must be one of " + ONNX_EXECUTION_MODES);
+        }
         this.isAutoDeployEnabled = isAutoDeployEnabled;
+        this.predictorReplicas = predictorReplicas;
+        this.intraOpThreads = intraOpThreads;
+        this.interOpThreads = interOpThreads;
+        this.onnxOptimizationLevel = onnxOptimizationLevel;
+        this.onnxExecutionMode = onnxExecutionMode;
     }
 
     public MLDeploySetting(StreamInput in) throws IOException {
         this.isAutoDeployEnabled = in.readOptionalBoolean();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RUNTIME_SETTINGS)) {
+            this.predictorReplicas = in.readOptionalInt();
+            this.intraOpThreads = in.readOptionalInt();
+            this.interOpThreads = in.readOptionalInt();
+            this.onnxOptimizationLevel = in.readOptionalString();
+            this.onnxExecutionMode = in.readOptionalString();
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeOptionalBoolean(isAutoDeployEnabled);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RUNTIME_SETTINGS)) {
+            out.writeOptionalInt(predictorReplicas);
+            out.writeOptionalInt(intraOpThreads);
+            out.writeOptionalInt(interOpThreads);
+            out.writeOptionalString(onnxOptimizationLevel);
+            out.writeOptionalString(onnxExecutionMode);
+        }
     }
 
     public static MLDeploySetting parse(XContentParser parser) throws IOException {
         Boolean isAutoDeployEnabled = null;
+        Integer predictorReplicas = null;
+        Integer intraOpThreads = null;
+        Integer interOpThreads = null;
+        String onnxOptimizationLevel = null;
+        String onnxExecutionMode = null;
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
             String fieldName = parser.currentName();
@@ -51,12 +114,28 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
                 case IS_AUTO_DEPLOY_ENABLED_FIELD:
                     isAutoDeployEnabled = parser.booleanValue();
                     break;
+                case PREDICTOR_REPLICAS_FIELD:
+                    predictorReplicas = parser.intValue();
+                    break;
+                case INTRA_OP_THREADS_FIELD:
+                    intraOpThreads = parser.intValue();
+                    break;
+                case INTER_OP_THREADS_FIELD:
+                    interOpThreads = parser.intValue();
+                    break;
+                case ONNX_OPTIMIZATION_LEVEL_FIELD:
+                    onnxOptimizationLevel = parser.text().toUpperCase(Locale.ROOT);
+                    break;
+                case ONNX_EXECUTION_MODE_FIELD:
+                    onnxExecutionMode = parser.text().toUpperCase(Locale.ROOT);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new MLDeploySetting(isAutoDeployEnabled);
+        return new MLDeploySetting(isAutoDeployEnabled, predictorReplicas, intraOpThreads, interOpThreads, onnxOptimizationLevel,
+                onnxExecutionMode);
     }
 
     @Override
@@ -65,6 +144,21 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (isAutoDeployEnabled != null) {
             builder.field(IS_AUTO_DEPLOY_ENABLED_FIELD, isAutoDeployEnabled);
         }
+        if (predictorReplicas != null) {
+            builder.field(PREDICTOR_REPLICAS_FIELD, predictorReplicas);
+        }
+        if (intraOpThreads != null) {
+            builder.field(INTRA_OP_THREADS_FIELD, intraOpThreads);
+        }
+        if (interOpThreads != null) {
+            builder.field(INTER_OP_THREADS_FIELD, interOpThreads);
+        }
+        if (onnxOptimizationLevel != null) {
+            builder.field(ONNX_OPTIMIZATION_LEVEL_FIELD, onnxOptimizationLevel);
+        }
+        if (onnxExecutionMode != null) {
+            builder.field(ONNX_EXECUTION_MODE_FIELD, onnxExecutionMode);
+        }
         builder.endObject();
         return builder;
     }
@@ -8,6 +8,7 @@ package org.opensearch.ml.common.model;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.ParseField;
@@ -26,6 +27,7 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 @Getter
 public class TextEmbeddingModelConfig extends MLModelConfig {
     public static final String PARSE_FIELD_NAME = FunctionName.TEXT_EMBEDDING.name();
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_BATCH_INFERENCE = Version.V_2_14_0;
     public static final NamedXContentRegistry.Entry XCONTENT_REGISTRY = new NamedXContentRegistry.Entry(
             TextEmbeddingModelConfig.class,
             new ParseField(PARSE_FIELD_NAME),
@@ -39,6 +41,9 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
     public static final String MODEL_MAX_LENGTH_FIELD = "model_max_length";
     public static final String QUERY_PREFIX = "query_prefix";
     public static final String PASSAGE_PREFIX = "passage_prefix";
+    public static final String MAX_BATCH_SIZE_FIELD = "max_batch_size";
+    public static final String MAX_TOKENS_PER_BATCH_FIELD = "max_tokens_per_batch";
+    public static final String MAX_QUEUE_DELAY_MILLIS_FIELD = "max_queue_delay_millis";
 
     private final Integer embeddingDimension;
     private final FrameworkType frameworkType;
@@ -47,15 +52,27 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
     private final Integer modelMaxLength;
     private final String queryPrefix;
     private final String passagePrefix;
+    // max number of texts run in one forward pass, texts are run one by one if not set
+    private final Integer maxBatchSize;
+    // max tokens of one forward pass, counting the padding of the texts to the longest text of the batch
+    private final Integer maxTokensPerBatch;
+    // max time a request waits for concurrent requests to share its forward pass, requests aren't merged if not set
+    private final Integer maxQueueDelayMillis;
 
     public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
         PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength) {
         this(modelType, embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, null, null);
     }
 
+    public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
+        PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, String queryPrefix, String passagePrefix) {
+        this(modelType, embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, queryPrefix, passagePrefix, null, null, null);
+    }
+
     @Builder(toBuilder = true)
     public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
-                                    PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, String queryPrefix, String passagePrefix) {
+                                    PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, String queryPrefix, String passagePrefix,
+                                    Integer maxBatchSize, Integer maxTokensPerBatch, Integer maxQueueDelayMillis) {
         super(modelType, allConfig);
         if (embeddingDimension == null) {
             throw new IllegalArgumentException("embedding dimension is null");
@@ -63,6 +80,15 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (frameworkType == null) {
             throw new IllegalArgumentException("framework type is null");
         }
+        if (maxBatchSize != null && maxBatchSize <= 0) {
+            throw new IllegalArgumentException("max batch size must be positive");
+        }
+        if (maxTokensPerBatch != null && maxTokensPerBatch <= 0) {
+            throw new IllegalArgumentException("max tokens per batch must be positive");
+        }
+        if (maxQueueDelayMillis != null && maxQueueDelayMillis < 0) {
+            throw new IllegalArgumentException("max queue delay must not be negative");
+        }
         this.embeddingDimension = embeddingDimension;
         this.frameworkType = frameworkType;
         this.poolingMode = poolingMode;
@@ -70,6 +96,9 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         this.modelMaxLength = modelMaxLength;
         this.queryPrefix = queryPrefix;
         this.passagePrefix = passagePrefix;
+        this.maxBatchSize = maxBatchSize;
+        this.maxTokensPerBatch = maxTokensPerBatch;
+        this.maxQueueDelayMillis = maxQueueDelayMillis;
     }
 
     public static TextEmbeddingModelConfig parse(XContentParser parser) throws IOException {
@@ -82,6 +111,9 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         Integer modelMaxLength = null;
         String queryPrefix = null;
         String passagePrefix = null;
+        Integer maxBatchSize = null;
+        Integer maxTokensPerBatch = null;
+        Integer maxQueueDelayMillis = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -116,12 +148,22 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
                 case PASSAGE_PREFIX:
                     passagePrefix = parser.text();
                     break;
+                case MAX_BATCH_SIZE_FIELD:
+                    maxBatchSize = parser.intValue();
+                    break;
+                case MAX_TOKENS_PER_BATCH_FIELD:
+                    maxTokensPerBatch = parser.intValue();
+                    break;
+                case MAX_QUEUE_DELAY_MILLIS_FIELD:
+                    maxQueueDelayMillis = parser.intValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, queryPrefix, passagePrefix);
+        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, queryPrefix, passagePrefix,
+                maxBatchSize, maxTokensPerBatch, maxQueueDelayMillis);
     }
 
     @Override
@@ -142,6 +184,15 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         modelMaxLength = in.readOptionalInt();
         queryPrefix = in.readOptionalString();
         passagePrefix = in.readOptionalString();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_INFERENCE)) {
+            maxBatchSize = in.readOptionalInt();
+            maxTokensPerBatch = in.readOptionalInt();
+            maxQueueDelayMillis = in.readOptionalInt();
+        } else {
+            maxBatchSize = null;
+            maxTokensPerBatch = null;
+            maxQueueDelayMillis = null;
+        }
     }
 
     @Override
@@ -159,6 +210,11 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         out.writeOptionalInt(modelMaxLength);
         out.writeOptionalString(queryPrefix);
         out.writeOptionalString(passagePrefix);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_INFERENCE)) {
+            out.writeOptionalInt(maxBatchSize);
+            out.writeOptionalInt(maxTokensPerBatch);
+            out.writeOptionalInt(maxQueueDelayMillis);
+        }
     }
 
     @Override
@@ -191,6 +247,15 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (passagePrefix != null) {
             builder.field(PASSAGE_PREFIX, passagePrefix);
         }
+        if (maxBatchSize != null) {
+            builder.field(MAX_BATCH_SIZE_FIELD, maxBatchSize);
+        }
+        if (maxTokensPerBatch != null) {
+            builder.field(MAX_TOKENS_PER_BATCH_FIELD, maxTokensPerBatch);
+        }
+        if (maxQueueDelayMillis != null) {
+            builder.field(MAX_QUEUE_DELAY_MILLIS_FIELD, maxQueueDelayMillis);
+        }
         builder.endObject();
         return builder;
     }
@@ -7,6 +7,8 @@ package org.opensearch.ml.common.output.model;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -43,19 +45,39 @@ public class ModelTensor implements Writeable, ToXContentObject {
 
     private String name;
     private Number[] data;
+    // primitive data of numeric tensors, which is boxed into data only when it's read as Number[]. Tensors are
+    // compared by their boxed data, so a tensor equals the same tensor read from the stream or built from Number[]
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private float[] floatData;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int[] intData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
-    @Builder
     public ModelTensor(String name, Number[] data, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        this(name, data, null, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
+    @Builder
+    public ModelTensor(String name, Number[] data, float[] floatData, int[] intData, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
+        if ((data != null || floatData != null || intData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if (floatData != null && !dataType.isFloating()) {
+            throw new IllegalArgumentException("float data needs a floating data type");
+        }
+        if (intData != null && !dataType.isInteger() && !dataType.isBoolean()) {
+            throw new IllegalArgumentException("int data needs an integer or boolean data type");
+        }
         this.name = name;
         this.data = data;
+        this.floatData = floatData;
+        this.intData = intData;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -68,6 +90,85 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.result = result;
     }
 
+    /**
+     * Get the data as boxed numbers. Tensors holding primitive data box it on the first call.
+     * @return data, or null if the tensor has no numeric data
+     */
+    public Number[] getData() {
+        if (data == null && floatData != null) {
+            data = new Number[floatData.length];
+            for (int i = 0; i < floatData.length; i++) {
+                data[i] = floatData[i];
+            }
+        } else if (data == null && intData != null) {
+            data = new Number[intData.length];
+            for (int i = 0; i < intData.length; i++) {
+                data[i] = intData[i];
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Set the data as boxed numbers, replacing the primitive data.
+     * @param data data
+     */
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+        this.intData = null;
+    }
+
+    /**
+     * Get the data of a floating tensor without boxing.
+     * @return data, or null if the tensor has no floating data
+     */
+    public float[] getFloatData() {
+        if (floatData == null && data != null && dataType != null && dataType.isFloating()) {
+            float[] values = new float[data.length];
+            for (int i = 0; i < data.length; i++) {
+                values[i] = data[i].floatValue();
+            }
+            return values;
+        }
+        return floatData;
+    }
+
+    /**
+     * Set the data of a floating tensor, replacing the boxed and integer data.
+     * @param floatData data
+     */
+    public void setFloatData(float[] floatData) {
+        this.floatData = floatData;
+        this.intData = null;
+        this.data = null;
+    }
+
+    /**
+     * Get the data of an integer or boolean tensor without boxing.
+     * @return data, or null if the tensor has no integer or boolean data
+     */
+    public int[] getIntData() {
+        if (intData == null && data != null && dataType != null && (dataType.isInteger() || dataType.isBoolean())) {
+            int[] values = new int[data.length];
+            for (int i = 0; i < data.length; i++) {
+                values[i] = data[i].intValue();
+            }
+            return values;
+        }
+        return intData;
+    }
+
+    /**
+     * Set the data of an integer or boolean tensor, replacing the boxed and floating data.
+     * @param intData data
+     */
+    public void setIntData(int[] intData) {
+        this.intData = intData;
+        this.floatData = null;
+        this.data = null;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -80,7 +181,11 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
+        if (floatData != null) {
+            builder.array(DATA_FIELD, floatData);
+        } else if (intData != null) {
+            builder.array(DATA_FIELD, intData);
+        } else if (data != null) {
             builder.field(DATA_FIELD, data);
         }
         if (byteBuffer != null) {
@@ -200,17 +305,13 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
+            // the values are written as one block of 4 byte big endian values, read them without boxing
             if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
+                floatData = new float[size];
+                readBlock(in, size).asFloatBuffer().get(floatData);
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
-                }
-            } else {
-                data = null;
+                intData = new int[size];
+                readBlock(in, size).asIntBuffer().get(intData);
             }
         }
         if (in.readBoolean()) {
@@ -250,17 +351,23 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if ((data != null || floatData != null || intData != null) && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
+            // same bytes as writing the values one by one with writeFloat or writeInt, in one block
             if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
+                float[] values = getFloatData();
+                out.writeInt(values.length);
+                ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES);
+                buffer.asFloatBuffer().put(values);
+                out.writeBytes(buffer.array());
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
-                }
+                int[] values = getIntData();
+                out.writeInt(values.length);
+                ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+                buffer.asIntBuffer().put(values);
+                out.writeBytes(buffer.array());
+            } else {
+                out.writeInt(getData().length);
             }
         } else {
             out.writeBoolean(false);
@@ -287,4 +394,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
             out.writeBoolean(false);
         }
     }
+
+    private static ByteBuffer readBlock(StreamInput in, int size) throws IOException {
+        byte[] bytes = new byte[size * 4];
+        in.readBytes(bytes, 0, bytes.length);
+        return ByteBuffer.wrap(bytes);
+    }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.util.Locale;
+
+/**
+ * Priority classes of predict requests. Worker nodes queue predict requests per model and priority, interactive
+ * requests run before batch requests but can't starve them.
+ * <ul>
+ * <li><code>INTERACTIVE</code>:
+ *     Latency sensitive requests, like query embeddings of searches. It's the default priority.
+ *
+ * <li><code>BATCH</code>:
+ *     Throughput oriented requests, like embeddings of ingested documents.
+ * </ul>
+ */
+public enum MLPredictionPriority {
+    INTERACTIVE,
+    BATCH;
+
+    public static MLPredictionPriority from(String value) {
+        try {
+            return MLPredictionPriority.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Wrong predict priority: " + value);
+        }
+    }
+}
@@ -11,8 +11,10 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
@@ -33,18 +35,30 @@ import static org.opensearch.action.ValidateActions.addValidationError;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @ToString
 public class MLPredictionTaskRequest extends MLTaskRequest {
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_PRIORITY = Version.V_2_14_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_DEADLINE = Version.V_2_14_0;
 
     String modelId;
     MLInput mlInput;
     @Setter
     User user;
+    // null for the default priority, interactive
+    MLPredictionPriority priority;
+    // System.nanoTime() after which the caller doesn't wait for the result anymore, null if there's no deadline.
+    // It's sent to other nodes as the time left, so it doesn't depend on their clocks.
+    Long deadline;
 
     @Builder
-    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
+    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user, MLPredictionPriority priority) {
         super(dispatchTask);
         this.mlInput = mlInput;
         this.modelId = modelId;
         this.user = user;
+        this.priority = priority;
+    }
+
+    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
+        this(modelId, mlInput, dispatchTask, user, null);
     }
 
     public MLPredictionTaskRequest(String modelId, MLInput mlInput) {
@@ -62,6 +76,12 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         if (in.readBoolean()) {
             this.user = new User(in);
         }
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PRIORITY) && in.readBoolean()) {
+            this.priority = in.readEnum(MLPredictionPriority.class);
+        }
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_DEADLINE) && in.readBoolean()) {
+            this.deadline = System.nanoTime() + in.readZLong();
+        }
     }
 
     @Override
@@ -75,6 +95,37 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PRIORITY)) {
+            if (priority != null) {
+                out.writeBoolean(true);
+                out.writeEnum(priority);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_DEADLINE)) {
+            if (deadline != null) {
+                out.writeBoolean(true);
+                out.writeZLong(deadline - System.nanoTime());
+            } else {
+                out.writeBoolean(false);
+            }
+        }
+    }
+
+    /**
+     * Set the deadline of the request to the given time from now.
+     * @param timeout time the caller waits for the result, null for no deadline
+     */
+    public void setTimeout(TimeValue timeout) {
+        this.deadline = timeout == null ? null : System.nanoTime() + timeout.nanos();
+    }
+
+    /**
+     * @return true if the deadline of the request passed
+     */
+    public boolean isDeadlineExceeded() {
+        return deadline != null && deadline - System.nanoTime() <= 0;
     }
 
     @Override
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.sync;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Load snapshot of a node. Nodes report it with the sync up responses, and the cluster manager shares the snapshots
+ * of all nodes with the sync up requests, so task dispatching can rank nodes without asking them for stats.
+ */
+@Getter
+@EqualsAndHashCode
+public class MLNodeLoad implements Writeable {
+    // how many ML tasks, including predict requests, are executing on the node
+    private final long executingTaskCount;
+    // how many tasks are queued in the predict thread pools
+    private final int predictQueueSize;
+    // JVM heap usage in percent
+    private final long jvmHeapUsage;
+    // key is model id, value is how many predict requests of the model are executing on the node
+    private final Map<String, Integer> modelInFlightRequests;
+
+    @Builder
+    public MLNodeLoad(long executingTaskCount, int predictQueueSize, long jvmHeapUsage, Map<String, Integer> modelInFlightRequests) {
+        this.executingTaskCount = executingTaskCount;
+        this.predictQueueSize = predictQueueSize;
+        this.jvmHeapUsage = jvmHeapUsage;
+        this.modelInFlightRequests = modelInFlightRequests == null ? Map.of() : modelInFlightRequests;
+    }
+
+    public MLNodeLoad(StreamInput in) throws IOException {
+        this.executingTaskCount = in.readLong();
+        this.predictQueueSize = in.readInt();
+        this.jvmHeapUsage = in.readLong();
+        this.modelInFlightRequests = in.readMap(StreamInput::readString, StreamInput::readVInt);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeLong(executingTaskCount);
+        out.writeInt(predictQueueSize);
+        out.writeLong(jvmHeapUsage);
+        out.writeMap(modelInFlightRequests, StreamOutput::writeString, StreamOutput::writeVInt);
+    }
+
+    /**
+     * @param modelId model id
+     * @return how many predict requests of the model are executing on the node
+     */
+    public int getModelInFlightRequests(String modelId) {
+        return modelId == null ? 0 : modelInFlightRequests.getOrDefault(modelId, 0);
+    }
+}
@@ -34,6 +34,8 @@ public class MLSyncUpInput implements Writeable {
     // deployToAll flag for models, when deploy/undeploy a model, this will passed to each node to update cache value to make sure
     // profile API has consistent data with model index.
     private Map<String, Boolean> deployToAllNodes;
+    // key is node id, value is the load snapshot of the node
+    private Map<String, MLNodeLoad> nodeLoads;
 
     @Builder
     public MLSyncUpInput(boolean getDeployedModels,
@@ -42,6 +44,7 @@ public class MLSyncUpInput implements Writeable {
                          Map<String, Set<String>> modelRoutingTable,
                          Map<String, Set<String>> runningDeployModelTasks,
                          Map<String, Boolean> deployToAllNodes,
+                         Map<String, MLNodeLoad> nodeLoads,
                          boolean clearRoutingTable,
                          boolean syncRunningDeployModelTasks) {
         this.getDeployedModels = getDeployedModels;
@@ -50,6 +53,7 @@ public class MLSyncUpInput implements Writeable {
         this.modelRoutingTable = modelRoutingTable;
         this.runningDeployModelTasks = runningDeployModelTasks;
         this.deployToAllNodes = deployToAllNodes;
+        this.nodeLoads = nodeLoads;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
     }
@@ -75,6 +79,9 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.getVersion().onOrAfter(MLSyncUpNodeResponse.MINIMAL_SUPPORTED_VERSION_FOR_NODE_LOAD) && in.readBoolean()) {
+            nodeLoads = in.readMap(StreamInput::readString, MLNodeLoad::new);
+        }
     }
 
     @Override
@@ -112,6 +119,14 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (out.getVersion().onOrAfter(MLSyncUpNodeResponse.MINIMAL_SUPPORTED_VERSION_FOR_NODE_LOAD)) {
+            if (nodeLoads != null && nodeLoads.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(nodeLoads, StreamOutput::writeString, (o, v) -> v.writeTo(o));
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
 }
@@ -7,6 +7,7 @@ package org.opensearch.ml.common.transport.sync;
 
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -17,19 +18,27 @@ import java.io.IOException;
 @Log4j2
 @Getter
 public class MLSyncUpNodeResponse extends BaseNodeResponse  {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_NODE_LOAD = Version.V_2_14_0;
 
     private String modelStatus;
     private String[] deployedModelIds;
     private String[] runningDeployModelIds; // model ids which have deploying model task running
     private String[] runningDeployModelTaskIds; // deploy model task ids which is running
+    private MLNodeLoad nodeLoad; // load snapshot of the node
 
     public MLSyncUpNodeResponse(DiscoveryNode node, String modelStatus, String[] deployedModelIds, String[] runningDeployModelIds,
                                 String[] runningDeployModelTaskIds) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds, null);
+    }
+
+    public MLSyncUpNodeResponse(DiscoveryNode node, String modelStatus, String[] deployedModelIds, String[] runningDeployModelIds,
+                                String[] runningDeployModelTaskIds, MLNodeLoad nodeLoad) {
         super(node);
         this.modelStatus = modelStatus;
         this.deployedModelIds = deployedModelIds;
         this.runningDeployModelIds = runningDeployModelIds;
         this.runningDeployModelTaskIds = runningDeployModelTaskIds;
+        this.nodeLoad = nodeLoad;
     }
 
     public MLSyncUpNodeResponse(StreamInput in) throws IOException {
@@ -38,6 +47,9 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse  {
         this.deployedModelIds = in.readOptionalStringArray();
         this.runningDeployModelIds = in.readOptionalStringArray();
         this.runningDeployModelTaskIds = in.readOptionalStringArray();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_NODE_LOAD)) {
+            this.nodeLoad = in.readOptionalWriteable(MLNodeLoad::new);
+        }
     }
 
     public static MLSyncUpNodeResponse readStats(StreamInput in) throws IOException {
@@ -51,6 +63,9 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse  {
         out.writeOptionalStringArray(deployedModelIds);
         out.writeOptionalStringArray(runningDeployModelIds);
         out.writeOptionalStringArray(runningDeployModelTaskIds);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_NODE_LOAD)) {
+            out.writeOptionalWriteable(nodeLoad);
+        }
     }
 
 }
@@ -2,6 +2,8 @@ package org.opensearch.ml.common.connector;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -62,6 +64,81 @@ public class ConnectorClientConfigTest {
         Assert.assertEquals(Integer.valueOf(3000), config.getReadTimeout());
     }
 
+    @Test
+    public void writeTo_ReadFromStream_RetryAndConcurrency() throws IOException {
+        ConnectorClientConfig config = ConnectorClientConfig.builder()
+                .maxConnections(10)
+                .maxRetryTimes(3)
+                .retryBackoffMillis(100)
+                .retryTimeoutSeconds(10)
+                .retryBackoffPolicy(RetryBackoffPolicy.EXPONENTIAL_EQUAL_JITTER)
+                .maxConcurrency(8)
+                .build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        config.writeTo(output);
+        ConnectorClientConfig readConfig = new ConnectorClientConfig(output.bytes().streamInput());
+        Assert.assertEquals(config, readConfig);
+
+        BytesStreamOutput oldVersionOutput = new BytesStreamOutput();
+        oldVersionOutput.setVersion(Version.V_2_13_0);
+        config.writeTo(oldVersionOutput);
+        StreamInput oldVersionInput = oldVersionOutput.bytes().streamInput();
+        oldVersionInput.setVersion(Version.V_2_13_0);
+        readConfig = new ConnectorClientConfig(oldVersionInput);
+        Assert.assertEquals(Integer.valueOf(10), readConfig.getMaxConnections());
+        Assert.assertNull(readConfig.getMaxRetryTimes());
+        Assert.assertNull(readConfig.getMaxConcurrency());
+    }
+
+    @Test
+    public void parse_RetryAndConcurrency() throws IOException {
+        String jsonStr = "{\"max_retry_times\":3,\"retry_backoff_millis\":100,\"retry_timeout_seconds\":10,"
+                + "\"retry_backoff_policy\":\"constant\",\"max_concurrency\":8}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+
+        ConnectorClientConfig config = ConnectorClientConfig.parse(parser);
+
+        Assert.assertEquals(Integer.valueOf(3), config.getMaxRetryTimes());
+        Assert.assertEquals(Integer.valueOf(100), config.getRetryBackoffMillis());
+        Assert.assertEquals(Integer.valueOf(10), config.getRetryTimeoutSeconds());
+        Assert.assertEquals(RetryBackoffPolicy.CONSTANT, config.getRetryBackoffPolicy());
+        Assert.assertEquals(Integer.valueOf(8), config.getMaxConcurrency());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        config.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Assert.assertEquals(jsonStr, TestHelper.xContentBuilderToString(builder));
+    }
+
+    @Test
+    public void parse_InvalidRetryBackoffPolicy() throws IOException {
+        String jsonStr = "{\"retry_backoff_policy\":\"linear\"}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+
+        IllegalArgumentException exception = Assert.assertThrows(IllegalArgumentException.class, () -> ConnectorClientConfig.parse(parser));
+        Assert.assertEquals("Unsupported retry backoff policy: linear", exception.getMessage());
+    }
+
+    @Test
+    public void parse_NegativeRetryValues() throws IOException {
+        assertParseFails("{\"max_retry_times\":-1}", "max_retry_times must not be negative");
+        assertParseFails("{\"retry_backoff_millis\":-100}", "retry_backoff_millis must not be negative");
+        assertParseFails("{\"retry_timeout_seconds\":-10}", "retry_timeout_seconds must not be negative");
+    }
+
+    private void assertParseFails(String jsonStr, String expectedMessage) throws IOException {
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+
+        IllegalArgumentException exception = Assert.assertThrows(IllegalArgumentException.class, () -> ConnectorClientConfig.parse(parser));
+        Assert.assertEquals(expectedMessage, exception.getMessage());
+    }
+
     @Test
     public void testDefaultValues() {
         ConnectorClientConfig config = ConnectorClientConfig.builder().build();
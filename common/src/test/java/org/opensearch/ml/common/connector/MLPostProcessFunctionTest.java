@@ -14,9 +14,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.BEDROCK_CLAUDE;
 import static org.opensearch.ml.common.connector.MLPostProcessFunction.BEDROCK_EMBEDDING;
 import static org.opensearch.ml.common.connector.MLPostProcessFunction.COHERE_EMBEDDING;
 import static org.opensearch.ml.common.connector.MLPostProcessFunction.DEFAULT_EMBEDDING;
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.OPENAI_CHAT;
 import static org.opensearch.ml.common.connector.MLPostProcessFunction.OPENAI_EMBEDDING;
 
 public class MLPostProcessFunctionTest {
@@ -27,6 +29,8 @@ public class MLPostProcessFunctionTest {
     @Test
     public void contains() {
         Assert.assertTrue(MLPostProcessFunction.contains(OPENAI_EMBEDDING));
+        Assert.assertTrue(MLPostProcessFunction.contains(OPENAI_CHAT));
+        Assert.assertTrue(MLPostProcessFunction.contains(BEDROCK_CLAUDE));
         Assert.assertFalse(MLPostProcessFunction.contains("wrong value"));
     }
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RequestBodyTemplateTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void compile_Null() {
+        Assert.assertNull(RequestBodyTemplate.compile(null));
+    }
+
+    @Test
+    public void compile_EscapedPlaceholder() {
+        Assert.assertNull(RequestBodyTemplate.compile("{\"input\": \"$${parameters.input}\"}"));
+    }
+
+    @Test
+    public void compile_NestedPlaceholder() {
+        Assert.assertNull(RequestBodyTemplate.compile("{\"input\": \"${parameters.input:-${parameters.text}}\"}"));
+    }
+
+    @Test
+    public void render_StringParameters() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "test input value");
+        parameters.put("model", "test-model");
+        assertSameAsSubstitution("{\"input\": \"${parameters.input}\", \"model\": \"${parameters.model}\"}", parameters);
+    }
+
+    @Test
+    public void render_JsonParameters() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "[\"doc1\", \"doc2\"]");
+        assertSameAsSubstitution("{\"input\": ${parameters.input}, \"model\": \"text-embedding-ada-002\"}", parameters);
+    }
+
+    @Test
+    public void render_DefaultValue() {
+        Map<String, String> parameters = new HashMap<>();
+        assertSameAsSubstitution("{\"input\": \"${parameters.input:-default input}\"}", parameters);
+        parameters.put("input", "test input value");
+        assertSameAsSubstitution("{\"input\": \"${parameters.input:-default input}\"}", parameters);
+    }
+
+    @Test
+    public void render_NullDefaultValue() {
+        String template = "{\"input\": \"${parameters.input:-null}\", \"top_k\": ${parameters.top_k:-null}, \"text\": \"${parameters.text}\"}";
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("text", "test text");
+        assertSameAsSubstitution(template, parameters);
+        parameters.put("input", null);
+        assertSameAsSubstitution(template, parameters);
+        parameters.put("input", "test input value");
+        parameters.put("top_k", "5");
+        assertSameAsSubstitution(template, parameters);
+    }
+
+    @Test
+    public void render_ValueNeedsEscaping() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Invalid payload: {\"input\": \"test \"input\" value\"}");
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "test \"input\" value");
+        RequestBodyTemplate.compile("{\"input\": \"${parameters.input}\"}").render(parameters);
+    }
+
+    @Test
+    public void render_EscapedValue() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "test \\\"input\\\" value");
+        assertSameAsSubstitution("{\"input\": \"${parameters.input}\"}", parameters);
+    }
+
+    @Test
+    public void render_MissingParameter() {
+        Map<String, String> parameters = new HashMap<>();
+        assertSameAsSubstitution("{\"input\": \"${parameters.input}\", \"model\": \"${parameters.model:-}\"}", parameters);
+        assertSameAsSubstitution("{\"input\": \"${parameters.input}\"}", null);
+    }
+
+    @Test
+    public void render_MissingParameter_InvalidJson() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Invalid payload: {\"input\": ${parameters.input} }");
+        RequestBodyTemplate.compile("{\"input\": ${parameters.input} }").render(null);
+    }
+
+    @Test
+    public void render_ValueWithPlaceholder() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("prompt", "Answer the question: ${parameters.question}");
+        parameters.put("question", "test question");
+        Assert.assertNull(RequestBodyTemplate.compile("{\"prompt\": \"${parameters.prompt}\"}").render(parameters));
+    }
+
+    @Test
+    public void render_NoPlaceholder() {
+        assertSameAsSubstitution("{\"input\": \"test input value\"}", new HashMap<>());
+    }
+
+    @Test
+    public void createPredictPayload_ValueWithPlaceholder() {
+        HttpConnector connector = HttpConnectorTest.createHttpConnectorWithRequestBody("{\"prompt\": \"${parameters.prompt}\"}");
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("prompt", "Answer the question: ${parameters.question}");
+        parameters.put("question", "test question");
+        String payload = connector.createPredictPayload(parameters);
+        Assert.assertEquals("{\"prompt\": \"Answer the question: test question\"}", payload);
+    }
+
+    private void assertSameAsSubstitution(String template, Map<String, String> parameters) {
+        HttpConnector connector = HttpConnectorTest.createHttpConnectorWithRequestBody(template);
+        String expected = new StringSubstitutor(parameters, "${parameters.", "}").replace(connector.fillNullParameters(parameters, template));
+        Assert.assertEquals(expected, RequestBodyTemplate.compile(template).render(parameters));
+        Assert.assertEquals(expected, connector.createPredictPayload(parameters));
+    }
+}
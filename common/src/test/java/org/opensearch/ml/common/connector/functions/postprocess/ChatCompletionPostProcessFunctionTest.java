@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions.postprocess;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChatCompletionPostProcessFunctionTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    ChatCompletionPostProcessFunction function;
+
+    @Before
+    public void setUp() {
+        function = new ChatCompletionPostProcessFunction();
+    }
+
+    @Test
+    public void process_WrongInput_NotStringOrList() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Post process function input is not a String or a List of String.");
+        function.apply(1);
+    }
+
+    @Test
+    public void process_WrongInput_NotStringList() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Post process function input is not a String or a List of String.");
+        function.apply(Arrays.asList("abc", 1));
+    }
+
+    @Test
+    public void process_String() {
+        List<ModelTensor> result = function.apply("Hello! How can I help you?");
+        assertEquals(1, result.size());
+        assertEquals("response", result.get(0).getName());
+        assertEquals("Hello! How can I help you?", result.get(0).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void process_StringList() {
+        List<ModelTensor> result = function.apply(Arrays.asList("answer 1", "answer 2"));
+        assertEquals(2, result.size());
+        assertEquals("answer 1", result.get(0).getDataAsMap().get("response"));
+        assertEquals("answer 2", result.get(1).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void process_NullContent() {
+        // tool call messages have no text content
+        List<ModelTensor> result = function.apply(null);
+        assertEquals(1, result.size());
+        assertEquals("response", result.get(0).getName());
+        assertTrue(result.get(0).getDataAsMap().containsKey("response"));
+        assertNull(result.get(0).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void process_StringListWithNullContent() {
+        List<ModelTensor> result = function.apply(Arrays.asList("answer 1", null));
+        assertEquals(2, result.size());
+        assertEquals("answer 1", result.get(0).getDataAsMap().get("response"));
+        assertNull(result.get(1).getDataAsMap().get("response"));
+    }
+}
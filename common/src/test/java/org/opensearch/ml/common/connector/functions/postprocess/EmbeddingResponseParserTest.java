@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector.functions.postprocess;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class EmbeddingResponseParserTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void parse_OpenAIEmbedding() throws IOException {
+        String response = "{\"object\": \"list\", \"data\": ["
+                + "{\"object\": \"embedding\", \"index\": 0, \"embedding\": [1.1, 1.2, 1.3]},"
+                + "{\"object\": \"embedding\", \"embedding\": [2.1, 2.2, 2.3], \"index\": 1}],"
+                + "\"model\": \"text-embedding-ada-002-v2\", \"usage\": {\"prompt_tokens\": 5, \"total_tokens\": 5}}";
+        List<ModelTensor> result = parse(MLPostProcessFunction.OPENAI_EMBEDDING, response);
+        assertEquals(2, result.size());
+        assertEmbedding(result.get(0), 1.1f, 1.2f, 1.3f);
+        assertEmbedding(result.get(1), 2.1f, 2.2f, 2.3f);
+    }
+
+    @Test
+    public void parse_CohereEmbedding() throws IOException {
+        String response = "{\"id\": \"test\", \"texts\": [\"a\", \"b\"], \"embeddings\": [[1.1, 1.2], [2.1, 2.2]], \"meta\": {\"api_version\": {\"version\": \"1\"}}}";
+        List<ModelTensor> result = parse(MLPostProcessFunction.COHERE_EMBEDDING, response);
+        assertEquals(2, result.size());
+        assertEmbedding(result.get(0), 1.1f, 1.2f);
+        assertEmbedding(result.get(1), 2.1f, 2.2f);
+    }
+
+    @Test
+    public void parse_BedrockEmbedding() throws IOException {
+        String response = "{\"embedding\": [1.1, 1.2, 1.3], \"inputTextTokenCount\": 3}";
+        List<ModelTensor> result = parse(MLPostProcessFunction.BEDROCK_EMBEDDING, response);
+        assertEquals(1, result.size());
+        assertEmbedding(result.get(0), 1.1f, 1.2f, 1.3f);
+    }
+
+    @Test
+    public void parse_DefaultEmbedding() throws IOException {
+        List<ModelTensor> result = parse(MLPostProcessFunction.DEFAULT_EMBEDDING, "[[1.1, 1.2], [2.1, 2.2], [3, 4]]");
+        assertEquals(3, result.size());
+        assertEmbedding(result.get(2), 3f, 4f);
+    }
+
+    @Test
+    public void parse_LargeEmbedding() throws IOException {
+        StringBuilder response = new StringBuilder("{\"embedding\": [");
+        for (int i = 0; i < 1000; i++) {
+            response.append(i == 0 ? "" : ",").append(i);
+        }
+        response.append("]}");
+        List<ModelTensor> result = parse(MLPostProcessFunction.BEDROCK_EMBEDDING, response.toString());
+        assertEquals(1000, result.get(0).getData().length);
+        assertArrayEquals(new long[] { 1000 }, result.get(0).getShape());
+        assertEquals(999f, result.get(0).getData()[999]);
+    }
+
+    @Test
+    public void parse_NotList() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Post process function input is not a List.");
+        parse(MLPostProcessFunction.COHERE_EMBEDDING, "{\"embeddings\": {\"float\": [[1.1, 1.2]]}}");
+    }
+
+    @Test
+    public void parse_NotNumberList() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("The embedding should be a non-empty List containing Float values.");
+        parse(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": [\"abc\"]}");
+    }
+
+    @Test
+    public void parse_MissingField() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Can't run post process function as model output is null");
+        parse(MLPostProcessFunction.OPENAI_EMBEDDING, "{\"error\": {\"message\": \"test\"}}");
+    }
+
+    @Test
+    public void getResponseParser_NotSupported() {
+        assertNull(MLPostProcessFunction.getResponseParser(MLPostProcessFunction.COHERE_RERANK));
+        assertNull(MLPostProcessFunction.getResponseParser(null));
+    }
+
+    private List<ModelTensor> parse(String postProcessFunction, String response) throws IOException {
+        try (
+                XContentParser parser = XContentType.JSON
+                        .xContent()
+                        .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, response)
+        ) {
+            return MLPostProcessFunction.getResponseParser(postProcessFunction).parse(parser);
+        }
+    }
+
+    private void assertEmbedding(ModelTensor tensor, float... expected) {
+        assertEquals("sentence_embedding", tensor.getName());
+        assertEquals(MLResultDataType.FLOAT32, tensor.getDataType());
+        assertArrayEquals(new long[] { expected.length }, tensor.getShape());
+        assertEquals(expected.length, tensor.getData().length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], tensor.getData()[i].floatValue(), 0f);
+        }
+    }
+}
@@ -79,6 +79,59 @@ public class MLDeployingSettingTests {
         });
     }
 
+    @Test
+    public void readInputStreamSuccess_RuntimeSettings() throws IOException {
+        MLDeploySetting runtimeSetting = MLDeploySetting.builder()
+                .predictorReplicas(2)
+                .intraOpThreads(4)
+                .interOpThreads(1)
+                .onnxOptimizationLevel("EXTENDED_OPT")
+                .onnxExecutionMode("SEQUENTIAL")
+                .build();
+        readInputStream(runtimeSetting, parsedInput -> {
+            assertEquals(2, parsedInput.getPredictorReplicas().intValue());
+            assertEquals(4, parsedInput.getIntraOpThreads().intValue());
+            assertEquals(1, parsedInput.getInterOpThreads().intValue());
+            assertEquals("EXTENDED_OPT", parsedInput.getOnnxOptimizationLevel());
+            assertEquals("SEQUENTIAL", parsedInput.getOnnxExecutionMode());
+        });
+    }
+
+    @Test
+    public void parseSuccess_RuntimeSettings() throws Exception {
+        final String runtimeSettingStr = "{\"predictor_replicas\":2,\"intra_op_threads\":4,\"inter_op_threads\":2," +
+                "\"onnx_optimization_level\":\"all_opt\",\"onnx_execution_mode\":\"parallel\"}";
+        testParseFromJsonString(runtimeSettingStr, parsedInput -> {
+            try {
+                assertEquals(runtimeSettingStr.replace("all_opt", "ALL_OPT").replace("parallel", "PARALLEL"),
+                        serializationWithToXContent(parsedInput));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void constructor_NonPositiveReplicas() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("predictor replicas must be positive");
+        MLDeploySetting.builder().predictorReplicas(0).build();
+    }
+
+    @Test
+    public void constructor_NonPositiveThreads() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("intra-op threads must be positive");
+        MLDeploySetting.builder().intraOpThreads(-1).build();
+    }
+
+    @Test
+    public void constructor_WrongOptimizationLevel() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Wrong ONNX optimization level");
+        MLDeploySetting.builder().onnxOptimizationLevel("FAST").build();
+    }
+
     @Test
     public void parseWithIllegalArgumentNull() throws Exception {
         exceptionRule.expect(JsonParseException.class);
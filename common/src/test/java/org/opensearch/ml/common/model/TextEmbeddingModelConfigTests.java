@@ -11,7 +11,9 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.TestHelper;
@@ -89,6 +91,42 @@ public class TextEmbeddingModelConfigTests {
         TestHelper.testParseFromString(config, content, function);
     }
 
+    @Test
+    public void parse_BatchInference() throws IOException {
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"max_batch_size\":32,\"max_tokens_per_batch\":8192,\"max_queue_delay_millis\":5}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        TextEmbeddingModelConfig parsedConfig = function.apply(parser);
+        assertEquals(Integer.valueOf(32), parsedConfig.getMaxBatchSize());
+        assertEquals(Integer.valueOf(8192), parsedConfig.getMaxTokensPerBatch());
+        assertEquals(Integer.valueOf(5), parsedConfig.getMaxQueueDelayMillis());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        parsedConfig.toXContent(builder, EMPTY_PARAMS);
+        assertEquals(content, TestHelper.xContentBuilderToString(builder));
+    }
+
+    @Test
+    public void maxBatchSize_NotPositive() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max batch size must be positive");
+        config.toBuilder().maxBatchSize(0).build();
+    }
+
+    @Test
+    public void maxTokensPerBatch_NotPositive() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max tokens per batch must be positive");
+        config.toBuilder().maxTokensPerBatch(-1).build();
+    }
+
+    @Test
+    public void maxQueueDelayMillis_Negative() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max queue delay must not be negative");
+        config.toBuilder().maxQueueDelayMillis(-1).build();
+    }
+
     @Test
     public void frameworkType_wrongValue() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -99,6 +137,7 @@ public class TextEmbeddingModelConfigTests {
     @Test
     public void readInputStream_Success() throws IOException {
         readInputStream(config);
+        readInputStream(config.toBuilder().maxBatchSize(16).maxTokensPerBatch(4096).maxQueueDelayMillis(0).build());
     }
 
     public void readInputStream(TextEmbeddingModelConfig config) throws IOException {
@@ -112,5 +151,8 @@ public class TextEmbeddingModelConfigTests {
         assertEquals(config.getEmbeddingDimension(), parsedConfig.getEmbeddingDimension());
         assertEquals(config.getFrameworkType(), parsedConfig.getFrameworkType());
         assertEquals(config.getWriteableName(), parsedConfig.getWriteableName());
+        assertEquals(config.getMaxBatchSize(), parsedConfig.getMaxBatchSize());
+        assertEquals(config.getMaxTokensPerBatch(), parsedConfig.getMaxTokensPerBatch());
+        assertEquals(config.getMaxQueueDelayMillis(), parsedConfig.getMaxQueueDelayMillis());
     }
 }
@@ -20,7 +20,10 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class ModelTensorTest {
@@ -116,5 +119,115 @@ public class ModelTensorTest {
                 .byteBuffer(ByteBuffer.wrap(new byte[]{0,1,0,1}))
                 .build();
     }
-}
 
+    @Test
+    public void test_FloatData() throws IOException {
+        ModelTensor boxedTensor = ModelTensor.builder()
+                .name("embedding")
+                .data(new Number[]{0.5f, -1.25f, 3f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ModelTensor tensor = ModelTensor.builder()
+                .name("embedding")
+                .floatData(new float[]{0.5f, -1.25f, 3f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+
+        // the primitive data is written as the same bytes as the boxed data
+        BytesStreamOutput boxedOutput = new BytesStreamOutput();
+        boxedTensor.writeTo(boxedOutput);
+        BytesStreamOutput output = new BytesStreamOutput();
+        tensor.writeTo(output);
+        assertEquals(boxedOutput.bytes(), output.bytes());
+
+        ModelTensor parsedTensor = new ModelTensor(output.bytes().streamInput());
+        assertArrayEquals(new float[]{0.5f, -1.25f, 3f}, parsedTensor.getFloatData(), 0f);
+        assertArrayEquals(new Number[]{0.5f, -1.25f, 3f}, parsedTensor.getData());
+        assertEquals(boxedTensor, parsedTensor);
+
+        XContentBuilder boxedBuilder = XContentBuilder.builder(XContentType.JSON.xContent());
+        boxedTensor.toXContent(boxedBuilder, EMPTY_PARAMS);
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        assertEquals(TestHelper.xContentBuilderToString(boxedBuilder), TestHelper.xContentBuilderToString(builder));
+    }
+
+    @Test
+    public void test_IntData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .intData(new int[]{1, 2, 3})
+                .dataType(MLResultDataType.INT32)
+                .build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        tensor.writeTo(output);
+
+        ModelTensor parsedTensor = new ModelTensor(output.bytes().streamInput());
+        assertArrayEquals(new int[]{1, 2, 3}, parsedTensor.getIntData());
+        assertNull(parsedTensor.getFloatData());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_SetData_ReplacesFloatData() {
+        ModelTensor tensor = ModelTensor.builder()
+                .floatData(new float[]{1f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        tensor.setData(null);
+        assertNull(tensor.getData());
+        assertNull(tensor.getFloatData());
+    }
+
+    @Test
+    public void test_SetFloatData_ReplacesBoxedData() {
+        ModelTensor tensor = ModelTensor.builder()
+                .floatData(new float[]{1f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        assertArrayEquals(new Number[]{1f}, tensor.getData());
+
+        tensor.setFloatData(new float[]{2f, 3f});
+        assertArrayEquals(new Number[]{2f, 3f}, tensor.getData());
+        assertArrayEquals(new float[]{2f, 3f}, tensor.getFloatData(), 0f);
+    }
+
+    @Test
+    public void test_SetIntData_ReplacesBoxedData() {
+        ModelTensor tensor = ModelTensor.builder()
+                .data(new Number[]{1})
+                .dataType(MLResultDataType.INT32)
+                .build();
+        tensor.setIntData(new int[]{2, 3});
+        assertArrayEquals(new Number[]{2, 3}, tensor.getData());
+        assertArrayEquals(new int[]{2, 3}, tensor.getIntData());
+    }
+
+    @Test
+    public void test_Equals_BoxedAndPrimitiveData() {
+        ModelTensor boxedTensor = ModelTensor.builder()
+                .data(new Number[]{0.5f, 3f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ModelTensor tensor = ModelTensor.builder()
+                .floatData(new float[]{0.5f, 3f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        assertEquals(boxedTensor, tensor);
+        assertEquals(boxedTensor.hashCode(), tensor.hashCode());
+
+        tensor.setFloatData(new float[]{1f});
+        assertNotEquals(boxedTensor, tensor);
+    }
+
+    @Test
+    public void test_FloatDataWithIntegerDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("float data needs a floating data type");
+        ModelTensor.builder()
+                .floatData(new float[]{1f})
+                .dataType(MLResultDataType.INT32)
+                .build();
+    }
+}
@@ -13,10 +13,13 @@ import java.util.HashMap;
 import lombok.NonNull;
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.common.dataframe.ColumnType;
@@ -32,9 +35,11 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MLPredictionTaskRequestTest {
 
@@ -82,6 +87,87 @@ public class MLPredictionTaskRequestTest {
         assertNull(request.getModelId());
     }
 
+    @Test
+    public void writeTo_Priority() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .priority(MLPredictionPriority.BATCH)
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals(MLPredictionPriority.BATCH, request.getPriority());
+    }
+
+    @Test
+    public void writeTo_Priority_OldVersion() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .priority(MLPredictionPriority.BATCH)
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_13_0);
+        request.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_13_0);
+        request = new MLPredictionTaskRequest(streamInput);
+        assertEquals(FunctionName.KMEANS, request.getMlInput().getAlgorithm());
+        assertNull(request.getPriority());
+    }
+
+    @Test
+    public void writeTo_Deadline() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .build();
+        request.setTimeout(TimeValue.timeValueMinutes(1));
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        long remaining = request.getDeadline() - System.nanoTime();
+        assertTrue(remaining > 0 && remaining <= TimeValue.timeValueMinutes(1).nanos());
+        assertFalse(request.isDeadlineExceeded());
+    }
+
+    @Test
+    public void writeTo_Deadline_OldVersion() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .build();
+        request.setTimeout(TimeValue.timeValueMinutes(1));
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_13_0);
+        request.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_13_0);
+        request = new MLPredictionTaskRequest(streamInput);
+        assertNull(request.getDeadline());
+        assertFalse(request.isDeadlineExceeded());
+    }
+
+    @Test
+    public void setTimeout() {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .build();
+        assertFalse(request.isDeadlineExceeded());
+        request.setTimeout(TimeValue.ZERO);
+        assertTrue(request.isDeadlineExceeded());
+        request.setTimeout(null);
+        assertNull(request.getDeadline());
+    }
+
+    @Test
+    public void priority_From() {
+        assertEquals(MLPredictionPriority.BATCH, MLPredictionPriority.from("batch"));
+        assertEquals(MLPredictionPriority.INTERACTIVE, MLPredictionPriority.from("INTERACTIVE"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void priority_From_Invalid() {
+        MLPredictionPriority.from("urgent");
+    }
+
     @Test
     public void validate_Success() {
         User user = User.parse("admin|role-1|all_access");
@@ -32,6 +32,7 @@ public class MLSyncUpInputTest {
         assertNull(parsedInput.getRemovedWorkerNodes());
         assertNull(parsedInput.getModelRoutingTable());
         assertNull(parsedInput.getAddedWorkerNodes());
+        assertNull(parsedInput.getNodeLoads());
     }
 
     @Test
@@ -47,6 +48,7 @@ public class MLSyncUpInputTest {
                 .removedWorkerNodes(removedWorkerNodes)
                 .modelRoutingTable(modelRoutingTable)
                 .runningDeployModelTasks(runningDeployModelTasks)
+                .nodeLoads(Map.of("node1", MLNodeLoad.builder().executingTaskCount(1).jvmHeapUsage(30).build()))
                 .clearRoutingTable(true)
                 .syncRunningDeployModelTasks(true)
                 .build();
@@ -69,6 +71,7 @@ public class MLSyncUpInputTest {
         assertArrayEquals(syncUpInput.getRemovedWorkerNodes().get("removedWorkerNodesKey1"), parsedInput.getRemovedWorkerNodes().get("removedWorkerNodesKey1"));
         assertEquals(syncUpInput.getModelRoutingTable().get("modelRoutingTableKey1"), parsedInput.getModelRoutingTable().get("modelRoutingTableKey1"));
         assertEquals(syncUpInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"), parsedInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"));
+        assertEquals(syncUpInput.getNodeLoads(), parsedInput.getNodeLoads());
 
     }
 }
@@ -7,6 +7,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.TransportAddress;
 
 import java.io.IOException;
@@ -62,4 +63,35 @@ public class MLSyncUpNodeResponseTest {
         assertArrayEquals(newResponse.getRunningDeployModelTaskIds(), response.getRunningDeployModelTaskIds());
 
     }
+
+    @Test
+    public void testSerializationDeserialization_NodeLoad() throws IOException {
+        MLNodeLoad nodeLoad = MLNodeLoad.builder()
+                .executingTaskCount(3)
+                .predictQueueSize(2)
+                .jvmHeapUsage(45)
+                .modelInFlightRequests(Collections.singletonMap("modelid1", 2))
+                .build();
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(localNode, modelStatus, loadedModelIds, runningLoadModelIds, runningLoadModelTaskIds, nodeLoad);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertEquals(nodeLoad, newResponse.getNodeLoad());
+        assertEquals(2, newResponse.getNodeLoad().getModelInFlightRequests("modelid1"));
+        assertEquals(0, newResponse.getNodeLoad().getModelInFlightRequests("modelid2"));
+    }
+
+    @Test
+    public void testSerializationDeserialization_NodeLoadOldVersion() throws IOException {
+        MLNodeLoad nodeLoad = MLNodeLoad.builder().executingTaskCount(3).build();
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(localNode, modelStatus, loadedModelIds, runningLoadModelIds, runningLoadModelTaskIds, nodeLoad);
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_13_0);
+        response.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_13_0);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(input);
+        assertNull(newResponse.getNodeLoad());
+        assertArrayEquals(response.getRunningDeployModelTaskIds(), newResponse.getRunningDeployModelTaskIds());
+    }
 }
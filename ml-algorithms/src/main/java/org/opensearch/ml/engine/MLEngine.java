@@ -110,6 +110,10 @@ public class MLEngine {
         return mlModelsCachePath.resolve("models");
     }
 
+    public Path getModelArtifactCachePath() {
+        return mlModelsCachePath.resolve("artifacts");
+    }
+
     public MLModel train(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
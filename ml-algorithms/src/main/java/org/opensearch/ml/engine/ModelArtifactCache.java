@@ -0,0 +1,277 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level cache of the unzipped files of local models, keyed by the hash of the model content. A model which is
+ * redeployed without content changes, like after a node restart, loads from the cache instead of reading its chunks
+ * from the model index again. The cache survives restarts. It's bounded by a size budget, entries not used by a
+ * deployed model are evicted least recently used first.
+ * <p>
+ * The hash of a model is declared at register time, so an entry is only served to models whose own chunks were
+ * verified against the hash once. Another model declaring the same hash reads its chunks like without the cache.
+ */
+@Log4j2
+public class ModelArtifactCache {
+    // directory of the model files in an entry, the model file is renamed to match it
+    public static final String MODEL_DIRECTORY = "model";
+    // ids of the models whose chunks were verified against the hash of an entry, one per line
+    static final String VERIFIED_MODELS_FILE = "verified_models";
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private volatile long maxSizeInBytes;
+
+    public ModelArtifactCache(Path root, long maxSizeInBytes) {
+        this.root = root;
+        this.maxSizeInBytes = maxSizeInBytes;
+        load();
+    }
+
+    private void load() {
+        File[] files = root.toFile().listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String hash = file.getName();
+            if (!HASH_PATTERN.matcher(hash).matches() || !file.toPath().resolve(MODEL_DIRECTORY).toFile().isDirectory()) {
+                // leftover of a deploy interrupted while it wrote the entry
+                deleteFileQuietly(file);
+                continue;
+            }
+            Entry entry = new Entry(file.toPath(), sizeOf(file.toPath().resolve(MODEL_DIRECTORY)), file.lastModified());
+            entry.verifiedModelIds.addAll(readVerifiedModelIds(file.toPath()));
+            entries.put(hash, entry);
+        }
+        log.info("Loaded {} cached model artifacts with {} bytes", entries.size(), getSizeInBytes());
+        evict();
+    }
+
+    /**
+     * @param hash hash of the model content
+     * @return true if the model files can be cached
+     */
+    public boolean isCacheable(String hash) {
+        return maxSizeInBytes > 0 && hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+
+    public synchronized boolean contains(String hash) {
+        return hash != null && entries.containsKey(hash);
+    }
+
+    /**
+     * Get the cached files of a model, the entry isn't evicted until the model releases it.
+     * @param hash hash of the model content
+     * @param modelId id of the model using the files
+     * @return path of the model files, or null if they aren't cached or the chunks of the model weren't verified
+     */
+    public synchronized Path acquire(String hash, String modelId) {
+        Entry entry = hash == null ? null : entries.get(hash);
+        if (entry == null || !entry.verifiedModelIds.contains(modelId)) {
+            return null;
+        }
+        entry.modelIds.add(modelId);
+        touch(entry);
+        return entry.path.resolve(MODEL_DIRECTORY);
+    }
+
+    /**
+     * Add the files of a model to the cache and acquire them. The model is recorded as verified, so later deploys of
+     * it are served from the cache.
+     * @param hash hash of the model content, already verified against the model zip
+     * @param modelId id of the model using the files
+     * @param writer writes the model files into the given directory
+     * @return path of the model files
+     */
+    public Path put(String hash, String modelId, ArtifactWriter writer) throws Exception {
+        if (!isCacheable(hash)) {
+            throw new IllegalArgumentException("Model artifact can't be cached");
+        }
+        synchronized (this) {
+            Entry entry = entries.get(hash);
+            if (entry != null) {
+                // the zip of this model matches the hash, so the cached files are its files
+                return acquireVerified(entry, modelId);
+            }
+        }
+        Path tempPath = root.resolve(hash + "-" + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(root);
+            writer.write(tempPath.resolve(MODEL_DIRECTORY));
+            long size = sizeOf(tempPath.resolve(MODEL_DIRECTORY));
+            synchronized (this) {
+                Entry entry = entries.get(hash);
+                if (entry == null) {
+                    // entries appear atomically, an entry on disk is always complete
+                    Path path = root.resolve(hash);
+                    deleteFileQuietly(path);
+                    Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+                    entry = new Entry(path, size, System.currentTimeMillis());
+                    entries.put(hash, entry);
+                }
+                return acquireVerified(entry, modelId);
+            }
+        } finally {
+            deleteFileQuietly(tempPath);
+        }
+    }
+
+    private Path acquireVerified(Entry entry, String modelId) {
+        if (entry.verifiedModelIds.add(modelId)) {
+            writeVerifiedModelIds(entry);
+        }
+        entry.modelIds.add(modelId);
+        touch(entry);
+        evict();
+        return entry.path.resolve(MODEL_DIRECTORY);
+    }
+
+    /**
+     * Release the cached files used by a model.
+     * @param modelId model id
+     */
+    public synchronized void release(String modelId) {
+        for (Entry entry : entries.values()) {
+            entry.modelIds.remove(modelId);
+        }
+        evict();
+    }
+
+    /**
+     * Set the size budget of the cache, evicting entries over the new budget.
+     * @param maxSizeInBytes size budget, 0 disables the cache
+     */
+    public synchronized void setMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        evict();
+    }
+
+    public synchronized long getSizeInBytes() {
+        return entries.values().stream().mapToLong(it -> it.size).sum();
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    private synchronized void evict() {
+        long size = getSizeInBytes();
+        if (size <= maxSizeInBytes) {
+            return;
+        }
+        List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(it -> it.getValue().lastAccessTime));
+        for (Map.Entry<String, Entry> candidate : candidates) {
+            if (size <= maxSizeInBytes) {
+                return;
+            }
+            Entry entry = candidate.getValue();
+            if (!entry.modelIds.isEmpty()) {
+                continue;
+            }
+            log.debug("Evict cached model artifact {} with {} bytes", candidate.getKey(), entry.size);
+            entries.remove(candidate.getKey());
+            deleteFileQuietly(entry.path);
+            size -= entry.size;
+        }
+    }
+
+    private void touch(Entry entry) {
+        entry.lastAccessTime = System.currentTimeMillis();
+        try {
+            // the last modified time keeps the access order across restarts
+            Files.setLastModifiedTime(entry.path, FileTime.fromMillis(entry.lastAccessTime));
+        } catch (IOException e) {
+            log.debug("Failed to update last access time of " + entry.path, e);
+        }
+    }
+
+    private static Set<String> readVerifiedModelIds(Path path) {
+        Path file = path.resolve(VERIFIED_MODELS_FILE);
+        if (!Files.isRegularFile(file)) {
+            return Set.of();
+        }
+        try {
+            return new HashSet<>(Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // the models verify their chunks again
+            log.warn("Failed to read verified models of " + path, e);
+            return Set.of();
+        }
+    }
+
+    private static void writeVerifiedModelIds(Entry entry) {
+        Path file = entry.path.resolve(VERIFIED_MODELS_FILE);
+        Path tempFile = entry.path.resolve(VERIFIED_MODELS_FILE + TEMP_SUFFIX);
+        try {
+            Files.write(tempFile, entry.verifiedModelIds, StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // the models not persisted verify their chunks again after a restart
+            log.warn("Failed to write verified models of " + entry.path, e);
+            deleteFileQuietly(tempFile);
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile).mapToLong(it -> it.toFile().length()).sum();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to calculate size of " + path, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Writes the files of a model.
+     */
+    @FunctionalInterface
+    public interface ArtifactWriter {
+        void write(Path modelPath) throws Exception;
+    }
+
+    private static class Entry {
+        private final Path path;
+        private final long size;
+        private long lastAccessTime;
+        // deployed models using the entry, which must not be evicted
+        private final Set<String> modelIds = new HashSet<>();
+        // models whose chunks were verified against the hash of the entry
+        private final Set<String> verifiedModelIds = new HashSet<>();
+
+        Entry(Path path, long size, long lastAccessTime) {
+            this.path = path;
+            this.size = size;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+}
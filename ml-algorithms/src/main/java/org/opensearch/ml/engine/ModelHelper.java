@@ -8,7 +8,6 @@ package org.opensearch.ml.engine;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
-import static org.opensearch.ml.engine.utils.FileUtils.splitFileIntoChunks;
 
 import java.io.File;
 import java.io.FileReader;
@@ -41,7 +40,7 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class ModelHelper {
-    public static final String CHUNK_FILES = "chunk_files";
+    public static final String MODEL_FILE = "model_file";
     public static final String MODEL_SIZE_IN_BYTES = "model_size_in_bytes";
     public static final String MODEL_FILE_HASH = "model_file_hash";
     public static final int CHUNK_SIZE = 10_000_000; // 10MB
@@ -241,7 +240,8 @@ public class ModelHelper {
     }
 
     /**
-     * Download model from URL and split it into smaller chunks.
+     * Download model from URL and verify it. The model file is read in chunks while they're indexed, so it's not
+     * split into chunk files.
      * @param modelFormat model format
      * @param taskId task id
      * @param modelName model name
@@ -265,7 +265,6 @@ public class ModelHelper {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 Path registerModelPath = mlEngine.getRegisterModelPath(taskId, modelName, version);
                 String modelPath = registerModelPath + ".zip";
-                Path modelPartsPath = registerModelPath.resolve("chunks");
                 File modelZipFile = new File(modelPath);
                 log.debug("download model to file {}", modelZipFile.getAbsolutePath());
                 DownloadUtils.download(url, modelPath, new ProgressBar());
@@ -277,13 +276,10 @@ public class ModelHelper {
                         "Model content Hash code need to be provided when register via url. Please calculate sha 256 Hash code."
                     ));
                 } else if (hash.equals(modelContentHash)) {
-                    List<String> chunkFiles = splitFileIntoChunks(modelZipFile, modelPartsPath, CHUNK_SIZE);
                     Map<String, Object> result = new HashMap<>();
-                    result.put(CHUNK_FILES, chunkFiles);
+                    result.put(MODEL_FILE, modelPath);
                     result.put(MODEL_SIZE_IN_BYTES, modelZipFile.length());
-
-                    result.put(MODEL_FILE_HASH, calculateFileHash(modelZipFile));
-                    deleteFileQuietly(modelZipFile);
+                    result.put(MODEL_FILE_HASH, hash);
                     listener.onResponse(result);
                     return null;
                 } else {
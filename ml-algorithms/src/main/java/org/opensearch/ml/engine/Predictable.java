@@ -7,6 +7,7 @@ package org.opensearch.ml.engine;
 
 import java.util.Map;
 
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
@@ -33,6 +34,23 @@ public interface Predictable {
      */
     MLOutput predict(MLInput mlInput);
 
+    /**
+     * Predict with given input data for deployed model without blocking the calling thread.
+     * Models without a non-blocking implementation run the prediction on the calling thread.
+     * @param mlInput input data
+     * @param actionListener listener to complete with predicted results
+     */
+    default void asyncPredict(MLInput mlInput, ActionListener<MLOutput> actionListener) {
+        MLOutput output;
+        try {
+            output = predict(mlInput);
+        } catch (Exception e) {
+            actionListener.onFailure(e);
+            return;
+        }
+        actionListener.onResponse(output);
+    }
+
     /**
      * Init model (load model into memory) with ML model content and params.
      * @param model ML model
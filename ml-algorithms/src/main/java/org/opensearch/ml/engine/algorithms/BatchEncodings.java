@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.function.Function;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+
+/**
+ * Encodings of the texts of one batch. The token ids are padded with zeros to the longest text, so the batch runs in
+ * one forward pass. The attention mask of the padding is zero, so the padding doesn't change the outputs of the
+ * tokens of the texts.
+ */
+public class BatchEncodings {
+    public static final String ATTACHMENT_NAME = "batch_encodings";
+    // output properties with the token counts of the batch without and with padding
+    public static final String TOKENS_PROPERTY = "tokens";
+    public static final String PADDED_TOKENS_PROPERTY = "padded_tokens";
+
+    private final Encoding[] encodings;
+    private final int length;
+
+    public BatchEncodings(Encoding[] encodings) {
+        this.encodings = encodings;
+        int maxLength = 0;
+        for (Encoding encoding : encodings) {
+            maxLength = Math.max(maxLength, encoding.getIds().length);
+        }
+        this.length = maxLength;
+    }
+
+    /**
+     * Get the texts of the input, one text per input content.
+     * @param input model input
+     * @param from index of the first text
+     * @return texts
+     */
+    public static String[] getTexts(Input input, int from) {
+        String[] texts = new String[input.getContent().size() - from];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = input.getAsString(from + i);
+        }
+        return texts;
+    }
+
+    public int size() {
+        return encodings.length;
+    }
+
+    /**
+     * @return length of the longest text in tokens, which all texts are padded to
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @param index index of the text
+     * @return length of the text in tokens, without padding
+     */
+    public int getLength(int index) {
+        return encodings[index].getIds().length;
+    }
+
+    /**
+     * @return number of tokens of all texts, without padding
+     */
+    public long getTokenCount() {
+        long tokens = 0;
+        for (Encoding encoding : encodings) {
+            tokens += encoding.getIds().length;
+        }
+        return tokens;
+    }
+
+    /**
+     * @return number of tokens the forward pass ran on, with padding
+     */
+    public long getPaddedTokenCount() {
+        return (long) encodings.length * length;
+    }
+
+    /**
+     * Add the token counts of the batch to the model output, so the model can track how much compute the padding
+     * wastes.
+     * @param output model output
+     */
+    public void addTokenCounts(Output output) {
+        output.addProperty(TOKENS_PROPERTY, String.valueOf(getTokenCount()));
+        output.addProperty(PADDED_TOKENS_PROPERTY, String.valueOf(getPaddedTokenCount()));
+    }
+
+    public NDArray getIds(NDManager manager) {
+        return create(manager, Encoding::getIds);
+    }
+
+    public NDArray getAttentionMask(NDManager manager) {
+        return create(manager, Encoding::getAttentionMask);
+    }
+
+    public NDArray getTypeIds(NDManager manager) {
+        return create(manager, Encoding::getTypeIds);
+    }
+
+    private NDArray create(NDManager manager, Function<Encoding, long[]> values) {
+        long[][] batch = new long[encodings.length][];
+        for (int i = 0; i < encodings.length; i++) {
+            batch[i] = values.apply(encodings[i]);
+        }
+        return manager.create(pad(batch, length), new Shape(encodings.length, length));
+    }
+
+    static long[] pad(long[][] batch, int length) {
+        long[] padded = new long[batch.length * length];
+        for (int i = 0; i < batch.length; i++) {
+            System.arraycopy(batch[i], 0, padded, i * length, batch[i].length);
+        }
+        return padded;
+    }
+}
@@ -18,21 +18,28 @@ import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 
 import org.apache.commons.io.FileUtils;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.model.MLModelConfig;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -45,6 +52,7 @@ import ai.djl.engine.Engine;
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
 import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ModelNotFoundException;
 import ai.djl.repository.zoo.ZooModel;
@@ -58,6 +66,12 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String THREAD_BUDGET = "thread_budget";
+    public static final String MODEL_ARTIFACT_CACHE = "model_artifact_cache";
+    // path of the cached model files, already acquired from the artifact cache for the model
+    public static final String CACHED_MODEL_PATH = "cached_model_path";
+    public static final String PYTORCH_INTRA_OP_THREADS = "pytorch_intra_op_threads";
+    public static final String PYTORCH_INTER_OP_THREADS = "pytorch_inter_op_threads";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
@@ -68,6 +82,17 @@ public abstract class DLModel implements Predictable {
     protected AtomicInteger nextDevice = new AtomicInteger(0);
 
     protected MLModelConfig modelConfig;
+    protected MLDeploySetting deploySetting;
+    protected LocalModelThreadBudget threadBudget;
+    protected ModelArtifactCache artifactCache;
+    protected String modelContentHash;
+    protected Path cachedModelPath;
+    // PyTorch reads its thread pool sizes once per JVM, they are node level and can't be set per model
+    private int pytorchIntraOpThreads = 1;
+    private int pytorchInterOpThreads = 1;
+    // tokens of the texts run by the model, without and with the padding of the texts to the longest text of a batch
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicLong paddedTokens = new AtomicLong();
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -97,8 +122,8 @@ public abstract class DLModel implements Predictable {
 
     protected Predictor<Input, Output> getPredictor() {
         int currentDevice = nextDevice.getAndIncrement();
-        if (currentDevice > devices.length - 1) {
-            currentDevice = currentDevice % devices.length;
+        if (currentDevice > predictors.length - 1) {
+            currentDevice = currentDevice % predictors.length;
             nextDevice.set(currentDevice + 1);
         }
         return predictors[currentDevice];
@@ -123,7 +148,19 @@ public abstract class DLModel implements Predictable {
         File modelZipFile = (File) params.get(MODEL_ZIP_FILE);
         modelHelper = (ModelHelper) params.get(MODEL_HELPER);
         mlEngine = (MLEngine) params.get(ML_ENGINE);
-        if (modelZipFile == null) {
+        threadBudget = (LocalModelThreadBudget) params.get(THREAD_BUDGET);
+        if (params.containsKey(PYTORCH_INTRA_OP_THREADS)) {
+            pytorchIntraOpThreads = (Integer) params.get(PYTORCH_INTRA_OP_THREADS);
+        }
+        if (params.containsKey(PYTORCH_INTER_OP_THREADS)) {
+            pytorchInterOpThreads = (Integer) params.get(PYTORCH_INTER_OP_THREADS);
+        }
+        artifactCache = (ModelArtifactCache) params.get(MODEL_ARTIFACT_CACHE);
+        cachedModelPath = (Path) params.get(CACHED_MODEL_PATH);
+        modelContentHash = model.getModelContentHash();
+        deploySetting = model.getDeploySetting();
+        // a model whose files are cached doesn't need the model zip
+        if (modelZipFile == null && cachedModelPath == null) {
             throw new IllegalArgumentException("model file is null");
         }
         if (modelHelper == null) {
@@ -146,6 +183,9 @@ public abstract class DLModel implements Predictable {
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
+            if (threadBudget != null) {
+                threadBudget.release(modelId);
+            }
             if (predictors != null) {
                 closePredictors(predictors);
                 predictors = null;
@@ -154,6 +194,9 @@ public abstract class DLModel implements Predictable {
                 closeModels(models);
                 models = null;
             }
+            if (artifactCache != null) {
+                artifactCache.release(modelId);
+            }
         }
     }
 
@@ -187,8 +230,9 @@ public abstract class DLModel implements Predictable {
         TranslateException {
         devices = Engine.getEngine(engine).getDevices();
         this.modelConfig = modelConfig;
+        LocalModelThreadBudget.Allocation allocation = allocateThreads(engine);
         for (int i = 0; i < devices.length; i++) {
-            log.debug("load model {} to device {}: {}", modelId, i, devices[i]);
+            log.debug("load model {} to device {} with {} predictors: {}", modelId, i, allocation.getReplicas(), devices[i]);
             ZooModel<Input, Output> model;
             Predictor<Input, Output> predictor;
             Criteria.Builder<Input, Output> criteriaBuilder = Criteria
@@ -212,15 +256,24 @@ public abstract class DLModel implements Predictable {
                     criteriaBuilder.optArgument(entry.getKey(), entry.getValue());
                 }
             }
+            if (ONNX_ENGINE.equals(engine)) {
+                for (Map.Entry<String, String> entry : getOnnxOptions(allocation).entrySet()) {
+                    criteriaBuilder.optOption(entry.getKey(), entry.getValue());
+                }
+            }
 
             Criteria<Input, Output> criteria = criteriaBuilder.build();
             model = criteria.loadModel();
-            predictor = model.newPredictor();
-            predictorList.add(predictor);
             modelList.add(model);
-
-            // First request takes longer time. Predict once to warm up model.
-            warmUp(predictor, modelId, modelConfig);
+            // replicas share the weights of the model, each runs its own forward passes
+            for (int j = 0; j < allocation.getReplicas(); j++) {
+                predictor = model.newPredictor();
+                predictorList.add(predictor);
+                if (j == 0) {
+                    // First request takes longer time. Predict once to warm up model.
+                    warmUp(predictor, modelId, modelConfig);
+                }
+            }
         }
 
         if (predictorList.size() > 0) {
@@ -231,7 +284,71 @@ public abstract class DLModel implements Predictable {
             this.models = modelList.toArray(new ZooModel[0]);
             modelList.clear();
         }
-        log.info("Model {} is successfully deployed on {} devices", modelId, devices.length);
+        log.info("Model {} is successfully deployed on {} devices with {} predictors", modelId, devices.length, predictors.length);
+    }
+
+    /**
+     * Reserve the threads of the predictor replicas of every device in the node's thread budget.
+     * @param engine DJL engine
+     * @return granted replicas per device and threads per replica
+     */
+    protected LocalModelThreadBudget.Allocation allocateThreads(String engine) {
+        int replicas = 1;
+        int threadsPerReplica = 1;
+        if (deploySetting != null && deploySetting.getPredictorReplicas() != null) {
+            replicas = deploySetting.getPredictorReplicas();
+        }
+        // PyTorch replicas share the node level thread pools, only ONNX sessions have their own threads
+        if (ONNX_ENGINE.equals(engine) && deploySetting != null) {
+            if (deploySetting.getIntraOpThreads() != null) {
+                threadsPerReplica = deploySetting.getIntraOpThreads();
+            }
+            if (deploySetting.getInterOpThreads() != null && "PARALLEL".equals(deploySetting.getOnnxExecutionMode())) {
+                threadsPerReplica += deploySetting.getInterOpThreads();
+            }
+        }
+        if (threadBudget == null) {
+            return new LocalModelThreadBudget.Allocation(replicas, threadsPerReplica);
+        }
+        LocalModelThreadBudget.Allocation allocation = threadBudget.reserve(modelId, replicas * devices.length, threadsPerReplica);
+        int replicasPerDevice = Math.max(1, allocation.getReplicas() / devices.length);
+        return new LocalModelThreadBudget.Allocation(replicasPerDevice, allocation.getThreadsPerReplica());
+    }
+
+    /**
+     * @param allocation granted replicas and threads per replica
+     * @return ONNX runtime session options of the deploy setting
+     */
+    protected Map<String, String> getOnnxOptions(LocalModelThreadBudget.Allocation allocation) {
+        Map<String, String> options = new HashMap<>();
+        if (deploySetting == null) {
+            return options;
+        }
+        Integer intraOpThreads = deploySetting.getIntraOpThreads();
+        Integer interOpThreads = deploySetting.getInterOpThreads();
+        boolean parallel = "PARALLEL".equals(deploySetting.getOnnxExecutionMode());
+        if (intraOpThreads != null) {
+            int grantedThreads = allocation.getThreadsPerReplica();
+            if (parallel && interOpThreads != null) {
+                // the budget cuts the intra-op threads first, the inter-op threads only when one intra-op thread is left
+                int intra = Math.max(1, Math.min(intraOpThreads, grantedThreads - interOpThreads));
+                interOpThreads = Math.max(1, Math.min(interOpThreads, grantedThreads - intra));
+                intraOpThreads = intra;
+            } else {
+                intraOpThreads = Math.min(intraOpThreads, grantedThreads);
+            }
+            options.put("intraOpNumThreads", String.valueOf(intraOpThreads));
+        }
+        if (interOpThreads != null) {
+            options.put("interOpNumThreads", String.valueOf(interOpThreads));
+        }
+        if (deploySetting.getOnnxExecutionMode() != null) {
+            options.put("executionMode", deploySetting.getOnnxExecutionMode());
+        }
+        if (deploySetting.getOnnxOptimizationLevel() != null) {
+            options.put("optLevel", deploySetting.getOnnxOptimizationLevel());
+        }
+        return options;
     }
 
     @SuppressWarnings("removal")
@@ -257,30 +374,30 @@ public abstract class DLModel implements Predictable {
                     // DJL will read "/usr/java/packages/lib" if don't set "java.library.path". That will throw
                     // access denied exception
                     System.setProperty("java.library.path", mlEngine.getMlCachePath().toAbsolutePath().toString());
-                    System.setProperty("ai.djl.pytorch.num_interop_threads", "1");
-                    System.setProperty("ai.djl.pytorch.num_threads", "1");
+                    System.setProperty("ai.djl.pytorch.num_interop_threads", String.valueOf(pytorchInterOpThreads));
+                    System.setProperty("ai.djl.pytorch.num_threads", String.valueOf(pytorchIntraOpThreads));
                     Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
-                    Path modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
-                    File pathFile = new File(modelPath.toUri());
-                    if (pathFile.exists()) {
-                        FileUtils.deleteDirectory(pathFile);
+                    Path modelPath = cachedModelPath;
+                    if (modelPath != null) {
+                        log.info("Load model {} from cached model artifact {}", modelId, modelContentHash);
+                    } else if (artifactCache != null && artifactCache.isCacheable(modelContentHash)) {
+                        modelPath = artifactCache.acquire(modelContentHash, modelId);
+                        if (modelPath != null) {
+                            log.info("Load model {} from cached model artifact {}", modelId, modelContentHash);
+                        } else if (modelZipFile != null) {
+                            modelPath = artifactCache.put(modelContentHash, modelId, path -> unzipModel(modelZipFile, path));
+                        }
                     }
-                    ZipUtils.unzip(modelZipFile, modelPath);
-                    boolean findModelFile = false;
-                    for (File file : pathFile.listFiles()) {
-                        String name = file.getName();
-                        if (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION)) {
-                            if (findModelFile) {
-                                throw new IllegalArgumentException("found multiple models");
-                            }
-                            findModelFile = true;
-                            int dotIndex = name.lastIndexOf(".");
-                            String suffix = name.substring(dotIndex);
-                            String targetModelFileName = modelPath.getFileName().toString();
-                            if (!targetModelFileName.equals(name.substring(0, dotIndex))) {
-                                file.renameTo(new File(modelPath.resolve(targetModelFileName + suffix).toUri()));
-                            }
+                    if (modelPath == null) {
+                        if (modelZipFile == null) {
+                            throw new IllegalArgumentException("model file is null");
+                        }
+                        modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
+                        File pathFile = new File(modelPath.toUri());
+                        if (pathFile.exists()) {
+                            FileUtils.deleteDirectory(pathFile);
                         }
+                        unzipModel(modelZipFile, modelPath);
                     }
                     doLoadModel(predictorList, modelList, engine, modelPath, modelConfig);
                     return null;
@@ -309,6 +426,32 @@ public abstract class DLModel implements Predictable {
         }
     }
 
+    /**
+     * Unzip the model files and rename the model file to the name of the model directory, which DJL loads the
+     * model from.
+     * @param modelZipFile model zip file
+     * @param modelPath model directory
+     */
+    private void unzipModel(File modelZipFile, Path modelPath) {
+        ZipUtils.unzip(modelZipFile, modelPath);
+        boolean findModelFile = false;
+        for (File file : new File(modelPath.toUri()).listFiles()) {
+            String name = file.getName();
+            if (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION)) {
+                if (findModelFile) {
+                    throw new IllegalArgumentException("found multiple models");
+                }
+                findModelFile = true;
+                int dotIndex = name.lastIndexOf(".");
+                String suffix = name.substring(dotIndex);
+                String targetModelFileName = modelPath.getFileName().toString();
+                if (!targetModelFileName.equals(name.substring(0, dotIndex))) {
+                    file.renameTo(new File(modelPath.resolve(targetModelFileName + suffix).toUri()));
+                }
+            }
+        }
+    }
+
     protected void closePredictors(Predictor[] predictors) {
         log.debug("will close {} predictor for model {}", predictors.length, modelId);
         for (Predictor<Input, Output> predictor : predictors) {
@@ -333,12 +476,106 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        ModelTensors tensorOutput = ModelTensorsSupplier.toModelTensors(output.getData());
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
         return tensorOutput;
     }
 
+    /**
+     * Parse model output of a batch to model tensor outputs, one per input text, and apply result filter.
+     * @param output model output
+     * @param resultFilter result filter
+     * @return model tensor outputs
+     */
+    public List<ModelTensors> parseModelTensorOutputs(Output output, ModelResultFilter resultFilter) {
+        if (output == null || output.getContent().isEmpty()) {
+            throw new MLException("No output generated");
+        }
+        tokens.addAndGet(Long.parseLong(output.getProperty(BatchEncodings.TOKENS_PROPERTY, "0")));
+        paddedTokens.addAndGet(Long.parseLong(output.getProperty(BatchEncodings.PADDED_TOKENS_PROPERTY, "0")));
+        List<ModelTensors> tensorOutputs = new ArrayList<>();
+        for (BytesSupplier content : output.getContent().values()) {
+            ModelTensors tensorOutput = ModelTensorsSupplier.toModelTensors(content);
+            if (resultFilter != null) {
+                tensorOutput.filter(resultFilter);
+            }
+            tensorOutputs.add(tensorOutput);
+        }
+        return tensorOutputs;
+    }
+
+    /**
+     * Get the share of the tokens of the forward passes which aren't padding.
+     * @return padding efficiency between 0 and 1, or null if the model hasn't reported token counts yet
+     */
+    public Double getPaddingEfficiency() {
+        long padded = paddedTokens.get();
+        if (padded == 0) {
+            return null;
+        }
+        return (double) tokens.get() / padded;
+    }
+
+    /**
+     * Split texts into batches which run in one forward pass. The texts of a batch are padded to the longest text, so
+     * a batch is limited by the max batch size and by its padded token count. Without batch settings in the model
+     * config every text runs alone.
+     * @param items items to split, in order
+     * @param textLength length of the text of an item in chars
+     * @return batches, in order
+     */
+    protected <T> List<List<T>> splitIntoBatches(List<T> items, ToIntFunction<T> textLength) {
+        List<List<T>> batches = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        int longestTokens = 0;
+        for (T item : items) {
+            int tokens = estimateTokens(textLength.applyAsInt(item));
+            int batchLongestTokens = Math.max(longestTokens, tokens);
+            if (!batch.isEmpty() && !fitsInBatch(batch.size() + 1, batchLongestTokens)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchLongestTokens = tokens;
+            }
+            batch.add(item);
+            longestTokens = batchLongestTokens;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Check the batch limits of the model config.
+     * @param texts number of texts of the batch
+     * @param longestTokens estimated token count of the longest text of the batch
+     * @return true if the texts may run in one forward pass
+     */
+    protected boolean fitsInBatch(int texts, int longestTokens) {
+        if (!(modelConfig instanceof TextEmbeddingModelConfig)) {
+            return texts <= 1;
+        }
+        TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
+        int maxBatchSize = Optional.ofNullable(textEmbeddingModelConfig.getMaxBatchSize()).orElse(1);
+        Integer maxTokensPerBatch = textEmbeddingModelConfig.getMaxTokensPerBatch();
+        return texts <= maxBatchSize && (maxTokensPerBatch == null || (long) longestTokens * texts <= maxTokensPerBatch);
+    }
+
+    protected int estimateTokens(int chars) {
+        Integer modelMaxLength = modelConfig instanceof TextEmbeddingModelConfig
+            ? ((TextEmbeddingModelConfig) modelConfig).getModelMaxLength()
+            : null;
+        return estimateTokens(chars, modelMaxLength);
+    }
+
+    /**
+     * Estimate the token count of a text before tokenizing it, about four chars per token plus the special tokens.
+     */
+    static int estimateTokens(int chars, Integer modelMaxLength) {
+        int tokens = chars / 4 + 2;
+        return modelMaxLength == null ? tokens : Math.min(tokens, modelMaxLength);
+    }
+
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.translate.TranslateException;
+
+/**
+ * Merges the texts of concurrent predict requests of one model into shared forward passes. A request waits up to the
+ * max queue delay for other requests to fill its batch. There is no worker thread: one of the waiting request threads
+ * runs the batch and hands the outputs to the other requests of the batch. At most one batch runs per predictor.
+ */
+public class InferenceScheduler {
+    // batch sizes are counted in power of two buckets, batches over 2^(BUCKETS - 2) texts share the last bucket
+    static final int BUCKETS = 9;
+
+    private final long maxQueueDelayNanos;
+    private final int maxConcurrentBatches;
+    private final BatchLimits batchLimits;
+    private final BatchPredictor batchPredictor;
+
+    private final Deque<Request> queue = new ArrayDeque<>();
+    private int runningBatches;
+    private final AtomicLongArray batchSizes = new AtomicLongArray(BUCKETS);
+
+    public InferenceScheduler(long maxQueueDelayMillis, int maxConcurrentBatches, BatchLimits batchLimits, BatchPredictor batchPredictor) {
+        this.maxQueueDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueDelayMillis);
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.batchLimits = batchLimits;
+        this.batchPredictor = batchPredictor;
+    }
+
+    /**
+     * Predict the texts of one request, possibly in one forward pass with the texts of concurrent requests.
+     * @param texts texts which fit in one batch
+     * @param longestTokens estimated token count of the longest text
+     * @return one model output per text, in order
+     */
+    public List<ModelTensors> predict(List<String> texts, int longestTokens) throws TranslateException {
+        Request request = new Request(texts, longestTokens);
+        synchronized (this) {
+            queue.addLast(request);
+            notifyAll();
+        }
+        while (true) {
+            List<Request> batch = awaitBatch(request);
+            if (batch == null) {
+                return request.getResult();
+            }
+            run(batch);
+        }
+    }
+
+    /**
+     * Wait until the request is done, or until the calling thread may run the next batch.
+     * @return batch to run, or null once the request is done
+     */
+    private synchronized List<Request> awaitBatch(Request request) {
+        try {
+            while (!request.done) {
+                if (runningBatches < maxConcurrentBatches && !queue.isEmpty()) {
+                    runningBatches++;
+                    List<Request> batch;
+                    try {
+                        waitForFullBatch();
+                        batch = pollBatch();
+                    } catch (InterruptedException e) {
+                        runningBatches--;
+                        notifyAll();
+                        throw e;
+                    }
+                    if (!batch.isEmpty()) {
+                        return batch;
+                    }
+                    runningBatches--;
+                    continue;
+                }
+                wait();
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(request);
+            throw new MLException("Interrupted while waiting for model inference", e);
+        }
+    }
+
+    private void waitForFullBatch() throws InterruptedException {
+        while (!queue.isEmpty() && !isFull()) {
+            long remainingNanos = queue.peekFirst().enqueuedNanos + maxQueueDelayNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        }
+    }
+
+    private boolean isFull() {
+        int texts = 0;
+        int longestTokens = 0;
+        for (Request request : queue) {
+            texts += request.texts.size();
+            longestTokens = Math.max(longestTokens, request.longestTokens);
+            if (!batchLimits.fits(texts, longestTokens)) {
+                return true;
+            }
+        }
+        return !batchLimits.fits(texts + 1, longestTokens);
+    }
+
+    private List<Request> pollBatch() {
+        List<Request> batch = new ArrayList<>();
+        int texts = 0;
+        int longestTokens = 0;
+        while (!queue.isEmpty()) {
+            Request next = queue.peekFirst();
+            int batchTexts = texts + next.texts.size();
+            int batchLongestTokens = Math.max(longestTokens, next.longestTokens);
+            if (!batch.isEmpty() && !batchLimits.fits(batchTexts, batchLongestTokens)) {
+                break;
+            }
+            batch.add(queue.pollFirst());
+            texts = batchTexts;
+            longestTokens = batchLongestTokens;
+        }
+        return batch;
+    }
+
+    private void run(List<Request> batch) {
+        List<String> texts = new ArrayList<>();
+        for (Request request : batch) {
+            texts.addAll(request.texts);
+        }
+        recordBatchSize(texts.size());
+        List<ModelTensors> outputs = null;
+        Throwable failure = null;
+        try {
+            outputs = batchPredictor.predict(texts);
+            if (outputs.size() != texts.size()) {
+                throw new MLException("Model returned " + outputs.size() + " outputs for " + texts.size() + " texts");
+            }
+        } catch (Throwable e) {
+            // the other requests of the batch wait for this thread, they must be completed whatever happens
+            failure = e;
+        }
+        synchronized (this) {
+            int from = 0;
+            for (Request request : batch) {
+                int to = from + request.texts.size();
+                request.complete(failure == null ? outputs.subList(from, to) : null, failure);
+                from = to;
+            }
+            runningBatches--;
+            notifyAll();
+        }
+    }
+
+    private void recordBatchSize(int size) {
+        int bucket = 32 - Integer.numberOfLeadingZeros(size - 1);
+        batchSizes.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+    }
+
+    /**
+     * @return number of requests waiting for a batch
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Get the number of batches run by batch size.
+     * @return batch count of every batch size bucket, like "1", "2", "3-4", "5-8", keyed in ascending order
+     */
+    public Map<String, Long> getBatchSizeHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            int upper = 1 << bucket;
+            int lower = bucket == 0 ? 1 : (upper >> 1) + 1;
+            String key;
+            if (bucket == BUCKETS - 1) {
+                key = lower + "+";
+            } else {
+                key = lower == upper ? String.valueOf(upper) : lower + "-" + upper;
+            }
+            histogram.put(key, batchSizes.get(bucket));
+        }
+        return histogram;
+    }
+
+    /**
+     * Limits of the texts of one forward pass.
+     */
+    @FunctionalInterface
+    public interface BatchLimits {
+        /**
+         * @param texts number of texts of the batch
+         * @param longestTokens estimated token count of the longest text of the batch
+         * @return true if the batch may run in one forward pass
+         */
+        boolean fits(int texts, int longestTokens);
+    }
+
+    /**
+     * Runs one forward pass.
+     */
+    @FunctionalInterface
+    public interface BatchPredictor {
+        /**
+         * @param texts texts of the batch
+         * @return one model output per text, in order
+         */
+        List<ModelTensors> predict(List<String> texts) throws TranslateException;
+    }
+
+    private static class Request {
+        private final List<String> texts;
+        private final int longestTokens;
+        private final long enqueuedNanos = System.nanoTime();
+        private List<ModelTensors> result;
+        private Throwable failure;
+        private boolean done;
+
+        Request(List<String> texts, int longestTokens) {
+            this.texts = texts;
+            this.longestTokens = longestTokens;
+        }
+
+        void complete(List<ModelTensors> result, Throwable failure) {
+            this.result = result;
+            this.failure = failure;
+            this.done = true;
+        }
+
+        List<ModelTensors> getResult() throws TranslateException {
+            if (failure instanceof TranslateException) {
+                throw (TranslateException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new MLException(failure);
+            }
+            return result;
+        }
+    }
+}
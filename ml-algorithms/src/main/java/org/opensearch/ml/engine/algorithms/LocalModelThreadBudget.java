@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level budget of the CPU threads of local models. Every deployed model reserves the threads of its predictor
+ * replicas, so models configured with many replicas or threads can't oversubscribe the cores of the node. A model
+ * which doesn't fit in the remaining budget gets fewer replicas first, then fewer threads per replica, but always at
+ * least one replica with one thread.
+ */
+@Log4j2
+public class LocalModelThreadBudget {
+    private final Map<String, Integer> reservedThreads = new HashMap<>();
+    private volatile int threads;
+
+    public LocalModelThreadBudget(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Set the threads of the budget. Models already deployed keep their threads until they are redeployed.
+     * @param threads threads of all local models of the node
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Reserve the threads of a model, replacing the threads it reserved before.
+     * @param modelId model id
+     * @param replicas requested predictor replicas
+     * @param threadsPerReplica requested threads of one replica
+     * @return granted replicas and threads per replica
+     */
+    public synchronized Allocation reserve(String modelId, int replicas, int threadsPerReplica) {
+        reservedThreads.remove(modelId);
+        int available = threads - getReservedThreads();
+        int grantedReplicas = replicas;
+        int grantedThreads = threadsPerReplica;
+        if (grantedReplicas * grantedThreads > available) {
+            grantedReplicas = Math.max(1, Math.min(replicas, available / threadsPerReplica));
+            if (grantedReplicas * grantedThreads > available) {
+                grantedThreads = Math.max(1, available / grantedReplicas);
+            }
+            log
+                .warn(
+                    "Model {} requested {} replicas with {} threads, only {} of {} threads left, granted {} replicas with {} threads",
+                    modelId,
+                    replicas,
+                    threadsPerReplica,
+                    Math.max(0, available),
+                    threads,
+                    grantedReplicas,
+                    grantedThreads
+                );
+        }
+        reservedThreads.put(modelId, grantedReplicas * grantedThreads);
+        return new Allocation(grantedReplicas, grantedThreads);
+    }
+
+    /**
+     * Release the threads of a model.
+     * @param modelId model id
+     */
+    public synchronized void release(String modelId) {
+        reservedThreads.remove(modelId);
+    }
+
+    /**
+     * @return threads reserved by all deployed models
+     */
+    public synchronized int getReservedThreads() {
+        return reservedThreads.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    @Getter
+    public static class Allocation {
+        private final int replicas;
+        private final int threadsPerReplica;
+
+        public Allocation(int replicas, int threadsPerReplica) {
+            this.replicas = replicas;
+            this.threadsPerReplica = threadsPerReplica;
+        }
+    }
+}
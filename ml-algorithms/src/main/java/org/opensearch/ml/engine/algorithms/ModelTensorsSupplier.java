@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.nio.ByteBuffer;
+
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.ndarray.BytesSupplier;
+
+/**
+ * Content of a DJL {@link ai.djl.modality.Output} holding the model tensors of one input. Local models run the
+ * predictor in process, so they take the tensors from the output as they are, the tensors are serialized only if the
+ * content is read as bytes.
+ */
+public class ModelTensorsSupplier implements BytesSupplier {
+    private final ModelTensors modelTensors;
+
+    public ModelTensorsSupplier(ModelTensors modelTensors) {
+        this.modelTensors = modelTensors;
+    }
+
+    public ModelTensors getModelTensors() {
+        return modelTensors;
+    }
+
+    @Override
+    public Object getAsObject() {
+        return modelTensors;
+    }
+
+    @Override
+    public byte[] getAsBytes() {
+        return modelTensors.toBytes();
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(getAsBytes());
+    }
+
+    /**
+     * Get the model tensors of an output content.
+     * @param content output content, model tensors or their bytes
+     * @return model tensors
+     */
+    public static ModelTensors toModelTensors(BytesSupplier content) {
+        if (content instanceof ModelTensorsSupplier) {
+            return ((ModelTensorsSupplier) content).getModelTensors();
+        }
+        return ModelTensors.fromBytes(content.getAsBytes());
+    }
+}
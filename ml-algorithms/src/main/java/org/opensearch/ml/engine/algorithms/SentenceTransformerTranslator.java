@@ -2,9 +2,13 @@ package org.opensearch.ml.engine.algorithms;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
-import ai.djl.huggingface.tokenizers.Encoding;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
 import ai.djl.ndarray.NDArray;
@@ -14,12 +18,16 @@ import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
 
+/**
+ * Translator of sentence transformer models. Every content of the input is a text, all texts of one input run in one
+ * forward pass. The translator creates the batch dimension by itself, as the texts have to be padded to the same length.
+ */
 public abstract class SentenceTransformerTranslator implements ServingTranslator {
     protected HuggingFaceTokenizer tokenizer;
 
     @Override
     public Batchifier getBatchifier() {
-        return Batchifier.STACK;
+        return null;
     }
 
     @Override
@@ -30,17 +38,15 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
-        String sentence = input.getAsString(0);
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
-        Encoding encodings = tokenizer.encode(sentence);
-        long[] indices = encodings.getIds();
-        long[] attentionMask = encodings.getAttentionMask();
+        BatchEncodings encodings = new BatchEncodings(tokenizer.batchEncode(BatchEncodings.getTexts(input, 0)));
+        ctx.setAttachment(BatchEncodings.ATTACHMENT_NAME, encodings);
 
-        NDArray indicesArray = manager.create(indices);
+        NDArray indicesArray = encodings.getIds(manager);
         indicesArray.setName("input1.input_ids");
 
-        NDArray attentionMaskArray = manager.create(attentionMask);
+        NDArray attentionMaskArray = encodings.getAttentionMask(manager);
         attentionMaskArray.setName("input1.attention_mask");
 
         ndList.add(indicesArray);
@@ -48,6 +54,51 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
         return ndList;
     }
 
+    /**
+     * Split the model output into the outputs of every text of the batch.
+     * @param list model output, every array has the batch dimension first
+     * @param size number of texts in the batch
+     * @return output of every text, the arrays keep their names
+     */
+    protected List<NDList> unbatchify(NDList list, int size) {
+        List<NDList> outputs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            NDList output = new NDList(list.size());
+            for (NDArray ndArray : list) {
+                NDArray item = ndArray.get(i);
+                item.setName(ndArray.getName());
+                output.add(item);
+            }
+            outputs.add(output);
+        }
+        return outputs;
+    }
+
+    /**
+     * Convert an output array to a model tensor. Float and int arrays are copied into primitive arrays, without boxing
+     * every value.
+     * @param name name of the tensor
+     * @param ndArray output array
+     * @return model tensor
+     */
+    protected ModelTensor toModelTensor(String name, NDArray ndArray) {
+        MLResultDataType dataType = MLResultDataType.valueOf(ndArray.getDataType().name());
+        ModelTensor.ModelTensorBuilder builder = ModelTensor
+            .builder()
+            .name(name)
+            .shape(ndArray.getShape().getShape())
+            .dataType(dataType)
+            .byteBuffer(ndArray.toByteBuffer());
+        if (dataType == MLResultDataType.FLOAT32) {
+            builder.floatData(ndArray.toFloatArray());
+        } else if (dataType == MLResultDataType.INT32) {
+            builder.intData(ndArray.toIntArray());
+        } else {
+            builder.data(ndArray.toArray());
+        }
+        return builder.build();
+    }
+
     @Override
     public void setArguments(Map<String, ?> arguments) {}
 }
@@ -1,11 +1,15 @@
 package org.opensearch.ml.engine.algorithms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.AsymmetricTextEmbeddingParameters;
 import org.opensearch.ml.common.dataset.AsymmetricTextEmbeddingParameters.EmbeddingContentType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
@@ -17,13 +21,28 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.encryptor.Encryptor;
 
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
-import ai.djl.modality.Output;
 import ai.djl.translate.TranslateException;
+import lombok.Getter;
 
 public abstract class TextEmbeddingModel extends DLModel {
+    // merges the texts of concurrent requests into shared batches, null if the model config has no max queue delay
+    @Getter
+    private InferenceScheduler inferenceScheduler;
+
+    @Override
+    public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
+        super.initModel(model, params, encryptor);
+        if (modelConfig instanceof TextEmbeddingModelConfig) {
+            Integer maxQueueDelayMillis = ((TextEmbeddingModelConfig) modelConfig).getMaxQueueDelayMillis();
+            if (maxQueueDelayMillis != null) {
+                inferenceScheduler = new InferenceScheduler(maxQueueDelayMillis, predictors.length, this::fitsInBatch, this::predictBatch);
+            }
+        }
+    }
 
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
@@ -33,17 +52,40 @@ public abstract class TextEmbeddingModel extends DLModel {
             ? addPrefixesToData((AsymmetricTextEmbeddingParameters) mlParams, (TextDocsInputDataSet) mlInput.getInputDataset())
             : mlInput.getInputDataset();
 
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
-        for (String doc : textDocsInput.getDocs()) {
-            Input input = new Input();
-            input.add(doc);
-            output = getPredictor().predict(input);
-            tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
+        List<String> docs = textDocsInput.getDocs();
+        // batch texts of similar length, so short texts aren't padded to the longest texts of the request
+        List<Integer> lengthOrder = IntStream
+            .range(0, docs.size())
+            .boxed()
+            .sorted(Comparator.comparingInt(i -> docs.get(i).length()))
+            .collect(Collectors.toList());
+        ModelTensors[] tensorOutputs = new ModelTensors[docs.size()];
+        for (List<Integer> batch : splitIntoBatches(lengthOrder, i -> docs.get(i).length())) {
+            List<String> texts = batch.stream().map(docs::get).collect(Collectors.toList());
+            List<ModelTensors> batchOutputs;
+            if (inferenceScheduler != null) {
+                int longestTokens = texts.stream().mapToInt(doc -> estimateTokens(doc.length())).max().orElse(0);
+                batchOutputs = inferenceScheduler.predict(texts, longestTokens);
+            } else {
+                batchOutputs = predictBatch(texts);
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                ModelTensors batchOutput = batchOutputs.get(i);
+                if (resultFilter != null) {
+                    batchOutput.filter(resultFilter);
+                }
+                tensorOutputs[batch.get(i)] = batchOutput;
+            }
         }
-        return new ModelTensorOutput(tensorOutputs);
+        return new ModelTensorOutput(new ArrayList<>(Arrays.asList(tensorOutputs)));
+    }
+
+    private List<ModelTensors> predictBatch(List<String> texts) throws TranslateException {
+        Input input = new Input();
+        texts.forEach(input::add);
+        return parseModelTensorOutputs(getPredictor().predict(input), null);
     }
 
     private boolean isAsymmetricModel(MLAlgoParams mlParams) {
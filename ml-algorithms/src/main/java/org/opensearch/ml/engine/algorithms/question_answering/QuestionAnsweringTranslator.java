@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.huggingface.tokenizers.Encoding;
@@ -19,11 +20,17 @@ import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.translate.Batchifier;
 import ai.djl.translate.TranslatorContext;
 
 public class QuestionAnsweringTranslator extends SentenceTransformerTranslator {
     private List<String> tokens;
 
+    @Override
+    public Batchifier getBatchifier() {
+        return Batchifier.STACK;
+    }
+
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
         NDManager manager = ctx.getNDManager();
@@ -68,7 +75,7 @@ public class QuestionAnsweringTranslator extends SentenceTransformerTranslator {
         outputs.add(new ModelTensor(null, answer));
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
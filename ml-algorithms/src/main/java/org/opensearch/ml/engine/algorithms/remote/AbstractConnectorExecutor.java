@@ -5,16 +5,96 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.security.AccessController;
+import java.security.PrivilegedExceptionAction;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.connector.RetryBackoffPolicy;
+import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingResponseParser;
+import org.opensearch.ml.common.exception.MLDeadlineExceededException;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLGuard;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
+import org.opensearch.threadpool.ThreadPool;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
 
+@Log4j2
 @Setter
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
+    private static final Set<RestStatus> RETRYABLE_STATUSES = Set
+        .of(RestStatus.TOO_MANY_REQUESTS, RestStatus.BAD_GATEWAY, RestStatus.SERVICE_UNAVAILABLE, RestStatus.GATEWAY_TIMEOUT);
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+    private static final int MAX_PROFILED_CIRCUIT_BREAKERS = 100;
+    // requests over the concurrency limit wait at most this long, a blocked caller holds a predict thread meanwhile
+    private static final long MAX_CONCURRENCY_LIMIT_WAIT_MILLIS = 1_000;
+
     private ConnectorClientConfig connectorClientConfig;
+    /**
+     * Executor to parse remote model responses on. The NIO reactor threads must not run guardrails or
+     * post process scripts, so responses are handed off to this executor when it's set.
+     */
+    private Executor responseExecutor;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private MLHttpClientRegistry.Lease<CloseableHttpAsyncClient> httpAsyncClientLease;
+    @Setter(AccessLevel.NONE)
+    private MLHttpClientRegistry httpClientRegistry;
+    // limiter of this executor, used if there is no node level limiter of the endpoint
+    @Setter(AccessLevel.NONE)
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    @Getter(AccessLevel.NONE)
+    private EndpointConcurrencyLimiters endpointConcurrencyLimiters;
+    @Getter(AccessLevel.NONE)
+    private EndpointCircuitBreakers endpointCircuitBreakers;
+    // endpoints with a breaker called by this executor, for the model profile. The breakers are looked up in the
+    // registry, so breakers dropped when the feature is disabled are not reported
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Set<String> usedCircuitBreakerEndpoints = ConcurrentHashMap.newKeySet();
 
     public void initialize(Connector connector) {
         if (connector.getConnectorClientConfig() != null) {
@@ -22,5 +102,628 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
         } else {
             connectorClientConfig = new ConnectorClientConfig();
         }
+        if (connectorClientConfig.getMaxConcurrency() != null) {
+            concurrencyLimiter = new AdaptiveConcurrencyLimiter(connectorClientConfig.getMaxConcurrency());
+        }
+    }
+
+    /**
+     * Invoke the remote model within the concurrency limit and retry requests throttled by the remote service with
+     * the same backoff as the non-blocking path. The calling predict thread waits out the backoff, so the retries are
+     * bounded by max_retry_times and retry_timeout_seconds of the connector client config.
+     */
+    @Override
+    public void invokeRemoteModelWithRetry(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        List<ModelTensors> tensorOutputs
+    ) {
+        long retryDeadlineMillis = getRetryDeadlineMillis(mlInput);
+        for (int retry = 0;; retry++) {
+            try {
+                invokeRemoteModelWithCircuitBreaker(mlInput, parameters, payload, tensorOutputs);
+                return;
+            } catch (RuntimeException e) {
+                long delayMillis = getRetryDelayMillis(e, retry, retryDeadlineMillis);
+                if (delayMillis < 0) {
+                    throw e;
+                }
+                log.debug("Remote model request throttled, retry {} in {}ms", retry + 1, delayMillis);
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Invoke the remote model within the concurrency limit and retry requests throttled by the remote service with
+     * backoff on the generic thread pool, until max_retry_times or retry_timeout_seconds of the connector client
+     * config is reached.
+     */
+    @Override
+    public void asyncInvokeRemoteModelWithRetry(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        long retryDeadlineMillis = getRetryDeadlineMillis(mlInput);
+        asyncInvokeRemoteModelWithRetry(mlInput, parameters, payload, 0, retryDeadlineMillis, actionListener);
+    }
+
+    private void asyncInvokeRemoteModelWithRetry(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        int retry,
+        long retryDeadlineMillis,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        // not ActionListener.wrap, failures of the response listener must not be retried
+        asyncInvokeRemoteModelWithCircuitBreaker(mlInput, parameters, payload, new ActionListener<>() {
+            @Override
+            public void onResponse(ModelTensors tensors) {
+                actionListener.onResponse(tensors);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                long delayMillis = getRetryDelayMillis(e, retry, retryDeadlineMillis);
+                if (delayMillis < 0 || getClient() == null) {
+                    actionListener.onFailure(e);
+                    return;
+                }
+                log.debug("Remote model request throttled, retry {} in {}ms", retry + 1, delayMillis);
+                try {
+                    ThreadPool threadPool = getClient().threadPool();
+                    Runnable retryRequest = () -> asyncInvokeRemoteModelWithRetry(
+                        mlInput,
+                        parameters,
+                        payload,
+                        retry + 1,
+                        retryDeadlineMillis,
+                        actionListener
+                    );
+                    threadPool
+                        .schedule(
+                            threadPool.getThreadContext().preserveContext(retryRequest),
+                            TimeValue.timeValueMillis(delayMillis),
+                            ThreadPool.Names.GENERIC
+                        );
+                } catch (Exception scheduleException) {
+                    log.error("Failed to schedule retry of remote model request", scheduleException);
+                    actionListener.onFailure(e);
+                }
+            }
+        });
+    }
+
+    private void invokeRemoteModelWithCircuitBreaker(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        List<ModelTensors> tensorOutputs
+    ) {
+        EndpointCircuitBreaker breaker = getCircuitBreaker(parameters);
+        if (breaker == null) {
+            invokeRemoteModelWithConcurrencyLimit(mlInput, parameters, payload, tensorOutputs);
+            return;
+        }
+        EndpointCircuitBreaker.Permit permit = acquireCircuitBreakerPermit(breaker);
+        try {
+            invokeRemoteModelWithConcurrencyLimit(mlInput, parameters, payload, tensorOutputs);
+            permit.complete(EndpointCircuitBreaker.Outcome.SUCCEEDED);
+        } catch (RuntimeException e) {
+            permit.complete(getCircuitBreakerOutcome(e));
+            throw e;
+        }
+    }
+
+    private void asyncInvokeRemoteModelWithCircuitBreaker(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        EndpointCircuitBreaker breaker = getCircuitBreaker(parameters);
+        if (breaker == null) {
+            asyncInvokeRemoteModelWithConcurrencyLimit(mlInput, parameters, payload, actionListener);
+            return;
+        }
+        EndpointCircuitBreaker.Permit permit;
+        try {
+            permit = acquireCircuitBreakerPermit(breaker);
+        } catch (Exception e) {
+            actionListener.onFailure(e);
+            return;
+        }
+        asyncInvokeRemoteModelWithConcurrencyLimit(mlInput, parameters, payload, new ActionListener<>() {
+            @Override
+            public void onResponse(ModelTensors tensors) {
+                permit.complete(EndpointCircuitBreaker.Outcome.SUCCEEDED);
+                actionListener.onResponse(tensors);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                permit.complete(getCircuitBreakerOutcome(e));
+                actionListener.onFailure(e);
+            }
+        });
+    }
+
+    private String getPredictEndpoint(Map<String, String> parameters) {
+        try {
+            return getConnector().getPredictEndpoint(parameters);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private EndpointCircuitBreaker getCircuitBreaker(Map<String, String> parameters) {
+        if (endpointCircuitBreakers == null) {
+            return null;
+        }
+        String endpoint = getPredictEndpoint(parameters);
+        EndpointCircuitBreaker breaker = endpointCircuitBreakers.getBreaker(endpoint);
+        if (breaker == null) {
+            if (!endpointCircuitBreakers.isEnabled()) {
+                usedCircuitBreakerEndpoints.clear();
+            }
+        } else if (usedCircuitBreakerEndpoints.size() < MAX_PROFILED_CIRCUIT_BREAKERS) {
+            usedCircuitBreakerEndpoints.add(breaker.getEndpoint());
+        }
+        return breaker;
+    }
+
+    private EndpointCircuitBreaker.Permit acquireCircuitBreakerPermit(EndpointCircuitBreaker breaker) {
+        EndpointCircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == null) {
+            endpointCircuitBreakers.incrementRejectedCount();
+            long retryAfterSeconds = TimeUnit.MILLISECONDS.toSeconds(breaker.getRemainingOpenMillis() + 999);
+            throw new MLLimitExceededException(
+                "Circuit breaker of remote endpoint "
+                    + breaker.getEndpoint()
+                    + " is open, please retry after "
+                    + retryAfterSeconds
+                    + " seconds"
+            );
+        }
+        return permit;
+    }
+
+    /**
+     * Server errors and connection failures count as failures of the endpoint. Throttling (429 and 503), client
+     * errors and invalid responses say nothing about its health, throttling is handled by the concurrency limiter.
+     */
+    private static EndpointCircuitBreaker.Outcome getCircuitBreakerOutcome(Exception e) {
+        if (e instanceof OpenSearchStatusException) {
+            RestStatus status = ((OpenSearchStatusException) e).status();
+            if (status.getStatus() >= 500 && status != RestStatus.SERVICE_UNAVAILABLE) {
+                return EndpointCircuitBreaker.Outcome.FAILED;
+            }
+            return EndpointCircuitBreaker.Outcome.IGNORED;
+        }
+        if (ExceptionsHelper.unwrap(e, IOException.class) != null) {
+            return EndpointCircuitBreaker.Outcome.FAILED;
+        }
+        return EndpointCircuitBreaker.Outcome.IGNORED;
+    }
+
+    @Override
+    public Map<String, String> getEndpointCircuitBreakerStates() {
+        Map<String, String> states = new TreeMap<>();
+        if (endpointCircuitBreakers == null || !endpointCircuitBreakers.isEnabled()) {
+            usedCircuitBreakerEndpoints.clear();
+            return states;
+        }
+        for (String endpoint : usedCircuitBreakerEndpoints) {
+            EndpointCircuitBreaker breaker = endpointCircuitBreakers.getExistingBreaker(endpoint);
+            if (breaker == null) {
+                usedCircuitBreakerEndpoints.remove(endpoint);
+            } else {
+                states.put(endpoint, breaker.getState().name());
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Get the concurrency limiter of the called endpoint, so the limit learned from its throttling is kept when the
+     * model is redeployed or updated.
+     * @param parameters connector parameters merged with request parameters
+     * @return limiter, or null if the connector has no max concurrency
+     */
+    private AdaptiveConcurrencyLimiter getConcurrencyLimiter(Map<String, String> parameters) {
+        if (concurrencyLimiter == null || endpointConcurrencyLimiters == null) {
+            return concurrencyLimiter;
+        }
+        AdaptiveConcurrencyLimiter limiter = endpointConcurrencyLimiters
+            .getLimiter(getPredictEndpoint(parameters), connectorClientConfig.getMaxConcurrency());
+        return limiter == null ? concurrencyLimiter : limiter;
+    }
+
+    private void invokeRemoteModelWithConcurrencyLimit(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        List<ModelTensors> tensorOutputs
+    ) {
+        AdaptiveConcurrencyLimiter limiter = getConcurrencyLimiter(parameters);
+        if (limiter == null) {
+            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+            return;
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(getConcurrencyLimitWaitMillis());
+        try {
+            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+            permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        } catch (RuntimeException e) {
+            permit.release(getOutcome(e));
+            throw e;
+        }
+    }
+
+    private void asyncInvokeRemoteModelWithConcurrencyLimit(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        AdaptiveConcurrencyLimiter limiter = getConcurrencyLimiter(parameters);
+        if (limiter == null) {
+            asyncInvokeRemoteModel(mlInput, parameters, payload, actionListener);
+            return;
+        }
+        // waiting requests don't hold a thread here, so they may wait up to the read timeout
+        limiter.acquire(permit -> asyncInvokeRemoteModel(mlInput, parameters, payload, new ActionListener<>() {
+            @Override
+            public void onResponse(ModelTensors tensors) {
+                permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+                actionListener.onResponse(tensors);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                permit.release(getOutcome(e));
+                actionListener.onFailure(e);
+            }
+        }), actionListener::onFailure, getReadTimeoutMillis());
+    }
+
+    private static AdaptiveConcurrencyLimiter.Outcome getOutcome(Exception e) {
+        if (e instanceof OpenSearchStatusException) {
+            RestStatus status = ((OpenSearchStatusException) e).status();
+            if (status == RestStatus.TOO_MANY_REQUESTS || status == RestStatus.SERVICE_UNAVAILABLE) {
+                return AdaptiveConcurrencyLimiter.Outcome.THROTTLED;
+            }
+        } else if (ExceptionsHelper.unwrap(e, SocketTimeoutException.class) != null) {
+            return AdaptiveConcurrencyLimiter.Outcome.THROTTLED;
+        }
+        return AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+    }
+
+    /**
+     * Get how long to wait before retrying a failed request. Only requests which the remote service throttled or
+     * couldn't serve temporarily are retried. The delay is the backoff of the retry policy, or the Retry-After of the
+     * remote service if that's longer.
+     * @param e failure of the request
+     * @param retry number of retries done so far
+     * @param retryDeadlineMillis time after which the request must not be retried
+     * @return delay in milliseconds, or -1 if the request must not be retried
+     */
+    long getRetryDelayMillis(Exception e, int retry, long retryDeadlineMillis) {
+        if (retry >= getMaxRetryTimes() || !(e instanceof OpenSearchStatusException)) {
+            return -1;
+        }
+        OpenSearchStatusException statusException = (OpenSearchStatusException) e;
+        if (!RETRYABLE_STATUSES.contains(statusException.status())) {
+            return -1;
+        }
+        long delayMillis = Math.max(getBackoffMillis(retry), getRetryAfterMillis(statusException));
+        if (System.currentTimeMillis() + delayMillis > retryDeadlineMillis) {
+            return -1;
+        }
+        return delayMillis;
+    }
+
+    private long getBackoffMillis(int retry) {
+        long backoffMillis = Optional
+            .ofNullable(connectorClientConfig)
+            .map(ConnectorClientConfig::getRetryBackoffMillis)
+            .orElse(ConnectorClientConfig.RETRY_BACKOFF_MILLIS_DEFAULT_VALUE);
+        RetryBackoffPolicy policy = Optional
+            .ofNullable(connectorClientConfig)
+            .map(ConnectorClientConfig::getRetryBackoffPolicy)
+            .orElse(ConnectorClientConfig.RETRY_BACKOFF_POLICY_DEFAULT_VALUE);
+        long exponentialBackoffMillis = backoffMillis << Math.min(retry, MAX_BACKOFF_EXPONENT);
+        switch (policy) {
+            case CONSTANT:
+                return backoffMillis;
+            case EXPONENTIAL_EQUAL_JITTER:
+                return exponentialBackoffMillis / 2 + (long) (Randomness.get().nextDouble() * (exponentialBackoffMillis / 2));
+            default:
+                return (long) (Randomness.get().nextDouble() * exponentialBackoffMillis);
+        }
+    }
+
+    /**
+     * Parse the Retry-After header, which is either a number of seconds or an http date.
+     */
+    private static long getRetryAfterMillis(OpenSearchStatusException e) {
+        List<String> retryAfter = e.getHeader(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isEmpty()) {
+            return 0;
+        }
+        String value = retryAfter.get(0).trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException numberFormatException) {
+            try {
+                ZonedDateTime retryTime = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, retryTime.toInstant().toEpochMilli() - System.currentTimeMillis());
+            } catch (DateTimeParseException dateTimeParseException) {
+                log.debug("Invalid Retry-After header: {}", value);
+                return 0;
+            }
+        }
+    }
+
+    private int getMaxRetryTimes() {
+        return Optional
+            .ofNullable(connectorClientConfig)
+            .map(ConnectorClientConfig::getMaxRetryTimes)
+            .orElse(ConnectorClientConfig.MAX_RETRY_TIMES_DEFAULT_VALUE);
+    }
+
+    private long getRetryDeadlineMillis(MLInput mlInput) {
+        long retryTimeoutMillis = TimeUnit.SECONDS.toMillis(getRetryTimeoutSeconds());
+        Long remainingMillis = mlInput == null ? null : mlInput.getRemainingTimeInMillis();
+        if (remainingMillis != null) {
+            // don't retry once the caller stopped waiting for the result
+            retryTimeoutMillis = Math.min(retryTimeoutMillis, remainingMillis);
+        }
+        return System.currentTimeMillis() + retryTimeoutMillis;
+    }
+
+    /**
+     * Cap the timeouts of a request to the remote model at the time left until the deadline of the predict request,
+     * so a slow remote model doesn't hold a connection for a response nobody reads.
+     * @param request http request to the remote model
+     * @param mlInput ML input carrying the deadline
+     */
+    protected void applyDeadline(HttpRequestBase request, MLInput mlInput) {
+        Long remainingMillis = mlInput == null ? null : mlInput.getRemainingTimeInMillis();
+        if (remainingMillis == null || remainingMillis >= getReadTimeoutMillis()) {
+            return;
+        }
+        if (remainingMillis <= 0) {
+            throw new MLDeadlineExceededException("Predict request exceeded its deadline before calling the remote model");
+        }
+        int connectionTimeout = Optional
+            .ofNullable(connectorClientConfig)
+            .map(ConnectorClientConfig::getConnectionTimeout)
+            .orElse(ConnectorClientConfig.CONNECTION_TIMEOUT_DEFAULT_VALUE);
+        request
+            .setConfig(
+                RequestConfig
+                    .custom()
+                    .setConnectTimeout((int) Math.min(connectionTimeout, remainingMillis))
+                    .setSocketTimeout(remainingMillis.intValue())
+                    .build()
+            );
+    }
+
+    private int getRetryTimeoutSeconds() {
+        return Optional
+            .ofNullable(connectorClientConfig)
+            .map(ConnectorClientConfig::getRetryTimeoutSeconds)
+            .orElse(ConnectorClientConfig.RETRY_TIMEOUT_SECONDS_DEFAULT_VALUE);
+    }
+
+    private long getConcurrencyLimitWaitMillis() {
+        return Math.min(MAX_CONCURRENCY_LIMIT_WAIT_MILLIS, getReadTimeoutMillis() / 10);
+    }
+
+    private long getReadTimeoutMillis() {
+        return Optional
+            .ofNullable(connectorClientConfig)
+            .map(ConnectorClientConfig::getReadTimeout)
+            .orElse(ConnectorClientConfig.READ_TIMEOUT_DEFAULT_VALUE);
+    }
+
+    /**
+     * Set the registry to lease shared http clients from. The async client is only leased the first time it's
+     * needed, as most connectors never invoke the model asynchronously and each async client runs its own reactor.
+     * @param httpClientRegistry node level http client registry
+     */
+    @Override
+    public synchronized void setHttpClientRegistry(MLHttpClientRegistry httpClientRegistry) {
+        this.httpClientRegistry = httpClientRegistry;
+    }
+
+    protected synchronized CloseableHttpAsyncClient getHttpAsyncClient() {
+        if (httpAsyncClient == null && httpClientRegistry != null) {
+            httpAsyncClientLease = httpClientRegistry.acquireAsyncHttpClient(getHttpClientEndpoint(), connectorClientConfig);
+            httpAsyncClient = httpAsyncClientLease.getClient();
+        } else if (httpAsyncClient == null) {
+            // without a registry the client isn't shared and is closed with this executor
+            ConnectorClientConfig clientConfig = Optional.ofNullable(connectorClientConfig).orElseGet(ConnectorClientConfig::new);
+            httpAsyncClient = MLHttpClientFactory
+                .getAsyncHttpClient(
+                    Optional.ofNullable(clientConfig.getConnectionTimeout()).orElse(ConnectorClientConfig.CONNECTION_TIMEOUT_DEFAULT_VALUE),
+                    Optional.ofNullable(clientConfig.getReadTimeout()).orElse(ConnectorClientConfig.READ_TIMEOUT_DEFAULT_VALUE),
+                    Optional.ofNullable(clientConfig.getMaxConnections()).orElse(ConnectorClientConfig.MAX_CONNECTION_DEFAULT_VALUE)
+                );
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Get the endpoint to share http clients by. Connectors calling the same host share the connection pool.
+     * @return predict endpoint filled with connector parameters, or null if the connector has no predict action
+     */
+    protected String getHttpClientEndpoint() {
+        try {
+            return getConnector().getPredictEndpoint(getConnector().getParameters());
+        } catch (Exception e) {
+            log.debug("Failed to get predict endpoint of connector", e);
+            return null;
+        }
+    }
+
+    /**
+     * Send the request with the non-blocking http client and complete the listener with the parsed model tensors.
+     * @param request http request to send
+     * @param parameters connector parameters merged with request parameters
+     * @param actionListener listener to complete with the parsed model tensors
+     */
+    @SuppressWarnings("removal")
+    protected void executeAsync(HttpUriRequest request, Map<String, String> parameters, ActionListener<ModelTensors> actionListener) {
+        try {
+            CloseableHttpAsyncClient client = getHttpAsyncClient();
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                client.execute(request, new FutureCallback<>() {
+                    @Override
+                    public void completed(HttpResponse response) {
+                        handleAsyncResponse(response, parameters, actionListener);
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        log.error("Fail to execute async http request to remote model", e);
+                        actionListener.onFailure(new MLException("Fail to execute http connector", e));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        actionListener.onFailure(new MLException("Http request to remote model was cancelled"));
+                    }
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Fail to execute async http request to remote model", e);
+            actionListener.onFailure(e);
+        }
+    }
+
+    private void handleAsyncResponse(HttpResponse response, Map<String, String> parameters, ActionListener<ModelTensors> actionListener) {
+        Runnable runnable = () -> {
+            try {
+                HttpEntity responseEntity = response.getEntity();
+                int statusCode = response.getStatusLine().getStatusCode();
+                EmbeddingResponseParser responseParser = getResponseStreamParser(statusCode, parameters);
+                if (responseEntity != null && responseParser != null) {
+                    try (InputStream content = responseEntity.getContent()) {
+                        actionListener.onResponse(parseResponseStream(statusCode, content, responseParser));
+                    }
+                    return;
+                }
+                String modelResponse = responseEntity == null ? null : EntityUtils.toString(responseEntity);
+                EntityUtils.consume(responseEntity);
+                if (modelResponse == null) {
+                    throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
+                }
+                Header retryAfter = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+                String retryAfterValue = retryAfter == null ? null : retryAfter.getValue();
+                actionListener.onResponse(parseResponse(statusCode, modelResponse, parameters, retryAfterValue));
+            } catch (Exception e) {
+                actionListener.onFailure(e);
+            }
+        };
+        if (responseExecutor == null) {
+            runnable.run();
+            return;
+        }
+        try {
+            responseExecutor.execute(runnable);
+        } catch (Exception e) {
+            log.error("Failed to hand off remote model response", e);
+            actionListener.onFailure(e);
+        }
+    }
+
+    /**
+     * Validate remote model response with guardrails and status code, then parse it into model tensors.
+     * @param statusCode http status code
+     * @param modelResponse response body
+     * @param parameters connector parameters merged with request parameters
+     * @return model tensors
+     * @throws IOException when failed to parse response
+     */
+    protected ModelTensors parseResponse(int statusCode, String modelResponse, Map<String, String> parameters) throws IOException {
+        return parseResponse(statusCode, modelResponse, parameters, null);
+    }
+
+    /**
+     * Validate remote model response with guardrails and status code, then parse it into model tensors.
+     * @param statusCode http status code
+     * @param modelResponse response body
+     * @param parameters connector parameters merged with request parameters
+     * @param retryAfter Retry-After header of the response, passed on to the caller if the request failed
+     * @return model tensors
+     * @throws IOException when failed to parse response
+     */
+    protected ModelTensors parseResponse(int statusCode, String modelResponse, Map<String, String> parameters, String retryAfter)
+        throws IOException {
+        if (getMlGuard() != null && !getMlGuard().validate(modelResponse, MLGuard.Type.OUTPUT)) {
+            throw new IllegalArgumentException("guardrails triggered for LLM output");
+        }
+        if (statusCode < 200 || statusCode >= 300) {
+            OpenSearchStatusException exception = new OpenSearchStatusException(
+                REMOTE_SERVICE_ERROR + modelResponse,
+                RestStatus.fromCode(statusCode)
+            );
+            if (retryAfter != null) {
+                exception.addHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            }
+            throw exception;
+        }
+        ModelTensors tensors = processOutput(modelResponse, getConnector(), getScriptService(), parameters);
+        tensors.setStatusCode(statusCode);
+        return tensors;
+    }
+
+    /**
+     * Get the parser to read a successful response straight from the response stream. Output guardrails need the
+     * whole response, so the response is only streamed if there are no guardrails.
+     * @param statusCode http status code
+     * @param parameters connector parameters merged with request parameters
+     * @return response parser, or null if the response must be read as a string
+     */
+    protected EmbeddingResponseParser getResponseStreamParser(int statusCode, Map<String, String> parameters) {
+        if (getMlGuard() != null || statusCode < 200 || statusCode >= 300) {
+            return null;
+        }
+        return ConnectorUtils.getResponseParser(getConnector(), parameters);
+    }
+
+    protected ModelTensors parseResponseStream(int statusCode, InputStream modelResponse, EmbeddingResponseParser responseParser)
+        throws IOException {
+        ModelTensors tensors = ConnectorUtils.processOutput(modelResponse, responseParser);
+        tensors.setStatusCode(statusCode);
+        return tensors;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (httpAsyncClientLease != null) {
+            // the client is shared with other connectors, so only release it
+            httpAsyncClientLease.close();
+            httpAsyncClientLease = null;
+        } else if (httpAsyncClient != null) {
+            try {
+                httpAsyncClient.close();
+            } catch (Exception e) {
+                log.error("Failed to close async http client", e);
+            }
+        }
+        httpAsyncClient = null;
     }
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.exception.MLException;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Limits the concurrent requests of a remote model with AIMD (additive increase, multiplicative decrease). The limit
+ * grows by one for every limit requests which succeed in time, and shrinks when the remote service throttles or the
+ * latency climbs well above the lowest latency seen recently. Requests over the limit wait in FIFO order and are
+ * rejected with 429 if no request finishes before their timeout.
+ */
+@Log4j2
+public class AdaptiveConcurrencyLimiter {
+    // multiplicative decrease when the remote service throttles or times out
+    static final double THROTTLED_DECREASE_FACTOR = 0.5;
+    // gentler decrease when the latency is LATENCY_TOLERANCE times the baseline
+    static final double LATENCY_DECREASE_FACTOR = 0.9;
+    static final double LATENCY_TOLERANCE = 2.0;
+    // latency changes below this are noise, not congestion
+    static final long MIN_LATENCY_INCREASE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    // the baseline latency is reset after this many samples, so it follows changes of payload or provider
+    static final int BASELINE_WINDOW = 1000;
+
+    private final int maxLimit;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long baselineLatencyNanos = Long.MAX_VALUE;
+    private int samples;
+
+    public AdaptiveConcurrencyLimiter(int maxLimit) {
+        if (maxLimit <= 0) {
+            throw new IllegalArgumentException("max concurrency must be positive");
+        }
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Block until a request may be sent.
+     * @param timeoutMillis max time to wait
+     * @return permit, which must be released once the request finished
+     */
+    public Permit acquire(long timeoutMillis) {
+        CompletableFuture<Permit> future = new CompletableFuture<>();
+        Waiter waiter = enqueue(future::complete, future::completeExceptionally, timeoutMillis);
+        if (waiter == null) {
+            return future.join();
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (remove(waiter)) {
+                throw rejection();
+            }
+            // the waiter was granted a permit or rejected by another thread meanwhile
+            return getDone(future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!remove(waiter) && !future.isCompletedExceptionally()) {
+                future.join().release(Outcome.IGNORED, 0);
+            }
+            throw new MLException("Interrupted while waiting to send request to remote model", e);
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private static Permit getDone(CompletableFuture<Permit> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * Call back once a request may be sent, without blocking the calling thread.
+     * @param onPermit called with the permit, which must be released once the request finished
+     * @param onRejected called with a 429 exception if no permit is available before the timeout
+     * @param timeoutMillis max time to wait
+     */
+    public void acquire(Consumer<Permit> onPermit, Consumer<Exception> onRejected, long timeoutMillis) {
+        enqueue(onPermit, onRejected, timeoutMillis);
+    }
+
+    private Waiter enqueue(Consumer<Permit> onPermit, Consumer<Exception> onRejected, long timeoutMillis) {
+        List<Waiter> expired;
+        Waiter waiter;
+        synchronized (this) {
+            expired = removeExpiredWaiters();
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                waiter = null;
+            } else {
+                waiter = new Waiter(onPermit, onRejected, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+                waiters.addLast(waiter);
+            }
+        }
+        reject(expired);
+        if (waiter == null) {
+            Permit permit = new Permit();
+            try {
+                onPermit.accept(permit);
+            } catch (RuntimeException e) {
+                permit.release(Outcome.IGNORED);
+                throw e;
+            }
+        }
+        return waiter;
+    }
+
+    private synchronized boolean remove(Waiter waiter) {
+        return waiters.remove(waiter);
+    }
+
+    private void release(Outcome outcome, long latencyNanos) {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> expired;
+        synchronized (this) {
+            inFlight--;
+            update(outcome, latencyNanos);
+            expired = removeExpiredWaiters();
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                granted.add(waiters.pollFirst());
+            }
+        }
+        try {
+            reject(expired);
+        } finally {
+            for (Waiter waiter : granted) {
+                Permit permit = new Permit();
+                try {
+                    waiter.onPermit.accept(permit);
+                } catch (Exception e) {
+                    log.error("Failed to send queued request to remote model", e);
+                    // a no-op if the callback released it before failing
+                    permit.release(Outcome.IGNORED);
+                }
+            }
+        }
+    }
+
+    private void update(Outcome outcome, long latencyNanos) {
+        switch (outcome) {
+            case THROTTLED:
+                limit = Math.max(1, limit * THROTTLED_DECREASE_FACTOR);
+                break;
+            case SUCCEEDED:
+                if (++samples >= BASELINE_WINDOW) {
+                    samples = 0;
+                    baselineLatencyNanos = Long.MAX_VALUE;
+                }
+                baselineLatencyNanos = Math.min(baselineLatencyNanos, latencyNanos);
+                if (latencyNanos > baselineLatencyNanos * LATENCY_TOLERANCE
+                    && latencyNanos - baselineLatencyNanos > MIN_LATENCY_INCREASE_NANOS) {
+                    limit = Math.max(1, limit * LATENCY_DECREASE_FACTOR);
+                } else if (inFlight + 1 >= (int) limit) {
+                    // only grow if the limit was reached, a model with few requests proves nothing about the remote capacity
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private List<Waiter> removeExpiredWaiters() {
+        List<Waiter> expired = new ArrayList<>();
+        long now = System.nanoTime();
+        Iterator<Waiter> iterator = waiters.iterator();
+        while (iterator.hasNext()) {
+            Waiter waiter = iterator.next();
+            if (now - waiter.deadlineNanos >= 0) {
+                iterator.remove();
+                expired.add(waiter);
+            }
+        }
+        return expired;
+    }
+
+    private void reject(List<Waiter> expired) {
+        for (Waiter waiter : expired) {
+            try {
+                waiter.onRejected.accept(rejection());
+            } catch (Exception e) {
+                log.error("Failed to reject queued request to remote model", e);
+            }
+        }
+    }
+
+    private OpenSearchStatusException rejection() {
+        return new OpenSearchStatusException(
+            "Too many concurrent requests to remote model, the concurrency limit is " + getLimit(),
+            RestStatus.TOO_MANY_REQUESTS
+        );
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    @VisibleForTesting
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @VisibleForTesting
+    synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    public enum Outcome {
+        SUCCEEDED,
+        // throttled or timed out, the remote service is overloaded
+        THROTTLED,
+        // failed for other reasons, which say nothing about the load of the remote service
+        IGNORED
+    }
+
+    /**
+     * Permission to send one request. It must be released exactly once, later releases are ignored.
+     */
+    public class Permit {
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        public void release(Outcome outcome) {
+            release(outcome, System.nanoTime() - startNanos);
+        }
+
+        private void release(Outcome outcome, long latencyNanos) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            AdaptiveConcurrencyLimiter.this.release(outcome, latencyNanos);
+        }
+    }
+
+    private static class Waiter {
+        private final Consumer<Permit> onPermit;
+        private final Consumer<Exception> onRejected;
+        private final long deadlineNanos;
+
+        Waiter(Consumer<Permit> onPermit, Consumer<Exception> onRejected, long deadlineNanos) {
+            this.onPermit = onPermit;
+            this.onRejected = onRejected;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -5,12 +5,11 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
-import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.AWS_SIGV4;
-import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -20,17 +19,24 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.AwsConnector;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingResponseParser;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
 import org.opensearch.script.ScriptService;
 
 import lombok.Getter;
@@ -49,10 +55,12 @@ import software.amazon.awssdk.utils.AttributeMap;
 @Log4j2
 @ConnectorExecutor(AWS_SIGV4)
 public class AwsConnectorExecutor extends AbstractConnectorExecutor {
+    private static final String SDK_HTTP_CLIENT = "aws_sdk_http";
 
     @Getter
     private AwsConnector connector;
     private SdkHttpClient httpClient;
+    private MLHttpClientRegistry.Lease<SdkHttpClient> httpClientLease;
     @Setter
     @Getter
     private ScriptService scriptService;
@@ -77,14 +85,39 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
     public AwsConnectorExecutor(Connector connector) {
         super.initialize(connector);
         this.connector = (AwsConnector) connector;
-        Duration connectionTimeout = Duration.ofMillis(super.getConnectorClientConfig().getConnectionTimeout());
-        Duration readTimeout = Duration.ofMillis(super.getConnectorClientConfig().getReadTimeout());
+    }
+
+    @Override
+    public synchronized void setHttpClientRegistry(MLHttpClientRegistry httpClientRegistry) {
+        super.setHttpClientRegistry(httpClientRegistry);
+        if (httpClientRegistry != null && httpClient == null) {
+            httpClientLease = httpClientRegistry
+                .acquire(SDK_HTTP_CLIENT, getHttpClientEndpoint(), getConnectorClientConfig(), AwsConnectorExecutor::createHttpClient);
+            httpClient = httpClientLease.getClient();
+        }
+    }
+
+    private synchronized SdkHttpClient getHttpClient() {
+        if (httpClient == null) {
+            // without a registry the client isn't shared and is closed with this executor
+            httpClient = createHttpClient(getConnectorClientConfig());
+        }
+        return httpClient;
+    }
+
+    private static SdkHttpClient createHttpClient(ConnectorClientConfig clientConfig) {
+        Duration connectionTimeout = Duration.ofMillis(clientConfig.getConnectionTimeout());
+        Duration readTimeout = Duration.ofMillis(clientConfig.getReadTimeout());
         try (
             AttributeMap attributeMap = AttributeMap
                 .builder()
                 .put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout)
                 .put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout)
-                .put(SdkHttpConfigurationOption.MAX_CONNECTIONS, super.getConnectorClientConfig().getMaxConnections())
+                .put(SdkHttpConfigurationOption.MAX_CONNECTIONS, clientConfig.getMaxConnections())
+                .put(
+                    SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT,
+                    Duration.ofMillis(MLHttpClientRegistry.MAX_IDLE_TIME_IN_MILLIS)
+                )
                 .build()
         ) {
             log
@@ -92,9 +125,9 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                     "Initializing aws connector http client with attributes: connectionTimeout={}, readTimeout={}, maxConnections={}",
                     connectionTimeout,
                     readTimeout,
-                    super.getConnectorClientConfig().getMaxConnections()
+                    clientConfig.getMaxConnections()
                 );
-            this.httpClient = new DefaultSdkHttpClientBuilder().buildWithDefaults(attributeMap);
+            return new DefaultSdkHttpClientBuilder().buildWithDefaults(attributeMap);
         } catch (RuntimeException e) {
             log.error("Error initializing AWS connector HTTP client.", e);
             throw e;
@@ -108,29 +141,15 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
         try {
-            String endpoint = connector.getPredictEndpoint(parameters);
-            RequestBody requestBody = RequestBody.fromString(payload);
-
-            SdkHttpFullRequest.Builder builder = SdkHttpFullRequest
-                .builder()
-                .method(POST)
-                .uri(URI.create(endpoint))
-                .contentStreamProvider(requestBody.contentStreamProvider());
-            Map<String, String> headers = connector.getDecryptedHeaders();
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    builder.putHeader(key, headers.get(key));
-                }
-            }
-            SdkHttpFullRequest request = builder.build();
+            SdkHttpFullRequest request = createSignedRequest(parameters, payload);
             HttpExecuteRequest executeRequest = HttpExecuteRequest
                 .builder()
-                .request(signRequest(request))
+                .request(request)
                 .contentStreamProvider(request.contentStreamProvider().orElse(null))
                 .build();
 
             HttpExecuteResponse response = AccessController
-                .doPrivileged((PrivilegedExceptionAction<HttpExecuteResponse>) () -> httpClient.prepareRequest(executeRequest).call());
+                .doPrivileged((PrivilegedExceptionAction<HttpExecuteResponse>) () -> getHttpClient().prepareRequest(executeRequest).call());
             int statusCode = response.httpResponse().statusCode();
 
             AbortableInputStream body = null;
@@ -138,6 +157,13 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                 body = response.responseBody().get();
             }
 
+            EmbeddingResponseParser responseParser = getResponseStreamParser(statusCode, parameters);
+            if (body != null && responseParser != null) {
+                try (InputStream content = body) {
+                    tensorOutputs.add(parseResponseStream(statusCode, content, responseParser));
+                }
+                return;
+            }
             StringBuilder responseBuilder = new StringBuilder();
             if (body != null) {
                 try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
@@ -149,17 +175,8 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
             } else {
                 throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
             }
-            String modelResponse = responseBuilder.toString();
-            if (getMlGuard() != null && !getMlGuard().validate(modelResponse, MLGuard.Type.OUTPUT)) {
-                throw new IllegalArgumentException("guardrails triggered for LLM output");
-            }
-            if (statusCode < 200 || statusCode >= 300) {
-                throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
-            }
-
-            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
-            tensors.setStatusCode(statusCode);
-            tensorOutputs.add(tensors);
+            String retryAfter = response.httpResponse().firstMatchingHeader(HttpHeaders.RETRY_AFTER).orElse(null);
+            tensorOutputs.add(parseResponse(statusCode, responseBuilder.toString(), parameters, retryAfter));
         } catch (RuntimeException exception) {
             log.error("Failed to execute predict in aws connector: " + exception.getMessage(), exception);
             throw exception;
@@ -169,6 +186,55 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
         }
     }
 
+    /**
+     * Sign the request with SigV4 and send it through the non-blocking http client.
+     */
+    @Override
+    public void asyncInvokeRemoteModel(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        try {
+            SdkHttpFullRequest signedRequest = createSignedRequest(parameters, payload);
+            HttpPost request = new HttpPost(signedRequest.getUri());
+            for (Map.Entry<String, List<String>> header : signedRequest.headers().entrySet()) {
+                // content length is computed by the http client from the entity
+                if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    request.addHeader(header.getKey(), value);
+                }
+            }
+            request.setEntity(new StringEntity(payload, StandardCharsets.UTF_8));
+            applyDeadline(request, mlInput);
+            executeAsync(request, parameters, actionListener);
+        } catch (Exception e) {
+            log.error("Failed to execute predict in aws connector", e);
+            actionListener.onFailure(e);
+        }
+    }
+
+    private SdkHttpFullRequest createSignedRequest(Map<String, String> parameters, String payload) {
+        String endpoint = connector.getPredictEndpoint(parameters);
+        RequestBody requestBody = RequestBody.fromString(payload);
+
+        SdkHttpFullRequest.Builder builder = SdkHttpFullRequest
+            .builder()
+            .method(POST)
+            .uri(URI.create(endpoint))
+            .contentStreamProvider(requestBody.contentStreamProvider());
+        Map<String, String> headers = connector.getDecryptedHeaders();
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                builder.putHeader(key, headers.get(key));
+            }
+        }
+        return signRequest(builder.build());
+    }
+
     private SdkHttpFullRequest signRequest(SdkHttpFullRequest request) {
         String accessKey = connector.getAccessKey();
         String secretKey = connector.getSecretKey();
@@ -178,4 +244,16 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
 
         return ConnectorUtils.signRequest(request, accessKey, secretKey, sessionToken, signingName, region);
     }
+
+    @Override
+    public synchronized void close() {
+        if (httpClientLease != null) {
+            httpClientLease.close();
+            httpClientLease = null;
+        } else if (httpClient != null) {
+            httpClient.close();
+        }
+        httpClient = null;
+        super.close();
+    }
 }
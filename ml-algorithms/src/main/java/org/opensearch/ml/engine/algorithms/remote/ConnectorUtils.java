@@ -15,6 +15,7 @@ import static org.opensearch.ml.common.utils.StringUtils.processTextDocs;
 import static org.opensearch.ml.engine.utils.ScriptUtils.executePostProcessFunction;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -24,10 +25,15 @@ import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingResponseParser;
 import org.opensearch.ml.common.connector.functions.preprocess.DefaultPreProcessFunction;
 import org.opensearch.ml.common.connector.functions.preprocess.RemoteInferencePreProcessFunction;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
@@ -219,6 +225,43 @@ public class ConnectorUtils {
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
     }
 
+    /**
+     * Get the parser to read the model response as a stream. Only built-in embedding post process functions with
+     * their default response filter support it.
+     * @param connector connector
+     * @param parameters connector parameters merged with request parameters
+     * @return response parser, or null if the whole model response is needed to process the output
+     */
+    public static EmbeddingResponseParser getResponseParser(Connector connector, Map<String, String> parameters) {
+        Optional<ConnectorAction> predictAction = connector.findPredictAction();
+        if (predictAction.isEmpty()) {
+            return null;
+        }
+        String postProcessFunction = fillProcessFunctionParameter(parameters, predictAction.get().getPostProcessFunction());
+        EmbeddingResponseParser responseParser = MLPostProcessFunction.getResponseParser(postProcessFunction);
+        if (responseParser == null) {
+            return null;
+        }
+        String responseFilter = parameters.get(RESPONSE_FILTER_FIELD);
+        if (!StringUtils.isBlank(responseFilter) && !responseFilter.equals(MLPostProcessFunction.getResponseFilter(postProcessFunction))) {
+            return null;
+        }
+        return responseParser;
+    }
+
+    public static ModelTensors processOutput(InputStream modelResponse, EmbeddingResponseParser responseParser) throws IOException {
+        if (modelResponse == null) {
+            throw new IllegalArgumentException("model response is null");
+        }
+        try (
+            XContentParser parser = XContentType.JSON
+                .xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, modelResponse)
+        ) {
+            return ModelTensors.builder().mlModelTensors(responseParser.parse(parser)).build();
+        }
+    }
+
     private static String fillProcessFunctionParameter(Map<String, String> parameters, String processFunction) {
         if (processFunction != null && processFunction.contains("${parameters.")) {
             Map<String, String> tmpParameters = new HashMap<>();
@@ -0,0 +1,198 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Circuit breaker of one remote model endpoint. It records the outcome of the last {@link #WINDOW_SIZE} calls and
+ * opens if too many of them failed or were slow. Calls fail fast while the breaker is open. After the open duration a
+ * few probe calls are let through (half-open): the breaker closes if all of them succeed in time, and opens again
+ * otherwise.
+ */
+@Log4j2
+public class EndpointCircuitBreaker {
+    static final int WINDOW_SIZE = 100;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    @Getter
+    private final String endpoint;
+    private final Supplier<EndpointCircuitBreakers.Config> config;
+
+    private final boolean[] failedCalls = new boolean[WINDOW_SIZE];
+    private final boolean[] slowCalls = new boolean[WINDOW_SIZE];
+    private int calls;
+    private int nextCall;
+    private int failedCallCount;
+    private int slowCallCount;
+
+    private State state = State.CLOSED;
+    // incremented on every state change, so calls started in an earlier state don't count for the current state
+    private long generation;
+    private long openedAtNanos;
+    private int startedProbes;
+    private int succeededProbes;
+
+    EndpointCircuitBreaker(String endpoint, Supplier<EndpointCircuitBreakers.Config> config) {
+        this.endpoint = endpoint;
+        this.config = config;
+    }
+
+    /**
+     * Try to start a call to the endpoint.
+     * @return permit to report the outcome of the call with, or null if the breaker is open
+     */
+    public synchronized Permit tryAcquire() {
+        EndpointCircuitBreakers.Config currentConfig = config.get();
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < TimeUnit.MILLISECONDS.toNanos(currentConfig.getOpenDurationMillis())) {
+                return null;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (startedProbes >= currentConfig.getHalfOpenProbes()) {
+                return null;
+            }
+            startedProbes++;
+        }
+        return new Permit(generation);
+    }
+
+    private synchronized void onComplete(long callGeneration, Outcome outcome, long durationNanos) {
+        if (callGeneration != generation || state == State.OPEN) {
+            return;
+        }
+        EndpointCircuitBreakers.Config currentConfig = config.get();
+        boolean slow = durationNanos >= TimeUnit.MILLISECONDS.toNanos(currentConfig.getSlowCallDurationMillis());
+        if (state == State.HALF_OPEN) {
+            if (outcome == Outcome.IGNORED && !slow) {
+                // the probe said nothing about the endpoint, let another call probe it
+                startedProbes--;
+            } else if (outcome == Outcome.FAILED || slow) {
+                log.warn("Probe call to remote endpoint {} failed, opening circuit breaker again", endpoint);
+                transitionTo(State.OPEN);
+            } else if (++succeededProbes >= currentConfig.getHalfOpenProbes()) {
+                log.info("Remote endpoint {} recovered, closing circuit breaker", endpoint);
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (outcome == Outcome.IGNORED && !slow) {
+            return;
+        }
+        record(outcome == Outcome.FAILED, slow);
+        if (calls < currentConfig.getMinimumCalls()) {
+            return;
+        }
+        int failureRate = failedCallCount * 100 / calls;
+        int slowCallRate = slowCallCount * 100 / calls;
+        if (failureRate >= currentConfig.getFailureRateThreshold() || slowCallRate >= currentConfig.getSlowCallRateThreshold()) {
+            log
+                .warn(
+                    "Opening circuit breaker of remote endpoint {}, failure rate {}%, slow call rate {}% of the last {} calls",
+                    endpoint,
+                    failureRate,
+                    slowCallRate,
+                    calls
+                );
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (calls == WINDOW_SIZE) {
+            failedCallCount -= failedCalls[nextCall] ? 1 : 0;
+            slowCallCount -= slowCalls[nextCall] ? 1 : 0;
+        } else {
+            calls++;
+        }
+        failedCalls[nextCall] = failed;
+        slowCalls[nextCall] = slow;
+        failedCallCount += failed ? 1 : 0;
+        slowCallCount += slow ? 1 : 0;
+        nextCall = (nextCall + 1) % WINDOW_SIZE;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        generation++;
+        startedProbes = 0;
+        succeededProbes = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (newState != State.HALF_OPEN) {
+            calls = 0;
+            nextCall = 0;
+            failedCallCount = 0;
+            slowCallCount = 0;
+        }
+    }
+
+    /**
+     * Get the state. An open breaker is reported as half-open once the open duration has passed.
+     * @return state of the breaker
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN
+            && System.nanoTime() - openedAtNanos >= TimeUnit.MILLISECONDS.toNanos(config.get().getOpenDurationMillis())) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Get the time until an open breaker lets probe calls through.
+     * @return remaining open time in milliseconds, 0 if the breaker isn't open
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openedAtNanos);
+        return Math.max(0, config.get().getOpenDurationMillis() - elapsedMillis);
+    }
+
+    public enum Outcome {
+        SUCCEEDED,
+        FAILED,
+        // failed for reasons which say nothing about the health of the endpoint, like invalid input
+        IGNORED
+    }
+
+    /**
+     * Permit of one call. Only the first outcome reported is recorded.
+     */
+    public class Permit {
+        private final long callGeneration;
+        private final long startNanos = System.nanoTime();
+        private boolean completed;
+
+        private Permit(long callGeneration) {
+            this.callGeneration = callGeneration;
+        }
+
+        public void complete(Outcome outcome) {
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                completed = true;
+            }
+            onComplete(callGeneration, outcome, System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Node level registry of the circuit breakers of remote model endpoints. Models calling the same endpoint share its
+ * breaker, so a dead endpoint fails fast for all of them while models of healthy endpoints keep the predict threads.
+ */
+public class EndpointCircuitBreakers {
+    // endpoints with parameters in the path could create breakers without bounds
+    static final int MAX_BREAKERS = 10_000;
+
+    private final ConcurrentMap<String, EndpointCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private volatile boolean enabled;
+    @Getter
+    private volatile Config config;
+
+    public EndpointCircuitBreakers(boolean enabled, Config config) {
+        this.enabled = enabled;
+        this.config = config;
+    }
+
+    /**
+     * Get the breaker of the endpoint.
+     * @param endpoint predict endpoint, the query string is ignored
+     * @return circuit breaker, or null if breakers are disabled or the endpoint can't be parsed
+     */
+    public EndpointCircuitBreaker getBreaker(String endpoint) {
+        if (!enabled) {
+            return null;
+        }
+        String key = normalizeEndpoint(endpoint);
+        if (key == null) {
+            return null;
+        }
+        EndpointCircuitBreaker breaker = breakers.get(key);
+        if (breaker != null || breakers.size() >= MAX_BREAKERS) {
+            return breaker;
+        }
+        return breakers.computeIfAbsent(key, it -> new EndpointCircuitBreaker(it, this::getConfig));
+    }
+
+    /**
+     * The query string may contain credentials and is dropped along with user info, the breaker is per
+     * scheme, host, port and path.
+     */
+    static String normalizeEndpoint(String endpoint) {
+        if (endpoint == null) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(endpoint);
+            if (uri.getHost() == null) {
+                return null;
+            }
+            return new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), uri.getPath(), null, null).toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the breaker of the endpoint without creating it.
+     * @param normalizedEndpoint endpoint of the breaker
+     * @return circuit breaker, or null if breakers are disabled or the endpoint has no breaker
+     */
+    public EndpointCircuitBreaker getExistingBreaker(String normalizedEndpoint) {
+        return enabled ? breakers.get(normalizedEndpoint) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            breakers.clear();
+        }
+    }
+
+    public void setConfig(Config config) {
+        this.config = config;
+    }
+
+    void incrementRejectedCount() {
+        rejectedCount.incrementAndGet();
+    }
+
+    /**
+     * @return number of calls which failed fast because the breaker of their endpoint was open
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * @return number of endpoints whose breaker is open or half-open
+     */
+    public long getOpenCount() {
+        return breakers.values().stream().filter(it -> it.getState() != EndpointCircuitBreaker.State.CLOSED).count();
+    }
+
+    /**
+     * @return state of every endpoint's breaker, sorted by endpoint
+     */
+    public Map<String, String> getStates() {
+        Map<String, String> states = new TreeMap<>();
+        breakers.forEach((endpoint, breaker) -> states.put(endpoint, breaker.getState().name()));
+        return states;
+    }
+
+    @Getter
+    @Builder
+    public static class Config {
+        // percentage of failed calls in the window which opens the breaker
+        private final int failureRateThreshold;
+        // percentage of slow calls in the window which opens the breaker
+        private final int slowCallRateThreshold;
+        private final long slowCallDurationMillis;
+        // calls needed before the rates are evaluated
+        private final int minimumCalls;
+        private final long openDurationMillis;
+        private final int halfOpenProbes;
+    }
+}
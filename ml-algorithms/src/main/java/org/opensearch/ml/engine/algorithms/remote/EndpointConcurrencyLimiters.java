@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Node level registry of the adaptive concurrency limiters of remote model endpoints. The limit learned from the
+ * throttling of an endpoint survives redeploys and config updates of the models calling it, and models calling the
+ * same endpoint with the same max concurrency share one limit.
+ */
+public class EndpointConcurrencyLimiters {
+    // endpoints with parameters in the path could create limiters without bounds
+    static final int MAX_LIMITERS = 10_000;
+
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Get the limiter of the endpoint.
+     * @param endpoint predict endpoint, the query string is ignored
+     * @param maxConcurrency max concurrency of the connector
+     * @return concurrency limiter, or null if the endpoint can't be parsed or there are too many limiters
+     */
+    public AdaptiveConcurrencyLimiter getLimiter(String endpoint, int maxConcurrency) {
+        String normalizedEndpoint = EndpointCircuitBreakers.normalizeEndpoint(endpoint);
+        if (normalizedEndpoint == null) {
+            return null;
+        }
+        String key = maxConcurrency + "@" + normalizedEndpoint;
+        AdaptiveConcurrencyLimiter limiter = limiters.get(key);
+        if (limiter != null || limiters.size() >= MAX_LIMITERS) {
+            return limiter;
+        }
+        return limiters.computeIfAbsent(key, it -> new AdaptiveConcurrencyLimiter(maxConcurrency));
+    }
+
+    public int size() {
+        return limiters.size();
+    }
+}
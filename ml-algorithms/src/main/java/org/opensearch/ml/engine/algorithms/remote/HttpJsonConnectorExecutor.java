@@ -5,10 +5,10 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
-import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
-import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.List;
@@ -16,26 +16,29 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
-import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
 import org.opensearch.common.util.TokenBucket;
-import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingResponseParser;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
 import org.opensearch.script.ScriptService;
 
 import lombok.Getter;
@@ -66,16 +69,11 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
     private MLGuard mlGuard;
 
     private CloseableHttpClient httpClient;
+    private MLHttpClientRegistry.Lease<CloseableHttpClient> httpClientLease;
 
     public HttpJsonConnectorExecutor(Connector connector) {
         super.initialize(connector);
         this.connector = (HttpConnector) connector;
-        this.httpClient = MLHttpClientFactory
-            .getCloseableHttpClient(
-                super.getConnectorClientConfig().getConnectionTimeout(),
-                super.getConnectorClientConfig().getReadTimeout(),
-                super.getConnectorClientConfig().getMaxConnections()
-            );
     }
 
     public HttpJsonConnectorExecutor(Connector connector, CloseableHttpClient httpClient) {
@@ -83,73 +81,66 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
         this.httpClient = httpClient;
     }
 
+    @Override
+    public synchronized void setHttpClientRegistry(MLHttpClientRegistry httpClientRegistry) {
+        super.setHttpClientRegistry(httpClientRegistry);
+        if (httpClientRegistry != null && httpClient == null) {
+            httpClientLease = httpClientRegistry.acquireHttpClient(getHttpClientEndpoint(), getConnectorClientConfig());
+            httpClient = httpClientLease.getClient();
+        }
+    }
+
+    private synchronized CloseableHttpClient getHttpClient() {
+        if (httpClient == null) {
+            // without a registry the client isn't shared and is closed with this executor
+            httpClient = MLHttpClientFactory
+                .getCloseableHttpClient(
+                    getConnectorClientConfig().getConnectionTimeout(),
+                    getConnectorClientConfig().getReadTimeout(),
+                    getConnectorClientConfig().getMaxConnections()
+                );
+        }
+        return httpClient;
+    }
+
     @SuppressWarnings("removal")
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
         try {
             AtomicReference<String> responseRef = new AtomicReference<>("");
             AtomicReference<Integer> statusCodeRef = new AtomicReference<>();
+            AtomicReference<String> retryAfterRef = new AtomicReference<>();
+            AtomicReference<ModelTensors> tensorsRef = new AtomicReference<>();
 
-            HttpUriRequest request;
-            switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
-                case "POST":
-                    try {
-                        String predictEndpoint = connector.getPredictEndpoint(parameters);
-                        request = new HttpPost(predictEndpoint);
-                        String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
-                        HttpEntity entity = new StringEntity(payload, charset);
-                        ((HttpPost) request).setEntity(entity);
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
-                    }
-                    break;
-                case "GET":
-                    try {
-                        request = new HttpGet(connector.getPredictEndpoint(parameters));
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
-                    }
-                    break;
-                default:
-                    throw new IllegalArgumentException("unsupported http method");
-            }
-
-            Map<String, ?> headers = connector.getDecryptedHeaders();
-            boolean hasContentTypeHeader = false;
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    request.addHeader(key, (String) headers.get(key));
-                    if (key.toLowerCase().equals("Content-Type")) {
-                        hasContentTypeHeader = true;
-                    }
-                }
-            }
-            if (!hasContentTypeHeader) {
-                request.addHeader("Content-Type", "application/json");
-            }
-
+            HttpRequestBase request = createHttpRequest(mlInput, parameters, payload);
+            CloseableHttpClient httpClient = getHttpClient();
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 try (CloseableHttpResponse response = httpClient.execute(request)) {
                     HttpEntity responseEntity = response.getEntity();
+                    int statusCode = response.getStatusLine().getStatusCode();
+                    statusCodeRef.set(statusCode);
+                    Header retryAfter = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+                    if (retryAfter != null) {
+                        retryAfterRef.set(retryAfter.getValue());
+                    }
+                    EmbeddingResponseParser responseParser = getResponseStreamParser(statusCode, parameters);
+                    if (responseEntity != null && responseParser != null) {
+                        try (InputStream content = responseEntity.getContent()) {
+                            tensorsRef.set(parseResponseStream(statusCode, content, responseParser));
+                        }
+                        return null;
+                    }
                     String responseBody = EntityUtils.toString(responseEntity);
                     EntityUtils.consume(responseEntity);
                     responseRef.set(responseBody);
-                    statusCodeRef.set(response.getStatusLine().getStatusCode());
                 }
                 return null;
             });
-            String modelResponse = responseRef.get();
-            if (getMlGuard() != null && !getMlGuard().validate(modelResponse, MLGuard.Type.OUTPUT)) {
-                throw new IllegalArgumentException("guardrails triggered for LLM output");
-            }
-            Integer statusCode = statusCodeRef.get();
-            if (statusCode < 200 || statusCode >= 300) {
-                throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
+            if (tensorsRef.get() != null) {
+                tensorOutputs.add(tensorsRef.get());
+                return;
             }
-
-            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
-            tensors.setStatusCode(statusCode);
-            tensorOutputs.add(tensors);
+            tensorOutputs.add(parseResponse(statusCodeRef.get(), responseRef.get(), parameters, retryAfterRef.get()));
         } catch (RuntimeException e) {
             log.error("Fail to execute http connector", e);
             throw e;
@@ -159,4 +150,77 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
         }
     }
 
+    @Override
+    public void asyncInvokeRemoteModel(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        try {
+            executeAsync(createHttpRequest(mlInput, parameters, payload), parameters, actionListener);
+        } catch (Exception e) {
+            log.error("Fail to execute http connector", e);
+            actionListener.onFailure(e);
+        }
+    }
+
+    private HttpRequestBase createHttpRequest(MLInput mlInput, Map<String, String> parameters, String payload) {
+        HttpRequestBase request;
+        switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
+            case "POST":
+                try {
+                    String predictEndpoint = connector.getPredictEndpoint(parameters);
+                    request = new HttpPost(predictEndpoint);
+                    String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
+                    HttpEntity entity = new StringEntity(payload, charset);
+                    ((HttpPost) request).setEntity(entity);
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            case "GET":
+                try {
+                    request = new HttpGet(connector.getPredictEndpoint(parameters));
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported http method");
+        }
+
+        Map<String, ?> headers = connector.getDecryptedHeaders();
+        boolean hasContentTypeHeader = false;
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                request.addHeader(key, (String) headers.get(key));
+                if (key.toLowerCase().equals("Content-Type")) {
+                    hasContentTypeHeader = true;
+                }
+            }
+        }
+        if (!hasContentTypeHeader) {
+            request.addHeader("Content-Type", "application/json");
+        }
+        applyDeadline(request, mlInput);
+        return request;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (httpClientLease != null) {
+            httpClientLease.close();
+            httpClientLease = null;
+        } else if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.error("Failed to close http client", e);
+            }
+        }
+        httpClient = null;
+        super.close();
+    }
+
 }
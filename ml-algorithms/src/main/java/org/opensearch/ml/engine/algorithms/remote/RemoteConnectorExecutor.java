@@ -12,6 +12,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
@@ -19,6 +25,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
@@ -26,58 +33,290 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.exception.MLDeadlineExceededException;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
 import org.opensearch.script.ScriptService;
 
 public interface RemoteConnectorExecutor {
 
+    String INPUT_DOCS_PROCESSED_STEP_SIZE = "input_docs_processed_step_size";
+    String INPUT_DOCS_PARALLELISM = "input_docs_parallelism";
+
     default ModelTensorOutput executePredict(MLInput mlInput) {
         List<ModelTensors> tensorOutputs = new ArrayList<>();
 
         if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
             TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+            List<List<String>> subBatches = splitTextDocsForParallelism(textDocsInputDataSet.getDocs());
+            if (subBatches != null) {
+                return new ModelTensorOutput(executeSubBatchesInParallel(subBatches, getInputDocsParallelism(), mlInput.getDeadline()));
+            }
             int processedDocs = 0;
             while (processedDocs < textDocsInputDataSet.getDocs().size()) {
                 List<String> textDocs = textDocsInputDataSet.getDocs().subList(processedDocs, textDocsInputDataSet.getDocs().size());
                 List<ModelTensors> tempTensorOutputs = new ArrayList<>();
-                preparePayloadAndInvokeRemoteModel(
-                    MLInput
-                        .builder()
-                        .algorithm(FunctionName.TEXT_EMBEDDING)
-                        .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
-                        .build(),
-                    tempTensorOutputs
-                );
-                int tensorCount = 0;
-                if (tempTensorOutputs.size() > 0 && tempTensorOutputs.get(0).getMlModelTensors() != null) {
-                    tensorCount = tempTensorOutputs.get(0).getMlModelTensors().size();
-                }
-                // This is to support some model which takes N text docs and embedding size is less than N.
-                // We need to tell executor what's the step size for each model run.
-                Map<String, String> parameters = getConnector().getParameters();
-                if (parameters != null && parameters.containsKey("input_docs_processed_step_size")) {
-                    int stepSize = Integer.parseInt(parameters.get("input_docs_processed_step_size"));
-                    // We need to check the parameter on runtime as parameter can be passed into predict request
-                    if (stepSize <= 0) {
-                        throw new IllegalArgumentException(
-                            "Invalid parameter: input_docs_processed_step_size. It must be positive integer."
-                        );
-                    }
-                    processedDocs += stepSize;
-                } else {
-                    processedDocs += Math.max(tensorCount, 1);
-                }
+                MLInput subBatchInput = createTextDocsInput(textDocs, mlInput.getDeadline());
+                checkDeadline(subBatchInput);
+                preparePayloadAndInvokeRemoteModel(subBatchInput, tempTensorOutputs);
+                processedDocs += getProcessedDocsStep(tempTensorOutputs);
                 tensorOutputs.addAll(tempTensorOutputs);
             }
         } else {
+            checkDeadline(mlInput);
             preparePayloadAndInvokeRemoteModel(mlInput, tensorOutputs);
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Non-blocking version of {@link #executePredict(MLInput)}. The listener is completed once the remote model
+     * responds, so the calling thread is released as soon as the request has been sent.
+     * @param mlInput ML input
+     * @param actionListener listener to complete with the model tensor output
+     */
+    default void asyncExecutePredict(MLInput mlInput, ActionListener<ModelTensorOutput> actionListener) {
+        try {
+            if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+                List<String> docs = ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+                List<List<String>> subBatches = splitTextDocsForParallelism(docs);
+                if (subBatches != null) {
+                    asyncExecuteSubBatchesInParallel(subBatches, getInputDocsParallelism(), mlInput.getDeadline(), actionListener);
+                } else {
+                    asyncExecuteTextDocs(docs, 0, new ArrayList<>(), mlInput.getDeadline(), actionListener);
+                }
+            } else {
+                checkDeadline(mlInput);
+                asyncPreparePayloadAndInvokeRemoteModel(
+                    mlInput,
+                    ActionListener
+                        .wrap(tensors -> actionListener.onResponse(new ModelTensorOutput(List.of(tensors))), actionListener::onFailure)
+                );
+            }
+        } catch (Exception e) {
+            actionListener.onFailure(e);
+        }
+    }
+
+    private void asyncExecuteTextDocs(
+        List<String> docs,
+        int processedDocs,
+        List<ModelTensors> tensorOutputs,
+        Long deadline,
+        ActionListener<ModelTensorOutput> actionListener
+    ) {
+        if (processedDocs >= docs.size()) {
+            actionListener.onResponse(new ModelTensorOutput(tensorOutputs));
+            return;
+        }
+        MLInput subBatchInput = createTextDocsInput(docs.subList(processedDocs, docs.size()), deadline);
+        checkDeadline(subBatchInput);
+        asyncPreparePayloadAndInvokeRemoteModel(subBatchInput, ActionListener.wrap(tensors -> {
+            List<ModelTensors> tempTensorOutputs = List.of(tensors);
+            int step = getProcessedDocsStep(tempTensorOutputs);
+            tensorOutputs.addAll(tempTensorOutputs);
+            asyncExecuteTextDocs(docs, processedDocs + step, tensorOutputs, deadline, actionListener);
+        }, actionListener::onFailure));
+    }
+
+    /**
+     * Split text docs into sub batches of input_docs_processed_step_size docs, so they can be sent to the remote model
+     * concurrently. The step size must be configured as the number of docs processed by one model call is unknown
+     * otherwise.
+     * @param docs text docs
+     * @return sub batches in input order, or null if the docs should be processed sequentially
+     */
+    private List<List<String>> splitTextDocsForParallelism(List<String> docs) {
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters == null || !parameters.containsKey(INPUT_DOCS_PROCESSED_STEP_SIZE) || getInputDocsParallelism() <= 1) {
+            return null;
+        }
+        int stepSize = getInputDocsProcessedStepSize(parameters);
+        if (docs.size() <= stepSize) {
+            return null;
+        }
+        List<List<String>> subBatches = new ArrayList<>();
+        for (int i = 0; i < docs.size(); i += stepSize) {
+            subBatches.add(docs.subList(i, Math.min(i + stepSize, docs.size())));
+        }
+        return subBatches;
+    }
+
+    private int getInputDocsParallelism() {
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters == null || !parameters.containsKey(INPUT_DOCS_PARALLELISM)) {
+            return 1;
+        }
+        int parallelism = Integer.parseInt(parameters.get(INPUT_DOCS_PARALLELISM));
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: input_docs_parallelism. It must be positive integer.");
+        }
+        return parallelism;
+    }
+
+    private MLInput createTextDocsInput(List<String> docs, Long deadline) {
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+        mlInput.setDeadline(deadline);
+        return mlInput;
+    }
+
+    /**
+     * Drop the remaining work of a predict request once its deadline passed, nobody reads the result anymore.
+     * @param mlInput ML input
+     */
+    private void checkDeadline(MLInput mlInput) {
+        if (mlInput.isDeadlineExceeded()) {
+            throw new MLDeadlineExceededException("Predict request exceeded its deadline before calling the remote model");
+        }
+    }
+
+    /**
+     * Invoke the remote model for all sub batches with at most parallelism concurrent calls. The calling thread
+     * works on the sub batches too, so it never waits for a sub batch which hasn't been picked up by a thread.
+     * @param subBatches text doc sub batches
+     * @param parallelism max number of concurrent remote model calls
+     * @param deadline deadline of the predict request, null if there's none
+     * @return model tensors in input order
+     */
+    private List<ModelTensors> executeSubBatchesInParallel(List<List<String>> subBatches, int parallelism, Long deadline) {
+        int size = subBatches.size();
+        AtomicReferenceArray<List<ModelTensors>> results = new AtomicReferenceArray<>(size);
+        AtomicInteger nextSubBatch = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(size);
+        Runnable worker = () -> {
+            int index;
+            while ((index = nextSubBatch.getAndIncrement()) < size) {
+                try {
+                    if (failure.get() == null) {
+                        List<ModelTensors> tempTensorOutputs = new ArrayList<>();
+                        MLInput subBatchInput = createTextDocsInput(subBatches.get(index), deadline);
+                        checkDeadline(subBatchInput);
+                        preparePayloadAndInvokeRemoteModel(subBatchInput, tempTensorOutputs);
+                        results.set(index, tempTensorOutputs);
+                    }
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    latch.countDown();
+                }
+            }
+        };
+        Executor executor = getResponseExecutor();
+        if (executor != null) {
+            for (int i = 1; i < Math.min(parallelism, size); i++) {
+                try {
+                    executor.execute(worker);
+                } catch (Exception e) {
+                    // the calling thread processes the remaining sub batches
+                    break;
+                }
+            }
+        }
+        worker.run();
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while waiting for remote model responses", e);
+        }
+        if (failure.get() != null) {
+            if (failure.get() instanceof RuntimeException) {
+                throw (RuntimeException) failure.get();
+            }
+            throw new MLException(failure.get());
+        }
+        List<ModelTensors> tensorOutputs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tensorOutputs.addAll(results.get(i));
+        }
+        return tensorOutputs;
+    }
+
+    private void asyncExecuteSubBatchesInParallel(
+        List<List<String>> subBatches,
+        int parallelism,
+        Long deadline,
+        ActionListener<ModelTensorOutput> actionListener
+    ) {
+        AtomicReferenceArray<ModelTensors> results = new AtomicReferenceArray<>(subBatches.size());
+        AtomicInteger nextSubBatch = new AtomicInteger();
+        AtomicInteger completedSubBatches = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        for (int i = 0; i < Math.min(parallelism, subBatches.size()); i++) {
+            asyncExecuteNextSubBatch(subBatches, deadline, nextSubBatch, completedSubBatches, results, failed, actionListener);
+        }
+    }
+
+    private void asyncExecuteNextSubBatch(
+        List<List<String>> subBatches,
+        Long deadline,
+        AtomicInteger nextSubBatch,
+        AtomicInteger completedSubBatches,
+        AtomicReferenceArray<ModelTensors> results,
+        AtomicBoolean failed,
+        ActionListener<ModelTensorOutput> actionListener
+    ) {
+        int index = nextSubBatch.getAndIncrement();
+        if (index >= subBatches.size() || failed.get()) {
+            return;
+        }
+        ActionListener<ModelTensors> subBatchListener = ActionListener.wrap(tensors -> {
+            results.set(index, tensors);
+            if (completedSubBatches.incrementAndGet() == subBatches.size()) {
+                List<ModelTensors> tensorOutputs = new ArrayList<>(subBatches.size());
+                for (int i = 0; i < subBatches.size(); i++) {
+                    tensorOutputs.add(results.get(i));
+                }
+                actionListener.onResponse(new ModelTensorOutput(tensorOutputs));
+            } else {
+                asyncExecuteNextSubBatch(subBatches, deadline, nextSubBatch, completedSubBatches, results, failed, actionListener);
+            }
+        }, e -> {
+            if (failed.compareAndSet(false, true)) {
+                actionListener.onFailure(e);
+            }
+        });
+        try {
+            MLInput subBatchInput = createTextDocsInput(subBatches.get(index), deadline);
+            checkDeadline(subBatchInput);
+            asyncPreparePayloadAndInvokeRemoteModel(subBatchInput, subBatchListener);
+        } catch (Exception e) {
+            subBatchListener.onFailure(e);
+        }
+    }
+
+    private int getInputDocsProcessedStepSize(Map<String, String> parameters) {
+        int stepSize = Integer.parseInt(parameters.get(INPUT_DOCS_PROCESSED_STEP_SIZE));
+        // We need to check the parameter on runtime as parameter can be passed into predict request
+        if (stepSize <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: input_docs_processed_step_size. It must be positive integer.");
+        }
+        return stepSize;
+    }
+
+    private int getProcessedDocsStep(List<ModelTensors> tempTensorOutputs) {
+        int tensorCount = 0;
+        if (tempTensorOutputs.size() > 0 && tempTensorOutputs.get(0).getMlModelTensors() != null) {
+            tensorCount = tempTensorOutputs.get(0).getMlModelTensors().size();
+        }
+        // This is to support some model which takes N text docs and embedding size is less than N.
+        // We need to tell executor what's the step size for each model run.
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters != null && parameters.containsKey(INPUT_DOCS_PROCESSED_STEP_SIZE)) {
+            return getInputDocsProcessedStepSize(parameters);
+        }
+        return Math.max(tensorCount, 1);
+    }
+
     default void setScriptService(ScriptService scriptService) {}
 
     ScriptService getScriptService();
@@ -104,7 +343,43 @@ public interface RemoteConnectorExecutor {
 
     default void setMlGuard(MLGuard mlGuard) {}
 
+    default void setResponseExecutor(Executor responseExecutor) {}
+
+    default void setEndpointCircuitBreakers(EndpointCircuitBreakers endpointCircuitBreakers) {}
+
+    default void setEndpointConcurrencyLimiters(EndpointConcurrencyLimiters endpointConcurrencyLimiters) {}
+
+    /**
+     * Set the registry to lease shared http clients from. Executors without a registry create their own clients.
+     * @param httpClientRegistry node level http client registry
+     */
+    default void setHttpClientRegistry(MLHttpClientRegistry httpClientRegistry) {}
+
+    /**
+     * Get the circuit breaker states of the remote endpoints called by this executor.
+     * @return breaker state by endpoint
+     */
+    default Map<String, String> getEndpointCircuitBreakerStates() {
+        return Map.of();
+    }
+
+    default Executor getResponseExecutor() {
+        return null;
+    }
+
     default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, List<ModelTensors> tensorOutputs) {
+        Map<String, String> parameters = prepareParameters(mlInput);
+        String payload = preparePayload(parameters);
+        invokeRemoteModelWithRetry(mlInput, parameters, payload, tensorOutputs);
+    }
+
+    default void asyncPreparePayloadAndInvokeRemoteModel(MLInput mlInput, ActionListener<ModelTensors> actionListener) {
+        Map<String, String> parameters = prepareParameters(mlInput);
+        String payload = preparePayload(parameters);
+        asyncInvokeRemoteModelWithRetry(mlInput, parameters, payload, actionListener);
+    }
+
+    private Map<String, String> prepareParameters(MLInput mlInput) {
         Connector connector = getConnector();
 
         Map<String, String> parameters = new HashMap<>();
@@ -124,6 +399,11 @@ public interface RemoteConnectorExecutor {
         }
         // override again to always prioritize the input parameter
         parameters.putAll(inputParameters);
+        return parameters;
+    }
+
+    private String preparePayload(Map<String, String> parameters) {
+        Connector connector = getConnector();
         String payload = connector.createPredictPayload(parameters);
         connector.validatePayload(payload);
         String userStr = getClient()
@@ -141,14 +421,74 @@ public interface RemoteConnectorExecutor {
                 "Request is throttled at user level. If you think there's an issue, please contact your cluster admin.",
                 RestStatus.TOO_MANY_REQUESTS
             );
-        } else {
-            if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT)) {
-                throw new IllegalArgumentException("guardrails triggered for user input");
-            }
-            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
         }
+        if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT)) {
+            throw new IllegalArgumentException("guardrails triggered for user input");
+        }
+        return payload;
     }
 
     void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs);
 
+    /**
+     * Invoke the remote model, retrying throttled requests if the executor supports it.
+     * @param mlInput ML input
+     * @param parameters connector parameters merged with request parameters
+     * @param payload request payload
+     * @param tensorOutputs list to add the parsed model tensors to
+     */
+    default void invokeRemoteModelWithRetry(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        List<ModelTensors> tensorOutputs
+    ) {
+        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+    }
+
+    /**
+     * Non-blocking version of {@link #invokeRemoteModelWithRetry(MLInput, Map, String, List)}.
+     * @param mlInput ML input
+     * @param parameters connector parameters merged with request parameters
+     * @param payload request payload
+     * @param actionListener listener to complete with the parsed model tensors
+     */
+    default void asyncInvokeRemoteModelWithRetry(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        asyncInvokeRemoteModel(mlInput, parameters, payload, actionListener);
+    }
+
+    /**
+     * Invoke the remote model without blocking the calling thread. Executors that don't have a non-blocking
+     * http engine fall back to the blocking {@link #invokeRemoteModel(MLInput, Map, String, List)}.
+     * @param mlInput ML input
+     * @param parameters connector parameters merged with request parameters
+     * @param payload request payload
+     * @param actionListener listener to complete with the parsed model tensors
+     */
+    default void asyncInvokeRemoteModel(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> actionListener
+    ) {
+        List<ModelTensors> tensorOutputs = new ArrayList<>();
+        try {
+            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+        } catch (Exception e) {
+            actionListener.onFailure(e);
+            return;
+        }
+        actionListener.onResponse(tensorOutputs.get(0));
+    }
+
+    /**
+     * Release resources held by this executor, like http clients.
+     */
+    default void close() {}
+
 }
@@ -6,10 +6,15 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -18,11 +23,14 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
 import org.opensearch.script.ScriptService;
+import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -39,14 +47,28 @@ public class RemoteModel implements Predictable {
     public static final String RATE_LIMITER = "rate_limiter";
     public static final String USER_RATE_LIMITER_MAP = "user_rate_limiter_map";
     public static final String GUARDRAILS = "guardrails";
+    public static final String RESPONSE_EXECUTOR = "response_executor";
+    public static final String ENDPOINT_CIRCUIT_BREAKERS = "endpoint_circuit_breakers";
+    public static final String HTTP_CLIENT_REGISTRY = "http_client_registry";
+    public static final String ENDPOINT_CONCURRENCY_LIMITERS = "endpoint_concurrency_limiters";
 
-    private RemoteConnectorExecutor connectorExecutor;
+    private volatile RemoteConnectorExecutor connectorExecutor;
+    private volatile TextDocsBatcher textDocsBatcher;
+    // predict calls in flight plus one reference held until the model is closed. The model is replaced on redeploys
+    // and config updates while calls are in flight, so the executor is only closed once those calls completed.
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
 
     @VisibleForTesting
     RemoteConnectorExecutor getConnectorExecutor() {
         return this.connectorExecutor;
     }
 
+    @VisibleForTesting
+    void setConnectorExecutor(RemoteConnectorExecutor connectorExecutor) {
+        this.connectorExecutor = connectorExecutor;
+    }
+
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
         throw new IllegalArgumentException(
@@ -54,52 +76,175 @@ public class RemoteModel implements Predictable {
         );
     }
 
+    @VisibleForTesting
+    TextDocsBatcher getTextDocsBatcher() {
+        return this.textDocsBatcher;
+    }
+
     @Override
     public MLOutput predict(MLInput mlInput) {
-        if (!isModelReady()) {
+        RemoteConnectorExecutor executor = retain();
+        if (executor == null) {
             throw new IllegalArgumentException("Model not ready yet. Please run this first: POST /_plugins/_ml/models/<model_id>/_deploy");
         }
         try {
-            return connectorExecutor.executePredict(mlInput);
+            TextDocsBatcher batcher = textDocsBatcher;
+            if (batcher != null) {
+                return batcher.predict(getBatchKey(executor), mlInput, executor::executePredict);
+            }
+            return executor.executePredict(mlInput);
         } catch (RuntimeException e) {
             log.error("Failed to call remote model.", e);
             throw e;
         } catch (Throwable e) {
             log.error("Failed to call remote model.", e);
             throw new MLException(e);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void asyncPredict(MLInput mlInput, ActionListener<MLOutput> actionListener) {
+        RemoteConnectorExecutor executor = retain();
+        if (executor == null) {
+            actionListener
+                .onFailure(
+                    new IllegalArgumentException("Model not ready yet. Please run this first: POST /_plugins/_ml/models/<model_id>/_deploy")
+                );
+            return;
+        }
+        ActionListener<ModelTensorOutput> outputListener = ActionListener
+            .notifyOnce(ActionListener.runAfter(ActionListener.wrap(actionListener::onResponse, e -> {
+                log.error("Failed to call remote model.", e);
+                actionListener.onFailure(e);
+            }), this::release));
+        try {
+            TextDocsBatcher batcher = textDocsBatcher;
+            if (batcher != null) {
+                ThreadPool threadPool = executor.getClient() == null ? null : executor.getClient().threadPool();
+                batcher.asyncPredict(getBatchKey(executor), mlInput, executor::asyncExecutePredict, threadPool, outputListener);
+            } else {
+                executor.asyncExecutePredict(mlInput, outputListener);
+            }
+        } catch (Exception e) {
+            outputListener.onFailure(e);
+        }
+    }
+
+    /**
+     * Requests of different users are never batched together, as rate limits and guardrails are applied per request.
+     */
+    private String getBatchKey(RemoteConnectorExecutor executor) {
+        Client client = executor.getClient();
+        if (client == null) {
+            return "";
         }
+        String userStr = client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+        return userStr == null ? "" : userStr;
     }
 
+    /**
+     * Close the model. Predict calls started before are completed with the current executor, which is closed once the
+     * last of them completed.
+     */
     @Override
     public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    /**
+     * Take a reference to the executor for a predict call.
+     * @return executor, or null if the model isn't ready or is closed
+     */
+    private RemoteConnectorExecutor retain() {
+        while (true) {
+            int count = references.get();
+            if (count <= 0) {
+                return null;
+            }
+            if (references.compareAndSet(count, count + 1)) {
+                RemoteConnectorExecutor executor = connectorExecutor;
+                if (executor == null) {
+                    release();
+                }
+                return executor;
+            }
+        }
+    }
+
+    private void release() {
+        if (references.decrementAndGet() > 0) {
+            return;
+        }
+        RemoteConnectorExecutor executor = connectorExecutor;
         this.connectorExecutor = null;
+        this.textDocsBatcher = null;
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    /**
+     * Get the circuit breaker states of the remote endpoints called by this model.
+     * @return breaker state by endpoint
+     */
+    public Map<String, String> getEndpointCircuitBreakerStates() {
+        RemoteConnectorExecutor executor = connectorExecutor;
+        return executor == null ? Map.of() : executor.getEndpointCircuitBreakerStates();
     }
 
     @Override
     public boolean isModelReady() {
-        return connectorExecutor != null;
+        return connectorExecutor != null && !closed.get();
     }
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
+        RemoteConnectorExecutor executor = null;
         try {
             Connector connector = model.getConnector().cloneConnector();
             connector.decrypt((credential) -> encryptor.decrypt(credential));
-            this.connectorExecutor = MLEngineClassLoader.initInstance(connector.getProtocol(), connector, Connector.class);
-            this.connectorExecutor.setScriptService((ScriptService) params.get(SCRIPT_SERVICE));
-            this.connectorExecutor.setClusterService((ClusterService) params.get(CLUSTER_SERVICE));
-            this.connectorExecutor.setClient((Client) params.get(CLIENT));
-            this.connectorExecutor.setXContentRegistry((NamedXContentRegistry) params.get(XCONTENT_REGISTRY));
-            this.connectorExecutor.setRateLimiter((TokenBucket) params.get(RATE_LIMITER));
-            this.connectorExecutor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
-            this.connectorExecutor.setMlGuard((MLGuard) params.get(GUARDRAILS));
+            executor = MLEngineClassLoader.initInstance(connector.getProtocol(), connector, Connector.class);
+            executor.setScriptService((ScriptService) params.get(SCRIPT_SERVICE));
+            executor.setClusterService((ClusterService) params.get(CLUSTER_SERVICE));
+            executor.setClient((Client) params.get(CLIENT));
+            executor.setXContentRegistry((NamedXContentRegistry) params.get(XCONTENT_REGISTRY));
+            executor.setRateLimiter((TokenBucket) params.get(RATE_LIMITER));
+            executor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
+            executor.setMlGuard((MLGuard) params.get(GUARDRAILS));
+            executor.setResponseExecutor((Executor) params.get(RESPONSE_EXECUTOR));
+            executor.setEndpointCircuitBreakers((EndpointCircuitBreakers) params.get(ENDPOINT_CIRCUIT_BREAKERS));
+            executor.setEndpointConcurrencyLimiters((EndpointConcurrencyLimiters) params.get(ENDPOINT_CONCURRENCY_LIMITERS));
+            // leases the sync http client now, before the predictor this model replaces releases it
+            executor.setHttpClientRegistry((MLHttpClientRegistry) params.get(HTTP_CLIENT_REGISTRY));
+            this.textDocsBatcher = TextDocsBatcher.fromParameters(connector.getParameters());
+            this.connectorExecutor = executor;
         } catch (RuntimeException e) {
             log.error("Failed to init remote model.", e);
+            releaseExecutor(executor);
             throw e;
         } catch (Throwable e) {
             log.error("Failed to init remote model.", e);
+            releaseExecutor(executor);
             throw new MLException(e);
         }
     }
 
+    /**
+     * Close the executor of a failed init, so the http clients it leased are released.
+     */
+    private void releaseExecutor(RemoteConnectorExecutor executor) {
+        if (executor == null || executor == connectorExecutor) {
+            return;
+        }
+        try {
+            executor.close();
+        } catch (Exception e) {
+            log.error("Failed to close connector executor of remote model.", e);
+        }
+    }
+
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Coalesces concurrent text docs predict requests of one remote model into a single connector call.
+ * The request which opens a batch waits up to the batch wait time for other requests to join, then sends the docs
+ * of all requests in one call and splits the returned tensors back to each request. A blocking request waits on its
+ * thread, a non-blocking request schedules the batch on the generic thread pool instead. Each doc must produce exactly
+ * one model tensor, otherwise every request of the batch fails, as the tensors can't be attributed to the docs.
+ */
+@Log4j2
+public class TextDocsBatcher {
+
+    public static final String INPUT_DOCS_BATCH_MAX_SIZE = "input_docs_batch_max_size";
+    public static final String INPUT_DOCS_BATCH_WAIT_TIME_MS = "input_docs_batch_wait_time_ms";
+    public static final long DEFAULT_BATCH_WAIT_TIME_MS = 5;
+
+    @Getter
+    private final int maxBatchSize;
+    @Getter
+    private final long waitTimeInMillis;
+    private final Map<String, Batch> openBatches = new HashMap<>();
+
+    public TextDocsBatcher(int maxBatchSize, long waitTimeInMillis) {
+        if (maxBatchSize <= 1) {
+            throw new IllegalArgumentException("Max batch size must be greater than 1");
+        }
+        if (waitTimeInMillis < 0) {
+            throw new IllegalArgumentException("Batch wait time must not be negative");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.waitTimeInMillis = waitTimeInMillis;
+    }
+
+    /**
+     * Create a batcher from connector parameters.
+     * @param parameters connector parameters
+     * @return batcher, or null if batching is not enabled for the connector
+     */
+    public static TextDocsBatcher fromParameters(Map<String, String> parameters) {
+        if (parameters == null || !parameters.containsKey(INPUT_DOCS_BATCH_MAX_SIZE)) {
+            return null;
+        }
+        int maxBatchSize = Integer.parseInt(parameters.get(INPUT_DOCS_BATCH_MAX_SIZE));
+        if (maxBatchSize <= 1) {
+            return null;
+        }
+        long waitTimeInMillis = parameters.containsKey(INPUT_DOCS_BATCH_WAIT_TIME_MS)
+            ? Long.parseLong(parameters.get(INPUT_DOCS_BATCH_WAIT_TIME_MS))
+            : DEFAULT_BATCH_WAIT_TIME_MS;
+        return new TextDocsBatcher(maxBatchSize, waitTimeInMillis);
+    }
+
+    /**
+     * Check if the request can be merged with other requests. Only text docs without result filter and model
+     * parameters are batched, as anything else may change how the docs are processed.
+     * @param mlInput ML input
+     * @return true if the request can be batched
+     */
+    public boolean canBatch(MLInput mlInput) {
+        if (!(mlInput.getInputDataset() instanceof TextDocsInputDataSet) || mlInput.getParameters() != null) {
+            return false;
+        }
+        TextDocsInputDataSet inputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+        return inputDataSet.getResultFilter() == null && inputDataSet.getDocs().size() < maxBatchSize;
+    }
+
+    /**
+     * Predict with the blocking connector call. The calling thread either sends the batch it opened or waits for
+     * the batch it joined.
+     * @param batchKey only requests with the same key are batched together, e.g. requests of the same user
+     * @param mlInput ML input
+     * @param executor blocking connector call
+     * @return model tensor output of this request
+     */
+    public ModelTensorOutput predict(String batchKey, MLInput mlInput, Function<MLInput, ModelTensorOutput> executor) {
+        if (!canBatch(mlInput)) {
+            return executor.apply(mlInput);
+        }
+        PlainActionFuture<ModelTensorOutput> future = PlainActionFuture.newFuture();
+        Batch batch = new Batch(null);
+        Batch closedBatch = addToBatch(batchKey, new Entry(mlInput, future), batch);
+        sendClosedBatch(closedBatch);
+        if (batch.docCount > 0) {
+            waitForBatch(batchKey, batch);
+            executeBatch(batch, executor);
+        }
+        return future.actionGet();
+    }
+
+    /**
+     * Predict with the non-blocking connector call. The request joins the open batch or opens a new one, which is
+     * sent once it's full or the batch wait time passed.
+     * @param batchKey only requests with the same key are batched together, e.g. requests of the same user
+     * @param mlInput ML input
+     * @param executor non-blocking connector call
+     * @param threadPool thread pool to schedule the batch on, the request isn't batched without it
+     * @param actionListener listener to complete with the model tensor output of this request
+     */
+    public void asyncPredict(
+        String batchKey,
+        MLInput mlInput,
+        BiConsumer<MLInput, ActionListener<ModelTensorOutput>> executor,
+        ThreadPool threadPool,
+        ActionListener<ModelTensorOutput> actionListener
+    ) {
+        if (!canBatch(mlInput) || threadPool == null) {
+            executor.accept(mlInput, actionListener);
+            return;
+        }
+        Batch batch = new Batch(executor);
+        Batch closedBatch = addToBatch(batchKey, new Entry(mlInput, actionListener), batch);
+        sendClosedBatch(closedBatch);
+        if (batch.docCount == 0) {
+            return;
+        }
+        Runnable closeBatch = () -> {
+            synchronized (this) {
+                if (!batch.closed) {
+                    closeBatch(batchKey, batch);
+                }
+            }
+            sendClosedBatch(batch);
+        };
+        try {
+            threadPool
+                .schedule(
+                    threadPool.getThreadContext().preserveContext(closeBatch),
+                    TimeValue.timeValueMillis(waitTimeInMillis),
+                    ThreadPool.Names.GENERIC
+                );
+        } catch (Exception e) {
+            log.debug("Failed to schedule batch of remote model requests, sending it right away", e);
+            closeBatch.run();
+        }
+    }
+
+    /**
+     * Add the request to the open batch, or open the given new batch for it.
+     * @return batch closed by adding the request, which must be sent if a non-blocking request opened it
+     */
+    private synchronized Batch addToBatch(String batchKey, Entry entry, Batch newBatch) {
+        Batch batch = openBatches.get(batchKey);
+        if (batch != null && batch.add(entry, maxBatchSize)) {
+            if (batch.docCount >= maxBatchSize) {
+                closeBatch(batchKey, batch);
+                return batch;
+            }
+            return null;
+        }
+        if (batch != null) {
+            // the open batch has no room for this request, send it right away
+            closeBatch(batchKey, batch);
+        }
+        newBatch.add(entry, maxBatchSize);
+        openBatches.put(batchKey, newBatch);
+        return batch;
+    }
+
+    private void closeBatch(String batchKey, Batch batch) {
+        batch.closed = true;
+        openBatches.remove(batchKey, batch);
+        notifyAll();
+    }
+
+    /**
+     * Send a closed batch opened by a non-blocking request, the request which opened a blocking batch sends it.
+     */
+    private void sendClosedBatch(Batch batch) {
+        if (batch == null || batch.asyncExecutor == null || !batch.sent.compareAndSet(false, true)) {
+            return;
+        }
+        MLInput batchInput = createBatchInput(batch);
+        try {
+            batch.asyncExecutor
+                .accept(batchInput, ActionListener.wrap(output -> splitBatchOutput(batch, output), e -> failBatch(batch, e)));
+        } catch (Exception e) {
+            failBatch(batch, e);
+        }
+    }
+
+    private synchronized void waitForBatch(String batchKey, Batch batch) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeInMillis);
+        try {
+            long remaining;
+            while (!batch.closed && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!batch.closed) {
+            closeBatch(batchKey, batch);
+        }
+    }
+
+    private void executeBatch(Batch batch, Function<MLInput, ModelTensorOutput> executor) {
+        ModelTensorOutput batchOutput;
+        try {
+            batchOutput = executor.apply(createBatchInput(batch));
+        } catch (Exception e) {
+            failBatch(batch, e);
+            return;
+        }
+        splitBatchOutput(batch, batchOutput);
+    }
+
+    private static MLInput createBatchInput(Batch batch) {
+        List<String> docs = new ArrayList<>(batch.docCount);
+        batch.entries.forEach(entry -> docs.addAll(((TextDocsInputDataSet) entry.mlInput.getInputDataset()).getDocs()));
+        MLInput firstInput = batch.entries.get(0).mlInput;
+        MLInput batchInput = MLInput
+            .builder()
+            .algorithm(firstInput.getAlgorithm())
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+        batchInput.setDeadline(getBatchDeadline(batch));
+        return batchInput;
+    }
+
+    private static void failBatch(Batch batch, Exception e) {
+        batch.entries.forEach(entry -> entry.listener.onFailure(e));
+    }
+
+    private static void splitBatchOutput(Batch batch, ModelTensorOutput batchOutput) {
+        List<ModelTensor> tensors = new ArrayList<>(batch.docCount);
+        Integer statusCode = null;
+        for (ModelTensors modelTensors : batchOutput.getMlModelOutputs()) {
+            if (modelTensors.getMlModelTensors() != null) {
+                tensors.addAll(modelTensors.getMlModelTensors());
+            }
+            if (statusCode == null) {
+                statusCode = modelTensors.getStatusCode();
+            }
+        }
+        if (tensors.size() != batch.docCount) {
+            failBatch(
+                batch,
+                new MLException(
+                    "Remote model returned "
+                        + tensors.size()
+                        + " tensors for "
+                        + batch.docCount
+                        + " batched docs, "
+                        + INPUT_DOCS_BATCH_MAX_SIZE
+                        + " requires one tensor per doc"
+                )
+            );
+            return;
+        }
+        int offset = 0;
+        for (Entry entry : batch.entries) {
+            int docCount = ((TextDocsInputDataSet) entry.mlInput.getInputDataset()).getDocs().size();
+            ModelTensors modelTensors = ModelTensors
+                .builder()
+                .mlModelTensors(new ArrayList<>(tensors.subList(offset, offset + docCount)))
+                .build();
+            modelTensors.setStatusCode(statusCode);
+            offset += docCount;
+            entry.listener.onResponse(new ModelTensorOutput(List.of(modelTensors)));
+        }
+    }
+
+    /**
+     * The batch is worth running until the last of its requests stops waiting for the result.
+     */
+    private static Long getBatchDeadline(Batch batch) {
+        Long batchDeadline = null;
+        for (Entry entry : batch.entries) {
+            Long deadline = entry.mlInput.getDeadline();
+            if (deadline == null) {
+                return null;
+            }
+            if (batchDeadline == null || deadline - batchDeadline > 0) {
+                batchDeadline = deadline;
+            }
+        }
+        return batchDeadline;
+    }
+
+    private static class Entry {
+        private final MLInput mlInput;
+        private final ActionListener<ModelTensorOutput> listener;
+
+        Entry(MLInput mlInput, ActionListener<ModelTensorOutput> listener) {
+            this.mlInput = mlInput;
+            this.listener = listener;
+        }
+    }
+
+    private static class Batch {
+        private final List<Entry> entries = new ArrayList<>();
+        // non-blocking connector call of a batch opened by a non-blocking request, null if the opener sends it
+        private final BiConsumer<MLInput, ActionListener<ModelTensorOutput>> asyncExecutor;
+        private final AtomicBoolean sent = new AtomicBoolean();
+        private int docCount;
+        private boolean closed;
+
+        Batch(BiConsumer<MLInput, ActionListener<ModelTensorOutput>> asyncExecutor) {
+            this.asyncExecutor = asyncExecutor;
+        }
+
+        boolean add(Entry entry, int maxBatchSize) {
+            int size = ((TextDocsInputDataSet) entry.mlInput.getInputDataset()).getDocs().size();
+            if (closed || docCount + size > maxBatchSize) {
+                return false;
+            }
+            entries.add(entry);
+            docCount += size;
+            return true;
+        }
+    }
+}
@@ -10,12 +10,13 @@ import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.BatchEncodings;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.modality.Output;
@@ -27,20 +28,22 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
+        BatchEncodings encodings = (BatchEncodings) ctx.getAttachment(BatchEncodings.ATTACHMENT_NAME);
+
+        for (NDList batchOutput : unbatchify(list, encodings.size())) {
+            List<ModelTensor> outputs = new ArrayList<>();
+            for (NDArray ndArray : batchOutput) {
+                String name = ndArray.getName();
+                Map<String, Float> tokenWeightsMap = convertOutput(ndArray);
+                Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeightsMap));
+                ModelTensor tensor = ModelTensor.builder().name(name).dataAsMap(wrappedMap).build();
+                outputs.add(tensor);
+            }
 
-        List<ModelTensor> outputs = new ArrayList<>();
-        Iterator<NDArray> iterator = list.iterator();
-        while (iterator.hasNext()) {
-            NDArray ndArray = iterator.next();
-            String name = ndArray.getName();
-            Map<String, Float> tokenWeightsMap = convertOutput(ndArray);
-            Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeightsMap));
-            ModelTensor tensor = ModelTensor.builder().name(name).dataAsMap(wrappedMap).build();
-            outputs.add(tensor);
+            ModelTensors modelTensorOutput = new ModelTensors(outputs);
+            output.add(new ModelTensorsSupplier(modelTensorOutput));
         }
-
-        ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        encodings.addTokenCounts(output);
         return output;
     }
 
@@ -13,6 +13,8 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.BatchEncodings;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
@@ -23,15 +25,18 @@ import ai.djl.translate.TranslatorContext;
 
 public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Input, Output> {
 
-    private Translator<String, float[]> translator;
+    private HuggingfaceTextEmbeddingTranslator translator;
 
-    public HuggingfaceTextEmbeddingServingTranslator(Translator<String, float[]> translator) {
+    public HuggingfaceTextEmbeddingServingTranslator(HuggingfaceTextEmbeddingTranslator translator) {
         this.translator = translator;
     }
 
+    /**
+     * The texts of one input are batched by the translator.
+     */
     @Override
     public Batchifier getBatchifier() {
-        return translator.getBatchifier();
+        return null;
     }
 
     @Override
@@ -44,8 +49,7 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
      */
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) throws Exception {
-        String text = input.getData().getAsString();
-        return translator.processInput(ctx, text);
+        return translator.batchProcessInput(ctx, BatchEncodings.getTexts(input, 0));
     }
 
     /**
@@ -53,24 +57,23 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
      */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) throws Exception {
-        float[] ret = translator.processOutput(ctx, list);
-        Number[] data = new Float[ret.length];
-        for (int i = 0; i < ret.length; i++) {
-            data[i] = ret[i];
-        }
-        long[] shape = new long[] { 1, ret.length };
-        ModelTensor tensor = ModelTensor
-            .builder()
-            .name(SENTENCE_EMBEDDING)
-            .data(data)
-            .shape(shape)
-            .dataType(MLResultDataType.FLOAT32)
-            .build();
-        List<ModelTensor> outputs = Collections.singletonList(tensor);
-
         Output output = new Output();
-        ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        for (float[] ret : translator.batchProcessOutput(ctx, list)) {
+            long[] shape = new long[] { 1, ret.length };
+            ModelTensor tensor = ModelTensor
+                .builder()
+                .name(SENTENCE_EMBEDDING)
+                .floatData(ret)
+                .shape(shape)
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+            List<ModelTensor> outputs = Collections.singletonList(tensor);
+
+            ModelTensors modelTensorOutput = new ModelTensors(outputs);
+            output.add(new ModelTensorsSupplier(modelTensorOutput));
+        }
+        BatchEncodings encodings = (BatchEncodings) ctx.getAttachment(BatchEncodings.ATTACHMENT_NAME);
+        encodings.addTokenCounts(output);
         return output;
     }
 
@@ -15,6 +15,8 @@ package org.opensearch.ml.engine.algorithms.text_embedding;
 import java.io.IOException;
 import java.util.Map;
 
+import org.opensearch.ml.engine.algorithms.BatchEncodings;
+
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.ndarray.NDArray;
@@ -78,14 +80,62 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     /** {@inheritDoc} */
     @Override
     public float[] processOutput(TranslatorContext ctx, NDList list) {
-        NDArray embeddings = list.get("last_hidden_state");
-        if (embeddings == null) {
-            embeddings = list.get(0);
-        }
+        NDArray embeddings = getEmbeddings(list);
         Encoding encoding = (Encoding) ctx.getAttachment("encoding");
         long[] attentionMask = encoding.getAttentionMask();
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask).toType(DataType.FLOAT32, true);
+        return pool(embeddings, inputAttentionMask).toFloatArray();
+    }
+
+    /**
+     * Process the texts of one batch, they are padded to the longest text.
+     *
+     * @param ctx the toolkit used for pre-processing
+     * @param inputs the texts
+     * @return the batched model input
+     */
+    public NDList batchProcessInput(TranslatorContext ctx, String[] inputs) {
+        NDManager manager = ctx.getNDManager();
+        BatchEncodings encodings = new BatchEncodings(tokenizer.batchEncode(inputs));
+        ctx.setAttachment(BatchEncodings.ATTACHMENT_NAME, encodings);
+        NDList ndList = new NDList(2);
+        ndList.add(encodings.getIds(manager));
+        ndList.add(encodings.getAttentionMask(manager));
+        if (inputTokenTypeIds) {
+            ndList.add(encodings.getTypeIds(manager));
+        }
+        return ndList;
+    }
+
+    /**
+     * Process the output of one batch.
+     *
+     * @param ctx the toolkit used for post-processing
+     * @param list the batched model output
+     * @return the embedding of every text of the batch
+     */
+    public float[][] batchProcessOutput(TranslatorContext ctx, NDList list) {
+        NDArray batchEmbeddings = getEmbeddings(list);
+        BatchEncodings encodings = (BatchEncodings) ctx.getAttachment(BatchEncodings.ATTACHMENT_NAME);
+        NDManager manager = ctx.getNDManager();
+        NDArray batchAttentionMask = encodings.getAttentionMask(manager).toType(DataType.FLOAT32, true);
+        float[][] result = new float[encodings.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = pool(batchEmbeddings.get(i), batchAttentionMask.get(i)).toFloatArray();
+        }
+        return result;
+    }
+
+    private NDArray getEmbeddings(NDList list) {
+        NDArray embeddings = list.get("last_hidden_state");
+        if (embeddings == null) {
+            embeddings = list.get(0);
+        }
+        return embeddings;
+    }
+
+    private NDArray pool(NDArray embeddings, NDArray inputAttentionMask) {
         switch (pooling) {
             case "mean":
                 embeddings = meanPool(embeddings, inputAttentionMask, false);
@@ -108,8 +158,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         if (normalize) {
             embeddings = embeddings.normalize(2, 0);
         }
-
-        return embeddings.toFloatArray();
+        return embeddings;
     }
 
     private NDArray meanPool(NDArray embeddings, NDArray inputAttentionMask, boolean sqrt) {
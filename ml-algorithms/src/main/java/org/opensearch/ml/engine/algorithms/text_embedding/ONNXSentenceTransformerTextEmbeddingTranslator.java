@@ -17,8 +17,9 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.BatchEncodings;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 
-import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
@@ -58,26 +59,25 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         tokenizer = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json")).build();
     }
 
+    /**
+     * Every content of the input is one text. The texts are padded to the longest text and run in one forward pass.
+     */
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
         NDManager manager = ctx.getNDManager();
-        String sentence = input.getAsString(0);
         NDList ndList = new NDList();
 
-        Encoding encode = tokenizer.encode(sentence);
-        ctx.setAttachment("encoding", encode);
-        long[] indices = encode.getIds();
-        long[] attentionMask = encode.getAttentionMask();
+        BatchEncodings encodings = new BatchEncodings(tokenizer.batchEncode(BatchEncodings.getTexts(input, 0)));
+        ctx.setAttachment(BatchEncodings.ATTACHMENT_NAME, encodings);
 
-        NDArray indicesArray = manager.create(indices).expandDims(0);
+        NDArray indicesArray = encodings.getIds(manager);
         indicesArray.setName("input_ids");
-        NDArray attentionMaskArray = manager.create(attentionMask).expandDims(0);
+        NDArray attentionMaskArray = encodings.getAttentionMask(manager);
         attentionMaskArray.setName("attention_mask");
         ndList.add(indicesArray);
         ndList.add(attentionMaskArray);
         if ("bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType)) {
-            long[] tokenTypeIds = encode.getTypeIds();
-            NDArray tokenTypeIdsArray = manager.create(tokenTypeIds).expandDims(0);
+            NDArray tokenTypeIdsArray = encodings.getTypeIds(manager);
             tokenTypeIdsArray.setName("token_type_ids");
             ndList.add(tokenTypeIdsArray);
         }
@@ -87,54 +87,57 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
     /** {@inheritDoc} */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
-        NDArray embeddings = list.get(0);
-        int shapeLength = embeddings.getShape().getShape().length;
-        if (shapeLength == 3) {
-            embeddings = embeddings.get(0);
-        }
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
-        long[] attentionMask = encoding.getAttentionMask();
+        NDArray batchEmbeddings = list.get(0);
+        int shapeLength = batchEmbeddings.getShape().getShape().length;
+        BatchEncodings encodings = (BatchEncodings) ctx.getAttachment(BatchEncodings.ATTACHMENT_NAME);
         NDManager manager = ctx.getNDManager();
-        NDArray inputAttentionMask = manager.create(attentionMask);
-        switch (this.poolingMode) {
-            case MEAN:
-                embeddings = meanPool(embeddings, inputAttentionMask, false);
-                break;
-            case MEAN_SQRT_LEN:
-                embeddings = meanPool(embeddings, inputAttentionMask, true);
-                break;
-            case MAX:
-                embeddings = maxPool(embeddings, inputAttentionMask);
-                break;
-            case WEIGHTED_MEAN:
-                embeddings = weightedMeanPool(embeddings, inputAttentionMask);
-                break;
-            case CLS:
-                embeddings = embeddings.get(0);
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported pooling method");
-        }
-
-        if (normalizeResult) {
-            embeddings = embeddings.normalize(2, 0);
-        }
-
-        Number[] data = embeddings.toArray();
-        List<ModelTensor> outputs = new ArrayList<>();
-        long[] shape = embeddings.getShape().getShape();
-        ModelTensor modelTensor = ModelTensor
-            .builder()
-            .name(SENTENCE_EMBEDDING)
-            .data(data)
-            .shape(shape)
-            .dataType(MLResultDataType.FLOAT32)
-            .build();
-        outputs.add(modelTensor);
+        NDArray batchAttentionMask = encodings.getAttentionMask(manager);
 
         Output output = new Output();
-        ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        for (int i = 0; i < encodings.size(); i++) {
+            // models without batch dimension in the output only support one text per batch
+            NDArray embeddings = shapeLength == 3 ? batchEmbeddings.get(i) : batchEmbeddings;
+            NDArray inputAttentionMask = batchAttentionMask.get(i);
+            switch (this.poolingMode) {
+                case MEAN:
+                    embeddings = meanPool(embeddings, inputAttentionMask, false);
+                    break;
+                case MEAN_SQRT_LEN:
+                    embeddings = meanPool(embeddings, inputAttentionMask, true);
+                    break;
+                case MAX:
+                    embeddings = maxPool(embeddings, inputAttentionMask);
+                    break;
+                case WEIGHTED_MEAN:
+                    embeddings = weightedMeanPool(embeddings, inputAttentionMask);
+                    break;
+                case CLS:
+                    embeddings = embeddings.get(0);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported pooling method");
+            }
+
+            if (normalizeResult) {
+                embeddings = embeddings.normalize(2, 0);
+            }
+
+            float[] data = embeddings.toFloatArray();
+            List<ModelTensor> outputs = new ArrayList<>();
+            long[] shape = embeddings.getShape().getShape();
+            ModelTensor modelTensor = ModelTensor
+                .builder()
+                .name(SENTENCE_EMBEDDING)
+                .floatData(data)
+                .shape(shape)
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+            outputs.add(modelTensor);
+
+            ModelTensors modelTensorOutput = new ModelTensors(outputs);
+            output.add(new ModelTensorsSupplier(modelTensorOutput));
+        }
+        encodings.addTokenCounts(output);
         return output;
     }
 
@@ -5,50 +5,57 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
-import java.nio.ByteBuffer;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
+
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
-import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.BatchEncodings;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
-import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.index.NDIndex;
 import ai.djl.translate.TranslatorContext;
 
 public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransformerTranslator {
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
+        BatchEncodings encodings = (BatchEncodings) ctx.getAttachment(BatchEncodings.ATTACHMENT_NAME);
+        List<NDList> batchOutputs = unbatchify(list, encodings.size());
 
-        List<ModelTensor> outputs = new ArrayList<>();
-        Iterator<NDArray> iterator = list.iterator();
-        while (iterator.hasNext()) {
-            NDArray ndArray = iterator.next();
-            String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
-            long[] shape = ndArray.getShape().getShape();
-            DataType dataType = ndArray.getDataType();
-            MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
-            ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
-                .builder()
-                .name(name)
-                .data(data)
-                .shape(shape)
-                .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
-        }
+        for (int i = 0; i < batchOutputs.size(); i++) {
+            List<ModelTensor> outputs = new ArrayList<>();
+            for (NDArray ndArray : batchOutputs.get(i)) {
+                String name = ndArray.getName();
+                ndArray = removePadding(ndArray, encodings, i);
+                outputs.add(toModelTensor(name, ndArray));
+            }
 
-        ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+            ModelTensors modelTensorOutput = new ModelTensors(outputs);
+            output.add(new ModelTensorsSupplier(modelTensorOutput));
+        }
+        encodings.addTokenCounts(output);
         return output;
     }
+
+    /**
+     * Besides the sentence embedding the model returns token level outputs, like the token embeddings. Cut the
+     * padding of shorter texts in the batch off, so the outputs are the same as if the text ran alone.
+     */
+    private NDArray removePadding(NDArray ndArray, BatchEncodings encodings, int index) {
+        int length = encodings.getLength(index);
+        if (SENTENCE_EMBEDDING.equals(ndArray.getName())
+            || length == encodings.getLength()
+            || ndArray.getShape().dimension() == 0
+            || ndArray.getShape().get(0) != encodings.getLength()) {
+            return ndArray;
+        }
+        return ndArray.get(new NDIndex(":{}", length));
+    }
 }
@@ -46,13 +46,13 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
         Output output;
         TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) inputDataSet;
         String queryText = textSimInput.getQueryText();
-        for (String doc : textSimInput.getTextDocs()) {
+        // the query text is paired with every text of the batch, so it counts for the length of every pair
+        for (List<String> batch : splitIntoBatches(textSimInput.getTextDocs(), doc -> queryText.length() + doc.length())) {
             Input input = new Input();
             input.add(queryText);
-            input.add(doc);
+            batch.forEach(input::add);
             output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
-            tensorOutputs.add(outputTensors);
+            tensorOutputs.addAll(parseModelTensorOutputs(output, null));
         }
         return new ModelTensorOutput(tensorOutputs);
     }
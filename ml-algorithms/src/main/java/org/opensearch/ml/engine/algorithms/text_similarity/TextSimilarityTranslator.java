@@ -17,46 +17,48 @@
  */
 package org.opensearch.ml.engine.algorithms.text_similarity;
 
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
-import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.BatchEncodings;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
-import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
-import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.TranslatorContext;
+import ai.djl.util.PairList;
 
 public class TextSimilarityTranslator extends SentenceTransformerTranslator {
     public final String SIMILARITY_NAME = "similarity";
 
+    /**
+     * The first content of the input is the query text, every other content is a text to compare the query text with.
+     */
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
         String sentence = input.getAsString(0);
-        String context = input.getAsString(1);
+        PairList<String, String> pairs = new PairList<>();
+        for (String context : BatchEncodings.getTexts(input, 1)) {
+            pairs.add(sentence, context);
+        }
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
-        Encoding encodings = tokenizer.encode(sentence, context);
-        long[] indices = encodings.getIds();
-        long[] attentionMask = encodings.getAttentionMask();
-        long[] tokenTypes = encodings.getTypeIds();
+        BatchEncodings encodings = new BatchEncodings(tokenizer.batchEncode(pairs));
+        ctx.setAttachment(BatchEncodings.ATTACHMENT_NAME, encodings);
 
-        NDArray indicesArray = manager.create(indices);
+        NDArray indicesArray = encodings.getIds(manager);
         indicesArray.setName("input_ids");
 
-        NDArray attentionMaskArray = manager.create(attentionMask);
+        NDArray attentionMaskArray = encodings.getAttentionMask(manager);
         attentionMaskArray.setName("attention_mask");
 
-        NDArray tokenTypeArray = manager.create(tokenTypes);
+        NDArray tokenTypeArray = encodings.getTypeIds(manager);
         tokenTypeArray.setName("token_type_ids");
 
         ndList.add(indicesArray);
@@ -68,30 +70,18 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
+        BatchEncodings encodings = (BatchEncodings) ctx.getAttachment(BatchEncodings.ATTACHMENT_NAME);
 
-        List<ModelTensor> outputs = new ArrayList<>();
-        Iterator<NDArray> iterator = list.iterator();
-        while (iterator.hasNext()) {
-            NDArray ndArray = iterator.next();
-            String name = SIMILARITY_NAME;
-            Number[] data = ndArray.toArray();
-            long[] shape = ndArray.getShape().getShape();
-            DataType dataType = ndArray.getDataType();
-            MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
-            ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
-                .builder()
-                .name(name)
-                .data(data)
-                .shape(shape)
-                .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
-        }
+        for (NDList batchOutput : unbatchify(list, encodings.size())) {
+            List<ModelTensor> outputs = new ArrayList<>();
+            for (NDArray ndArray : batchOutput) {
+                outputs.add(toModelTensor(SIMILARITY_NAME, ndArray));
+            }
 
-        ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+            ModelTensors modelTensorOutput = new ModelTensors(outputs);
+            output.add(new ModelTensorsSupplier(modelTensorOutput));
+        }
+        encodings.addTokenCounts(output);
         return output;
     }
 
@@ -9,18 +9,35 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.SchemePortResolver;
 import org.apache.http.conn.UnsupportedSchemeException;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.protocol.HttpContext;
+import org.opensearch.ml.common.exception.MLException;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -33,7 +50,60 @@ public class MLHttpClientFactory {
         return createHttpClient(connectionTimeout, readTimeout, maxConnections);
     }
 
+    /**
+     * Create a blocking http client on the given connection pool. Idle connections of the pool are closed by a
+     * background thread of the client, which stops when the client is closed.
+     * @param connectionTimeout connection timeout in milliseconds
+     * @param readTimeout socket read timeout in milliseconds
+     * @param connectionManager connection pool created by {@link #createConnectionManager(Integer)}
+     * @param maxIdleTimeInMillis time after which idle connections are closed
+     * @return http client, closing it closes the connection pool as well
+     */
+    public static CloseableHttpClient getCloseableHttpClient(
+        Integer connectionTimeout,
+        Integer readTimeout,
+        PoolingHttpClientConnectionManager connectionManager,
+        long maxIdleTimeInMillis
+    ) {
+        HttpClientBuilder builder = createHttpClientBuilder(connectionTimeout, readTimeout);
+        builder.setConnectionManager(connectionManager);
+        builder.evictExpiredConnections();
+        builder.evictIdleConnections(maxIdleTimeInMillis, TimeUnit.MILLISECONDS);
+        return builder.build();
+    }
+
+    /**
+     * Create a connection pool for blocking http clients, which resolves host names with the private ip check.
+     * @param maxConnections max connections in total and per route
+     * @return connection pool
+     */
+    public static PoolingHttpClientConnectionManager createConnectionManager(Integer maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            RegistryBuilder
+                .<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSocketFactory())
+                .build(),
+            null,
+            null,
+            MLHttpClientFactory::validateIp,
+            -1,
+            TimeUnit.MILLISECONDS
+        );
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        return connectionManager;
+    }
+
     private static CloseableHttpClient createHttpClient(Integer connectionTimeout, Integer readTimeout, Integer maxConnections) {
+        HttpClientBuilder builder = createHttpClientBuilder(connectionTimeout, readTimeout);
+        builder.setDnsResolver(MLHttpClientFactory::validateIp);
+        builder.setMaxConnTotal(maxConnections);
+        builder.setMaxConnPerRoute(maxConnections);
+        return builder.build();
+    }
+
+    private static HttpClientBuilder createHttpClientBuilder(Integer connectionTimeout, Integer readTimeout) {
         HttpClientBuilder builder = HttpClientBuilder.create();
 
         // Only allow HTTP and HTTPS schemes
@@ -45,8 +115,98 @@ public class MLHttpClientFactory {
             }
         });
 
-        builder.setDnsResolver(MLHttpClientFactory::validateIp);
+        builder.setRedirectStrategy(new LaxRedirectStrategy() {
+            @Override
+            public boolean isRedirected(HttpRequest request, HttpResponse response, HttpContext context) {
+                // Do not follow redirects
+                return false;
+            }
+        });
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(connectionTimeout).setSocketTimeout(readTimeout).build();
+        builder.setDefaultRequestConfig(requestConfig);
+        return builder;
+    }
 
+    /**
+     * Create a non-blocking http client backed by an NIO reactor. A handful of reactor threads can keep
+     * many remote calls in flight, so callers don't need to hold a thread for the whole model latency.
+     * The returned client is already started and must be closed by the caller.
+     * @param connectionTimeout connection timeout in milliseconds
+     * @param readTimeout socket read timeout in milliseconds
+     * @param maxConnections max connections in total and per route
+     * @return started async http client
+     */
+    public static CloseableHttpAsyncClient getAsyncHttpClient(Integer connectionTimeout, Integer readTimeout, Integer maxConnections) {
+        PoolingNHttpClientConnectionManager connectionManager = createAsyncConnectionManager(
+            connectionTimeout,
+            readTimeout,
+            maxConnections
+        );
+        return getAsyncHttpClient(connectionTimeout, readTimeout, connectionManager);
+    }
+
+    /**
+     * Create a non-blocking http client on the given connection pool. The returned client is already started.
+     * @param connectionTimeout connection timeout in milliseconds
+     * @param readTimeout socket read timeout in milliseconds
+     * @param connectionManager connection pool created by {@link #createAsyncConnectionManager(Integer, Integer, Integer)}
+     * @return started async http client, closing it closes the connection pool as well
+     */
+    public static CloseableHttpAsyncClient getAsyncHttpClient(
+        Integer connectionTimeout,
+        Integer readTimeout,
+        PoolingNHttpClientConnectionManager connectionManager
+    ) {
+        CloseableHttpAsyncClient httpAsyncClient = createHttpAsyncClient(connectionTimeout, readTimeout, connectionManager);
+        httpAsyncClient.start();
+        return httpAsyncClient;
+    }
+
+    /**
+     * Create a connection pool for non-blocking http clients backed by a new NIO reactor.
+     * @param connectionTimeout connection timeout in milliseconds
+     * @param readTimeout socket read timeout in milliseconds
+     * @param maxConnections max connections in total and per route
+     * @return connection pool
+     */
+    public static PoolingNHttpClientConnectionManager createAsyncConnectionManager(
+        Integer connectionTimeout,
+        Integer readTimeout,
+        Integer maxConnections
+    ) {
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom().setConnectTimeout(connectionTimeout).setSoTimeout(readTimeout).build();
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            // Only allow HTTP and HTTPS schemes, and resolve host names with the same private ip check as the blocking client
+            connectionManager = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(ioReactorConfig),
+                null,
+                RegistryBuilder
+                    .<SchemeIOSessionStrategy>create()
+                    .register("http", NoopIOSessionStrategy.INSTANCE)
+                    .register("https", SSLIOSessionStrategy.getDefaultStrategy())
+                    .build(),
+                new ValidatingSchemePortResolver(),
+                MLHttpClientFactory::validateIp,
+                -1,
+                TimeUnit.MILLISECONDS
+            );
+        } catch (IOReactorException e) {
+            log.error("Failed to create IO reactor for async http client", e);
+            throw new MLException("Failed to create async http client", e);
+        }
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        return connectionManager;
+    }
+
+    private static CloseableHttpAsyncClient createHttpAsyncClient(
+        Integer connectionTimeout,
+        Integer readTimeout,
+        PoolingNHttpClientConnectionManager connectionManager
+    ) {
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create();
+        builder.setConnectionManager(connectionManager);
         builder.setRedirectStrategy(new LaxRedirectStrategy() {
             @Override
             public boolean isRedirected(HttpRequest request, HttpResponse response, HttpContext context) {
@@ -54,13 +214,19 @@ public class MLHttpClientFactory {
                 return false;
             }
         });
-        builder.setMaxConnTotal(maxConnections);
-        builder.setMaxConnPerRoute(maxConnections);
         RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(connectionTimeout).setSocketTimeout(readTimeout).build();
         builder.setDefaultRequestConfig(requestConfig);
         return builder.build();
     }
 
+    private static class ValidatingSchemePortResolver implements SchemePortResolver {
+        @Override
+        public int resolve(HttpHost host) throws UnsupportedSchemeException {
+            validateSchemaAndPort(host);
+            return DefaultSchemePortResolver.INSTANCE.resolve(host);
+        }
+    }
+
     @VisibleForTesting
     protected static void validateSchemaAndPort(HttpHost host) {
         String scheme = host.getSchemeName();
@@ -0,0 +1,253 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.httpclient;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level registry of the http clients used by remote connectors. Connectors calling the same host with the same
+ * client config share one client and its connection pool, so keep-alive connections and TLS sessions are reused
+ * across models and redeploys. Clients are reference counted and closed once the last connector using them is closed.
+ */
+@Log4j2
+public class MLHttpClientRegistry {
+    public static final long MAX_IDLE_TIME_IN_MILLIS = 60_000;
+
+    public static final String HTTP_CLIENT = "http";
+    public static final String ASYNC_HTTP_CLIENT = "async_http";
+
+    private final Map<PoolKey, SharedClient> clients = new HashMap<>();
+
+    /**
+     * Acquire a blocking http client for the endpoint.
+     * @param endpoint predict endpoint of the connector, only its scheme, host and port are used
+     * @param clientConfig connector client config
+     * @return lease of the client, which must be closed when the connector is closed
+     */
+    public Lease<CloseableHttpClient> acquireHttpClient(String endpoint, ConnectorClientConfig clientConfig) {
+        PoolKey key = createKey(HTTP_CLIENT, endpoint, clientConfig);
+        return acquire(key, () -> {
+            PoolingHttpClientConnectionManager connectionManager = MLHttpClientFactory.createConnectionManager(key.maxConnections);
+            CloseableHttpClient client = MLHttpClientFactory
+                .getCloseableHttpClient(key.connectionTimeout, key.readTimeout, connectionManager, MAX_IDLE_TIME_IN_MILLIS);
+            return new SharedClient(client, connectionManager, null);
+        });
+    }
+
+    /**
+     * Acquire a non-blocking http client for the endpoint.
+     * @param endpoint predict endpoint of the connector, only its scheme, host and port are used
+     * @param clientConfig connector client config
+     * @return lease of the started client, which must be closed when the connector is closed
+     */
+    public Lease<CloseableHttpAsyncClient> acquireAsyncHttpClient(String endpoint, ConnectorClientConfig clientConfig) {
+        PoolKey key = createKey(ASYNC_HTTP_CLIENT, endpoint, clientConfig);
+        return acquire(key, () -> {
+            PoolingNHttpClientConnectionManager connectionManager = MLHttpClientFactory
+                .createAsyncConnectionManager(key.connectionTimeout, key.readTimeout, key.maxConnections);
+            CloseableHttpAsyncClient client = MLHttpClientFactory
+                .getAsyncHttpClient(key.connectionTimeout, key.readTimeout, connectionManager);
+            // the NIO pool has no eviction thread, idle connections are closed whenever the pool is acquired or released
+            return new SharedClient(client, connectionManager, () -> {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(MAX_IDLE_TIME_IN_MILLIS, TimeUnit.MILLISECONDS);
+            });
+        });
+    }
+
+    /**
+     * Acquire a client of another type, e.g. the AWS SDK http client, which manages its connection pool by itself.
+     * @param type client type
+     * @param endpoint predict endpoint of the connector, only its scheme, host and port are used
+     * @param clientConfig connector client config
+     * @param clientFactory creates the client if there is no client for the endpoint and config yet
+     * @return lease of the client, which must be closed when the connector is closed
+     */
+    public <T extends AutoCloseable> Lease<T> acquire(
+        String type,
+        String endpoint,
+        ConnectorClientConfig clientConfig,
+        Function<ConnectorClientConfig, T> clientFactory
+    ) {
+        PoolKey key = createKey(type, endpoint, clientConfig);
+        ConnectorClientConfig normalizedConfig = new ConnectorClientConfig(key.maxConnections, key.connectionTimeout, key.readTimeout);
+        return acquire(key, () -> new SharedClient(clientFactory.apply(normalizedConfig), null, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> Lease<T> acquire(PoolKey key, Supplier<SharedClient> clientFactory) {
+        SharedClient sharedClient = clients.get(key);
+        if (sharedClient == null) {
+            log.debug("Creating {} client for {}", key.type, key.host);
+            sharedClient = clientFactory.get();
+            clients.put(key, sharedClient);
+        }
+        sharedClient.references++;
+        sharedClient.evictIdleConnections();
+        return new Lease<>(key, (T) sharedClient.client);
+    }
+
+    private synchronized void release(PoolKey key) {
+        SharedClient sharedClient = clients.get(key);
+        if (sharedClient == null) {
+            return;
+        }
+        if (--sharedClient.references > 0) {
+            sharedClient.evictIdleConnections();
+            return;
+        }
+        clients.remove(key);
+        log.debug("Closing {} client for {}", key.type, key.host);
+        try {
+            sharedClient.client.close();
+        } catch (Exception e) {
+            log.error("Failed to close {} client for {}", key.type, key.host, e);
+        }
+    }
+
+    /**
+     * Get the connection usage summed up over all connection pools.
+     * @return connection pool stats
+     */
+    public synchronized ConnectionPoolStats getStats() {
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for (SharedClient sharedClient : clients.values()) {
+            if (sharedClient.pool == null) {
+                continue;
+            }
+            sharedClient.evictIdleConnections();
+            PoolStats poolStats = sharedClient.pool.getTotalStats();
+            leased += poolStats.getLeased();
+            pending += poolStats.getPending();
+            available += poolStats.getAvailable();
+            max += poolStats.getMax();
+        }
+        return new ConnectionPoolStats(clients.size(), leased, pending, available, max);
+    }
+
+    @VisibleForTesting
+    synchronized int getReferences(String type, String endpoint, ConnectorClientConfig clientConfig) {
+        SharedClient sharedClient = clients.get(createKey(type, endpoint, clientConfig));
+        return sharedClient == null ? 0 : sharedClient.references;
+    }
+
+    private static PoolKey createKey(String type, String endpoint, ConnectorClientConfig clientConfig) {
+        ConnectorClientConfig config = Optional.ofNullable(clientConfig).orElseGet(ConnectorClientConfig::new);
+        return new PoolKey(
+            type,
+            getHost(endpoint),
+            Optional.ofNullable(config.getConnectionTimeout()).orElse(ConnectorClientConfig.CONNECTION_TIMEOUT_DEFAULT_VALUE),
+            Optional.ofNullable(config.getReadTimeout()).orElse(ConnectorClientConfig.READ_TIMEOUT_DEFAULT_VALUE),
+            Optional.ofNullable(config.getMaxConnections()).orElse(ConnectorClientConfig.MAX_CONNECTION_DEFAULT_VALUE)
+        );
+    }
+
+    /**
+     * Endpoints with placeholders which are only filled at predict time can't be parsed, connectors with such
+     * endpoints share the client of their client config.
+     */
+    private static String getHost(String endpoint) {
+        if (endpoint == null) {
+            return "";
+        }
+        try {
+            URI uri = URI.create(endpoint);
+            if (uri.getHost() == null) {
+                return "";
+            }
+            return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Lease of a shared client. Closing the lease releases the client instead of closing it.
+     */
+    public class Lease<T> implements AutoCloseable {
+        private final PoolKey key;
+        @Getter
+        private final T client;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Lease(PoolKey key, T client) {
+            this.key = key;
+            this.client = client;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(key);
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ConnectionPoolStats {
+        private final int pools;
+        private final int leased;
+        private final int pending;
+        private final int available;
+        private final int max;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class PoolKey {
+        private final String type;
+        private final String host;
+        private final Integer connectionTimeout;
+        private final Integer readTimeout;
+        private final Integer maxConnections;
+    }
+
+    private static class SharedClient {
+        private final AutoCloseable client;
+        private final ConnPoolControl<HttpRoute> pool;
+        private final Runnable idleConnectionEvictor;
+        private int references;
+
+        SharedClient(AutoCloseable client, ConnPoolControl<HttpRoute> pool, Runnable idleConnectionEvictor) {
+            this.client = client;
+            this.pool = pool;
+            this.idleConnectionEvictor = idleConnectionEvictor;
+        }
+
+        void evictIdleConnections() {
+            if (idleConnectionEvictor != null) {
+                idleConnectionEvictor.run();
+            }
+        }
+    }
+}
@@ -7,18 +7,19 @@ package org.opensearch.ml.engine.utils;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 
@@ -37,37 +38,23 @@ import lombok.extern.log4j.Log4j2;
 public class FileUtils {
 
     /**
-     * Split file into smaller chunks evenly.
-     * @param file file to be split
-     * @param outputPath output path
+     * Read one chunk of a file, the file is split into chunks of the same size except the last one.
+     * @param channel file channel
+     * @param fileSize size of the file
+     * @param chunkNumber number of the chunk, starting from 0
      * @param chunkSize chunk size
-     * @return a list of chunk file names
+     * @return bytes of the chunk
      * @throws IOException
      */
-    public static List<String> splitFileIntoChunks(File file, Path outputPath, int chunkSize) throws IOException {
-        int fileSize = (int) file.length();
-        ArrayList<String> nameList = new ArrayList<>();
-        try (InputStream inStream = new BufferedInputStream(new FileInputStream(file))) {
-            int numberOfChunk = 0;
-            int totalBytesRead = 0;
-            while (totalBytesRead < fileSize) {
-                String partName = numberOfChunk + "";
-                int bytesRemaining = fileSize - totalBytesRead;
-                if (bytesRemaining < chunkSize) {
-                    chunkSize = bytesRemaining;
-                }
-                byte[] temporary = new byte[chunkSize];
-                int bytesRead = inStream.read(temporary, 0, chunkSize);
-                if (bytesRead > 0) {
-                    totalBytesRead += bytesRead;
-                    numberOfChunk++;
-                }
-                Path partFileName = outputPath.resolve(partName + "");
-                write(temporary, partFileName.toString());
-                nameList.add(partFileName.toString());
+    public static byte[] readChunk(FileChannel channel, long fileSize, int chunkNumber, int chunkSize) throws IOException {
+        long offset = (long) chunkNumber * chunkSize;
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(chunkSize, fileSize - offset));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file at chunk " + chunkNumber);
             }
         }
-        return nameList;
+        return buffer.array();
     }
 
     /**
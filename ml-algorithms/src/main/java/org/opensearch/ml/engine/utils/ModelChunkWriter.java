@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.hash.HashCode;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes the chunks of a model into the model zip file. Chunks may arrive in any order, they are written in order as
+ * soon as all chunks before them arrived, so the SHA-256 hash of the model is computed while the chunks are written
+ * instead of reading the model file again.
+ */
+@Log4j2
+public class ModelChunkWriter implements Closeable {
+    @Getter
+    private final File modelZipFile;
+    private final int totalChunks;
+    private final FileChannel channel;
+    private final MessageDigest digest;
+    // chunks which arrived before the chunks preceding them
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private int nextChunk;
+    private String hash;
+
+    public ModelChunkWriter(File modelZipFile, int totalChunks) throws IOException {
+        this.modelZipFile = modelZipFile;
+        this.totalChunks = totalChunks;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        Files.createDirectories(modelZipFile.toPath().getParent());
+        this.channel = FileChannel
+            .open(modelZipFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Write a chunk, and the chunks after it which arrived before it.
+     * @param chunkNumber number of the chunk, starting from 0
+     * @param content content of the chunk
+     * @return number of chunks written by this call, 0 if the chunk waits for the chunks before it
+     */
+    public synchronized int write(int chunkNumber, byte[] content) throws IOException {
+        if (chunkNumber < nextChunk || chunkNumber >= totalChunks || pendingChunks.containsKey(chunkNumber)) {
+            throw new IllegalArgumentException("Unexpected model chunk " + chunkNumber);
+        }
+        pendingChunks.put(chunkNumber, content);
+        int written = 0;
+        while (pendingChunks.containsKey(nextChunk)) {
+            byte[] chunk = pendingChunks.remove(nextChunk);
+            ByteBuffer buffer = ByteBuffer.wrap(chunk);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            digest.update(chunk);
+            nextChunk++;
+            written++;
+        }
+        if (isComplete()) {
+            hash = HashCode.fromBytes(digest.digest()).toString();
+            channel.close();
+        }
+        return written;
+    }
+
+    public synchronized boolean isComplete() {
+        return nextChunk == totalChunks;
+    }
+
+    /**
+     * @return SHA-256 hash of the model zip file, or null until all chunks are written
+     */
+    public synchronized String getHash() {
+        return hash;
+    }
+
+    @Override
+    public synchronized void close() {
+        pendingChunks.clear();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close model file " + modelZipFile, e);
+        }
+    }
+}
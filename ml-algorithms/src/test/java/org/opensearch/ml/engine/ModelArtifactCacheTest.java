@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelArtifactCacheTest {
+
+    private static final String HASH1 = "1".repeat(64);
+    private static final String HASH2 = "2".repeat(64);
+    private static final String HASH3 = "3".repeat(64);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path put(ModelArtifactCache cache, String hash, String modelId, int size) throws Exception {
+        return cache.put(hash, modelId, path -> {
+            Files.createDirectories(path);
+            Files.write(path.resolve("model.pt"), new byte[size]);
+        });
+    }
+
+    @Test
+    public void put_Acquire() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(temporaryFolder.getRoot().toPath(), 100);
+        Path modelPath = put(cache, HASH1, "model1", 10);
+
+        assertEquals(ModelArtifactCache.MODEL_DIRECTORY, modelPath.getFileName().toString());
+        assertTrue(Files.exists(modelPath.resolve("model.pt")));
+        assertTrue(cache.contains(HASH1));
+        assertEquals(modelPath, cache.acquire(HASH1, "model1"));
+        assertNull(cache.acquire(HASH2, "model1"));
+        assertEquals(10, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void acquire_OnlyVerifiedModels() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(temporaryFolder.getRoot().toPath(), 100);
+        Path modelPath = put(cache, HASH1, "model1", 10);
+
+        // another model declaring the same hash must verify its own chunks first
+        assertNull(cache.acquire(HASH1, "model2"));
+        AtomicBoolean written = new AtomicBoolean();
+        assertEquals(modelPath, cache.put(HASH1, "model2", path -> written.set(true)));
+        // the files are cached already
+        assertFalse(written.get());
+        assertEquals(modelPath, cache.acquire(HASH1, "model2"));
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void evict_LeastRecentlyUsedUnusedEntries() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(temporaryFolder.getRoot().toPath(), 25);
+        put(cache, HASH1, "model1", 10);
+        put(cache, HASH2, "model2", 10);
+        cache.release("model1");
+        cache.release("model2");
+        // the first entry is used again, so the second one is least recently used
+        cache.acquire(HASH1, "model1");
+        put(cache, HASH3, "model3", 10);
+
+        assertTrue(cache.contains(HASH1));
+        assertFalse(cache.contains(HASH2));
+        assertTrue(cache.contains(HASH3));
+        assertEquals(2, cache.getEntryCount());
+    }
+
+    @Test
+    public void evict_KeepsEntriesOfDeployedModels() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(temporaryFolder.getRoot().toPath(), 15);
+        put(cache, HASH1, "model1", 10);
+        put(cache, HASH2, "model2", 10);
+        assertEquals(2, cache.getEntryCount());
+
+        cache.release("model1");
+        assertFalse(cache.contains(HASH1));
+        assertTrue(cache.contains(HASH2));
+    }
+
+    @Test
+    public void load_SurvivesRestart() throws Exception {
+        Path root = temporaryFolder.getRoot().toPath();
+        ModelArtifactCache cache = new ModelArtifactCache(root, 100);
+        put(cache, HASH1, "model1", 10);
+        // leftover of an interrupted deploy
+        Files.createDirectories(root.resolve(HASH2 + "-tmp"));
+
+        ModelArtifactCache restarted = new ModelArtifactCache(root, 100);
+        assertTrue(restarted.contains(HASH1));
+        assertEquals(10, restarted.getSizeInBytes());
+        assertFalse(Files.exists(root.resolve(HASH2 + "-tmp")));
+        // the verified models are kept
+        assertNotNull(restarted.acquire(HASH1, "model1"));
+        assertNull(restarted.acquire(HASH1, "model2"));
+    }
+
+    @Test
+    public void isCacheable() {
+        ModelArtifactCache cache = new ModelArtifactCache(temporaryFolder.getRoot().toPath(), 100);
+        assertTrue(cache.isCacheable(HASH1));
+        assertFalse(cache.isCacheable(null));
+        assertFalse(cache.isCacheable("../model"));
+
+        cache.setMaxSizeInBytes(0);
+        assertFalse(cache.isCacheable(HASH1));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+public class InferenceSchedulerTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private InferenceScheduler createScheduler(long maxQueueDelayMillis, int maxBatchSize) {
+        return new InferenceScheduler(maxQueueDelayMillis, 1, (texts, longestTokens) -> texts <= maxBatchSize, texts -> {
+            batches.add(new ArrayList<>(texts));
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (String text : texts) {
+                outputs.add(new ModelTensors(Collections.singletonList(ModelTensor.builder().name(text).build())));
+            }
+            return outputs;
+        });
+    }
+
+    @Test
+    public void predict_MergesConcurrentRequests() throws Exception {
+        InferenceScheduler scheduler = createScheduler(60_000, 4);
+        List<Future<List<ModelTensors>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String text = "text" + i;
+            futures.add(executorService.submit(() -> scheduler.predict(List.of(text), 3)));
+        }
+        for (int i = 0; i < 4; i++) {
+            List<ModelTensors> outputs = futures.get(i).get();
+            assertEquals(1, outputs.size());
+            assertEquals("text" + i, outputs.get(0).getMlModelTensors().get(0).getName());
+        }
+        // the batch is run once it's full, long before the max queue delay
+        assertEquals(1, batches.size());
+        assertEquals(4, batches.get(0).size());
+        assertEquals(1L, scheduler.getBatchSizeHistogram().get("3-4").longValue());
+        assertEquals(0, scheduler.getQueueDepth());
+    }
+
+    @Test
+    public void predict_MaxQueueDelay() throws Exception {
+        InferenceScheduler scheduler = createScheduler(10, 4);
+        List<ModelTensors> outputs = scheduler.predict(List.of("a", "b"), 3);
+
+        assertEquals(2, outputs.size());
+        assertEquals(List.of(List.of("a", "b")), batches);
+        assertEquals(1L, scheduler.getBatchSizeHistogram().get("2").longValue());
+    }
+
+    @Test
+    public void predict_RequestsOverBatchLimits() throws Exception {
+        InferenceScheduler scheduler = createScheduler(0, 4);
+        List<Callable<List<ModelTensors>>> requests = List
+            .of(() -> scheduler.predict(List.of("a", "b", "c"), 3), () -> scheduler.predict(List.of("d", "e", "f"), 3));
+        for (Future<List<ModelTensors>> future : executorService.invokeAll(requests)) {
+            assertEquals(3, future.get().size());
+        }
+        assertEquals(2, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEquals(3, batches.get(1).size());
+    }
+
+    @Test
+    public void predict_Failure() throws Exception {
+        InferenceScheduler scheduler = new InferenceScheduler(60_000, 1, (texts, longestTokens) -> texts <= 2, texts -> {
+            throw new IllegalStateException("forward pass failed");
+        });
+        List<Future<List<ModelTensors>>> futures = new ArrayList<>();
+        futures.add(executorService.submit(() -> scheduler.predict(List.of("a"), 3)));
+        futures.add(executorService.submit(() -> scheduler.predict(List.of("b"), 3)));
+        for (Future<List<ModelTensors>> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+                assertEquals("forward pass failed", e.getCause().getMessage());
+                continue;
+            }
+            throw new AssertionError("expected the forward pass failure");
+        }
+    }
+
+    @Test
+    public void getBatchSizeHistogram() {
+        Map<String, Long> histogram = createScheduler(0, 1).getBatchSizeHistogram();
+        assertEquals(List.of("1", "2", "3-4", "5-8", "9-16", "17-32", "33-64", "65-128", "129+"), new ArrayList<>(histogram.keySet()));
+    }
+}
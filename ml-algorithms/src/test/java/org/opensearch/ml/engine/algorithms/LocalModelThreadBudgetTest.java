@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class LocalModelThreadBudgetTest {
+
+    @Test
+    public void reserve_WithinBudget() {
+        LocalModelThreadBudget budget = new LocalModelThreadBudget(8);
+        LocalModelThreadBudget.Allocation allocation = budget.reserve("model1", 2, 4);
+
+        assertEquals(2, allocation.getReplicas());
+        assertEquals(4, allocation.getThreadsPerReplica());
+        assertEquals(8, budget.getReservedThreads());
+    }
+
+    @Test
+    public void reserve_ReducesReplicasFirst() {
+        LocalModelThreadBudget budget = new LocalModelThreadBudget(8);
+        budget.reserve("model1", 1, 2);
+        LocalModelThreadBudget.Allocation allocation = budget.reserve("model2", 4, 2);
+
+        assertEquals(3, allocation.getReplicas());
+        assertEquals(2, allocation.getThreadsPerReplica());
+        assertEquals(8, budget.getReservedThreads());
+    }
+
+    @Test
+    public void reserve_ReducesThreadsOfOneReplica() {
+        LocalModelThreadBudget budget = new LocalModelThreadBudget(8);
+        budget.reserve("model1", 1, 5);
+        LocalModelThreadBudget.Allocation allocation = budget.reserve("model2", 2, 4);
+
+        assertEquals(1, allocation.getReplicas());
+        assertEquals(3, allocation.getThreadsPerReplica());
+    }
+
+    @Test
+    public void reserve_BudgetExhausted() {
+        LocalModelThreadBudget budget = new LocalModelThreadBudget(2);
+        budget.reserve("model1", 2, 1);
+        LocalModelThreadBudget.Allocation allocation = budget.reserve("model2", 2, 4);
+
+        assertEquals(1, allocation.getReplicas());
+        assertEquals(1, allocation.getThreadsPerReplica());
+    }
+
+    @Test
+    public void reserve_ReplacesAndRelease() {
+        LocalModelThreadBudget budget = new LocalModelThreadBudget(8);
+        budget.reserve("model1", 2, 2);
+        budget.reserve("model1", 1, 2);
+        assertEquals(2, budget.getReservedThreads());
+
+        budget.release("model1");
+        assertEquals(0, budget.getReservedThreads());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
+
+public class ModelTensorsSupplierTest {
+
+    private final ModelTensors modelTensors = new ModelTensors(
+        Collections
+            .singletonList(
+                ModelTensor
+                    .builder()
+                    .name("sentence_embedding")
+                    .dataType(MLResultDataType.FLOAT32)
+                    .shape(new long[] { 3 })
+                    .floatData(new float[] { 1f, 2f, 3f })
+                    .build()
+            )
+    );
+
+    @Test
+    public void toModelTensors_InProcess() {
+        Output output = new Output();
+        output.add(new ModelTensorsSupplier(modelTensors));
+
+        assertSame(modelTensors, ModelTensorsSupplier.toModelTensors(output.getData()));
+        assertSame(modelTensors, output.getData().getAsObject());
+    }
+
+    @Test
+    public void toModelTensors_Bytes() {
+        BytesSupplier content = BytesSupplier.wrap(new ModelTensorsSupplier(modelTensors).getAsBytes());
+
+        ModelTensors parsed = ModelTensorsSupplier.toModelTensors(content);
+        assertEquals(1, parsed.getMlModelTensors().size());
+        assertEquals("sentence_embedding", parsed.getMlModelTensors().get(0).getName());
+        assertArrayEquals(new float[] { 1f, 2f, 3f }, parsed.getMlModelTensors().get(0).getFloatData(), 0f);
+    }
+
+    @Test
+    public void toByteBuffer() {
+        ModelTensorsSupplier supplier = new ModelTensorsSupplier(modelTensors);
+
+        assertEquals(modelTensors.toBytes().length, supplier.toByteBuffer().remaining());
+    }
+}
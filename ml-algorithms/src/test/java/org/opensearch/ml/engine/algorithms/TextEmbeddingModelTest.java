@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLDeploySetting;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
+
+import ai.djl.Device;
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+
+public class TextEmbeddingModelTest {
+
+    private TextEmbeddingDenseModel textEmbeddingModel;
+    private List<List<String>> batches;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        batches = new ArrayList<>();
+        Predictor<Input, Output> predictor = mock(Predictor.class);
+        when(predictor.predict(any())).thenAnswer(invocation -> {
+            Input input = invocation.getArgument(0);
+            List<String> batch = Arrays.asList(BatchEncodings.getTexts(input, 0));
+            batches.add(batch);
+            Output output = new Output();
+            int longest = 0;
+            int tokens = 0;
+            for (String text : batch) {
+                ModelTensor tensor = ModelTensor.builder().name(text).build();
+                output.add(new ModelTensors(Collections.singletonList(tensor)).toBytes());
+                longest = Math.max(longest, text.length());
+                tokens += text.length();
+            }
+            output.addProperty(BatchEncodings.TOKENS_PROPERTY, String.valueOf(tokens));
+            output.addProperty(BatchEncodings.PADDED_TOKENS_PROPERTY, String.valueOf(longest * batch.size()));
+            return output;
+        });
+        textEmbeddingModel = new TextEmbeddingDenseModel();
+        textEmbeddingModel.predictors = new Predictor[] { predictor };
+        textEmbeddingModel.devices = new Device[] { Device.cpu() };
+    }
+
+    @Test
+    public void predict_NoBatchConfig() throws Exception {
+        textEmbeddingModel.modelConfig = modelConfig(null, null);
+        ModelTensorOutput output = predict("a", "b", "c");
+
+        assertEquals(Arrays.asList(List.of("a"), List.of("b"), List.of("c")), batches);
+        assertOutputs(output, "a", "b", "c");
+    }
+
+    @Test
+    public void predict_MaxBatchSize() throws Exception {
+        textEmbeddingModel.modelConfig = modelConfig(2, null);
+        ModelTensorOutput output = predict("a", "b", "c");
+
+        assertEquals(Arrays.asList(List.of("a", "b"), List.of("c")), batches);
+        assertOutputs(output, "a", "b", "c");
+    }
+
+    @Test
+    public void predict_MaxTokensPerBatch() throws Exception {
+        textEmbeddingModel.modelConfig = modelConfig(10, 30);
+        // about 2 tokens each for the short texts, 27 for the long one
+        String longText = "x".repeat(100);
+        ModelTensorOutput output = predict("a", "b", longText, "c");
+
+        assertEquals(Arrays.asList(List.of("a", "b", "c"), List.of(longText)), batches);
+        assertOutputs(output, "a", "b", longText, "c");
+    }
+
+    @Test
+    public void predict_BatchesTextsOfSimilarLength() throws Exception {
+        textEmbeddingModel.modelConfig = modelConfig(2, null);
+        ModelTensorOutput output = predict("aaaa", "b", "ccc", "dd");
+
+        assertEquals(Arrays.asList(List.of("b", "dd"), List.of("ccc", "aaaa")), batches);
+        assertOutputs(output, "aaaa", "b", "ccc", "dd");
+        assertEquals(10.0 / 12, textEmbeddingModel.getPaddingEfficiency(), 1e-9);
+    }
+
+    @Test
+    public void getPaddingEfficiency_NoPredict() {
+        assertNull(textEmbeddingModel.getPaddingEfficiency());
+    }
+
+    @Test
+    public void estimateTokens() {
+        assertEquals(2, DLModel.estimateTokens(0, null));
+        assertEquals(27, DLModel.estimateTokens(100, null));
+        assertEquals(16, DLModel.estimateTokens(100, 16));
+    }
+
+    @Test
+    public void getOnnxOptions() {
+        textEmbeddingModel.deploySetting = MLDeploySetting
+            .builder()
+            .intraOpThreads(4)
+            .interOpThreads(2)
+            .onnxExecutionMode("PARALLEL")
+            .onnxOptimizationLevel("ALL_OPT")
+            .build();
+        Map<String, String> options = textEmbeddingModel.getOnnxOptions(new LocalModelThreadBudget.Allocation(1, 6));
+        assertEquals(
+            Map.of("intraOpNumThreads", "4", "interOpNumThreads", "2", "executionMode", "PARALLEL", "optLevel", "ALL_OPT"),
+            options
+        );
+
+        // the budget cuts the intra-op threads first
+        options = textEmbeddingModel.getOnnxOptions(new LocalModelThreadBudget.Allocation(1, 3));
+        assertEquals("1", options.get("intraOpNumThreads"));
+        assertEquals("2", options.get("interOpNumThreads"));
+    }
+
+    @Test
+    public void getOnnxOptions_NoDeploySetting() {
+        assertEquals(Map.of(), textEmbeddingModel.getOnnxOptions(new LocalModelThreadBudget.Allocation(1, 1)));
+    }
+
+    private TextEmbeddingModelConfig modelConfig(Integer maxBatchSize, Integer maxTokensPerBatch) {
+        return TextEmbeddingModelConfig
+            .builder()
+            .modelType("bert")
+            .embeddingDimension(384)
+            .frameworkType(TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+            .maxBatchSize(maxBatchSize)
+            .maxTokensPerBatch(maxTokensPerBatch)
+            .build();
+    }
+
+    private ModelTensorOutput predict(String... docs) throws Exception {
+        TextDocsInputDataSet inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList(docs)).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        return textEmbeddingModel.predict("test_model_id", mlInput);
+    }
+
+    private void assertOutputs(ModelTensorOutput output, String... docs) {
+        assertEquals(docs.length, output.getMlModelOutputs().size());
+        for (int i = 0; i < docs.length; i++) {
+            assertEquals(docs[i], output.getMlModelOutputs().get(i).getMlModelTensors().get(0).getName());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void testInvalidMaxLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(0));
+    }
+
+    @Test
+    public void testThrottledHalvesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        limiter.acquire(1000).release(AdaptiveConcurrencyLimiter.Outcome.THROTTLED);
+        assertEquals(4, limiter.getLimit());
+        limiter.acquire(1000).release(AdaptiveConcurrencyLimiter.Outcome.THROTTLED);
+        limiter.acquire(1000).release(AdaptiveConcurrencyLimiter.Outcome.THROTTLED);
+        limiter.acquire(1000).release(AdaptiveConcurrencyLimiter.Outcome.THROTTLED);
+        // never below one
+        assertEquals(1, limiter.getLimit());
+        limiter.acquire(1000).release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testSucceededAtLimitIncreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2);
+        limiter.acquire(1000).release(AdaptiveConcurrencyLimiter.Outcome.THROTTLED);
+        assertEquals(1, limiter.getLimit());
+        // one request at the limit of one adds a whole request to the limit
+        limiter.acquire(1000).release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        assertEquals(2, limiter.getLimit());
+        // not above the max limit
+        for (int i = 0; i < 10; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit1 = limiter.acquire(1000);
+            AdaptiveConcurrencyLimiter.Permit permit2 = limiter.acquire(1000);
+            permit1.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+            permit2.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        }
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void testAsyncAcquireQueuedUntilRelease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(1000);
+        List<AdaptiveConcurrencyLimiter.Permit> granted = new ArrayList<>();
+        AtomicReference<Exception> rejected = new AtomicReference<>();
+        limiter.acquire(granted::add, rejected::set, 1000);
+        assertTrue(granted.isEmpty());
+        assertEquals(1, limiter.getWaiting());
+
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        assertEquals(1, granted.size());
+        assertEquals(0, limiter.getWaiting());
+        assertEquals(1, limiter.getInFlight());
+        assertNull(rejected.get());
+
+        // releasing twice doesn't free another slot
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        assertEquals(1, limiter.getInFlight());
+        granted.get(0).release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testAcquireTimeout() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(1000);
+        OpenSearchStatusException exception = assertThrows(OpenSearchStatusException.class, () -> limiter.acquire(10));
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, exception.status());
+        assertEquals(0, limiter.getWaiting());
+
+        AtomicReference<Exception> rejected = new AtomicReference<>();
+        limiter.acquire(p -> {}, rejected::set, 0);
+        // expired waiters are rejected when the next request finishes
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        assertNotNull(rejected.get());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testFailingPermitCallbackReleasesPermit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(1000);
+        limiter.acquire(p -> { throw new IllegalStateException("failed to send"); }, e -> {}, 1000);
+        assertEquals(1, limiter.getWaiting());
+
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        assertEquals(0, limiter.getWaiting());
+        assertEquals(0, limiter.getInFlight());
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> limiter.acquire(p -> { throw new IllegalStateException("failed to send"); }, e -> {}, 1000)
+        );
+        assertEquals(0, limiter.getInFlight());
+    }
+}
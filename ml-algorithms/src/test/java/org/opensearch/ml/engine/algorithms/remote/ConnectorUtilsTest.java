@@ -6,10 +6,14 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -234,6 +238,86 @@ public class ConnectorUtilsTest {
         Assert.assertEquals(0.0035105038, tensors.getMlModelTensors().get(0).getData()[2]);
     }
 
+    @Test
+    public void getResponseParser() {
+        Connector connector = createConnectorWithPostProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING);
+        Assert.assertNotNull(ConnectorUtils.getResponseParser(connector, ImmutableMap.of()));
+        Assert.assertNotNull(ConnectorUtils.getResponseParser(connector, ImmutableMap.of("response_filter", "$.data[*].embedding")));
+        Assert.assertNull(ConnectorUtils.getResponseParser(connector, ImmutableMap.of("response_filter", "$.data[0].embedding")));
+        Assert.assertNull(ConnectorUtils.getResponseParser(createConnectorWithPostProcessFunction(null), ImmutableMap.of()));
+        Assert
+            .assertNull(
+                ConnectorUtils.getResponseParser(createConnectorWithPostProcessFunction(MLPostProcessFunction.COHERE_RERANK), ImmutableMap.of())
+            );
+    }
+
+    @Test
+    public void processOutput_ResponseStream() throws IOException {
+        Connector connector = createConnectorWithPostProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING);
+        String modelResponse =
+            "{\"object\":\"list\",\"data\":[{\"object\":\"embedding\",\"index\":0,\"embedding\":[-0.014555434,-0.0002135904,0.0035105038]}],\"model\":\"text-embedding-ada-002-v2\",\"usage\":{\"prompt_tokens\":5,\"total_tokens\":5}}";
+        ModelTensors tensors = ConnectorUtils
+            .processOutput(
+                new ByteArrayInputStream(modelResponse.getBytes(StandardCharsets.UTF_8)),
+                ConnectorUtils.getResponseParser(connector, ImmutableMap.of())
+            );
+        Assert.assertEquals(1, tensors.getMlModelTensors().size());
+        Assert.assertEquals("sentence_embedding", tensors.getMlModelTensors().get(0).getName());
+        Assert.assertEquals(3, tensors.getMlModelTensors().get(0).getData().length);
+        Assert.assertEquals(-0.014555434f, tensors.getMlModelTensors().get(0).getData()[0]);
+        Assert.assertEquals(-0.0002135904f, tensors.getMlModelTensors().get(0).getData()[1]);
+        Assert.assertEquals(0.0035105038f, tensors.getMlModelTensors().get(0).getData()[2]);
+    }
+
+    @Test
+    public void processOutput_ChatCompletionPostProcessFunction() throws IOException {
+        String openAIResponse = "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion\",\"choices\":[{\"index\":0,"
+            + "\"message\":{\"role\":\"assistant\",\"content\":\"Hello there!\"},\"finish_reason\":\"stop\"}]}";
+        ModelTensors tensors = ConnectorUtils
+            .processOutput(
+                openAIResponse,
+                createConnectorWithPostProcessFunction(MLPostProcessFunction.OPENAI_CHAT),
+                scriptService,
+                ImmutableMap.of()
+            );
+        Assert.assertEquals(1, tensors.getMlModelTensors().size());
+        Assert.assertEquals("response", tensors.getMlModelTensors().get(0).getName());
+        Assert.assertEquals(Map.of("response", "Hello there!"), tensors.getMlModelTensors().get(0).getDataAsMap());
+
+        String claudeResponse = "{\"id\":\"msg_1\",\"type\":\"message\",\"content\":[{\"type\":\"text\",\"text\":\"Hi!\"}]}";
+        tensors = ConnectorUtils
+            .processOutput(
+                claudeResponse,
+                createConnectorWithPostProcessFunction(MLPostProcessFunction.BEDROCK_CLAUDE_MESSAGES),
+                scriptService,
+                ImmutableMap.of()
+            );
+        Assert.assertEquals("Hi!", tensors.getMlModelTensors().get(0).getDataAsMap().get("response"));
+
+        String titanResponse = "{\"inputTextTokenCount\":3,\"results\":[{\"tokenCount\":2,\"outputText\":\"Hey\"}]}";
+        tensors = ConnectorUtils
+            .processOutput(
+                titanResponse,
+                createConnectorWithPostProcessFunction(MLPostProcessFunction.BEDROCK_TITAN),
+                scriptService,
+                ImmutableMap.of()
+            );
+        Assert.assertEquals("Hey", tensors.getMlModelTensors().get(0).getDataAsMap().get("response"));
+        verify(scriptService, never()).compile(any(), any());
+    }
+
+    private Connector createConnectorWithPostProcessFunction(String postProcessFunction) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .postProcessFunction(postProcessFunction)
+            .build();
+        return HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+    }
+
     private void processInput_TextDocsInputDataSet_PreprocessFunction(
         String requestBody,
         List<String> inputs,
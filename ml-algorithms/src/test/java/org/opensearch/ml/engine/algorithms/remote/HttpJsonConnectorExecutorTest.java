@@ -6,41 +6,68 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
 import org.apache.http.ProtocolVersion;
 import org.apache.http.StatusLine;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicStatusLine;
+import org.apache.http.util.EntityUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ingest.TestTemplateService;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.common.connector.RetryBackoffPolicy;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.exception.MLDeadlineExceededException;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.script.ScriptService;
@@ -67,6 +94,9 @@ public class HttpJsonConnectorExecutorTest {
     @Mock
     CloseableHttpResponse response;
 
+    @Mock
+    CloseableHttpAsyncClient httpAsyncClient;
+
     Settings settings;
 
     ThreadContext threadContext;
@@ -284,12 +314,12 @@ public class HttpJsonConnectorExecutorTest {
         Assert.assertEquals("sentence_embedding", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getName());
         Assert
             .assertArrayEquals(
-                new Number[] { -0.014555434, -0.002135904, 0.0035105038 },
+                new Number[] { -0.014555434f, -0.002135904f, 0.0035105038f },
                 modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getData()
             );
         Assert
             .assertArrayEquals(
-                new Number[] { -0.014555434, -0.002135904, 0.0035105038 },
+                new Number[] { -0.014555434f, -0.002135904f, 0.0035105038f },
                 modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(1).getData()
             );
     }
@@ -360,7 +390,7 @@ public class HttpJsonConnectorExecutorTest {
         Assert.assertEquals("sentence_embedding", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getName());
         Assert
             .assertArrayEquals(
-                new Number[] { -0.014555434, -0.002135904, 0.0035105038 },
+                new Number[] { -0.014555434f, -0.002135904f, 0.0035105038f },
                 modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getData()
             );
     }
@@ -430,4 +460,556 @@ public class HttpJsonConnectorExecutorTest {
         ModelTensorOutput modelTensorOutput = executor
             .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
     }
+
+    @Test
+    public void asyncExecutePredict_RemoteInferenceInput() throws Exception {
+        HttpJsonConnectorExecutor executor = createAsyncExecutor();
+        HttpResponse asyncResponse = mock(HttpResponse.class);
+        when(asyncResponse.getEntity()).thenReturn(new StringEntity("{\"response\": \"test result\"}"));
+        when(asyncResponse.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK"));
+        doAnswer(invocation -> {
+            FutureCallback<HttpResponse> callback = invocation.getArgument(1);
+            callback.completed(asyncResponse);
+            return null;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any());
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        executor.asyncExecutePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), actionListener);
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(actionListener).onResponse(captor.capture());
+        ModelTensorOutput modelTensorOutput = captor.getValue();
+        Assert.assertEquals(1, modelTensorOutput.getMlModelOutputs().size());
+        Assert.assertEquals(200, modelTensorOutput.getMlModelOutputs().get(0).getStatusCode().intValue());
+        Assert
+            .assertEquals(
+                "test result",
+                modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("response")
+            );
+    }
+
+    @Test
+    public void asyncExecutePredict_RemoteInferenceInput_HttpFailure() throws Exception {
+        HttpJsonConnectorExecutor executor = createAsyncExecutor();
+        doAnswer(invocation -> {
+            FutureCallback<HttpResponse> callback = invocation.getArgument(1);
+            callback.failed(new IOException("connection reset"));
+            return null;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any());
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        executor.asyncExecutePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), actionListener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(captor.capture());
+        Assert.assertTrue(captor.getValue() instanceof MLException);
+        Assert.assertEquals("Fail to execute http connector", captor.getValue().getMessage());
+    }
+
+    @Test
+    public void asyncExecutePredict_RemoteInferenceInput_ErrorStatus() throws Exception {
+        HttpJsonConnectorExecutor executor = createAsyncExecutor();
+        HttpResponse asyncResponse = mock(HttpResponse.class);
+        when(asyncResponse.getEntity()).thenReturn(new StringEntity("{\"message\": \"throttled\"}"));
+        when(asyncResponse.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 429, "Too Many Requests"));
+        doAnswer(invocation -> {
+            FutureCallback<HttpResponse> callback = invocation.getArgument(1);
+            callback.completed(asyncResponse);
+            return null;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any());
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        executor.asyncExecutePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), actionListener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(captor.capture());
+        Assert.assertTrue(captor.getValue() instanceof OpenSearchStatusException);
+        Assert.assertEquals(429, ((OpenSearchStatusException) captor.getValue()).status().getStatus());
+    }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_RetryThrottled() throws IOException {
+        HttpJsonConnectorExecutor executor = createRetryExecutor(2, 30);
+        CloseableHttpResponse throttledResponse = createThrottledResponse("0");
+        when(httpClient.execute(any())).thenReturn(throttledResponse).thenReturn(response);
+        when(response.getEntity()).thenReturn(new StringEntity("{\"response\": \"test result\"}"));
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK"));
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        ModelTensorOutput output = executor
+            .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+
+        verify(httpClient, times(2)).execute(any());
+        Assert.assertEquals(1, output.getMlModelOutputs().size());
+        Assert.assertEquals(200, output.getMlModelOutputs().get(0).getStatusCode().intValue());
+    }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_ThrottledRetriesExhausted() throws IOException {
+        HttpJsonConnectorExecutor executor = createRetryExecutor(2, 30);
+        when(httpClient.execute(any())).thenAnswer(invocation -> createThrottledResponse("0"));
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        try {
+            executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+            Assert.fail("Expected throttling exception");
+        } catch (OpenSearchStatusException e) {
+            Assert.assertEquals(429, e.status().getStatus());
+            // the caller gets the Retry-After of the remote service
+            Assert.assertEquals(List.of("0"), e.getHeader("Retry-After"));
+        }
+        // the first request and max_retry_times retries
+        verify(httpClient, times(3)).execute(any());
+    }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_NoRetryOnBadRequest() throws IOException {
+        exceptionRule.expect(OpenSearchStatusException.class);
+        HttpJsonConnectorExecutor executor = createRetryExecutor(3, 30);
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getEntity()).thenReturn(new StringEntity("{\"message\": \"invalid input\"}"));
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 400, "Bad Request"));
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        try {
+            executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+        } finally {
+            verify(httpClient, times(1)).execute(any());
+        }
+    }
+
+    @Test
+    public void asyncExecutePredict_RemoteInferenceInput_RetryThrottled() throws Exception {
+        HttpJsonConnectorExecutor executor = createRetryExecutor(2, 30);
+        executor.setHttpAsyncClient(httpAsyncClient);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(), any());
+        HttpResponse throttledResponse = mock(HttpResponse.class);
+        when(throttledResponse.getEntity()).thenReturn(new StringEntity("{\"message\": \"throttled\"}"));
+        when(throttledResponse.getStatusLine())
+            .thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 503, "Service Unavailable"));
+        HttpResponse asyncResponse = mock(HttpResponse.class);
+        when(asyncResponse.getEntity()).thenReturn(new StringEntity("{\"response\": \"test result\"}"));
+        when(asyncResponse.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK"));
+        List<HttpResponse> responses = new ArrayList<>(List.of(throttledResponse, asyncResponse));
+        doAnswer(invocation -> {
+            FutureCallback<HttpResponse> callback = invocation.getArgument(1);
+            callback.completed(responses.remove(0));
+            return null;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any());
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        executor.asyncExecutePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), actionListener);
+
+        verify(httpAsyncClient, times(2)).execute(any(HttpUriRequest.class), any());
+        verify(threadPool, times(1)).schedule(any(Runnable.class), any(), any());
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(actionListener).onResponse(captor.capture());
+        Assert.assertEquals(200, captor.getValue().getMlModelOutputs().get(0).getStatusCode().intValue());
+    }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_ConcurrencyLimit() throws IOException {
+        ConnectorClientConfig clientConfig = ConnectorClientConfig.builder().maxConcurrency(4).build();
+        HttpJsonConnectorExecutor executor = createRetryExecutor(clientConfig);
+        CloseableHttpResponse throttledResponse = createThrottledResponse(null);
+        when(httpClient.execute(any())).thenReturn(throttledResponse);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        Assert.assertEquals(4, executor.getConcurrencyLimiter().getLimit());
+        Assert
+            .assertThrows(
+                OpenSearchStatusException.class,
+                () -> executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build())
+            );
+        // the limit is halved when the remote service throttles
+        Assert.assertEquals(2, executor.getConcurrencyLimiter().getLimit());
+    }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_ConcurrencyLimitKeptPerEndpoint() throws IOException {
+        ConnectorClientConfig clientConfig = ConnectorClientConfig.builder().maxConcurrency(4).build();
+        EndpointConcurrencyLimiters endpointConcurrencyLimiters = new EndpointConcurrencyLimiters();
+        HttpJsonConnectorExecutor executor = createRetryExecutor(clientConfig);
+        executor.setEndpointConcurrencyLimiters(endpointConcurrencyLimiters);
+        CloseableHttpResponse throttledResponse = createThrottledResponse(null);
+        when(httpClient.execute(any())).thenReturn(throttledResponse);
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+
+        Assert
+            .assertThrows(
+                OpenSearchStatusException.class,
+                () -> executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build())
+            );
+        // a redeployed model starts from the limit learned by the executor it replaces
+        Assert.assertEquals(1, endpointConcurrencyLimiters.size());
+        Assert.assertEquals(2, endpointConcurrencyLimiters.getLimiter("http://test.com/mock", 4).getLimit());
+        Assert.assertEquals(4, executor.getConcurrencyLimiter().getLimit());
+    }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_EndpointCircuitBreakerOpen() throws IOException {
+        HttpJsonConnectorExecutor executor = createRetryExecutor(new ConnectorClientConfig());
+        EndpointCircuitBreakers.Config config = EndpointCircuitBreakers.Config
+            .builder()
+            .failureRateThreshold(50)
+            .slowCallRateThreshold(100)
+            .slowCallDurationMillis(60_000)
+            .minimumCalls(2)
+            .openDurationMillis(60_000)
+            .halfOpenProbes(1)
+            .build();
+        EndpointCircuitBreakers endpointCircuitBreakers = new EndpointCircuitBreakers(true, config);
+        executor.setEndpointCircuitBreakers(endpointCircuitBreakers);
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getEntity()).thenReturn(new StringEntity("{\"message\": \"internal error\"}"));
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 500, "Internal Server Error"));
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build())
+            .build();
+
+        Assert.assertThrows(OpenSearchStatusException.class, () -> executor.executePredict(mlInput));
+        Assert.assertThrows(OpenSearchStatusException.class, () -> executor.executePredict(mlInput));
+        Assert.assertEquals(Map.of("http://test.com/mock", "OPEN"), executor.getEndpointCircuitBreakerStates());
+        // calls fail fast without reaching the remote endpoint while the breaker is open
+        MLLimitExceededException e = Assert.assertThrows(MLLimitExceededException.class, () -> executor.executePredict(mlInput));
+        Assert.assertTrue(e.getMessage().startsWith("Circuit breaker of remote endpoint http://test.com/mock is open"));
+        verify(httpClient, times(2)).execute(any());
+        Assert.assertEquals(1, endpointCircuitBreakers.getRejectedCount());
+        Assert.assertEquals(1, endpointCircuitBreakers.getOpenCount());
+    }
+
+    @Test
+    public void executePredict_RemoteInferenceInput_EndpointCircuitBreakerIgnoresThrottling() throws IOException {
+        HttpJsonConnectorExecutor executor = createRetryExecutor(new ConnectorClientConfig());
+        EndpointCircuitBreakers endpointCircuitBreakers = new EndpointCircuitBreakers(true, createCircuitBreakerConfig());
+        executor.setEndpointCircuitBreakers(endpointCircuitBreakers);
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getEntity()).thenReturn(new StringEntity("{\"message\": \"busy\"}"));
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 503, "Service Unavailable"));
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build())
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertThrows(OpenSearchStatusException.class, () -> executor.executePredict(mlInput));
+        }
+        Assert.assertEquals(Map.of("http://test.com/mock", "CLOSED"), executor.getEndpointCircuitBreakerStates());
+        verify(httpClient, times(3)).execute(any());
+    }
+
+    @Test
+    public void getEndpointCircuitBreakerStates_Disabled() throws IOException {
+        HttpJsonConnectorExecutor executor = createRetryExecutor(new ConnectorClientConfig());
+        EndpointCircuitBreakers endpointCircuitBreakers = new EndpointCircuitBreakers(true, createCircuitBreakerConfig());
+        executor.setEndpointCircuitBreakers(endpointCircuitBreakers);
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getEntity()).thenReturn(new StringEntity("{\"message\": \"internal error\"}"));
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 500, "Internal Server Error"));
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build())
+            .build();
+        Assert.assertThrows(OpenSearchStatusException.class, () -> executor.executePredict(mlInput));
+        Assert.assertThrows(OpenSearchStatusException.class, () -> executor.executePredict(mlInput));
+        Assert.assertEquals(Map.of("http://test.com/mock", "OPEN"), executor.getEndpointCircuitBreakerStates());
+
+        endpointCircuitBreakers.setEnabled(false);
+        Assert.assertEquals(Map.of(), executor.getEndpointCircuitBreakerStates());
+        // the endpoint gets a new breaker once the feature is enabled again
+        endpointCircuitBreakers.setEnabled(true);
+        Assert.assertEquals(Map.of(), executor.getEndpointCircuitBreakerStates());
+        Assert.assertThrows(OpenSearchStatusException.class, () -> executor.executePredict(mlInput));
+        Assert.assertEquals(Map.of("http://test.com/mock", "CLOSED"), executor.getEndpointCircuitBreakerStates());
+    }
+
+    private EndpointCircuitBreakers.Config createCircuitBreakerConfig() {
+        return EndpointCircuitBreakers.Config
+            .builder()
+            .failureRateThreshold(50)
+            .slowCallRateThreshold(100)
+            .slowCallDurationMillis(60_000)
+            .minimumCalls(2)
+            .openDurationMillis(60_000)
+            .halfOpenProbes(1)
+            .build();
+    }
+
+    private HttpJsonConnectorExecutor createRetryExecutor(int maxRetryTimes, int retryTimeoutSeconds) {
+        ConnectorClientConfig clientConfig = ConnectorClientConfig
+            .builder()
+            .maxRetryTimes(maxRetryTimes)
+            .retryBackoffMillis(1)
+            .retryTimeoutSeconds(retryTimeoutSeconds)
+            .retryBackoffPolicy(RetryBackoffPolicy.CONSTANT)
+            .build();
+        return createRetryExecutor(clientConfig);
+    }
+
+    private HttpJsonConnectorExecutor createRetryExecutor(ConnectorClientConfig clientConfig) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .connectorClientConfig(clientConfig)
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector, httpClient));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        return executor;
+    }
+
+    private CloseableHttpResponse createThrottledResponse(String retryAfter) throws IOException {
+        CloseableHttpResponse throttledResponse = mock(CloseableHttpResponse.class);
+        when(throttledResponse.getEntity()).thenReturn(new StringEntity("{\"message\": \"throttled\"}"));
+        when(throttledResponse.getStatusLine())
+            .thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 429, "Too Many Requests"));
+        if (retryAfter != null) {
+            when(throttledResponse.getFirstHeader("Retry-After")).thenReturn(new BasicHeader("Retry-After", retryAfter));
+        }
+        return throttledResponse;
+    }
+
+    private HttpJsonConnectorExecutor createAsyncExecutor() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector, httpClient));
+        executor.setHttpAsyncClient(httpAsyncClient);
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        return executor;
+    }
+
+    @Test
+    public void executePredict_TextDocsInput_Parallel() throws Exception {
+        HttpJsonConnectorExecutor executor = createParallelTextDocsExecutor("2", "3");
+        when(httpClient.execute(any())).thenAnswer(invocation -> createEmbeddingResponse(invocation.getArgument(0)));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            executor.setResponseExecutor(executorService);
+            MLInputDataset inputDataSet = TextDocsInputDataSet
+                .builder()
+                .docs(Arrays.asList("doc0", "doc1", "doc2", "doc3", "doc4"))
+                .build();
+            ModelTensorOutput modelTensorOutput = executor
+                .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+            verify(httpClient, times(3)).execute(any());
+            assertEmbeddingsInOrder(modelTensorOutput, 5);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void executePredict_TextDocsInput_Parallel_Failure() throws Exception {
+        exceptionRule.expect(OpenSearchStatusException.class);
+        HttpJsonConnectorExecutor executor = createParallelTextDocsExecutor("2", "3");
+        CloseableHttpResponse errorResponse = mock(CloseableHttpResponse.class);
+        when(errorResponse.getEntity()).thenReturn(new StringEntity("{\"message\": \"throttled\"}"));
+        when(errorResponse.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 429, "Too Many Requests"));
+        when(httpClient.execute(any()))
+            .thenAnswer(invocation -> createEmbeddingResponse(invocation.getArgument(0)))
+            .thenReturn(errorResponse);
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1", "doc2", "doc3", "doc4")).build();
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+    }
+
+    @Test
+    public void executePredict_TextDocsInput_Parallel_InvalidParallelism() throws Exception {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Invalid parameter: input_docs_parallelism. It must be positive integer.");
+        HttpJsonConnectorExecutor executor = createParallelTextDocsExecutor("2", "0");
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1", "doc2")).build();
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+    }
+
+    @Test
+    public void asyncExecutePredict_TextDocsInput_Parallel() throws Exception {
+        HttpJsonConnectorExecutor executor = createParallelTextDocsExecutor("2", "2");
+        executor.setHttpAsyncClient(httpAsyncClient);
+        List<FutureCallback<HttpResponse>> pendingCallbacks = new ArrayList<>();
+        List<HttpUriRequest> pendingRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            pendingRequests.add(invocation.getArgument(0));
+            pendingCallbacks.add(invocation.getArgument(1));
+            return null;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any());
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1", "doc2", "doc3", "doc4")).build();
+
+        executor.asyncExecutePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(), actionListener);
+        // only 2 sub batches are in flight at the same time
+        Assert.assertEquals(2, pendingCallbacks.size());
+        // complete the second sub batch first, results must still be in input order
+        pendingCallbacks.get(1).completed(createEmbeddingResponse(pendingRequests.get(1)));
+        Assert.assertEquals(3, pendingCallbacks.size());
+        pendingCallbacks.get(2).completed(createEmbeddingResponse(pendingRequests.get(2)));
+        pendingCallbacks.get(0).completed(createEmbeddingResponse(pendingRequests.get(0)));
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(actionListener).onResponse(captor.capture());
+        assertEmbeddingsInOrder(captor.getValue(), 5);
+    }
+
+    @Test
+    public void executePredict_TextDocsInput_DeadlineExceeded() throws Exception {
+        exceptionRule.expect(MLDeadlineExceededException.class);
+        HttpJsonConnectorExecutor executor = createParallelTextDocsExecutor("2", "1");
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1", "doc2")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        mlInput.setDeadline(System.nanoTime() - 1);
+        try {
+            executor.executePredict(mlInput);
+        } finally {
+            verify(httpClient, never()).execute(any());
+        }
+    }
+
+    @Test
+    public void asyncExecutePredict_TextDocsInput_Parallel_DeadlineExceeded() throws Exception {
+        HttpJsonConnectorExecutor executor = createParallelTextDocsExecutor("2", "2");
+        executor.setHttpAsyncClient(httpAsyncClient);
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc0", "doc1", "doc2", "doc3", "doc4")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        mlInput.setDeadline(System.nanoTime() - 1);
+
+        executor.asyncExecutePredict(mlInput, actionListener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(captor.capture());
+        Assert.assertTrue(captor.getValue() instanceof MLDeadlineExceededException);
+        verify(httpAsyncClient, never()).execute(any(HttpUriRequest.class), any());
+    }
+
+    @Test
+    public void asyncExecutePredict_RemoteInferenceInput_DeadlineCapsSocketTimeout() throws Exception {
+        HttpJsonConnectorExecutor executor = createAsyncExecutor();
+        List<HttpUriRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return null;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any());
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        // less than the default read timeout of 30 seconds
+        mlInput.setDeadline(System.nanoTime() + TimeUnit.SECONDS.toNanos(5));
+
+        executor.asyncExecutePredict(mlInput, mock(ActionListener.class));
+
+        Assert.assertEquals(1, requests.size());
+        int socketTimeout = ((HttpRequestBase) requests.get(0)).getConfig().getSocketTimeout();
+        Assert.assertTrue(socketTimeout > 0 && socketTimeout <= 5000);
+    }
+
+    @Test
+    public void asyncExecutePredict_RemoteInferenceInput_DeadlineAfterReadTimeout() throws Exception {
+        HttpJsonConnectorExecutor executor = createAsyncExecutor();
+        List<HttpUriRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return null;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any());
+        MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+        mlInput.setDeadline(System.nanoTime() + TimeUnit.MINUTES.toNanos(5));
+
+        executor.asyncExecutePredict(mlInput, mock(ActionListener.class));
+
+        Assert.assertEquals(1, requests.size());
+        // the http client's default request config applies
+        Assert.assertNull(((HttpRequestBase) requests.get(0)).getConfig());
+    }
+
+    private HttpJsonConnectorExecutor createParallelTextDocsExecutor(String stepSize, String parallelism) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .requestBody("{\"input\": ${parameters.input}}")
+            .build();
+        Map<String, String> parameters = ImmutableMap.of("input_docs_processed_step_size", stepSize, "input_docs_parallelism", parallelism);
+        HttpConnector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector, httpClient));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        executor.setScriptService(scriptService);
+        return executor;
+    }
+
+    /**
+     * Create an embedding response which has one embedding per input doc, the embedding value is the doc number.
+     */
+    private CloseableHttpResponse createEmbeddingResponse(HttpUriRequest request) throws IOException {
+        String requestBody = EntityUtils.toString(((HttpEntityEnclosingRequest) request).getEntity());
+        Matcher matcher = Pattern.compile("doc(\\d+)").matcher(requestBody);
+        List<String> embeddings = new ArrayList<>();
+        while (matcher.find()) {
+            embeddings.add("{\"embedding\": [" + matcher.group(1) + ".0]}");
+        }
+        CloseableHttpResponse embeddingResponse = mock(CloseableHttpResponse.class);
+        when(embeddingResponse.getEntity()).thenReturn(new StringEntity("{\"data\": [" + String.join(",", embeddings) + "]}"));
+        when(embeddingResponse.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK"));
+        return embeddingResponse;
+    }
+
+    private void assertEmbeddingsInOrder(ModelTensorOutput modelTensorOutput, int docCount) {
+        List<Number> embeddings = new ArrayList<>();
+        modelTensorOutput.getMlModelOutputs().forEach(tensors -> tensors.getMlModelTensors().forEach(tensor -> {
+            embeddings.add(tensor.getData()[0]);
+        }));
+        Assert.assertEquals(docCount, embeddings.size());
+        for (int i = 0; i < docCount; i++) {
+            Assert.assertEquals(i, embeddings.get(i).intValue());
+        }
+    }
 }
@@ -6,12 +6,17 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -20,14 +25,18 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.ConnectorProtocols;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -112,6 +121,96 @@ public class RemoteModelTest {
         Assert.assertNull(remoteModel.getConnectorExecutor());
     }
 
+    @Test
+    public void initModel_WithBatchParameters() {
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .protocol(ConnectorProtocols.HTTP)
+            .version("1")
+            .credential(ImmutableMap.of("key", encryptor.encrypt("test_api_key")))
+            .parameters(ImmutableMap.of("input_docs_batch_max_size", "32", "input_docs_batch_wait_time_ms", "10"))
+            .actions(createConnector(null).getActions())
+            .build();
+        when(mlModel.getConnector()).thenReturn(connector);
+        remoteModel.initModel(mlModel, ImmutableMap.of(), encryptor);
+        TextDocsBatcher batcher = remoteModel.getTextDocsBatcher();
+        Assert.assertNotNull(batcher);
+        Assert.assertEquals(32, batcher.getMaxBatchSize());
+        Assert.assertEquals(10, batcher.getWaitTimeInMillis());
+
+        remoteModel.close();
+        Assert.assertNull(remoteModel.getTextDocsBatcher());
+    }
+
+    @Test
+    public void initModel_WithHttpClientRegistry() {
+        MLHttpClientRegistry httpClientRegistry = new MLHttpClientRegistry();
+        Connector connector = createConnector(null);
+        when(mlModel.getConnector()).thenReturn(connector);
+        remoteModel.initModel(mlModel, ImmutableMap.of(RemoteModel.HTTP_CLIENT_REGISTRY, httpClientRegistry), encryptor);
+        // only the blocking client is leased up front, the non-blocking one on first use
+        Assert.assertEquals(1, httpClientRegistry.getStats().getPools());
+
+        remoteModel.close();
+        Assert.assertEquals(0, httpClientRegistry.getStats().getPools());
+    }
+
+    @Test
+    public void initModel_Failed_ReleasesHttpClients() {
+        MLHttpClientRegistry httpClientRegistry = new MLHttpClientRegistry();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .protocol(ConnectorProtocols.HTTP)
+            .version("1")
+            .parameters(ImmutableMap.of(TextDocsBatcher.INPUT_DOCS_BATCH_MAX_SIZE, "not_a_number"))
+            .credential(ImmutableMap.of("key", encryptor.encrypt("test_api_key")))
+            .actions(createConnector(null).getActions())
+            .build();
+        when(mlModel.getConnector()).thenReturn(connector);
+        try {
+            remoteModel.initModel(mlModel, ImmutableMap.of(RemoteModel.HTTP_CLIENT_REGISTRY, httpClientRegistry), encryptor);
+            Assert.fail("initModel should fail with an invalid batch size");
+        } catch (NumberFormatException e) {
+            Assert.assertEquals(0, httpClientRegistry.getStats().getPools());
+            Assert.assertNull(remoteModel.getConnectorExecutor());
+        }
+    }
+
+    @Test
+    public void close_WaitsForInFlightPredict() {
+        RemoteConnectorExecutor executor = mock(RemoteConnectorExecutor.class);
+        AtomicReference<ActionListener<ModelTensorOutput>> inFlightListener = new AtomicReference<>();
+        doAnswer(invocation -> {
+            inFlightListener.set(invocation.getArgument(1));
+            return null;
+        }).when(executor).asyncExecutePredict(any(), any());
+        remoteModel.setConnectorExecutor(executor);
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+
+        remoteModel.asyncPredict(mlInput, listener);
+        remoteModel.close();
+        Assert.assertFalse(remoteModel.isModelReady());
+        verify(executor, never()).close();
+        Assert.assertSame(executor, remoteModel.getConnectorExecutor());
+
+        ModelTensorOutput output = ModelTensorOutput.builder().build();
+        inFlightListener.get().onResponse(output);
+        verify(listener).onResponse(output);
+        verify(executor).close();
+        Assert.assertNull(remoteModel.getConnectorExecutor());
+    }
+
+    @Test
+    public void predict_Closed() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Model not ready yet");
+        remoteModel.setConnectorExecutor(mock(RemoteConnectorExecutor.class));
+        remoteModel.close();
+        remoteModel.predict(mlInput);
+    }
+
     private Connector createConnector(Map<String, String> headers) {
         ConnectorAction predictAction = ConnectorAction
             .builder()
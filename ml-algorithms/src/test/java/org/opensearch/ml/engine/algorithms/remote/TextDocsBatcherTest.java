@@ -0,0 +1,370 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.threadpool.ThreadPool;
+
+public class TextDocsBatcherTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void fromParameters() {
+        Assert.assertNull(TextDocsBatcher.fromParameters(null));
+        Assert.assertNull(TextDocsBatcher.fromParameters(Map.of("input_docs_processed_step_size", "2")));
+        Assert.assertNull(TextDocsBatcher.fromParameters(Map.of("input_docs_batch_max_size", "1")));
+        TextDocsBatcher batcher = TextDocsBatcher.fromParameters(Map.of("input_docs_batch_max_size", "16"));
+        Assert.assertEquals(16, batcher.getMaxBatchSize());
+        Assert.assertEquals(TextDocsBatcher.DEFAULT_BATCH_WAIT_TIME_MS, batcher.getWaitTimeInMillis());
+    }
+
+    @Test
+    public void constructor_NegativeWaitTime() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Batch wait time must not be negative");
+        new TextDocsBatcher(4, -1);
+    }
+
+    @Test
+    public void canBatch() {
+        TextDocsBatcher batcher = new TextDocsBatcher(3, 0);
+        Assert.assertTrue(batcher.canBatch(createInput("doc0", "doc1")));
+        Assert.assertFalse(batcher.canBatch(createInput("doc0", "doc1", "doc2")));
+        MLInput remoteInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(Map.of("input", "test")).build())
+            .build();
+        Assert.assertFalse(batcher.canBatch(remoteInput));
+    }
+
+    @Test
+    public void predict_ConcurrentRequestsBatched() throws Exception {
+        TextDocsBatcher batcher = new TextDocsBatcher(4, 10_000);
+        AtomicInteger calls = new AtomicInteger();
+        Function<MLInput, ModelTensorOutput> executor = input -> {
+            calls.incrementAndGet();
+            return echo(input);
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<ModelTensorOutput> first = executorService.submit(() -> batcher.predict("user", createInput("doc0", "doc1"), executor));
+            // the batch is sent as soon as it's full, so the test doesn't wait for the whole wait time
+            Future<ModelTensorOutput> second = executorService.submit(() -> {
+                Thread.sleep(100);
+                return batcher.predict("user", createInput("doc2", "doc3"), executor);
+            });
+            assertDocs(first.get(5, TimeUnit.SECONDS), "doc0", "doc1");
+            assertDocs(second.get(5, TimeUnit.SECONDS), "doc2", "doc3");
+            Assert.assertEquals(1, calls.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void predict_DifferentBatchKeys() {
+        TextDocsBatcher batcher = new TextDocsBatcher(4, 0);
+        AtomicInteger calls = new AtomicInteger();
+        Function<MLInput, ModelTensorOutput> executor = input -> {
+            calls.incrementAndGet();
+            return echo(input);
+        };
+        assertDocs(batcher.predict("user1", createInput("doc0"), executor), "doc0");
+        assertDocs(batcher.predict("user2", createInput("doc1"), executor), "doc1");
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void predict_TensorCountMismatch() throws Exception {
+        TextDocsBatcher batcher = new TextDocsBatcher(4, 10_000);
+        List<Integer> docCounts = new ArrayList<>();
+        // returns only one tensor for every call
+        Function<MLInput, ModelTensorOutput> executor = input -> {
+            synchronized (docCounts) {
+                docCounts.add(((TextDocsInputDataSet) input.getInputDataset()).getDocs().size());
+            }
+            ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").build();
+            return new ModelTensorOutput(List.of(ModelTensors.builder().mlModelTensors(List.of(tensor)).build()));
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<ModelTensorOutput> first = executorService.submit(() -> batcher.predict("user", createInput("doc0", "doc1"), executor));
+            Future<ModelTensorOutput> second = executorService.submit(() -> {
+                Thread.sleep(100);
+                return batcher.predict("user", createInput("doc2", "doc3"), executor);
+            });
+            // the tensors can't be attributed to the docs, so every request of the batch fails
+            for (Future<ModelTensorOutput> future : Arrays.asList(first, second)) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                    Assert.fail("Expected tensor count mismatch");
+                } catch (java.util.concurrent.ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof MLException);
+                    Assert.assertEquals(
+                        "Remote model returned 1 tensors for 4 batched docs, input_docs_batch_max_size requires one tensor per doc",
+                        e.getCause().getMessage()
+                    );
+                }
+            }
+            // the requests aren't sent again separately
+            Assert.assertEquals(Arrays.asList(4), docCounts);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void predict_Failure() throws Exception {
+        TextDocsBatcher batcher = new TextDocsBatcher(4, 10_000);
+        CountDownLatch executing = new CountDownLatch(1);
+        Function<MLInput, ModelTensorOutput> executor = input -> {
+            executing.countDown();
+            throw new IllegalArgumentException("remote model failure");
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<ModelTensorOutput> first = executorService.submit(() -> batcher.predict("user", createInput("doc0", "doc1"), executor));
+            Future<ModelTensorOutput> second = executorService.submit(() -> {
+                Thread.sleep(100);
+                return batcher.predict("user", createInput("doc2", "doc3"), executor);
+            });
+            for (Future<ModelTensorOutput> future : Arrays.asList(first, second)) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                    Assert.fail("Expected remote model failure");
+                } catch (java.util.concurrent.ExecutionException e) {
+                    Assert.assertEquals("remote model failure", e.getCause().getMessage());
+                }
+            }
+            Assert.assertEquals(0, executing.getCount());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncPredict_NoOpenBatch() {
+        TextDocsBatcher batcher = new TextDocsBatcher(4, 10_000);
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+        // without a thread pool to schedule the batch on, the request is sent right away
+        batcher.asyncPredict("user", createInput("doc0"), (input, listener) -> listener.onResponse(echo(input)), null, actionListener);
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(actionListener).onResponse(captor.capture());
+        assertDocs(captor.getValue(), "doc0");
+    }
+
+    @Test
+    public void asyncPredict_JoinOpenBatch() throws Exception {
+        TextDocsBatcher batcher = new TextDocsBatcher(3, 10_000);
+        AtomicInteger calls = new AtomicInteger();
+        Function<MLInput, ModelTensorOutput> executor = input -> {
+            calls.incrementAndGet();
+            return echo(input);
+        };
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<ModelTensorOutput> first = executorService.submit(() -> batcher.predict("user", createInput("doc0", "doc1"), executor));
+            Thread.sleep(100);
+            ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+            batcher
+                .asyncPredict(
+                    "user",
+                    createInput("doc2"),
+                    (input, listener) -> Assert.fail("Expected to join batch"),
+                    createThreadPool(new ArrayList<>()),
+                    actionListener
+                );
+            assertDocs(first.get(5, TimeUnit.SECONDS), "doc0", "doc1");
+            ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+            verify(actionListener).onResponse(captor.capture());
+            assertDocs(captor.getValue(), "doc2");
+            Assert.assertEquals(1, calls.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncPredict_OpenBatchSentWhenFull() {
+        TextDocsBatcher batcher = new TextDocsBatcher(3, 10_000);
+        List<Runnable> scheduled = new ArrayList<>();
+        ThreadPool threadPool = createThreadPool(scheduled);
+        List<MLInput> calls = new ArrayList<>();
+        BiConsumer<MLInput, ActionListener<ModelTensorOutput>> executor = (input, listener) -> {
+            calls.add(input);
+            listener.onResponse(echo(input));
+        };
+        ActionListener<ModelTensorOutput> firstListener = mock(ActionListener.class);
+        ActionListener<ModelTensorOutput> secondListener = mock(ActionListener.class);
+
+        batcher.asyncPredict("user", createInput("doc0", "doc1"), executor, threadPool, firstListener);
+        Assert.assertTrue(calls.isEmpty());
+        Assert.assertEquals(1, scheduled.size());
+        // the batch is full, so it's sent without waiting for the scheduled send
+        batcher.asyncPredict("user", createInput("doc2"), executor, threadPool, secondListener);
+        Assert.assertEquals(1, calls.size());
+        scheduled.get(0).run();
+        Assert.assertEquals(1, calls.size());
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(firstListener).onResponse(captor.capture());
+        assertDocs(captor.getValue(), "doc0", "doc1");
+        verify(secondListener).onResponse(captor.capture());
+        assertDocs(captor.getValue(), "doc2");
+    }
+
+    @Test
+    public void asyncPredict_OpenBatchSentAfterWaitTime() {
+        TextDocsBatcher batcher = new TextDocsBatcher(4, 10_000);
+        List<Runnable> scheduled = new ArrayList<>();
+        ThreadPool threadPool = createThreadPool(scheduled);
+        List<MLInput> calls = new ArrayList<>();
+        BiConsumer<MLInput, ActionListener<ModelTensorOutput>> executor = (input, listener) -> {
+            calls.add(input);
+            listener.onResponse(echo(input));
+        };
+        ActionListener<ModelTensorOutput> firstListener = mock(ActionListener.class);
+        ActionListener<ModelTensorOutput> secondListener = mock(ActionListener.class);
+
+        batcher.asyncPredict("user", createInput("doc0"), executor, threadPool, firstListener);
+        batcher.asyncPredict("user", createInput("doc1"), executor, threadPool, secondListener);
+        Assert.assertTrue(calls.isEmpty());
+        Assert.assertEquals(1, scheduled.size());
+        scheduled.get(0).run();
+        Assert.assertEquals(1, calls.size());
+        Assert.assertEquals(Arrays.asList("doc0", "doc1"), ((TextDocsInputDataSet) calls.get(0).getInputDataset()).getDocs());
+
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(firstListener).onResponse(captor.capture());
+        assertDocs(captor.getValue(), "doc0");
+        verify(secondListener).onResponse(captor.capture());
+        assertDocs(captor.getValue(), "doc1");
+    }
+
+    @Test
+    public void asyncPredict_BlockingRequestJoinsOpenBatch() throws Exception {
+        TextDocsBatcher batcher = new TextDocsBatcher(3, 10_000);
+        List<Runnable> scheduled = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        BiConsumer<MLInput, ActionListener<ModelTensorOutput>> executor = (input, listener) -> {
+            calls.incrementAndGet();
+            listener.onResponse(echo(input));
+        };
+        ActionListener<ModelTensorOutput> actionListener = mock(ActionListener.class);
+
+        batcher.asyncPredict("user", createInput("doc0"), executor, createThreadPool(scheduled), actionListener);
+        ModelTensorOutput output = batcher.predict("user", createInput("doc1", "doc2"), input -> {
+            throw new AssertionError("Expected to join batch");
+        });
+
+        assertDocs(output, "doc1", "doc2");
+        ArgumentCaptor<ModelTensorOutput> captor = ArgumentCaptor.forClass(ModelTensorOutput.class);
+        verify(actionListener).onResponse(captor.capture());
+        assertDocs(captor.getValue(), "doc0");
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void asyncPredict_TensorCountMismatch() {
+        TextDocsBatcher batcher = new TextDocsBatcher(4, 10_000);
+        List<Runnable> scheduled = new ArrayList<>();
+        ThreadPool threadPool = createThreadPool(scheduled);
+        AtomicInteger calls = new AtomicInteger();
+        BiConsumer<MLInput, ActionListener<ModelTensorOutput>> executor = (input, listener) -> {
+            calls.incrementAndGet();
+            ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").build();
+            listener.onResponse(new ModelTensorOutput(List.of(ModelTensors.builder().mlModelTensors(List.of(tensor)).build())));
+        };
+        ActionListener<ModelTensorOutput> firstListener = mock(ActionListener.class);
+        ActionListener<ModelTensorOutput> secondListener = mock(ActionListener.class);
+
+        batcher.asyncPredict("user", createInput("doc0"), executor, threadPool, firstListener);
+        batcher.asyncPredict("user", createInput("doc1"), executor, threadPool, secondListener);
+        scheduled.get(0).run();
+
+        verify(firstListener).onFailure(any(MLException.class));
+        verify(secondListener).onFailure(any(MLException.class));
+        Assert.assertEquals(1, calls.get());
+    }
+
+    private ThreadPool createThreadPool(List<Runnable> scheduled) {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        doAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(), any());
+        return threadPool;
+    }
+
+    private MLInput createInput(String... docs) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList(docs)).build())
+            .build();
+    }
+
+    /**
+     * Remote model mock which returns one tensor per doc, the tensor name is the doc.
+     */
+    private ModelTensorOutput echo(MLInput input) {
+        List<ModelTensor> tensors = new ArrayList<>();
+        for (String doc : ((TextDocsInputDataSet) input.getInputDataset()).getDocs()) {
+            tensors.add(ModelTensor.builder().name(doc).build());
+        }
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(tensors).build();
+        modelTensors.setStatusCode(200);
+        return new ModelTensorOutput(List.of(modelTensors));
+    }
+
+    private void assertDocs(ModelTensorOutput output, String... docs) {
+        Assert.assertEquals(1, output.getMlModelOutputs().size());
+        Assert.assertEquals(200, output.getMlModelOutputs().get(0).getStatusCode().intValue());
+        List<ModelTensor> tensors = output.getMlModelOutputs().get(0).getMlModelTensors();
+        Assert.assertEquals(docs.length, tensors.size());
+        for (int i = 0; i < docs.length; i++) {
+            Assert.assertEquals(docs[i], tensors.get(i).getName());
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -205,6 +206,39 @@ public class TextEmbeddingDenseModelTest {
         initModel_predict_HuggingfaceModel(modelFile, modelType, poolingMode, normalize, modelMaxLength, modelFormat, 768);
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_Batched() {
+        TextDocsInputDataSet inputDataSet = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "sunny"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        List<ModelTensors> expectedOutputs = ((ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput)).getMlModelOutputs();
+        textEmbeddingDenseModel.close();
+
+        MLModel batchModel = model.toBuilder().modelConfig(modelConfig.toBuilder().maxBatchSize(3).build()).build();
+        textEmbeddingDenseModel.initModel(batchModel, params, encryptor);
+        List<ModelTensors> outputs = ((ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput)).getMlModelOutputs();
+        assertEquals(3, outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+            List<ModelTensor> expectedTensors = expectedOutputs.get(i).getMlModelTensors();
+            List<ModelTensor> tensors = outputs.get(i).getMlModelTensors();
+            assertEquals(expectedTensors.size(), tensors.size());
+            for (int j = 0; j < tensors.size(); j++) {
+                assertEquals(expectedTensors.get(j).getName(), tensors.get(j).getName());
+                assertArrayEquals(expectedTensors.get(j).getShape(), tensors.get(j).getShape());
+            }
+            int position = findSentenceEmbeddingPosition(outputs.get(i));
+            Number[] expected = expectedTensors.get(position).getData();
+            Number[] actual = tensors.get(position).getData();
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(expected[j].floatValue(), actual[j].floatValue(), 1e-4);
+            }
+        }
+        textEmbeddingDenseModel.close();
+    }
+
     private void initModel_predict_HuggingfaceModel(
         String modelFile,
         String modelType,
@@ -590,6 +624,13 @@ public class TextEmbeddingDenseModelTest {
         textEmbeddingDenseModel.parseModelTensorOutput(null, null);
     }
 
+    @Test
+    public void parseModelTensorOutputs_NullOutput() {
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("No output generated");
+        textEmbeddingDenseModel.parseModelTensorOutputs(null, null);
+    }
+
     @Test
     public void predict_BeforeInitingModel() {
         exceptionRule.expect(IllegalArgumentException.class);
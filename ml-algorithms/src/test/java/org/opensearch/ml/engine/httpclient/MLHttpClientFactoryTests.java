@@ -6,11 +6,14 @@
 package org.opensearch.ml.engine.httpclient;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.net.UnknownHostException;
 
 import org.apache.http.HttpHost;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -26,6 +29,14 @@ public class MLHttpClientFactoryTests {
         assertNotNull(client);
     }
 
+    @Test
+    public void test_getAsyncHttpClient_success() throws IOException {
+        CloseableHttpAsyncClient client = MLHttpClientFactory.getAsyncHttpClient(1000, 1000, 30);
+        assertNotNull(client);
+        assertTrue(client.isRunning());
+        client.close();
+    }
+
     @Test
     public void test_validateIp_validIp_noException() throws UnknownHostException {
         MLHttpClientFactory.validateIp("api.openai.com");
@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.junit.Test;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+
+public class MLHttpClientRegistryTests {
+
+    private final MLHttpClientRegistry registry = new MLHttpClientRegistry();
+    private final ConnectorClientConfig clientConfig = new ConnectorClientConfig(10, 1000, 1000);
+
+    @Test
+    public void test_acquireHttpClient_sameHostShared() {
+        MLHttpClientRegistry.Lease<CloseableHttpClient> lease1 = registry
+            .acquireHttpClient("https://api.openai.com/v1/embeddings", clientConfig);
+        MLHttpClientRegistry.Lease<CloseableHttpClient> lease2 = registry
+            .acquireHttpClient("https://api.openai.com/v1/chat/completions", clientConfig);
+        assertSame(lease1.getClient(), lease2.getClient());
+        assertEquals(2, registry.getReferences(MLHttpClientRegistry.HTTP_CLIENT, "https://api.openai.com/v1", clientConfig));
+
+        MLHttpClientRegistry.ConnectionPoolStats stats = registry.getStats();
+        assertEquals(1, stats.getPools());
+        assertEquals(0, stats.getLeased());
+        assertEquals(10, stats.getMax());
+
+        lease1.close();
+        // closing a lease twice must not release the client of another lease
+        lease1.close();
+        assertEquals(1, registry.getReferences(MLHttpClientRegistry.HTTP_CLIENT, "https://api.openai.com", clientConfig));
+        lease2.close();
+        assertEquals(0, registry.getReferences(MLHttpClientRegistry.HTTP_CLIENT, "https://api.openai.com", clientConfig));
+        assertEquals(0, registry.getStats().getPools());
+    }
+
+    @Test
+    public void test_acquireHttpClient_differentHostOrConfig() {
+        MLHttpClientRegistry.Lease<CloseableHttpClient> lease1 = registry
+            .acquireHttpClient("https://api.openai.com/v1/embeddings", clientConfig);
+        MLHttpClientRegistry.Lease<CloseableHttpClient> lease2 = registry.acquireHttpClient("https://api.cohere.ai/v1/embed", clientConfig);
+        MLHttpClientRegistry.Lease<CloseableHttpClient> lease3 = registry
+            .acquireHttpClient("https://api.openai.com/v1/embeddings", new ConnectorClientConfig(20, 1000, 1000));
+        assertNotSame(lease1.getClient(), lease2.getClient());
+        assertNotSame(lease1.getClient(), lease3.getClient());
+        assertEquals(3, registry.getStats().getPools());
+        assertEquals(40, registry.getStats().getMax());
+        lease1.close();
+        lease2.close();
+        lease3.close();
+        assertEquals(0, registry.getStats().getPools());
+    }
+
+    @Test
+    public void test_acquireHttpClient_endpointWithPlaceholder() {
+        MLHttpClientRegistry.Lease<CloseableHttpClient> lease = registry
+            .acquireHttpClient("https://${parameters.host}/v1/embeddings", null);
+        assertEquals(1, registry.getReferences(MLHttpClientRegistry.HTTP_CLIENT, null, new ConnectorClientConfig()));
+        lease.close();
+    }
+
+    @Test
+    public void test_acquireAsyncHttpClient_closedWithLastLease() {
+        MLHttpClientRegistry.Lease<CloseableHttpAsyncClient> lease1 = registry
+            .acquireAsyncHttpClient("https://api.openai.com/v1/embeddings", clientConfig);
+        MLHttpClientRegistry.Lease<CloseableHttpAsyncClient> lease2 = registry
+            .acquireAsyncHttpClient("https://api.openai.com/v1/embeddings", clientConfig);
+        CloseableHttpAsyncClient client = lease1.getClient();
+        assertSame(client, lease2.getClient());
+        assertTrue(client.isRunning());
+
+        lease1.close();
+        assertTrue(client.isRunning());
+        lease2.close();
+        assertFalse(client.isRunning());
+    }
+
+    @Test
+    public void test_acquire_customClient() throws Exception {
+        AutoCloseable client = mock(AutoCloseable.class);
+        MLHttpClientRegistry.Lease<AutoCloseable> lease1 = registry.acquire("custom", "https://bedrock.amazonaws.com", null, config -> {
+            assertEquals(ConnectorClientConfig.MAX_CONNECTION_DEFAULT_VALUE, config.getMaxConnections());
+            return client;
+        });
+        MLHttpClientRegistry.Lease<AutoCloseable> lease2 = registry
+            .acquire("custom", "https://bedrock.amazonaws.com", null, config -> mock(AutoCloseable.class));
+        assertSame(client, lease2.getClient());
+        // clients without a known connection pool are not part of the connection stats
+        assertEquals(1, registry.getStats().getPools());
+        assertEquals(0, registry.getStats().getMax());
+
+        lease1.close();
+        lease2.close();
+        verify(client, times(1)).close();
+    }
+}
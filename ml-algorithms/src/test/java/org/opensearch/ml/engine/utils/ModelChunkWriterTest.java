@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelChunkWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void write_ChunksOutOfOrder() throws Exception {
+        byte[] content = new byte[300_000];
+        new Random(42).nextBytes(content);
+        byte[][] chunks = { Arrays.copyOfRange(content, 0, 100_000), Arrays.copyOfRange(content, 100_000, 250_000),
+            Arrays.copyOfRange(content, 250_000, 300_000) };
+        File modelZipFile = new File(temporaryFolder.getRoot(), "deploy/model.zip");
+
+        ModelChunkWriter writer = new ModelChunkWriter(modelZipFile, 3);
+        assertEquals(0, writer.write(2, chunks[2]));
+        assertEquals(0, writer.write(1, chunks[1]));
+        assertFalse(writer.isComplete());
+        assertNull(writer.getHash());
+        assertEquals(3, writer.write(0, chunks[0]));
+
+        assertTrue(writer.isComplete());
+        assertArrayEquals(content, Files.readAllBytes(modelZipFile.toPath()));
+        assertEquals(FileUtils.calculateFileHash(modelZipFile), writer.getHash());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void write_DuplicateChunk() throws Exception {
+        ModelChunkWriter writer = new ModelChunkWriter(new File(temporaryFolder.getRoot(), "model.zip"), 2);
+        writer.write(1, new byte[] { 1 });
+        writer.write(1, new byte[] { 1 });
+    }
+}
@@ -26,9 +26,11 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.cluster.MLNodeLoadService;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.transport.sync.MLNodeLoad;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeRequest;
@@ -66,6 +68,7 @@ public class TransportSyncUpOnNodeAction extends
     private volatile Integer mlTaskTimeout;
 
     private final MLModelCacheHelper mlModelCacheHelper;
+    private final MLNodeLoadService nodeLoadService;
 
     @Inject
     public TransportSyncUpOnNodeAction(
@@ -80,7 +83,8 @@ public class TransportSyncUpOnNodeAction extends
         Client client,
         NamedXContentRegistry xContentRegistry,
         MLEngine mlEngine,
-        MLModelCacheHelper mlModelCacheHelper
+        MLModelCacheHelper mlModelCacheHelper,
+        MLNodeLoadService nodeLoadService
     ) {
         super(
             MLSyncUpAction.NAME,
@@ -103,6 +107,7 @@ public class TransportSyncUpOnNodeAction extends
         this.xContentRegistry = xContentRegistry;
         this.mlEngine = mlEngine;
         this.mlModelCacheHelper = mlModelCacheHelper;
+        this.nodeLoadService = nodeLoadService;
 
         this.mlTaskTimeout = ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS, it -> { mlTaskTimeout = it; });
@@ -162,11 +167,16 @@ public class TransportSyncUpOnNodeAction extends
         String[] deployedModelIds = null;
         String[] runningDeployModelTaskIds = null;
         String[] runningDeployModelIds = null;
+        MLNodeLoad nodeLoad = null;
         if (syncUpInput.isGetDeployedModels()) {
             deployedModelIds = mlModelManager.getLocalDeployedModels();
             List<String[]> localRunningDeployModel = mlTaskManager.getLocalRunningDeployModelTasks();
             runningDeployModelTaskIds = localRunningDeployModel.get(0);
             runningDeployModelIds = localRunningDeployModel.get(1);
+            nodeLoad = nodeLoadService.getLocalNodeLoad();
+        }
+        if (syncUpInput.getNodeLoads() != null) {
+            nodeLoadService.updateNodeLoads(syncUpInput.getNodeLoads());
         }
 
         if (syncUpInput.isClearRoutingTable()) {
@@ -186,7 +196,8 @@ public class TransportSyncUpOnNodeAction extends
             "ok",
             deployedModelIds,
             runningDeployModelIds,
-            runningDeployModelTaskIds
+            runningDeployModelTaskIds,
+            nodeLoad
         );
     }
 
@@ -10,14 +10,15 @@ import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
-import java.util.Base64;
 import java.util.concurrent.Semaphore;
 
+import org.opensearch.Version;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
@@ -36,6 +37,7 @@ import org.opensearch.ml.common.transport.upload_chunk.MLUploadModelChunkRespons
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelChunkFormat;
 import org.opensearch.ml.utils.RestActionUtils;
 
 import lombok.extern.log4j.Log4j2;
@@ -47,18 +49,21 @@ public class MLModelChunkUploader {
     private final Client client;
     private final NamedXContentRegistry xContentRegistry;
     ModelAccessControlHelper modelAccessControlHelper;
+    private final ClusterService clusterService;
 
     @Inject
     public MLModelChunkUploader(
         MLIndicesHandler mlIndicesHandler,
         Client client,
         final NamedXContentRegistry xContentRegistry,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        ClusterService clusterService
     ) {
         this.mlIndicesHandler = mlIndicesHandler;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.clusterService = clusterService;
     }
 
     public void uploadModelChunk(MLUploadModelChunkInput uploadModelChunkInput, ActionListener<MLUploadModelChunkResponse> listener) {
@@ -114,18 +119,11 @@ public class MLModelChunkUploader {
                                             .totalChunks(existingModel.getTotalChunks())
                                             .algorithm(existingModel.getAlgorithm())
                                             .chunkNumber(chunkNum)
-                                            .content(Base64.getEncoder().encodeToString(bytes))
                                             .build();
                                         IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
                                         indexRequest.id(uploadModelChunkInput.getModelId() + "_" + uploadModelChunkInput.getChunkNumber());
-                                        indexRequest
-                                            .source(
-                                                mlModel
-                                                    .toXContent(
-                                                        XContentBuilder.builder(XContentType.JSON.xContent()),
-                                                        ToXContent.EMPTY_PARAMS
-                                                    )
-                                            );
+                                        Version minNodeVersion = clusterService.state().nodes().getMinNodeVersion();
+                                        indexRequest.source(MLModelChunkFormat.toXContent(mlModel, bytes, false, minNodeVersion));
                                         indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
                                         client.index(indexRequest, ActionListener.wrap(response -> {
                                             log
@@ -5,12 +5,22 @@
 
 package org.opensearch.ml.breaker;
 
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_HALF_OPEN_PROBES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_MINIMUM_CALLS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_OPEN_DURATION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_DURATION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD;
+
 import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.engine.algorithms.remote.EndpointCircuitBreakers;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
 
@@ -27,6 +37,7 @@ public class MLCircuitBreakerService {
     private final OsService osService;
     private final Settings settings;
     private final ClusterService clusterService;
+    private EndpointCircuitBreakers endpointCircuitBreakers;
 
     /**
      * Constructor.
@@ -81,10 +92,60 @@ public class MLCircuitBreakerService {
         // Register native memory circuit breaker, disabling due to unstability.
         // registerBreaker(BreakerName.NATIVE_MEMORY, new NativeMemoryCircuitBreaker(this.osService, this.settings, this.clusterService));
         log.info("Registered ML native memory breaker.");
+        initEndpointCircuitBreakers();
+        log.info("Initialized ML remote endpoint breakers.");
 
         return this;
     }
 
+    /**
+     * Remote endpoint breakers trip per endpoint rather than for the whole node, they are checked by the connector
+     * executors when calling the endpoint instead of in {@link #checkOpenCB()}.
+     */
+    private void initEndpointCircuitBreakers() {
+        endpointCircuitBreakers = new EndpointCircuitBreakers(
+            ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED.get(settings),
+            createEndpointCircuitBreakerConfig(settings)
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED, it -> endpointCircuitBreakers.setEnabled(it));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                it -> endpointCircuitBreakers.setConfig(createEndpointCircuitBreakerConfig(it)),
+                List
+                    .of(
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_DURATION,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_MINIMUM_CALLS,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_OPEN_DURATION,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_HALF_OPEN_PROBES
+                    )
+            );
+    }
+
+    private static EndpointCircuitBreakers.Config createEndpointCircuitBreakerConfig(Settings settings) {
+        return EndpointCircuitBreakers.Config
+            .builder()
+            .failureRateThreshold(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD.get(settings))
+            .slowCallRateThreshold(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD.get(settings))
+            .slowCallDurationMillis(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_DURATION.get(settings).millis())
+            .minimumCalls(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_MINIMUM_CALLS.get(settings))
+            .openDurationMillis(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_OPEN_DURATION.get(settings).millis())
+            .halfOpenProbes(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_HALF_OPEN_PROBES.get(settings))
+            .build();
+    }
+
+    /**
+     *
+     * @return circuit breakers of remote model endpoints, null if the service isn't initialized
+     */
+    public EndpointCircuitBreakers getEndpointCircuitBreakers() {
+        return endpointCircuitBreakers;
+    }
+
     /**
      *
      * @return any open circuit breaker; otherwise return null
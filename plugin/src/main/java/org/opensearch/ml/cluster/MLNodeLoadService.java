@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.cluster;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.ml.common.transport.sync.MLNodeLoad;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.monitor.jvm.JvmService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps the load snapshots of the nodes. Each node reports its load with the sync up responses, and the cluster
+ * manager shares the snapshots of all nodes with the next sync up requests, so the snapshots are at most a few sync
+ * up intervals old. The requests dispatched to a node since its snapshot was taken are counted locally, so nodes
+ * don't all pick the same node until the next snapshot arrives.
+ */
+@Log4j2
+public class MLNodeLoadService {
+    private final MLStats mlStats;
+    private final MLTaskManager mlTaskManager;
+    private final ThreadPool threadPool;
+    private final JvmService jvmService;
+    private volatile Map<String, MLNodeLoad> nodeLoads = Map.of();
+    // key is node id, value is how many tasks this node dispatched to it since the last snapshot
+    private final Map<String, AtomicLong> dispatchedTaskCounts = new ConcurrentHashMap<>();
+
+    public MLNodeLoadService(MLStats mlStats, MLTaskManager mlTaskManager, ThreadPool threadPool, JvmService jvmService) {
+        this.mlStats = mlStats;
+        this.mlTaskManager = mlTaskManager;
+        this.threadPool = threadPool;
+        this.jvmService = jvmService;
+    }
+
+    /**
+     * Take a load snapshot of the local node.
+     * @return load of the local node
+     */
+    public MLNodeLoad getLocalNodeLoad() {
+        int predictQueueSize = 0;
+        for (ThreadPoolStats.Stats stats : threadPool.stats()) {
+            if (PREDICT_THREAD_POOL.equals(stats.getName()) || REMOTE_PREDICT_THREAD_POOL.equals(stats.getName())) {
+                predictQueueSize += stats.getQueue();
+            }
+        }
+        return MLNodeLoad
+            .builder()
+            .executingTaskCount((Long) mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).getValue())
+            .predictQueueSize(predictQueueSize)
+            .jvmHeapUsage(jvmService.stats().getMem().getHeapUsedPercent())
+            .modelInFlightRequests(mlTaskManager.getPredictTaskCountByModel())
+            .build();
+    }
+
+    /**
+     * Replace the load snapshots with the latest ones shared by the cluster manager.
+     * @param nodeLoads key is node id, value is the load snapshot of the node
+     */
+    public void updateNodeLoads(Map<String, MLNodeLoad> nodeLoads) {
+        this.nodeLoads = Map.copyOf(nodeLoads);
+        dispatchedTaskCounts.clear();
+        log.debug("Updated load snapshots of {} nodes", nodeLoads.size());
+    }
+
+    /**
+     * @param nodeId node id
+     * @return load snapshot of the node, or null if the node hasn't reported its load yet
+     */
+    public MLNodeLoad getNodeLoad(String nodeId) {
+        return nodeLoads.get(nodeId);
+    }
+
+    /**
+     * Count a task dispatched to a node.
+     * @param nodeId node id
+     */
+    public void onTaskDispatched(String nodeId) {
+        dispatchedTaskCounts.computeIfAbsent(nodeId, it -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * @param nodeId node id
+     * @return how many tasks this node dispatched to the node since its load snapshot was taken
+     */
+    public long getDispatchedTaskCount(String nodeId) {
+        AtomicLong count = dispatchedTaskCounts.get(nodeId);
+        return count == null ? 0 : count.get();
+    }
+}
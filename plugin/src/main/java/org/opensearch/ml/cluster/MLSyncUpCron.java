@@ -37,6 +37,7 @@ import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.sync.MLNodeLoad;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
@@ -101,8 +102,13 @@ public class MLSyncUpCron implements Runnable {
             Map<String, Set<String>> runningDeployModelTasks = new HashMap<>();
             // key is model id, value is set of worker node ids
             Map<String, Set<String>> deployingModels = new HashMap<>();
+            // key is node id, value is load snapshot of the node
+            Map<String, MLNodeLoad> nodeLoads = new HashMap<>();
             for (MLSyncUpNodeResponse response : responses) {
                 String nodeId = response.getNode().getId();
+                if (response.getNodeLoad() != null) {
+                    nodeLoads.put(nodeId, response.getNodeLoad());
+                }
                 String[] deployedModelIds = response.getDeployedModelIds();
                 if (deployedModelIds != null && deployedModelIds.length > 0) {
                     for (String modelId : deployedModelIds) {
@@ -136,7 +142,8 @@ public class MLSyncUpCron implements Runnable {
             MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
                 .builder()
                 .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
+                .runningDeployModelTasks(runningDeployModelTasks)
+                .nodeLoads(nodeLoads);
             if (modelWorkerNodes.size() == 0) {
                 log.debug("No deployed model found. Will clear model routing on all nodes");
                 inputBuilder.clearRoutingTable(true);
@@ -21,11 +21,16 @@ import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.InferenceScheduler;
+import org.opensearch.ml.engine.algorithms.TextEmbeddingModel;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
 import org.opensearch.ml.profile.MLModelProfile;
 
 import lombok.extern.log4j.Log4j2;
@@ -35,11 +40,13 @@ public class MLModelCacheHelper {
     private final Map<String, MLModelCache> modelCaches;
 
     private final Map<String, MLModel> autoDeployModels;
+    private final MLPredictResultCache predictResultCache;
     private volatile Long maxRequestCount;
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
         this.autoDeployModels = new ConcurrentHashMap<>();
+        this.predictResultCache = new MLPredictResultCache(clusterService, settings);
 
         maxRequestCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MONITORING_REQUEST_COUNT, it -> maxRequestCount = it);
@@ -360,7 +367,15 @@ public class MLModelCacheHelper {
      */
     public synchronized void setPredictor(String modelId, Predictable predictor) {
         MLModelCache modelCache = getExistingModelCache(modelId);
+        Predictable previousPredictor = modelCache.getPredictor();
         modelCache.setPredictor(predictor);
+        // results of the previous predictor may be stale once the model is redeployed or updated
+        predictResultCache.invalidate(modelId);
+        if (previousPredictor != null && previousPredictor != predictor) {
+            // release resources like the http clients of the replaced predictor, remote models defer this until
+            // their in-flight predict calls completed
+            previousPredictor.close();
+        }
     }
 
     public synchronized void setMLExecutor(String modelId, MLExecutable mlExecutor) {
@@ -416,6 +431,7 @@ public class MLModelCacheHelper {
             modelCaches.remove(modelId);
         }
         autoDeployModels.remove(modelId);
+        predictResultCache.invalidate(modelId);
     }
 
     /**
@@ -566,6 +582,22 @@ public class MLModelCacheHelper {
         builder.predictRequestStats(modelCache.getInferenceStats(false));
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
+        if (modelCache.getPredictor() instanceof RemoteModel) {
+            Map<String, String> endpointCircuitBreakers = ((RemoteModel) modelCache.getPredictor()).getEndpointCircuitBreakerStates();
+            if (!endpointCircuitBreakers.isEmpty()) {
+                builder.endpointCircuitBreakers(endpointCircuitBreakers);
+            }
+        }
+        if (modelCache.getPredictor() instanceof DLModel) {
+            builder.paddingEfficiency(((DLModel) modelCache.getPredictor()).getPaddingEfficiency());
+        }
+        if (modelCache.getPredictor() instanceof TextEmbeddingModel) {
+            InferenceScheduler inferenceScheduler = ((TextEmbeddingModel) modelCache.getPredictor()).getInferenceScheduler();
+            if (inferenceScheduler != null) {
+                builder.inferenceQueueDepth(inferenceScheduler.getQueueDepth());
+                builder.batchSizeHistogram(inferenceScheduler.getBatchSizeHistogram());
+            }
+        }
         return builder.build();
     }
 
@@ -628,6 +660,33 @@ public class MLModelCacheHelper {
         }
     }
 
+    /**
+     * Replace the cached model info with the updated model and drop the predict results of the previous model config.
+     *
+     * @param modelId model id
+     * @param mlModel updated model
+     */
+    public void updateModelInfo(String modelId, MLModel mlModel) {
+        setModelInfo(modelId, mlModel);
+        predictResultCache.invalidate(modelId);
+    }
+
+    public MLPredictResultCache getPredictResultCache() {
+        return predictResultCache;
+    }
+
+    /**
+     * Create the predict result cache key of a request.
+     *
+     * @param modelId   model id
+     * @param algorithm function name of the model
+     * @param mlInput   ML input
+     * @return cache key, or null if the predict result can't be cached
+     */
+    public MLPredictResultCache.Key createPredictResultKey(String modelId, FunctionName algorithm, MLInput mlInput) {
+        return predictResultCache.createKey(modelId, getModelInfo(modelId), algorithm, mlInput);
+    }
+
     public MLModel getModelInfo(String modelId) {
         MLModelCache mlModelCache = modelCaches.get(modelId);
         if (mlModelCache == null) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.MLModel.MODEL_CONTENT_ENCODING_FIELD;
+import static org.opensearch.ml.common.MLModel.MODEL_CONTENT_FIELD;
+import static org.opensearch.ml.common.MLModel.OLD_MODEL_CONTENT_FIELD;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.opensearch.Version;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.utils.MLNodeUtils;
+
+/**
+ * Storage format of model chunk documents. Chunks are indexed as SMILE with the content as a raw binary value, so the
+ * content isn't inflated by base64 in the source, the translog and replication. The content can be deflate
+ * compressed, it's stored compressed only if that makes it smaller. Chunks indexed as JSON with base64 content by
+ * earlier versions are read as well, and chunks are still indexed that way while the cluster has nodes of earlier
+ * versions.
+ */
+public class MLModelChunkFormat {
+    public static final String DEFLATE_ENCODING = MLModel.DEFLATE_MODEL_CONTENT_ENCODING;
+    // nodes of earlier versions only read chunks indexed as JSON with base64 content
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_BINARY_CHUNKS = Version.V_2_14_0;
+
+    /**
+     * Build the source of a model chunk document.
+     * @param chunk model chunk without content
+     * @param content content of the chunk
+     * @param compress true to deflate compress the content
+     * @param minNodeVersion min version of the nodes in the cluster, which need to read the chunk
+     * @return source of the chunk document
+     */
+    public static XContentBuilder toXContent(MLModel chunk, byte[] content, boolean compress, Version minNodeVersion)
+        throws IOException {
+        if (minNodeVersion.before(MINIMAL_SUPPORTED_VERSION_FOR_BINARY_CHUNKS)) {
+            MLModel base64Chunk = chunk.toBuilder().content(Base64.getEncoder().encodeToString(content)).build();
+            return base64Chunk.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        }
+        Map<String, Object> fields = XContentHelper
+            .convertToMap(
+                BytesReference.bytes(chunk.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS)),
+                false,
+                XContentType.JSON
+            )
+            .v2();
+        byte[] compressed = compress ? deflate(content) : null;
+        XContentBuilder builder = XContentFactory.smileBuilder();
+        builder.startObject();
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            builder.field(field.getKey(), field.getValue());
+        }
+        if (compressed != null && compressed.length < content.length) {
+            builder.field(MODEL_CONTENT_FIELD, compressed);
+            builder.field(MODEL_CONTENT_ENCODING_FIELD, DEFLATE_ENCODING);
+        } else {
+            builder.field(MODEL_CONTENT_FIELD, content);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * Parse the content of a model chunk document.
+     * @param source source of the chunk document, SMILE or JSON
+     * @return content of the chunk, decompressed
+     */
+    public static byte[] parseContent(BytesReference source) throws IOException {
+        byte[] content = null;
+        String encoding = null;
+        try (XContentParser parser = MLNodeUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, source)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case MODEL_CONTENT_FIELD:
+                    case OLD_MODEL_CONTENT_FIELD:
+                        // a raw binary value in SMILE, a base64 string in JSON
+                        content = parser.binaryValue();
+                        break;
+                    case MODEL_CONTENT_ENCODING_FIELD:
+                        encoding = parser.text();
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        }
+        if (content == null) {
+            throw new MLException("Model chunk has no content");
+        }
+        return MLModel.decodeModelContent(content, encoding);
+    }
+
+    private static byte[] deflate(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater)) {
+            deflaterOutputStream.write(content);
+        } finally {
+            deflater.end();
+        }
+        return outputStream.toByteArray();
+    }
+}
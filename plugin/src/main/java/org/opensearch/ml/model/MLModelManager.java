@@ -20,48 +20,67 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.algorithms.DLModel.CACHED_MODEL_PATH;
+import static org.opensearch.ml.engine.algorithms.DLModel.MODEL_ARTIFACT_CACHE;
+import static org.opensearch.ml.engine.algorithms.DLModel.PYTORCH_INTER_OP_THREADS;
+import static org.opensearch.ml.engine.algorithms.DLModel.PYTORCH_INTRA_OP_THREADS;
+import static org.opensearch.ml.engine.algorithms.DLModel.THREAD_BUDGET;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLIENT;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLUSTER_SERVICE;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.ENDPOINT_CIRCUIT_BREAKERS;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.ENDPOINT_CONCURRENCY_LIMITERS;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.GUARDRAILS;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.HTTP_CLIENT_REGISTRY;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.RATE_LIMITER;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.RESPONSE_EXECUTOR;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SCRIPT_SERVICE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.USER_RATE_LIMITER_MAP;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_REGISTRY;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.engine.utils.FileUtils.readChunk;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PYTORCH_INTER_OP_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PYTORCH_INTRA_OP_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_THREAD_BUDGET;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_RETRIEVALS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_UPLOADS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION_ENABLED;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_CACHE_HIT_COUNT;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_CACHE_MISS_COUNT;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -71,6 +90,8 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.util.Strings;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -83,9 +104,11 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -110,9 +133,11 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.Guardrails;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
@@ -121,10 +146,14 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.LocalModelThreadBudget;
+import org.opensearch.ml.engine.algorithms.remote.EndpointConcurrencyLimiters;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.ml.engine.utils.ModelChunkWriter;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -139,7 +168,6 @@ import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.Files;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -152,6 +180,8 @@ public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
     public static final long MODEL_FILE_SIZE_LIMIT = 4l * 1024 * 1024 * 1024;// 4GB
+    // model chunks indexed by one bulk request
+    public static final int MODEL_CHUNKS_PER_BULK = 2;
 
     private final Client client;
     private final ClusterService clusterService;
@@ -167,10 +197,19 @@ public class MLModelManager {
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
     private final DiscoveryNodeHelper nodeHelper;
+    private final LocalModelThreadBudget threadBudget;
+    private final int pytorchIntraOpThreads;
+    private final int pytorchInterOpThreads;
+    private final ModelArtifactCache modelArtifactCache;
+    private final MLHttpClientRegistry httpClientRegistry;
+    private final EndpointConcurrencyLimiters endpointConcurrencyLimiters = new EndpointConcurrencyLimiters();
 
     private volatile Integer maxModelPerNode;
     private volatile Integer maxRegisterTasksPerNode;
     private volatile Integer maxDeployTasksPerNode;
+    private volatile Integer maxConcurrentChunkRetrievals;
+    private volatile Integer maxConcurrentChunkUploads;
+    private volatile boolean modelChunkCompressionEnabled;
 
     public static final ImmutableSet MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -196,7 +235,8 @@ public class MLModelManager {
         MLTaskManager mlTaskManager,
         MLModelCacheHelper modelCacheHelper,
         MLEngine mlEngine,
-        DiscoveryNodeHelper nodeHelper
+        DiscoveryNodeHelper nodeHelper,
+        MLHttpClientRegistry httpClientRegistry
     ) {
         this.client = client;
         this.threadPool = threadPool;
@@ -211,6 +251,7 @@ public class MLModelManager {
         this.mlTaskManager = mlTaskManager;
         this.mlEngine = mlEngine;
         this.nodeHelper = nodeHelper;
+        this.httpClientRegistry = httpClientRegistry;
 
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
@@ -224,6 +265,37 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE, it -> maxDeployTasksPerNode = it);
+
+        maxConcurrentChunkRetrievals = ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_RETRIEVALS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_RETRIEVALS, it -> maxConcurrentChunkRetrievals = it);
+
+        maxConcurrentChunkUploads = ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_UPLOADS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_UPLOADS, it -> maxConcurrentChunkUploads = it);
+
+        modelChunkCompressionEnabled = ML_COMMONS_MODEL_CHUNK_COMPRESSION_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_COMPRESSION_ENABLED, it -> modelChunkCompressionEnabled = it);
+
+        threadBudget = new LocalModelThreadBudget(ML_COMMONS_LOCAL_MODEL_THREAD_BUDGET.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_LOCAL_MODEL_THREAD_BUDGET, threadBudget::setThreads);
+        pytorchIntraOpThreads = ML_COMMONS_LOCAL_MODEL_PYTORCH_INTRA_OP_THREADS.get(settings);
+        pytorchInterOpThreads = ML_COMMONS_LOCAL_MODEL_PYTORCH_INTER_OP_THREADS.get(settings);
+
+        modelArtifactCache = new ModelArtifactCache(
+            mlEngine.getModelArtifactCachePath(),
+            ML_COMMONS_LOCAL_MODEL_ARTIFACT_CACHE_SIZE.get(settings).getBytes()
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_LOCAL_MODEL_ARTIFACT_CACHE_SIZE,
+                it -> modelArtifactCache.setMaxSizeInBytes(it.getBytes())
+            );
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -726,72 +798,19 @@ public class MLModelManager {
                     if (modelSizeInBytes >= MODEL_FILE_SIZE_LIMIT) {
                         throw new MLException("Model file size exceeds the limit of 4GB: " + modelSizeInBytes);
                     }
-                    List<String> chunkFiles = (List<String>) result.get(CHUNK_FILES);
+                    File modelZipFile = new File((String) result.get(MODEL_FILE));
                     String hashValue = (String) result.get(MODEL_FILE_HASH);
-                    Semaphore semaphore = new Semaphore(1);
-                    AtomicInteger uploaded = new AtomicInteger(0);
-                    AtomicBoolean failedToUploadChunk = new AtomicBoolean(false);
-                    // upload chunks
-                    for (String name : chunkFiles) {
-                        semaphore.tryAcquire(10, TimeUnit.SECONDS);
-                        if (failedToUploadChunk.get()) {
-                            throw new MLException("Failed to save model chunk");
-                        }
-                        File file = new File(name);
-                        byte[] bytes = Files.toByteArray(file);
-                        int chunkNum = Integer.parseInt(file.getName());
-                        Instant now = Instant.now();
-                        MLModel mlModel = MLModel
-                            .builder()
-                            .modelId(modelId)
-                            .name(modelName)
-                            .algorithm(functionName)
-                            .version(version)
-                            .modelFormat(registerModelInput.getModelFormat())
-                            .rateLimiter(registerModelInput.getRateLimiter())
-                            .chunkNumber(chunkNum)
-                            .totalChunks(chunkFiles.size())
-                            .content(Base64.getEncoder().encodeToString(bytes))
-                            .createdTime(now)
-                            .lastUpdateTime(now)
-                            .isHidden(registerModelInput.getIsHidden())
-                            .guardrails(registerModelInput.getGuardrails())
-                            .build();
-                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                        if (registerModelInput.getIsHidden() != null && registerModelInput.getIsHidden()) {
-                            indexRequest.id(modelName);
-                        }
-                        String chunkId = getModelChunkId(modelId, chunkNum);
-                        indexRequest.id(chunkId);
-                        indexRequest.source(mlModel.toXContent(XContentBuilder.builder(JSON.xContent()), EMPTY_PARAMS));
-                        indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                        client.index(indexRequest, ActionListener.wrap(r -> {
-                            uploaded.getAndIncrement();
-                            if (uploaded.get() == chunkFiles.size()) {
-                                updateModelRegisterStateAsDone(
-                                    registerModelInput,
-                                    taskId,
-                                    modelId,
-                                    modelSizeInBytes,
-                                    chunkFiles,
-                                    hashValue,
-                                    version
-                                );
-                            } else {
-                                deleteFileQuietly(file);
-                            }
-                            semaphore.release();
-                        }, e -> {
-                            log.error("Failed to index model chunk " + chunkId, e);
-                            failedToUploadChunk.set(true);
-                            handleException(functionName, taskId, e);
-                            deleteFileQuietly(file);
-                            // remove model doc as failed to upload model
-                            deleteModel(modelId, registerModelInput, version);
-                            semaphore.release();
-                            deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
-                        }));
-                    }
+                    uploadModelChunks(
+                        registerModelInput,
+                        taskId,
+                        functionName,
+                        modelName,
+                        version,
+                        modelId,
+                        modelZipFile,
+                        modelSizeInBytes,
+                        hashValue
+                    );
                 }, e -> {
                     log.error("Failed to index chunk file", e);
                     deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
@@ -801,6 +820,116 @@ public class MLModelManager {
             );
     }
 
+    /**
+     * Index the chunks of a downloaded model file. At most max_concurrent_model_chunk_uploads bulk requests are in
+     * flight, the next bulk request is sent from the completion of the previous one. The upload stops at the first
+     * failure, which fails the register task and removes the model.
+     */
+    @VisibleForTesting
+    void uploadModelChunks(
+        MLRegisterModelInput registerModelInput,
+        String taskId,
+        FunctionName functionName,
+        String modelName,
+        String version,
+        String modelId,
+        File modelZipFile,
+        long modelSizeInBytes,
+        String hashValue
+    ) throws IOException {
+        int totalChunks = (int) ((modelSizeInBytes + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        Version minNodeVersion = clusterService.state().nodes().getMinNodeVersion();
+        // chunks are read from the model file at their offsets, no chunk is written to a temporary file
+        FileChannel channel = FileChannel.open(modelZipFile.toPath(), StandardOpenOption.READ);
+        AtomicInteger nextChunk = new AtomicInteger(0);
+        AtomicInteger uploaded = new AtomicInteger(0);
+        AtomicBoolean stopNow = new AtomicBoolean(false);
+        ActionListener<Integer> bulkListener = ActionListener.wrap(chunks -> {
+            if (uploaded.addAndGet(chunks) == totalChunks) {
+                IOUtils.closeWhileHandlingException(channel);
+                updateModelRegisterStateAsDone(registerModelInput, taskId, modelId, modelSizeInBytes, totalChunks, hashValue, version);
+            }
+        }, e -> {
+            if (stopNow.compareAndSet(false, true)) {
+                log.error("Failed to index model chunks of model " + modelId, e);
+                IOUtils.closeWhileHandlingException(channel);
+                handleException(functionName, taskId, e);
+                // remove model doc as failed to upload model
+                deleteModel(modelId, registerModelInput, version);
+                deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
+            }
+        });
+        CheckedFunction<Integer, BulkRequest, IOException> bulkRequestBuilder = from -> {
+            int to = Math.min(totalChunks, from + MODEL_CHUNKS_PER_BULK);
+            BulkRequest bulkRequest = new BulkRequest();
+            bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+            for (int chunkNum = from; chunkNum < to; chunkNum++) {
+                byte[] bytes = readChunk(channel, modelSizeInBytes, chunkNum, CHUNK_SIZE);
+                Instant now = Instant.now();
+                MLModel mlModel = MLModel
+                    .builder()
+                    .modelId(modelId)
+                    .name(modelName)
+                    .algorithm(functionName)
+                    .version(version)
+                    .modelFormat(registerModelInput.getModelFormat())
+                    .rateLimiter(registerModelInput.getRateLimiter())
+                    .chunkNumber(chunkNum)
+                    .totalChunks(totalChunks)
+                    .createdTime(now)
+                    .lastUpdateTime(now)
+                    .isHidden(registerModelInput.getIsHidden())
+                    .guardrails(registerModelInput.getGuardrails())
+                    .build();
+                IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
+                indexRequest.id(getModelChunkId(modelId, chunkNum));
+                indexRequest.source(MLModelChunkFormat.toXContent(mlModel, bytes, modelChunkCompressionEnabled, minNodeVersion));
+                bulkRequest.add(indexRequest);
+            }
+            return bulkRequest;
+        };
+        // a bulk request takes a slot until it's indexed, so at most this many bulk requests of chunks are read into memory.
+        // The next bulk request is sent when one is indexed, no register thread waits for a slot
+        int totalBulks = (totalChunks + MODEL_CHUNKS_PER_BULK - 1) / MODEL_CHUNKS_PER_BULK;
+        int slots = Math.min(maxConcurrentChunkUploads, totalBulks);
+        for (int i = 0; i < slots; i++) {
+            uploadNextModelChunks(totalChunks, nextChunk, stopNow, bulkRequestBuilder, bulkListener);
+        }
+    }
+
+    private void uploadNextModelChunks(
+        int totalChunks,
+        AtomicInteger nextChunk,
+        AtomicBoolean stopNow,
+        CheckedFunction<Integer, BulkRequest, IOException> bulkRequestBuilder,
+        ActionListener<Integer> bulkListener
+    ) {
+        if (stopNow.get()) {
+            // the upload failed, the listener already cleaned up
+            return;
+        }
+        int from = nextChunk.getAndAdd(MODEL_CHUNKS_PER_BULK);
+        if (from >= totalChunks) {
+            return;
+        }
+        int chunks = Math.min(totalChunks, from + MODEL_CHUNKS_PER_BULK) - from;
+        BulkRequest bulkRequest;
+        try {
+            bulkRequest = bulkRequestBuilder.apply(from);
+        } catch (Exception e) {
+            bulkListener.onFailure(e);
+            return;
+        }
+        client.bulk(bulkRequest, threadedActionListener(REGISTER_THREAD_POOL, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                bulkListener.onFailure(new MLException("Failed to save model chunks: " + r.buildFailureMessage()));
+                return;
+            }
+            bulkListener.onResponse(chunks);
+            uploadNextModelChunks(totalChunks, nextChunk, stopNow, bulkRequestBuilder, bulkListener);
+        }, bulkListener::onFailure)));
+    }
+
     private void registerPrebuiltModel(MLRegisterModelInput registerModelInput, MLTask mlTask, String modelVersion)
         throws PrivilegedActionException {
         String taskId = mlTask.getTaskId();
@@ -839,7 +968,7 @@ public class MLModelManager {
         String taskId,
         String modelId,
         Long modelSizeInBytes,
-        List<String> chunkFiles,
+        int totalChunks,
         String hashValue,
         String version
     ) {
@@ -852,7 +981,7 @@ public class MLModelManager {
                 MLModel.LAST_REGISTERED_TIME_FIELD,
                 Instant.now().toEpochMilli(),
                 MLModel.TOTAL_CHUNKS_FIELD,
-                chunkFiles.size(),
+                totalChunks,
                 MLModel.MODEL_CONTENT_HASH_VALUE_FIELD,
                 hashValue,
                 MLModel.MODEL_CONTENT_SIZE_IN_BYTES_FIELD,
@@ -1024,8 +1153,18 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                Path cachedModelPath = FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())
+                    ? null
+                    : acquireCachedModelArtifact(mlModel);
+                if (cachedModelPath != null) {
+                    // the unzipped model files of an unchanged model are cached, no need to read the model chunks
+                    log.info("Deploy model {} from cached model artifact", modelId);
+                    deployModelArtifact(mlModel, null, cachedModelPath, wrappedListener);
+                    return;
+                }
+                retrieveModelChunks(mlModel, ActionListener.wrap(chunkWriter -> {// read model chunks
+                    File modelZipFile = chunkWriter.getModelZipFile();
+                    String hash = chunkWriter.getHash();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1033,37 +1172,7 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
-                    if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
-                        MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
-                        try {
-                            modelCacheHelper.setMLExecutor(modelId, mlExecutable);
-                            mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
-                            modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
-                            wrappedListener.onResponse("successful");
-                        } catch (Exception e) {
-                            log.error("Failed to add predictor to cache", e);
-                            mlExecutable.close();
-                            wrappedListener.onFailure(e);
-                        }
-                    } else {
-                        Predictable predictable = mlEngine.deploy(mlModel, params);
-                        try {
-                            modelCacheHelper.setPredictor(modelId, predictable);
-                            mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
-                            modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
-                            Long modelContentSizeInBytes = mlModel.getModelContentSizeInBytes();
-                            long contentSize = modelContentSizeInBytes == null
-                                ? mlModel.getTotalChunks() * CHUNK_SIZE
-                                : modelContentSizeInBytes;
-                            modelCacheHelper.setMemSizeEstimation(modelId, mlModel.getModelFormat(), contentSize);
-                            wrappedListener.onResponse("successful");
-                        } catch (Exception e) {
-                            log.error("Failed to add predictor to cache", e);
-                            predictable.close();
-                            wrappedListener.onFailure(e);
-                        }
-                    }
+                    deployModelArtifact(mlModel, modelZipFile, null, wrappedListener);
                 }, e -> {
                     log.error("Failed to retrieve model " + modelId, e);
                     handleDeployModelException(modelId, functionName, wrappedListener, e);
@@ -1135,6 +1244,16 @@ public class MLModelManager {
         params.put(CLIENT, client);
         params.put(XCONTENT_REGISTRY, xContentRegistry);
         params.put(CLUSTER_SERVICE, clusterService);
+        if (threadPool != null) {
+            params.put(RESPONSE_EXECUTOR, threadPool.executor(REMOTE_PREDICT_THREAD_POOL));
+        }
+        if (mlCircuitBreakerService.getEndpointCircuitBreakers() != null) {
+            params.put(ENDPOINT_CIRCUIT_BREAKERS, mlCircuitBreakerService.getEndpointCircuitBreakers());
+        }
+        if (httpClientRegistry != null) {
+            params.put(HTTP_CLIENT_REGISTRY, httpClientRegistry);
+        }
+        params.put(ENDPOINT_CONCURRENCY_LIMITERS, endpointConcurrencyLimiters);
 
         if (rateLimiter == null && userRateLimiterMap == null) {
             log.info("Setting up basic ML predictor parameters.");
@@ -1175,6 +1294,7 @@ public class MLModelManager {
             ActionListener<String> wrappedListener = ActionListener.runBefore(listener, context::restore);
             getModel(modelId, ActionListener.wrap(mlModel -> {
                 int eligibleNodeCount = getWorkerNodes(modelId, mlModel.getAlgorithm()).length;
+                modelCacheHelper.updateModelInfo(modelId, mlModel);
                 modelCacheHelper.setIsModelEnabled(modelId, mlModel.getIsEnabled());
                 setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
                 setupMLGuard(modelId, mlModel.getGuardrails());
@@ -1538,6 +1658,33 @@ public class MLModelManager {
         }, listener::onFailure));
     }
 
+    /**
+     * Get the content of a model chunk from model index.
+     *
+     * @param modelChunkId model chunk id
+     * @param listener     action listener
+     */
+    public void getModelChunk(String modelChunkId, ActionListener<byte[]> listener) {
+        FetchSourceContext fetchContext = new FetchSourceContext(
+            true,
+            new String[] { MLModel.MODEL_CONTENT_FIELD, MLModel.OLD_MODEL_CONTENT_FIELD, MLModel.MODEL_CONTENT_ENCODING_FIELD },
+            null
+        );
+        GetRequest getRequest = new GetRequest(ML_MODEL_INDEX).id(modelChunkId).fetchSourceContext(fetchContext);
+        client.get(getRequest, ActionListener.wrap(r -> {
+            if (r != null && r.isExists()) {
+                try {
+                    listener.onResponse(MLModelChunkFormat.parseContent(r.getSourceAsBytesRef()));
+                } catch (Exception e) {
+                    log.error("Failed to parse model chunk " + r.getId(), e);
+                    listener.onFailure(e);
+                }
+            } else {
+                listener.onFailure(new OpenSearchStatusException("Failed to find model chunk", RestStatus.NOT_FOUND));
+            }
+        }, listener::onFailure));
+    }
+
     /**
      * Get model controller from model controller index.
      * 
@@ -1593,53 +1740,147 @@ public class MLModelManager {
         }));
     }
 
+    /**
+     * Get the cached model files of an unchanged model. Only models whose chunks were verified against the model
+     * content hash when the entry was written are served from the cache. The cache entry is acquired for the model,
+     * so it's not evicted before the model loads it, and released when the model is undeployed.
+     *
+     * @param mlModel model meta
+     * @return path of the cached model files, or null if the model chunks need to be read
+     */
+    private Path acquireCachedModelArtifact(MLModel mlModel) {
+        String modelContentHash = mlModel.getModelContentHash();
+        if (!modelArtifactCache.isCacheable(modelContentHash)) {
+            return null;
+        }
+        return modelArtifactCache.acquire(modelContentHash, mlModel.getModelId());
+    }
+
+    /**
+     * Deploy a local model from its model zip or its cached model files.
+     *
+     * @param mlModel         model meta
+     * @param modelZipFile    model zip file, null if the model files are cached
+     * @param cachedModelPath path of the cached model files acquired for the model, null if they aren't cached
+     * @param wrappedListener action listener
+     */
+    private void deployModelArtifact(MLModel mlModel, File modelZipFile, Path cachedModelPath, ActionListener<String> wrappedListener) {
+        String modelId = mlModel.getModelId();
+        Map<String, Object> params = new HashMap<>();
+        if (modelZipFile != null) {
+            params.put(MODEL_ZIP_FILE, modelZipFile);
+        }
+        if (cachedModelPath != null) {
+            params.put(CACHED_MODEL_PATH, cachedModelPath);
+        }
+        params.put(MODEL_HELPER, modelHelper);
+        params.put(ML_ENGINE, mlEngine);
+        params.put(THREAD_BUDGET, threadBudget);
+        params.put(PYTORCH_INTRA_OP_THREADS, pytorchIntraOpThreads);
+        params.put(PYTORCH_INTER_OP_THREADS, pytorchInterOpThreads);
+        params.put(MODEL_ARTIFACT_CACHE, modelArtifactCache);
+        if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
+            MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
+            try {
+                modelCacheHelper.setMLExecutor(modelId, mlExecutable);
+                mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
+                modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+                wrappedListener.onResponse("successful");
+            } catch (Exception e) {
+                log.error("Failed to add predictor to cache", e);
+                mlExecutable.close();
+                wrappedListener.onFailure(e);
+            }
+        } else {
+            Predictable predictable;
+            try {
+                predictable = mlEngine.deploy(mlModel, params);
+            } catch (RuntimeException e) {
+                if (cachedModelPath != null) {
+                    // the model didn't take over the cache entry acquired for it
+                    modelArtifactCache.release(modelId);
+                }
+                throw e;
+            }
+            try {
+                modelCacheHelper.setPredictor(modelId, predictable);
+                mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
+                modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+                Long modelContentSizeInBytes = mlModel.getModelContentSizeInBytes();
+                long contentSize = modelContentSizeInBytes == null ? mlModel.getTotalChunks() * CHUNK_SIZE : modelContentSizeInBytes;
+                modelCacheHelper.setMemSizeEstimation(modelId, mlModel.getModelFormat(), contentSize);
+                wrappedListener.onResponse("successful");
+            } catch (Exception e) {
+                log.error("Failed to add predictor to cache", e);
+                predictable.close();
+                wrappedListener.onFailure(e);
+            }
+        }
+    }
+
     /**
      * Retreive a model's all chunks.
      * 
      * @param mlModelMeta model meta
      * @param listener    action listener
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<ModelChunkWriter> listener) {
         String modelId = mlModelMeta.getModelId();
         String modelName = mlModelMeta.getName();
         Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, modelName));
+        ModelChunkWriter chunkWriter;
+        try {
+            chunkWriter = new ModelChunkWriter(modelZipFile, totalChunks);
+        } catch (IOException e) {
+            listener.onFailure(e);
+            return;
+        }
+        // a chunk takes a slot until it's written, so at most this many chunks are fetched or wait in memory for the
+        // chunks before them. The next chunks are fetched when chunks are written, no deploy thread waits for a slot
+        AtomicInteger nextChunk = new AtomicInteger(0);
         AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
-            }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
-                }
-                semaphore.release();
-            }, e -> {
-                stopNow.set(true);
-                semaphore.release();
-                log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
-                }
-            })));
+        int slots = Math.min(maxConcurrentChunkRetrievals, totalChunks);
+        for (int i = 0; i < slots; i++) {
+            retrieveNextModelChunk(modelId, totalChunks, nextChunk, stopNow, chunkWriter, listener);
         }
     }
 
+    private void retrieveNextModelChunk(
+        String modelId,
+        int totalChunks,
+        AtomicInteger nextChunk,
+        AtomicBoolean stopNow,
+        ModelChunkWriter chunkWriter,
+        ActionListener<ModelChunkWriter> listener
+    ) {
+        if (stopNow.get()) {
+            // the listener already got the failure
+            return;
+        }
+        int currentChunk = nextChunk.getAndIncrement();
+        if (currentChunk >= totalChunks) {
+            return;
+        }
+        String modelChunkId = this.getModelChunkId(modelId, currentChunk);
+        this.getModelChunk(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(content -> {
+            int writtenChunks = chunkWriter.write(currentChunk, content);
+            if (writtenChunks > 0 && chunkWriter.isComplete()) {
+                listener.onResponse(chunkWriter);
+                return;
+            }
+            for (int i = 0; i < writtenChunks; i++) {
+                retrieveNextModelChunk(modelId, totalChunks, nextChunk, stopNow, chunkWriter, listener);
+            }
+        }, e -> {
+            log.error("Failed to retrieve model chunk " + modelChunkId, e);
+            if (stopNow.compareAndSet(false, true)) {
+                chunkWriter.close();
+                listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
+            }
+        })));
+    }
+
     /**
      * Update model with build-in listener.
      * 
@@ -1837,6 +2078,35 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    /**
+     * Create the predict result cache key of a request.
+     *
+     * @param modelId   model id
+     * @param algorithm function name of the model
+     * @param mlInput   ML input
+     * @return cache key, or null if the predict result cache is disabled or the result can't be cached
+     */
+    public MLPredictResultCache.Key createPredictResultKey(String modelId, FunctionName algorithm, MLInput mlInput) {
+        return modelCacheHelper.createPredictResultKey(modelId, algorithm, mlInput);
+    }
+
+    /**
+     * Get the cached predict result and track the cache hit or miss of the model.
+     *
+     * @param key cache key
+     * @return predict result, or null if it's not cached
+     */
+    public MLOutput getCachedPredictResult(MLPredictResultCache.Key key) {
+        MLOutput output = modelCacheHelper.getPredictResultCache().get(key);
+        MLActionLevelStat stat = output == null ? ML_ACTION_CACHE_MISS_COUNT : ML_ACTION_CACHE_HIT_COUNT;
+        mlStats.createModelCounterStatIfAbsent(key.getModelId(), ActionName.PREDICT, stat).increment();
+        return output;
+    }
+
+    public void cachePredictResult(MLPredictResultCache.Key key, MLOutput output) {
+        modelCacheHelper.getPredictResultCache().put(key, output);
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing
      * table.
@@ -1885,6 +2155,21 @@ public class MLModelManager {
         return t;
     }
 
+    /**
+     * Wrap listener to track predict duration of a non-blocking prediction started now.
+     * @param modelId model id
+     * @param listener action listener
+     * @return listener which records the inference duration once the prediction completes
+     * @param <T> response type
+     */
+    public <T> ActionListener<T> trackPredictDuration(String modelId, ActionListener<T> listener) {
+        long start = System.nanoTime();
+        return ActionListener.runBefore(listener, () -> {
+            double durationInMs = (System.nanoTime() - start) / 1e6;
+            modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
+        });
+    }
+
     public FunctionName getModelFunctionName(String modelId) {
         return modelCacheHelper.getFunctionName(modelId);
     }
@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_TTL;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Caches predict results of deterministic models on the local node, so repeated inputs like popular queries and
+ * re-indexed documents don't run the model again. Only text docs and text similarity inputs of text embedding,
+ * sparse encoding, text similarity and remote models are cached.
+ *
+ * Results are kept serialized, so every hit returns a new output which callers can change freely. The cache is
+ * bounded by the size of the serialized results, entries expire after the TTL and the least recently used entries
+ * are evicted first.
+ */
+@Log4j2
+public class MLPredictResultCache {
+    private static final Set<FunctionName> CACHEABLE_FUNCTIONS = Set
+        .of(
+            FunctionName.TEXT_EMBEDDING,
+            FunctionName.SPARSE_ENCODING,
+            FunctionName.SPARSE_TOKENIZE,
+            FunctionName.TEXT_SIMILARITY,
+            FunctionName.REMOTE
+        );
+
+    private final Cache<Key, BytesReference> cache;
+    private volatile boolean enabled;
+
+    public MLPredictResultCache(ClusterService clusterService, Settings settings) {
+        this.cache = CacheBuilder
+            .<Key, BytesReference>builder()
+            .setMaximumWeight(ML_COMMONS_PREDICT_RESULT_CACHE_SIZE.get(settings).getBytes())
+            .weigher((key, value) -> key.ramBytesUsed() + value.length())
+            .setExpireAfterWrite(ML_COMMONS_PREDICT_RESULT_CACHE_TTL.get(settings))
+            .build();
+        enabled = ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED, it -> {
+            enabled = it;
+            if (!it) {
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * Create the cache key of a predict request.
+     *
+     * @param modelId   model id
+     * @param modelInfo cached model info, used to tell model versions and updates apart, can be null
+     * @param algorithm function name of the model
+     * @param mlInput   ML input
+     * @return cache key, or null if the cache is disabled or the result can't be cached
+     */
+    public Key createKey(String modelId, MLModel modelInfo, FunctionName algorithm, MLInput mlInput) {
+        if (!enabled || modelId == null || !CACHEABLE_FUNCTIONS.contains(algorithm) || mlInput == null) {
+            return null;
+        }
+        if (!(mlInput.getInputDataset() instanceof TextDocsInputDataSet)
+            && !(mlInput.getInputDataset() instanceof TextSimilarityInputDataSet)) {
+            return null;
+        }
+        String modelVersion = modelInfo == null ? "" : modelVersion(modelInfo);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            // The serialized input covers the docs, the result filter and the model parameters
+            mlInput.writeTo(out);
+            MessageDigest digest = MessageDigests.sha256();
+            digest.update(BytesReference.toBytes(out.bytes()));
+            return new Key(modelId, modelVersion, digest.digest());
+        } catch (IOException e) {
+            log.debug("Failed to hash input of model {}, skip predict result cache", modelId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Model updates like a changed connector don't change the model version, so the last update time is part of the
+     * key as well. Results computed with the previous config are then never served, even if they are put after the
+     * model was updated.
+     */
+    private static String modelVersion(MLModel modelInfo) {
+        Instant lastUpdateTime = modelInfo.getLastUpdateTime();
+        return modelInfo.getVersion()
+            + "/"
+            + modelInfo.getModelContentHash()
+            + "/"
+            + (lastUpdateTime == null ? "" : lastUpdateTime.toEpochMilli());
+    }
+
+    /**
+     * Get the cached predict result.
+     *
+     * @param key cache key
+     * @return predict result, or null if it's not cached
+     */
+    public MLOutput get(Key key) {
+        BytesReference bytes = cache.get(key);
+        if (bytes == null) {
+            return null;
+        }
+        try (StreamInput in = bytes.streamInput()) {
+            return MLOutput.fromStream(in);
+        } catch (IOException e) {
+            log.debug("Failed to read cached predict result of model {}", key.getModelId(), e);
+            cache.invalidate(key);
+            return null;
+        }
+    }
+
+    /**
+     * Cache the predict result. Only model tensor outputs are cached.
+     *
+     * @param key    cache key
+     * @param output predict result
+     */
+    public void put(Key key, MLOutput output) {
+        if (!enabled || !(output instanceof ModelTensorOutput)) {
+            return;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            output.writeTo(out);
+            cache.put(key, out.bytes());
+        } catch (IOException e) {
+            log.debug("Failed to cache predict result of model {}", key.getModelId(), e);
+        }
+    }
+
+    /**
+     * Remove all cached predict results of the model.
+     *
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        List<Key> keys = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (key.getModelId().equals(modelId)) {
+                keys.add(key);
+            }
+        }
+        keys.forEach(cache::invalidate);
+    }
+
+    public long count() {
+        return cache.count();
+    }
+
+    public long weight() {
+        return cache.weight();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    public static class Key {
+        private static final long SHALLOW_SIZE = 64;
+
+        private final String modelId;
+        private final String modelVersion;
+        private final byte[] inputHash;
+
+        Key(String modelId, String modelVersion, byte[] inputHash) {
+            this.modelId = modelId;
+            this.modelVersion = modelVersion;
+            this.inputHash = inputHash;
+        }
+
+        long ramBytesUsed() {
+            return SHALLOW_SIZE + 2L * (modelId.length() + modelVersion.length()) + inputHash.length;
+        }
+    }
+}
@@ -90,6 +90,7 @@ import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.cluster.MLCommonsClusterEventListener;
 import org.opensearch.ml.cluster.MLCommonsClusterManagerEventListener;
+import org.opensearch.ml.cluster.MLNodeLoadService;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.AsymmetricTextEmbeddingParameters;
 import org.opensearch.ml.common.input.execute.anomalylocalization.AnomalyLocalizationInput;
@@ -160,9 +161,12 @@ import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
+import org.opensearch.ml.engine.algorithms.remote.EndpointCircuitBreakers;
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry.ConnectionPoolStats;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
@@ -260,7 +264,9 @@ import org.opensearch.ml.stats.MLClusterLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.ConnectionPoolStatsSupplier;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.ml.stats.suppliers.EndpointCircuitBreakerStatsSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
 import org.opensearch.ml.task.MLPredictTaskRunner;
@@ -478,6 +484,44 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_PREDICT_LOCAL_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_PREDICT_FORWARDED_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_PREDICT_EXPIRED_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        MLHttpClientRegistry httpClientRegistry = new MLHttpClientRegistry();
+        stats
+            .put(
+                MLNodeLevelStat.ML_CONNECTOR_CONNECTION_POOL_COUNT,
+                new MLStat<>(false, new ConnectionPoolStatsSupplier(httpClientRegistry, ConnectionPoolStats::getPools))
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_CONNECTOR_LEASED_CONNECTION_COUNT,
+                new MLStat<>(false, new ConnectionPoolStatsSupplier(httpClientRegistry, ConnectionPoolStats::getLeased))
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_CONNECTOR_PENDING_CONNECTION_COUNT,
+                new MLStat<>(false, new ConnectionPoolStatsSupplier(httpClientRegistry, ConnectionPoolStats::getPending))
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_CONNECTOR_AVAILABLE_CONNECTION_COUNT,
+                new MLStat<>(false, new ConnectionPoolStatsSupplier(httpClientRegistry, ConnectionPoolStats::getAvailable))
+            );
+        EndpointCircuitBreakers endpointCircuitBreakers = mlCircuitBreakerService.getEndpointCircuitBreakers();
+        stats
+            .put(
+                MLNodeLevelStat.ML_CONNECTOR_OPEN_CIRCUIT_BREAKER_COUNT,
+                new MLStat<>(false, new EndpointCircuitBreakerStatsSupplier(endpointCircuitBreakers, EndpointCircuitBreakers::getOpenCount))
+            );
+        stats
+            .put(
+                MLNodeLevelStat.ML_CONNECTOR_CIRCUIT_BREAKER_REJECTED_COUNT,
+                new MLStat<>(
+                    false,
+                    new EndpointCircuitBreakerStatsSupplier(endpointCircuitBreakers, EndpointCircuitBreakers::getRejectedCount)
+                )
+            );
         this.mlStats = new MLStats(stats);
 
         mlIndicesHandler = new MLIndicesHandler(clusterService, client);
@@ -497,16 +541,24 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             mlTaskManager,
             modelCacheHelper,
             mlEngine,
-            nodeHelper
+            nodeHelper,
+            httpClientRegistry
         );
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
         mlFeatureEnabledSetting = new MLFeatureEnabledSetting(clusterService, settings);
 
-        mlModelChunkUploader = new MLModelChunkUploader(mlIndicesHandler, client, xContentRegistry, modelAccessControlHelper);
+        mlModelChunkUploader = new MLModelChunkUploader(
+            mlIndicesHandler,
+            client,
+            xContentRegistry,
+            modelAccessControlHelper,
+            clusterService
+        );
 
-        MLTaskDispatcher mlTaskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper);
+        MLNodeLoadService nodeLoadService = new MLNodeLoadService(mlStats, mlTaskManager, threadPool, jvmService);
+        MLTaskDispatcher mlTaskDispatcher = new MLTaskDispatcher(clusterService, settings, nodeHelper, nodeLoadService);
         // TODO: Create factory to select Dao implementation based on runtime environment
         connectorDao = new OpenSearchTransportConnectorDao(client, mlIndicesHandler, xContentRegistry);
         mlTrainingTaskRunner = new MLTrainingTaskRunner(
@@ -656,6 +708,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 mlFeatureEnabledSetting,
                 mlSearchHandler,
                 mlTaskDispatcher,
+                nodeLoadService,
                 mlModelChunkUploader,
                 modelHelper,
                 mlCommonsClusterEventListener,
@@ -892,6 +945,13 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_RETRIEVALS,
+                MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_UPLOADS,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL,
+                MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
                 MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
@@ -909,7 +969,22 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
                 MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES,
                 MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_TTL,
+                MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED,
+                MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_DURATION,
+                MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_MINIMUM_CALLS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_OPEN_DURATION,
+                MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_HALF_OPEN_PROBES,
                 MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ENABLED,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_THREAD_BUDGET,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ARTIFACT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PYTORCH_INTRA_OP_THREADS,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PYTORCH_INTER_OP_THREADS,
                 MLCommonsSettings.ML_COMMONS_MEMORY_FEATURE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_AGENT_FRAMEWORK_ENABLED,
@@ -6,7 +6,9 @@
 package org.opensearch.ml.profile;
 
 import java.io.IOException;
+import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -21,6 +23,7 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 @Log4j2
 public class MLModelProfile implements ToXContentFragment, Writeable {
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_INFERENCE_PROFILE = Version.V_2_14_0;
 
     private final MLModelState modelState;
     private final String predictor;
@@ -30,6 +33,10 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    private final Map<String, String> endpointCircuitBreakers;
+    private final Integer inferenceQueueDepth;
+    private final Map<String, Long> batchSizeHistogram;
+    private final Double paddingEfficiency;
 
     @Builder
     public MLModelProfile(
@@ -40,7 +47,11 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats modelInferenceStats,
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
-        Long memSizeEstimationGPU
+        Long memSizeEstimationGPU,
+        Map<String, String> endpointCircuitBreakers,
+        Integer inferenceQueueDepth,
+        Map<String, Long> batchSizeHistogram,
+        Double paddingEfficiency
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -50,6 +61,10 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.endpointCircuitBreakers = endpointCircuitBreakers;
+        this.inferenceQueueDepth = inferenceQueueDepth;
+        this.batchSizeHistogram = batchSizeHistogram;
+        this.paddingEfficiency = paddingEfficiency;
     }
 
     @Override
@@ -79,6 +94,18 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (memSizeEstimationGPU != null) {
             builder.field("memory_size_estimation_gpu", memSizeEstimationGPU);
         }
+        if (endpointCircuitBreakers != null) {
+            builder.field("endpoint_circuit_breakers", endpointCircuitBreakers);
+        }
+        if (inferenceQueueDepth != null) {
+            builder.field("inference_queue_depth", inferenceQueueDepth);
+        }
+        if (batchSizeHistogram != null) {
+            builder.field("batch_size_histogram", batchSizeHistogram);
+        }
+        if (paddingEfficiency != null) {
+            builder.field("padding_efficiency", paddingEfficiency);
+        }
         builder.endObject();
         return builder;
     }
@@ -104,6 +131,17 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         this.memSizeEstimationCPU = in.readOptionalLong();
         this.memSizeEstimationGPU = in.readOptionalLong();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_INFERENCE_PROFILE)) {
+            this.endpointCircuitBreakers = in.readBoolean() ? in.readMap(StreamInput::readString, StreamInput::readString) : null;
+            this.inferenceQueueDepth = in.readOptionalInt();
+            this.batchSizeHistogram = in.readBoolean() ? in.readMap(StreamInput::readString, StreamInput::readLong) : null;
+            this.paddingEfficiency = in.readOptionalDouble();
+        } else {
+            this.endpointCircuitBreakers = null;
+            this.inferenceQueueDepth = null;
+            this.batchSizeHistogram = null;
+            this.paddingEfficiency = null;
+        }
     }
 
     @Override
@@ -131,5 +169,21 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         out.writeOptionalLong(memSizeEstimationCPU);
         out.writeOptionalLong(memSizeEstimationGPU);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_INFERENCE_PROFILE)) {
+            if (endpointCircuitBreakers != null) {
+                out.writeBoolean(true);
+                out.writeMap(endpointCircuitBreakers, StreamOutput::writeString, StreamOutput::writeString);
+            } else {
+                out.writeBoolean(false);
+            }
+            out.writeOptionalInt(inferenceQueueDepth);
+            if (batchSizeHistogram != null) {
+                out.writeBoolean(true);
+                out.writeMap(batchSizeHistogram, StreamOutput::writeString, StreamOutput::writeLong);
+            } else {
+                out.writeBoolean(false);
+            }
+            out.writeOptionalDouble(paddingEfficiency);
+        }
     }
 }
@@ -11,6 +11,8 @@ import static org.opensearch.ml.utils.MLExceptionUtils.LOCAL_MODEL_DISABLED_ERR_
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_ALGORITHM;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_PRIORITY;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TIMEOUT;
 import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
 
 import java.io.IOException;
@@ -26,6 +28,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.transport.prediction.MLPredictionPriority;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.model.MLModelManager;
@@ -77,6 +80,9 @@ public class RestMLPredictionAction extends BaseRestHandler {
     public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
         String algorithm = request.param(PARAMETER_ALGORITHM);
         String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        // fail fast on invalid parameters, the request may only be built after the model is fetched
+        getPriority(request);
+        request.paramAsTime(PARAMETER_TIMEOUT, null);
         Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
 
         if (algorithm == null && functionName.isPresent()) {
@@ -128,7 +134,20 @@ public class RestMLPredictionAction extends BaseRestHandler {
         XContentParser parser = request.contentParser();
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
         MLInput mlInput = MLInput.parse(parser, algorithm);
-        return new MLPredictionTaskRequest(modelId, mlInput, null);
+        MLPredictionTaskRequest mlPredictionTaskRequest = MLPredictionTaskRequest
+            .builder()
+            .modelId(modelId)
+            .mlInput(mlInput)
+            .dispatchTask(true)
+            .priority(getPriority(request))
+            .build();
+        mlPredictionTaskRequest.setTimeout(request.paramAsTime(PARAMETER_TIMEOUT, null));
+        return mlPredictionTaskRequest;
+    }
+
+    private MLPredictionPriority getPriority(RestRequest request) {
+        String priority = request.param(PARAMETER_PRIORITY);
+        return priority == null ? null : MLPredictionPriority.from(priority);
     }
 
 }
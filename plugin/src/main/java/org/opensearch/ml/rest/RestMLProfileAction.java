@@ -163,7 +163,11 @@ public class RestMLProfileAction extends BaseRestHandler {
                     entry.getValue().getModelInferenceStats(),
                     entry.getValue().getPredictRequestStats(),
                     entry.getValue().getMemSizeEstimationCPU(),
-                    entry.getValue().getMemSizeEstimationGPU()
+                    entry.getValue().getMemSizeEstimationGPU(),
+                    entry.getValue().getEndpointCircuitBreakers(),
+                    entry.getValue().getInferenceQueueDepth(),
+                    entry.getValue().getBatchSizeHistogram(),
+                    entry.getValue().getPaddingEfficiency()
                 );
                 mlProfileModelResponse.getMlModelProfileMap().putAll(ImmutableMap.of(nodeId, modelProfile));
             }
@@ -9,6 +9,10 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAProcessorConstants;
 
@@ -34,6 +38,28 @@ public final class MLCommonsSettings {
         );
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_deploy_model_tasks_per_node", 10, 0, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // model chunks a deploy fetches in parallel, each holds up to 10MB of base64 content in memory until it's written
+    public static final Setting<Integer> ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_RETRIEVALS = Setting
+        .intSetting(
+            "plugins.ml_commons.max_concurrent_model_chunk_retrievals",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<Integer> ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_UPLOADS = Setting
+        .intSetting(
+            "plugins.ml_commons.max_concurrent_model_chunk_uploads",
+            2,
+            1,
+            16,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // model zip files are mostly compressed already, so compressing their chunks again saves little space by default
+    public static final Setting<Boolean> ML_COMMONS_MODEL_CHUNK_COMPRESSION_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.model_chunk_compression.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_ml_task_per_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ONLY_RUN_ON_ML_NODE = Setting
@@ -117,9 +143,147 @@ public final class MLCommonsSettings {
     public static final Setting<Boolean> ML_COMMONS_REMOTE_INFERENCE_ENABLED = Setting
         .boolSetting("plugins.ml_commons.remote_inference.enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // This setting is to run remote model predictions with the non-blocking http client, so predict threads are not held during remote calls.
+    public static final Setting<Boolean> ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.remote_inference.async.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // This setting is to run predict requests on the node which receives them if it's a worker node of the model, instead of
+    // dispatching them by the task dispatch policy, as long as the node isn't busier than the max executing tasks below.
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.predict_local_first.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    public static final Setting<Integer> ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS = Setting
+        .intSetting(
+            "plugins.ml_commons.predict_local_first.max_executing_tasks",
+            10,
+            1,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL = Setting
+        .intSetting(
+            "plugins.ml_commons.predict_queue.max_size_per_model",
+            1000,
+            1,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT = Setting
+        .intSetting("plugins.ml_commons.predict_queue.interactive_weight", 4, 1, 100, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // This setting is to cache predict results of text embedding, sparse encoding and text similarity models on each node.
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.predict_result_cache.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    public static final Setting<ByteSizeValue> ML_COMMONS_PREDICT_RESULT_CACHE_SIZE = Setting
+        .memorySizeSetting("plugins.ml_commons.predict_result_cache.size", "1%", Setting.Property.NodeScope);
+
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_RESULT_CACHE_TTL = Setting
+        .timeSetting(
+            "plugins.ml_commons.predict_result_cache.ttl",
+            TimeValue.timeValueHours(1),
+            TimeValue.timeValueSeconds(1),
+            Setting.Property.NodeScope
+        );
+
+    // These settings configure the circuit breakers of remote model endpoints, which fail fast while an endpoint is down.
+    public static final Setting<Boolean> ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED = Setting
+        .boolSetting(
+            "plugins.ml_commons.remote_endpoint_circuit_breaker.enabled",
+            true,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD = Setting
+        .intSetting(
+            "plugins.ml_commons.remote_endpoint_circuit_breaker.failure_rate_threshold",
+            50,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD = Setting
+        .intSetting(
+            "plugins.ml_commons.remote_endpoint_circuit_breaker.slow_call_rate_threshold",
+            100,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<TimeValue> ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_DURATION = Setting
+        .timeSetting(
+            "plugins.ml_commons.remote_endpoint_circuit_breaker.slow_call_duration",
+            TimeValue.timeValueSeconds(20),
+            TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_MINIMUM_CALLS = Setting
+        .intSetting(
+            "plugins.ml_commons.remote_endpoint_circuit_breaker.minimum_calls",
+            20,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<TimeValue> ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_OPEN_DURATION = Setting
+        .timeSetting(
+            "plugins.ml_commons.remote_endpoint_circuit_breaker.open_duration",
+            TimeValue.timeValueSeconds(30),
+            TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_HALF_OPEN_PROBES = Setting
+        .intSetting(
+            "plugins.ml_commons.remote_endpoint_circuit_breaker.half_open_probes",
+            3,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Boolean> ML_COMMONS_LOCAL_MODEL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.local_model.enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // CPU threads all local models of a node may use, defaults to the allocated processors
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_THREAD_BUDGET = new Setting<>(
+        "plugins.ml_commons.local_model.thread_budget",
+        settings -> Integer.toString(OpenSearchExecutors.allocatedProcessors(settings)),
+        value -> Setting.parseInt(value, 1, "plugins.ml_commons.local_model.thread_budget"),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    // disk space of the unzipped files of local models kept for redeploys, 0 disables the cache
+    public static final Setting<ByteSizeValue> ML_COMMONS_LOCAL_MODEL_ARTIFACT_CACHE_SIZE = Setting
+        .byteSizeSetting(
+            "plugins.ml_commons.local_model.artifact_cache_size",
+            new ByteSizeValue(10, ByteSizeUnit.GB),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // PyTorch creates its thread pools once per JVM, so its threads are node level and static
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_PYTORCH_INTRA_OP_THREADS = Setting
+        .intSetting("plugins.ml_commons.local_model.pytorch.intra_op_threads", 1, 1, Setting.Property.NodeScope);
+
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_PYTORCH_INTER_OP_THREADS = Setting
+        .intSetting("plugins.ml_commons.local_model.pytorch.inter_op_threads", 1, 1, Setting.Property.NodeScope);
+
     public static final Setting<Boolean> ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.model_access_control_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
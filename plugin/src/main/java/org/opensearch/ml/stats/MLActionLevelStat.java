@@ -13,7 +13,9 @@ package org.opensearch.ml.stats;
  */
 public enum MLActionLevelStat {
     ML_ACTION_REQUEST_COUNT,
-    ML_ACTION_FAILURE_COUNT;
+    ML_ACTION_FAILURE_COUNT,
+    ML_ACTION_CACHE_HIT_COUNT,
+    ML_ACTION_CACHE_MISS_COUNT;
 
     public static MLActionLevelStat from(String value) {
         try {
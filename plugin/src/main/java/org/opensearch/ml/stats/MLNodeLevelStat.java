@@ -16,7 +16,16 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_PREDICT_LOCAL_REQUEST_COUNT, // predict requests this node received and ran locally
+    ML_PREDICT_FORWARDED_REQUEST_COUNT, // predict requests this node received and forwarded to other nodes
+    ML_PREDICT_EXPIRED_REQUEST_COUNT, // predict requests dropped because their deadline passed
+    ML_CONNECTOR_CONNECTION_POOL_COUNT, // http clients shared by remote connectors
+    ML_CONNECTOR_LEASED_CONNECTION_COUNT,
+    ML_CONNECTOR_PENDING_CONNECTION_COUNT,
+    ML_CONNECTOR_AVAILABLE_CONNECTION_COUNT,
+    ML_CONNECTOR_OPEN_CIRCUIT_BREAKER_COUNT, // remote endpoints failing fast currently
+    ML_CONNECTOR_CIRCUIT_BREAKER_REJECTED_COUNT;
 
     public static MLNodeLevelStat from(String value) {
         try {
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.suppliers;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry.ConnectionPoolStats;
+
+/**
+ * ConnectionPoolStatsSupplier provides a stat of the connection pools shared by remote connectors
+ */
+public class ConnectionPoolStatsSupplier implements Supplier<Long> {
+    private final MLHttpClientRegistry httpClientRegistry;
+    private final ToLongFunction<ConnectionPoolStats> stat;
+
+    /**
+     * Constructor
+     *
+     * @param httpClientRegistry registry of the shared http clients
+     * @param stat function to get the stat value from the connection pool stats
+     */
+    public ConnectionPoolStatsSupplier(MLHttpClientRegistry httpClientRegistry, ToLongFunction<ConnectionPoolStats> stat) {
+        this.httpClientRegistry = httpClientRegistry;
+        this.stat = stat;
+    }
+
+    @Override
+    public Long get() {
+        return stat.applyAsLong(httpClientRegistry.getStats());
+    }
+}
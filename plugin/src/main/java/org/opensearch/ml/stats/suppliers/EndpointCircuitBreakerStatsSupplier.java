@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.suppliers;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.opensearch.ml.engine.algorithms.remote.EndpointCircuitBreakers;
+
+/**
+ * EndpointCircuitBreakerStatsSupplier provides a stat of the circuit breakers of remote model endpoints
+ */
+public class EndpointCircuitBreakerStatsSupplier implements Supplier<Long> {
+    private final EndpointCircuitBreakers endpointCircuitBreakers;
+    private final ToLongFunction<EndpointCircuitBreakers> stat;
+
+    /**
+     * Constructor
+     *
+     * @param endpointCircuitBreakers circuit breakers of remote model endpoints
+     * @param stat function to get the stat value from the circuit breakers
+     */
+    public EndpointCircuitBreakerStatsSupplier(
+        EndpointCircuitBreakers endpointCircuitBreakers,
+        ToLongFunction<EndpointCircuitBreakers> stat
+    ) {
+        this.endpointCircuitBreakers = endpointCircuitBreakers;
+        this.stat = stat;
+    }
+
+    @Override
+    public Long get() {
+        return endpointCircuitBreakers == null ? 0L : stat.applyAsLong(endpointCircuitBreakers);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.ml.common.transport.prediction.MLPredictionPriority;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Admits predict requests into the predict thread pools. Requests wait in a bounded queue per thread pool, model and
+ * priority instead of the unbounded thread pool queue, and a request which finds its queue full is rejected with 429.
+ * No more requests run than the thread pool has threads. The next request to run is taken round robin across the
+ * models with waiting requests, so a model with a deep backlog doesn't delay the other models. Interactive requests
+ * run before batch requests, but after the configured number of interactive requests a batch request runs, so batch
+ * requests aren't starved. A request holds its thread pool slot until its listener completes, so requests which
+ * release their thread while they wait for a response, like async remote predict, are limited as well.
+ */
+@Log4j2
+public class MLPredictAdmissionController {
+    private final ThreadPool threadPool;
+    private final Map<String, PoolQueue> poolQueues = new ConcurrentHashMap<>();
+    private volatile int maxQueueSizePerModel;
+    private volatile int interactiveWeight;
+
+    public MLPredictAdmissionController(ThreadPool threadPool, ClusterService clusterService, Settings settings) {
+        this.threadPool = threadPool;
+        maxQueueSizePerModel = ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL, it -> {
+            maxQueueSizePerModel = it;
+        });
+        interactiveWeight = ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT, it -> {
+            interactiveWeight = it;
+        });
+    }
+
+    /**
+     * Run a predict request on a thread pool once a thread is free for it. The request runs with the thread context of
+     * the caller, not of the request which frees the thread.
+     * @param threadPoolName predict thread pool
+     * @param modelId model id, null for algorithms which don't predict with a model
+     * @param priority priority of the request, null for interactive
+     * @param request runs the request and completes the given listener, which frees the slot of the request
+     * @param listener listener of the request, fails with a rejected execution (429) if the queue is full
+     */
+    public <T> void submit(
+        String threadPoolName,
+        String modelId,
+        MLPredictionPriority priority,
+        Consumer<ActionListener<T>> request,
+        ActionListener<T> listener
+    ) {
+        PoolQueue poolQueue = poolQueues.computeIfAbsent(threadPoolName, PoolQueue::new);
+        MLPredictionPriority lane = priority == null ? MLPredictionPriority.INTERACTIVE : priority;
+        ActionListener<T> releasingListener = ActionListener.notifyOnce(ActionListener.runAfter(listener, poolQueue::onRequestDone));
+        Runnable runnable = threadPool.getThreadContext().preserveContext(() -> {
+            try {
+                request.accept(releasingListener);
+            } catch (Exception e) {
+                releasingListener.onFailure(e);
+            }
+        });
+        if (!poolQueue.offer(modelId == null ? "" : modelId, lane, new QueuedRequest(runnable, releasingListener))) {
+            String message = String
+                .format(Locale.ROOT, "Too many %s predict requests queued for model %s", lane.name().toLowerCase(Locale.ROOT), modelId);
+            log.debug(message);
+            // a rejected execution, so the dispatching node counts it as a failure of this node and not as a fast response
+            listener.onFailure(new OpenSearchRejectedExecutionException(message));
+            return;
+        }
+        poolQueue.drain();
+    }
+
+    /**
+     * @param threadPoolName predict thread pool
+     * @param modelId model id
+     * @param priority priority
+     * @return number of requests of the model waiting for a thread
+     */
+    public int getQueueSize(String threadPoolName, String modelId, MLPredictionPriority priority) {
+        PoolQueue poolQueue = poolQueues.get(threadPoolName);
+        return poolQueue == null ? 0 : poolQueue.size(modelId == null ? "" : modelId, priority);
+    }
+
+    private static class QueuedRequest {
+        private final Runnable runnable;
+        private final ActionListener<?> listener;
+
+        QueuedRequest(Runnable runnable, ActionListener<?> listener) {
+            this.runnable = runnable;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Requests of one priority, queued per model.
+     */
+    private static class Lane {
+        private final Map<String, ArrayDeque<QueuedRequest>> modelQueues = new HashMap<>();
+        // models with queued requests, in the order they get their next turn
+        private final ArrayDeque<String> turns = new ArrayDeque<>();
+
+        boolean offer(String modelId, QueuedRequest request, int maxQueueSize) {
+            ArrayDeque<QueuedRequest> queue = modelQueues.computeIfAbsent(modelId, it -> new ArrayDeque<>());
+            if (queue.size() >= maxQueueSize) {
+                return false;
+            }
+            if (queue.isEmpty()) {
+                turns.add(modelId);
+            }
+            queue.add(request);
+            return true;
+        }
+
+        QueuedRequest poll() {
+            String modelId = turns.poll();
+            if (modelId == null) {
+                return null;
+            }
+            ArrayDeque<QueuedRequest> queue = modelQueues.get(modelId);
+            QueuedRequest request = queue.poll();
+            if (queue.isEmpty()) {
+                modelQueues.remove(modelId);
+            } else {
+                turns.add(modelId);
+            }
+            return request;
+        }
+
+        boolean isEmpty() {
+            return turns.isEmpty();
+        }
+
+        int size(String modelId) {
+            ArrayDeque<QueuedRequest> queue = modelQueues.get(modelId);
+            return queue == null ? 0 : queue.size();
+        }
+    }
+
+    /**
+     * Requests waiting for a thread of one thread pool.
+     */
+    private class PoolQueue {
+        private final String threadPoolName;
+        private final int maxRunning;
+        private final Map<MLPredictionPriority, Lane> lanes = new EnumMap<>(MLPredictionPriority.class);
+        private int running;
+        // interactive requests which ran since the last batch request
+        private int interactiveRuns;
+
+        PoolQueue(String threadPoolName) {
+            this.threadPoolName = threadPoolName;
+            ThreadPool.Info info = threadPool.info(threadPoolName);
+            this.maxRunning = info == null ? 1 : Math.max(1, info.getMax());
+            for (MLPredictionPriority priority : MLPredictionPriority.values()) {
+                lanes.put(priority, new Lane());
+            }
+        }
+
+        synchronized boolean offer(String modelId, MLPredictionPriority priority, QueuedRequest request) {
+            return lanes.get(priority).offer(modelId, request, maxQueueSizePerModel);
+        }
+
+        synchronized int size(String modelId, MLPredictionPriority priority) {
+            return lanes.get(priority).size(modelId);
+        }
+
+        void drain() {
+            while (true) {
+                QueuedRequest request;
+                synchronized (this) {
+                    if (running >= maxRunning) {
+                        return;
+                    }
+                    request = next();
+                    if (request == null) {
+                        return;
+                    }
+                    running++;
+                }
+                try {
+                    threadPool.executor(threadPoolName).execute(request.runnable);
+                } catch (Exception e) {
+                    log.error("Failed to run predict request on thread pool " + threadPoolName, e);
+                    // frees the slot of the request
+                    request.listener.onFailure(e);
+                }
+            }
+        }
+
+        void onRequestDone() {
+            synchronized (this) {
+                running--;
+            }
+            drain();
+        }
+
+        private QueuedRequest next() {
+            Lane interactive = lanes.get(MLPredictionPriority.INTERACTIVE);
+            Lane batch = lanes.get(MLPredictionPriority.BATCH);
+            if (!interactive.isEmpty() && (batch.isEmpty() || interactiveRuns < interactiveWeight)) {
+                interactiveRuns++;
+                return interactive.poll();
+            }
+            interactiveRuns = 0;
+            return batch.poll();
+        }
+    }
+}
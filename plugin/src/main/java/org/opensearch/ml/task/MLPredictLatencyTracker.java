@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Tracks the predict latency and the in-flight predict requests of each model on each worker node, as seen by this
+ * node when it dispatches predict requests. The latency is an exponentially weighted moving average which decays
+ * while a node gets no requests, so a node that was slow once is tried again later. Models and nodes which get no
+ * requests for a while, like undeployed models and removed nodes, are dropped.
+ */
+public class MLPredictLatencyTracker {
+    // weight of a new sample in the moving average
+    private static final double ALPHA = 0.3;
+    // the average of an idle node decays by half every this many milliseconds
+    private static final double DECAY_HALF_LIFE_IN_MILLIS = 10_000;
+    // requests which failed on the node or the transport count as this many times the current average, so nodes which
+    // fail fast don't attract requests
+    private static final double FAILURE_PENALTY = 2;
+    // the average has decayed to nothing by then, so dropping the stats of an idle node doesn't change its cost
+    private static final long IDLE_EXPIRY_IN_NANOS = TimeUnit.MILLISECONDS.toNanos((long) DECAY_HALF_LIFE_IN_MILLIS * 20);
+
+    private final Map<Key, Stats> stats = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final AtomicLong lastExpiryTime = new AtomicLong();
+
+    public MLPredictLatencyTracker() {
+        this(System::nanoTime);
+    }
+
+    @VisibleForTesting
+    MLPredictLatencyTracker(LongSupplier clock) {
+        this.clock = clock;
+        this.lastExpiryTime.set(clock.getAsLong());
+    }
+
+    /**
+     * Count a predict request sent to a node.
+     * @param modelId model id
+     * @param nodeId worker node id
+     */
+    public void onRequestStarted(String modelId, String nodeId) {
+        expireIdleStats();
+        stats.computeIfAbsent(new Key(modelId, nodeId), it -> new Stats()).onRequestStarted(clock);
+    }
+
+    /**
+     * Record the latency of a completed predict request.
+     * @param modelId model id
+     * @param nodeId worker node id
+     * @param latencyInNanos time from sending the request to receiving the response
+     * @param nodeFailure true if the request failed on the node or the transport, failures of the predict itself
+     *                    like invalid input are valid latency samples
+     */
+    public void onRequestCompleted(String modelId, String nodeId, long latencyInNanos, boolean nodeFailure) {
+        stats.computeIfAbsent(new Key(modelId, nodeId), it -> new Stats()).onRequestCompleted(latencyInNanos / 1e6, nodeFailure, clock);
+    }
+
+    /**
+     * Cost of sending a predict request to a node: the latency average times the requests which would be in flight.
+     * Nodes without latency samples cost 0 until a request is sent to them, so new nodes are tried first.
+     * @param modelId model id
+     * @param nodeId worker node id
+     * @return cost of the node, lower is better
+     */
+    public double getCost(String modelId, String nodeId) {
+        Stats nodeStats = stats.get(new Key(modelId, nodeId));
+        return nodeStats == null ? 0 : nodeStats.getCost(clock);
+    }
+
+    @VisibleForTesting
+    int size() {
+        return stats.size();
+    }
+
+    private void expireIdleStats() {
+        long now = clock.getAsLong();
+        long last = lastExpiryTime.get();
+        if (now - last < IDLE_EXPIRY_IN_NANOS || !lastExpiryTime.compareAndSet(last, now)) {
+            return;
+        }
+        stats.values().removeIf(it -> it.isIdle(now));
+    }
+
+    private static final class Key {
+        private final String modelId;
+        private final String nodeId;
+
+        Key(String modelId, String nodeId) {
+            this.modelId = modelId;
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return modelId.equals(key.modelId) && nodeId.equals(key.nodeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * modelId.hashCode() + nodeId.hashCode();
+        }
+    }
+
+    private static final class Stats {
+        private double latencyInMillis = Double.NaN;
+        private long lastUpdateTime;
+        // time of the last request started or completed
+        private long lastUsedTime;
+        private int inFlight;
+
+        synchronized void onRequestStarted(LongSupplier clock) {
+            inFlight++;
+            lastUsedTime = clock.getAsLong();
+        }
+
+        synchronized void onRequestCompleted(double sampleInMillis, boolean nodeFailure, LongSupplier clock) {
+            inFlight = Math.max(0, inFlight - 1);
+            long now = clock.getAsLong();
+            if (Double.isNaN(latencyInMillis)) {
+                latencyInMillis = sampleInMillis;
+            } else {
+                double current = decayed(now);
+                double sample = nodeFailure ? Math.max(sampleInMillis, current * FAILURE_PENALTY) : sampleInMillis;
+                latencyInMillis = ALPHA * sample + (1 - ALPHA) * current;
+            }
+            lastUpdateTime = now;
+            lastUsedTime = now;
+        }
+
+        synchronized double getCost(LongSupplier clock) {
+            if (Double.isNaN(latencyInMillis)) {
+                // probe a node without samples with one request at a time
+                return inFlight == 0 ? 0 : Double.POSITIVE_INFINITY;
+            }
+            return decayed(clock.getAsLong()) * (inFlight + 1);
+        }
+
+        synchronized boolean isIdle(long now) {
+            return inFlight == 0 && now - lastUsedTime > IDLE_EXPIRY_IN_NANOS;
+        }
+
+        private double decayed(long now) {
+            double idleMillis = Math.max(0, now - lastUpdateTime) / 1e6;
+            return latencyInMillis * Math.pow(0.5, idleMillis / DECAY_HALF_LIFE_IN_MILLIS);
+        }
+    }
+}
@@ -13,16 +13,21 @@ import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.UUID;
 
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -33,6 +38,7 @@ import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
@@ -44,6 +50,7 @@ import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.exception.MLDeadlineExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
@@ -56,11 +63,15 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictResultCache;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.node.NodeClosedException;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.ConnectTransportException;
+import org.opensearch.transport.ReceiveTimeoutTransportException;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
@@ -82,6 +93,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
     private volatile boolean autoDeploymentEnabled;
+    private volatile boolean remoteInferenceAsyncEnabled;
+    private volatile boolean localFirstEnabled;
+    private volatile int localFirstMaxExecutingTasks;
+    private final MLPredictAdmissionController admissionController;
 
     public MLPredictTaskRunner(
         ThreadPool threadPool,
@@ -111,6 +126,17 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE, it -> autoDeploymentEnabled = it);
+        remoteInferenceAsyncEnabled = ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED, it -> remoteInferenceAsyncEnabled = it);
+        localFirstEnabled = ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED, it -> localFirstEnabled = it);
+        localFirstMaxExecutingTasks = ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS, it -> localFirstMaxExecutingTasks = it);
+        this.admissionController = new MLPredictAdmissionController(threadPool, clusterService, settings);
     }
 
     @Override
@@ -131,16 +157,23 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         ActionListener<MLTaskResponse> listener
     ) {
         String modelId = request.getModelId();
+        if (request.isDeadlineExceeded()) {
+            dropExpiredRequest("before it was dispatched", listener);
+            return;
+        }
         try {
             ActionListener<DiscoveryNode> actionListener = ActionListener.wrap(node -> {
+                ActionListener<MLTaskResponse> trackedListener = trackPredictLatency(modelId, node.getId(), listener);
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
+                    mlStats.getStat(MLNodeLevelStat.ML_PREDICT_LOCAL_REQUEST_COUNT).increment();
                     request.setDispatchTask(false);
-                    executeTask(request, listener);
+                    executeTask(request, trackedListener);
                 } else {
                     log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
+                    mlStats.getStat(MLNodeLevelStat.ML_PREDICT_FORWARDED_REQUEST_COUNT).increment();
                     request.setDispatchTask(false);
-                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(trackedListener));
                 }
             }, e -> { listener.onFailure(e); });
             String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
@@ -176,7 +209,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                             if (planningWorkerNodes == null || planningWorkerNodes.length == 0) {
                                 planningWorkerNodes = nodeHelper.getEligibleNodeIds(functionName);
                             }
-                            mlTaskDispatcher.dispatchPredictTask(planningWorkerNodes, actionListener);
+                            mlTaskDispatcher.dispatchPredictTask(modelId, planningWorkerNodes, actionListener);
                         }, e -> {
                             log.error("Failed to get model " + modelId, e);
                             listener.onFailure(e);
@@ -197,13 +230,68 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             } else {
                 mlModelManager.removeAutoDeployModel(modelId);
             }
-            mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            if (shouldPredictLocally(workerNodes)) {
+                // skip the transport hop when this node serves the model and isn't busy
+                actionListener.onResponse(clusterService.localNode());
+                return;
+            }
+            mlTaskDispatcher.dispatchPredictTask(modelId, workerNodes, actionListener);
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
         }
     }
 
+    private boolean shouldPredictLocally(String[] workerNodes) {
+        if (!localFirstEnabled || workerNodes == null) {
+            return false;
+        }
+        String localNodeId = clusterService.localNode().getId();
+        if (!Arrays.asList(workerNodes).contains(localNodeId)) {
+            return false;
+        }
+        long executingTaskCount = (Long) mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).getValue();
+        return executingTaskCount < localFirstMaxExecutingTasks;
+    }
+
+    /**
+     * Wrap listener to report the latency of a predict request dispatched to a worker node, which the latency aware
+     * dispatch policy uses to rank the worker nodes.
+     */
+    private ActionListener<MLTaskResponse> trackPredictLatency(String modelId, String nodeId, ActionListener<MLTaskResponse> listener) {
+        long start = System.nanoTime();
+        mlTaskDispatcher.onPredictTaskStarted(modelId, nodeId);
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(MLTaskResponse response) {
+                mlTaskDispatcher.onPredictTaskCompleted(modelId, nodeId, System.nanoTime() - start, false);
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                mlTaskDispatcher.onPredictTaskCompleted(modelId, nodeId, System.nanoTime() - start, isNodeFailure(e));
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Failures of the worker node or the transport make the node less likely to get predict requests, as do requests
+     * the node rejects because its predict queue is full. Errors of the predict itself, like invalid input or a
+     * throttled remote model, say nothing about the node.
+     */
+    private static boolean isNodeFailure(Exception e) {
+        return ExceptionsHelper
+            .unwrap(
+                e,
+                ConnectTransportException.class,
+                ReceiveTimeoutTransportException.class,
+                NodeClosedException.class,
+                OpenSearchRejectedExecutionException.class
+            ) != null;
+    }
+
     /**
      * Start prediction task
      * @param request MLPredictionTaskRequest
@@ -229,24 +317,38 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             .async(false)
             .build();
         MLInput mlInput = request.getMlInput();
+        mlInput.setDeadline(request.getDeadline());
         switch (inputDataType) {
             case SEARCH_QUERY:
                 ActionListener<MLInputDataset> dataFrameActionListener = ActionListener.wrap(dataSet -> {
                     MLInput newInput = mlInput.toBuilder().inputDataset(dataSet).build();
-                    predict(modelId, mlTask, newInput, listener);
+                    newInput.setDeadline(mlInput.getDeadline());
+                    admissionController
+                        .submit(
+                            getPredictThreadPool(functionName),
+                            modelId,
+                            request.getPriority(),
+                            predictListener -> predict(modelId, mlTask, newInput, predictListener),
+                            listener
+                        );
                 }, e -> {
                     log.error("Failed to generate DataFrame from search query", e);
                     handleAsyncMLTaskFailure(mlTask, e);
                     listener.onFailure(e);
                 });
-                mlInputDatasetHandler
-                    .parseSearchQueryInput(mlInput.getInputDataset(), threadedActionListener(functionName, dataFrameActionListener));
+                mlInputDatasetHandler.parseSearchQueryInput(mlInput.getInputDataset(), dataFrameActionListener);
                 break;
             case DATA_FRAME:
             case TEXT_DOCS:
             default:
-                String threadPoolName = getPredictThreadPool(functionName);
-                threadPool.executor(threadPoolName).execute(() -> { predict(modelId, mlTask, mlInput, listener); });
+                admissionController
+                    .submit(
+                        getPredictThreadPool(functionName),
+                        modelId,
+                        request.getPriority(),
+                        predictListener -> predict(modelId, mlTask, mlInput, predictListener),
+                        listener
+                    );
                 break;
         }
     }
@@ -263,6 +365,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     }
 
     private void predict(String modelId, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+        if (mlInput.isDeadlineExceeded()) {
+            // the request waited for a thread longer than the caller waits for the result
+            dropExpiredRequest("before it was executed", listener);
+            return;
+        }
         ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
         // track ML task count and add ML task into cache
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
@@ -320,10 +427,46 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     if (!predictor.isModelReady()) {
                         throw new IllegalArgumentException("Model not ready: " + modelId);
                     }
+                    MLPredictResultCache.Key cacheKey = mlModelManager.createPredictResultKey(modelId, algorithm, mlInput);
+                    if (cacheKey != null) {
+                        MLOutput cachedOutput = mlModelManager.getCachedPredictResult(cacheKey);
+                        if (cachedOutput != null) {
+                            handleAsyncMLTaskComplete(mlTask);
+                            internalListener.onResponse(MLTaskResponse.builder().output(cachedOutput).build());
+                            return;
+                        }
+                    }
+                    if (remoteInferenceAsyncEnabled && algorithm == FunctionName.REMOTE) {
+                        // The remote predict thread is released once the request is sent, the listener is completed by the
+                        // http client, so restore the caller's thread context before responding.
+                        ActionListener<MLOutput> outputListener = ActionListener.wrap(output -> {
+                            if (cacheKey != null) {
+                                mlModelManager.cachePredictResult(cacheKey, output);
+                            }
+                            handleAsyncMLTaskComplete(mlTask);
+                            internalListener.onResponse(MLTaskResponse.builder().output(output).build());
+                        }, e -> handlePredictFailure(mlTask, internalListener, e, false, modelId));
+                        predictor
+                            .asyncPredict(
+                                mlInput,
+                                mlModelManager
+                                    .trackPredictDuration(
+                                        modelId,
+                                        new ContextPreservingActionListener<>(
+                                            threadPool.getThreadContext().newRestorableContext(false),
+                                            outputListener
+                                        )
+                                    )
+                            );
+                        return;
+                    }
                     MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
                     if (output instanceof MLPredictionOutput) {
                         ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
                     }
+                    if (cacheKey != null) {
+                        mlModelManager.cachePredictResult(cacheKey, output);
+                    }
 
                     // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
                     handleAsyncMLTaskComplete(mlTask);
@@ -419,7 +562,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         boolean trackFailure,
         String modelId
     ) {
-        if (trackFailure) {
+        if (ExceptionsHelper.unwrap(e, MLDeadlineExceededException.class) != null) {
+            mlStats.getStat(MLNodeLevelStat.ML_PREDICT_EXPIRED_REQUEST_COUNT).increment();
+        } else if (trackFailure) {
             mlStats
                 .createCounterStatIfAbsent(mlTask.getFunctionName(), ActionName.PREDICT, MLActionLevelStat.ML_ACTION_FAILURE_COUNT)
                 .increment();
@@ -429,4 +574,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         handleAsyncMLTaskFailure(mlTask, e);
         listener.onFailure(e);
     }
+
+    private void dropExpiredRequest(String stage, ActionListener<MLTaskResponse> listener) {
+        mlStats.getStat(MLNodeLevelStat.ML_PREDICT_EXPIRED_REQUEST_COUNT).increment();
+        listener.onFailure(new MLDeadlineExceededException("Predict request exceeded its deadline " + stage));
+    }
 }
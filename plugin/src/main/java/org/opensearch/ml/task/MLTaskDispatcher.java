@@ -8,26 +8,23 @@ package org.opensearch.ml.task;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.naming.LimitExceededException;
 
-import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.ml.action.stats.MLStatsNodeResponse;
-import org.opensearch.ml.action.stats.MLStatsNodesAction;
-import org.opensearch.ml.action.stats.MLStatsNodesRequest;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.cluster.MLNodeLoadService;
 import org.opensearch.ml.common.FunctionName;
-import org.opensearch.ml.stats.MLNodeLevelStat;
-
-import com.google.common.collect.ImmutableSet;
+import org.opensearch.ml.common.transport.sync.MLNodeLoad;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -41,16 +38,23 @@ public class MLTaskDispatcher {
     private final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
     private final String ROUND_ROBIN = "round_robin";
     private final String LEAST_LOAD = "least_load";
+    private final String LATENCY_AWARE = "latency_aware";
     private final ClusterService clusterService;
-    private final Client client;
+    private final MLNodeLoadService nodeLoadService;
+    private final MLPredictLatencyTracker latencyTracker = new MLPredictLatencyTracker();
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
     private DiscoveryNodeHelper nodeHelper;
 
-    public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
+    public MLTaskDispatcher(
+        ClusterService clusterService,
+        Settings settings,
+        DiscoveryNodeHelper nodeHelper,
+        MLNodeLoadService nodeLoadService
+    ) {
         this.clusterService = clusterService;
-        this.client = client;
+        this.nodeLoadService = nodeLoadService;
         this.nodeHelper = nodeHelper;
         this.maxMLBatchTaskPerNode = ML_COMMONS_MAX_ML_TASK_PER_NODE.get(settings);
         this.nextNode = new AtomicInteger(0);
@@ -65,7 +69,8 @@ public class MLTaskDispatcher {
      * @param actionListener action listener
      */
     public void dispatch(FunctionName functionName, ActionListener<DiscoveryNode> actionListener) {
-        if (ROUND_ROBIN.equals(dispatchPolicy)) {
+        // latency aware dispatching only applies to predict requests of a model
+        if (ROUND_ROBIN.equals(dispatchPolicy) || LATENCY_AWARE.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(functionName, actionListener);
         } else if (LEAST_LOAD.equals(dispatchPolicy)) {
             dispatchTaskWithLeastLoad(functionName, actionListener);
@@ -74,7 +79,13 @@ public class MLTaskDispatcher {
         }
     }
 
-    public void dispatchPredictTask(String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
+    /**
+     * Dispatch predict task to one of the worker nodes of the model.
+     * @param modelId model id
+     * @param nodeIds worker node ids
+     * @param actionListener action listener
+     */
+    public void dispatchPredictTask(String modelId, String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
         if (nodeIds == null || nodeIds.length == 0) {
             throw new IllegalArgumentException("no eligible node to run predict request");
         }
@@ -84,7 +95,9 @@ public class MLTaskDispatcher {
                 ActionListener.wrap(nodeId -> actionListener.onResponse(nodeHelper.getNode(nodeId)), e -> actionListener.onFailure(e))
             );
         } else if (LEAST_LOAD.equals(dispatchPolicy)) {
-            dispatchTaskWithLeastLoad(nodeIds, actionListener);
+            dispatchTaskWithLeastLoad(modelId, nodeHelper.getNodes(nodeIds), actionListener);
+        } else if (LATENCY_AWARE.equals(dispatchPolicy)) {
+            actionListener.onResponse(nodeHelper.getNode(dispatchTaskWithLatency(modelId, nodeIds)));
         } else {
             throw new IllegalArgumentException("Unknown policy");
         }
@@ -99,72 +112,121 @@ public class MLTaskDispatcher {
         listener.onResponse(nodes[currentNode]);
     }
 
-    private void dispatchTaskWithLeastLoad(String[] nodeIds, ActionListener<DiscoveryNode> listener) {
-        DiscoveryNode[] nodes = nodeHelper.getNodes(nodeIds);
-        dispatchTaskWithLeastLoad(nodes, listener);
+    /**
+     * Pick the better of two random worker nodes by their predict latency and in-flight requests of the model.
+     */
+    private String dispatchTaskWithLatency(String modelId, String[] nodeIds) {
+        if (nodeIds.length == 1) {
+            return nodeIds[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(nodeIds.length);
+        int second = random.nextInt(nodeIds.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        double firstCost = latencyTracker.getCost(modelId, nodeIds[first]);
+        double secondCost = latencyTracker.getCost(modelId, nodeIds[second]);
+        return secondCost < firstCost ? nodeIds[second] : nodeIds[first];
+    }
+
+    /**
+     * Track a predict request sent to a worker node.
+     * @param modelId model id
+     * @param nodeId worker node id
+     */
+    public void onPredictTaskStarted(String modelId, String nodeId) {
+        if (modelId != null) {
+            latencyTracker.onRequestStarted(modelId, nodeId);
+        }
+    }
+
+    /**
+     * Track the response of a predict request sent to a worker node.
+     * @param modelId model id
+     * @param nodeId worker node id
+     * @param latencyInNanos time from sending the request to receiving the response
+     * @param nodeFailure true if the request failed on the worker node or the transport
+     */
+    public void onPredictTaskCompleted(String modelId, String nodeId, long latencyInNanos, boolean nodeFailure) {
+        if (modelId != null) {
+            latencyTracker.onRequestCompleted(modelId, nodeId, latencyInNanos, nodeFailure);
+        }
+    }
+
+    private void dispatchTaskWithLeastLoad(String modelId, DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
+        if (nodes.length == 0) {
+            listener.onFailure(new IllegalArgumentException("no eligible node to run ml task"));
+            return;
+        }
+        // Check JVM pressure, nodes which haven't reported their load yet are considered idle
+        List<DiscoveryNode> candidateNodes = Arrays.stream(nodes).filter(node -> {
+            MLNodeLoad nodeLoad = nodeLoadService.getNodeLoad(node.getId());
+            return nodeLoad == null || nodeLoad.getJvmHeapUsage() < DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
+        }).collect(Collectors.toList());
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' memory usage exceeds limitation "
+                + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
+                + ". No eligible node available to run ml jobs ";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // Check # of executing ML task
+        candidateNodes = candidateNodes.stream().filter(node -> {
+            MLNodeLoad nodeLoad = nodeLoadService.getNodeLoad(node.getId());
+            return nodeLoad == null || nodeLoad.getExecutingTaskCount() < maxMLBatchTaskPerNode;
+        }).collect(Collectors.toList());
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' executing ML task count reach limitation.";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // choose the node with the least load, if multiple nodes have same load, choose the one with least JVM heap usage.
+        DiscoveryNode targetNode = candidateNodes
+            .stream()
+            .min(
+                Comparator
+                    .comparingLong((DiscoveryNode node) -> getLoad(node.getId(), modelId))
+                    .thenComparingLong(node -> getJvmHeapUsage(node.getId()))
+            )
+            .get();
+        nodeLoadService.onTaskDispatched(targetNode.getId());
+        listener.onResponse(targetNode);
+    }
+
+    /**
+     * Load of a node from its last snapshot: the executing and queued tasks, the executing requests of the model, and
+     * the tasks this node dispatched to it since the snapshot.
+     */
+    private long getLoad(String nodeId, String modelId) {
+        long load = nodeLoadService.getDispatchedTaskCount(nodeId);
+        MLNodeLoad nodeLoad = nodeLoadService.getNodeLoad(nodeId);
+        if (nodeLoad != null) {
+            load += nodeLoad.getExecutingTaskCount() + nodeLoad.getPredictQueueSize() + nodeLoad.getModelInFlightRequests(modelId);
+        }
+        return load;
     }
 
-    private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
-        MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
-        MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-
-        client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
-            // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
-                .collect(Collectors.toList());
-
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' memory usage exceeds limitation "
-                    + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
-                    + ". No eligible node available to run ml jobs ";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
-            }
-
-            // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' executing ML task count reach limitation.";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
-            }
-
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
-        }, exception -> {
-            log.error("Failed to get node's task stats", exception);
-            listener.onFailure(exception);
-        }));
+    private long getJvmHeapUsage(String nodeId) {
+        MLNodeLoad nodeLoad = nodeLoadService.getNodeLoad(nodeId);
+        return nodeLoad == null ? 0 : nodeLoad.getJvmHeapUsage();
     }
 
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
-        DiscoveryNode[] eligibleNodes = nodeHelper.getEligibleNodes(functionName);
-        dispatchTaskWithLeastLoad(eligibleNodes, listener);
+        DiscoveryNode[] eligibleNodes = getEligibleNodes(functionName);
+        dispatchTaskWithLeastLoad(null, eligibleNodes, listener);
     }
 
     private void dispatchTaskWithRoundRobin(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
+        DiscoveryNode[] eligibleNodes = getEligibleNodes(functionName);
+        dispatchTaskWithRoundRobin(eligibleNodes, listener);
+    }
+
+    private DiscoveryNode[] getEligibleNodes(FunctionName functionName) {
         DiscoveryNode[] eligibleNodes = nodeHelper.getEligibleNodes(functionName);
         if (eligibleNodes == null || eligibleNodes.length == 0) {
             throw new IllegalArgumentException(
@@ -174,7 +236,7 @@ public class MLTaskDispatcher {
                     + "configuration using the _cluster/setting api"
             );
         }
-        dispatchTaskWithRoundRobin(eligibleNodes, listener);
+        return eligibleNodes;
     }
 
 }
@@ -212,6 +212,22 @@ public class MLTaskManager {
         return res;
     }
 
+    /**
+     * Get predict task count of each model in cache.
+     *
+     * @return map of model id to its predict task count
+     */
+    public Map<String, Integer> getPredictTaskCountByModel() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<String, MLTaskCache> entry : taskCaches.entrySet()) {
+            MLTask mlTask = entry.getValue().getMlTask();
+            if (mlTask.getTaskType() == MLTaskType.PREDICTION && mlTask.getModelId() != null) {
+                counts.merge(mlTask.getModelId(), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
     /**
      * Clear all tasks.
      */
@@ -17,6 +17,8 @@ import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
@@ -35,7 +37,15 @@ public class MLNodeUtils {
 
     public static XContentParser createXContentParserFromRegistry(NamedXContentRegistry xContentRegistry, BytesReference bytesReference)
         throws IOException {
-        return XContentHelper.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, bytesReference, XContentType.JSON);
+        // model chunks are indexed as SMILE, other documents as JSON
+        MediaType mediaType = MediaTypeRegistry.xContentType(bytesReference);
+        return XContentHelper
+            .createParser(
+                xContentRegistry,
+                LoggingDeprecationHandler.INSTANCE,
+                bytesReference,
+                mediaType == null ? XContentType.JSON : mediaType
+            );
     }
 
     public static void parseArrayField(XContentParser parser, Set<String> set) throws IOException {
@@ -74,6 +74,8 @@ public class RestActionUtils {
     public static final String[] UI_METADATA_EXCLUDE = new String[] { "ui_metadata" };
 
     public static final String PARAMETER_TOOL_NAME = "tool_name";
+    public static final String PARAMETER_PRIORITY = "priority";
+    public static final String PARAMETER_TIMEOUT = "timeout";
 
     public static final String OPENDISTRO_SECURITY_CONFIG_PREFIX = "_opendistro_security_";
 
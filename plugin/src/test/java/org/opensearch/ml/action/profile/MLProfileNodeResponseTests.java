@@ -76,6 +76,41 @@ public class MLProfileNodeResponseTests extends OpenSearchTestCase {
         Assert.assertEquals(newResponse.getNodeTasksSize(), response.getNodeTasksSize());
     }
 
+    public void testSerializationDeserialization_EndpointCircuitBreakers() throws IOException {
+        MLModelProfile profile = MLModelProfile
+            .builder()
+            .modelState(MLModelState.DEPLOYED)
+            .endpointCircuitBreakers(Map.of("https://api.openai.com/v1/embeddings", "OPEN"))
+            .build();
+        MLProfileNodeResponse response = new MLProfileNodeResponse(localNode, null, Map.of("test_id", profile));
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLProfileNodeResponse newResponse = new MLProfileNodeResponse(output.bytes().streamInput());
+        Assert
+            .assertEquals(
+                Map.of("https://api.openai.com/v1/embeddings", "OPEN"),
+                newResponse.getMlNodeModels().get("test_id").getEndpointCircuitBreakers()
+            );
+    }
+
+    public void testSerializationDeserialization_DynamicBatching() throws IOException {
+        MLModelProfile profile = MLModelProfile
+            .builder()
+            .modelState(MLModelState.DEPLOYED)
+            .inferenceQueueDepth(3)
+            .batchSizeHistogram(Map.of("1", 5L, "3-4", 2L))
+            .paddingEfficiency(0.75)
+            .build();
+        MLProfileNodeResponse response = new MLProfileNodeResponse(localNode, null, Map.of("test_id", profile));
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLProfileNodeResponse newResponse = new MLProfileNodeResponse(output.bytes().streamInput());
+        MLModelProfile newProfile = newResponse.getMlNodeModels().get("test_id");
+        Assert.assertEquals(Integer.valueOf(3), newProfile.getInferenceQueueDepth());
+        Assert.assertEquals(Map.of("1", 5L, "3-4", 2L), newProfile.getBatchSizeHistogram());
+        Assert.assertEquals(0.75, newProfile.getPaddingEfficiency(), 1e-9);
+    }
+
     public void testSerializationDeserialization_NullNodeTasks() throws IOException {
         MLProfileNodeResponse response = new MLProfileNodeResponse(localNode, null, null);
         BytesStreamOutput output = new BytesStreamOutput();
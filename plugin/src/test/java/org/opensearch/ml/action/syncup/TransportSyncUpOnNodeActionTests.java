@@ -53,10 +53,12 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.cluster.MLNodeLoadService;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.sync.MLNodeLoad;
 import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
@@ -118,6 +120,9 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
     @Mock
     private MLModelCacheHelper mlModelCacheHelper;
 
+    @Mock
+    private MLNodeLoadService nodeLoadService;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -135,7 +140,8 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
             client,
             xContentRegistry,
             mlEngine,
-            mlModelCacheHelper
+            mlModelCacheHelper,
+            nodeLoadService
         );
         runningDeployModelTasks = new HashMap<>();
         runningDeployModelTasks.put("model1", ImmutableSet.of("node1"));
@@ -209,9 +215,13 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(file1.getCanonicalPath()));
         when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(file3.getCanonicalPath()));
+        MLNodeLoad nodeLoad = MLNodeLoad.builder().executingTaskCount(2).jvmHeapUsage(40).build();
+        when(nodeLoadService.getLocalNodeLoad()).thenReturn(nodeLoad);
         final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, prepareRequest()));
         final MLSyncUpNodeResponse response = action.nodeOperation(request);
         assertNotNull(response);
+        assertEquals(nodeLoad, response.getNodeLoad());
+        verify(nodeLoadService, never()).updateNodeLoads(any());
         file1.deleteOnExit();
         file2.deleteOnExit();
         file3.deleteOnExit();
@@ -249,6 +259,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, prepareRequest2()));
         final MLSyncUpNodeResponse response = action.nodeOperation(request);
         assertNotNull(response);
+        verify(nodeLoadService).updateNodeLoads(Map.of("nodeId3", MLNodeLoad.builder().executingTaskCount(1).build()));
         file1.deleteOnExit();
         file2.deleteOnExit();
         file3.deleteOnExit();
@@ -361,6 +372,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
             .removedWorkerNodes(removedWorkerNodes)
             .modelRoutingTable(modelRoutingTable)
             .runningDeployModelTasks(runningDeployModelTasks)
+            .nodeLoads(Map.of("nodeId3", MLNodeLoad.builder().executingTaskCount(1).build()))
             .clearRoutingTable(false)
             .syncRunningDeployModelTasks(true)
             .build();
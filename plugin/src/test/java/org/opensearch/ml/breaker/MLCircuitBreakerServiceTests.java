@@ -8,6 +8,13 @@ package org.opensearch.ml.breaker;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_HALF_OPEN_PROBES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_MINIMUM_CALLS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_OPEN_DURATION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_DURATION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD;
 
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -22,6 +29,7 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.engine.algorithms.remote.EndpointCircuitBreakers;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.jvm.JvmStats;
 import org.opensearch.monitor.os.OsService;
@@ -103,11 +111,33 @@ public class MLCircuitBreakerServiceTests {
             .build();
         ClusterSettings clusterSettings = new ClusterSettings(
             settings,
-            new HashSet<>(Arrays.asList(ML_COMMONS_NATIVE_MEM_THRESHOLD, ML_COMMONS_JVM_HEAP_MEM_THRESHOLD))
+            new HashSet<>(
+                Arrays
+                    .asList(
+                        ML_COMMONS_NATIVE_MEM_THRESHOLD,
+                        ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_SLOW_CALL_DURATION,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_MINIMUM_CALLS,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_OPEN_DURATION,
+                        ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_HALF_OPEN_PROBES
+                    )
+            )
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService);
         Assert.assertNotNull(mlCircuitBreakerService.init(Path.of("/")));
+
+        EndpointCircuitBreakers endpointCircuitBreakers = mlCircuitBreakerService.getEndpointCircuitBreakers();
+        Assert.assertNotNull(endpointCircuitBreakers.getBreaker("https://api.openai.com/v1/embeddings"));
+        Assert.assertEquals(50, endpointCircuitBreakers.getConfig().getFailureRateThreshold());
+        clusterSettings
+            .applySettings(Settings.builder().put(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD.getKey(), 80).build());
+        Assert.assertEquals(80, endpointCircuitBreakers.getConfig().getFailureRateThreshold());
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_REMOTE_ENDPOINT_CIRCUIT_BREAKER_ENABLED.getKey(), false).build());
+        Assert.assertNull(endpointCircuitBreakers.getBreaker("https://api.openai.com/v1/embeddings"));
     }
 
     @Test
@@ -11,8 +11,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -30,9 +32,14 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
 import org.opensearch.ml.profile.MLModelProfile;
@@ -69,7 +76,11 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         MockitoAnnotations.openMocks(this);
         maxMonitoringRequests = 10;
         settings = Settings.builder().put(ML_COMMONS_MONITORING_REQUEST_COUNT.getKey(), maxMonitoringRequests).build();
-        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MONITORING_REQUEST_COUNT);
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MONITORING_REQUEST_COUNT,
+            ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED
+        );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
 
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -141,6 +152,18 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(predictor, cacheHelper.getPredictor(modelId));
     }
 
+    public void testPredictor_Replaced() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        cacheHelper.setPredictor(modelId, predictor);
+        verify(predictor, times(0)).close();
+
+        TextEmbeddingDenseModel newPredictor = spy(new TextEmbeddingDenseModel());
+        cacheHelper.setPredictor(modelId, newPredictor);
+        verify(predictor, times(1)).close();
+        assertEquals(newPredictor, cacheHelper.getPredictor(modelId));
+    }
+
     public void testExecutor() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.METRICS_CORRELATION, targetWorkerNodes, true);
         assertNull(cacheHelper.getMLExecutor(modelId));
@@ -396,4 +419,35 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals("mockId", cacheHelper.getModelInfo(modelId).getModelId());
     }
 
+    public void test_updateModelInfo_invalidatesPredictResults() {
+        Settings enableCache = Settings.builder().put(ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED.getKey(), true).build();
+        clusterService.getClusterSettings().applySettings(enableCache);
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        MLModel model = MLModel
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .version("1")
+            .lastUpdateTime(Instant.ofEpochMilli(1))
+            .build();
+        cacheHelper.setModelInfo(modelId, model);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of("hello")).build())
+            .build();
+        MLPredictResultCache.Key key = cacheHelper.createPredictResultKey(modelId, FunctionName.TEXT_EMBEDDING, mlInput);
+        ModelTensor tensor = ModelTensor.builder().name("response").result("result").build();
+        ModelTensorOutput output = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(tensor)).build()))
+            .build();
+        cacheHelper.getPredictResultCache().put(key, output);
+        assertEquals(1, cacheHelper.getPredictResultCache().count());
+
+        MLModel updatedModel = model.toBuilder().lastUpdateTime(Instant.ofEpochMilli(2)).build();
+        cacheHelper.updateModelInfo(modelId, updatedModel);
+        assertSame(updatedModel, cacheHelper.getModelInfo(modelId));
+        assertEquals(0, cacheHelper.getPredictResultCache().count());
+        assertNotEquals(key, cacheHelper.createPredictResultKey(modelId, FunctionName.TEXT_EMBEDDING, mlInput));
+    }
 }
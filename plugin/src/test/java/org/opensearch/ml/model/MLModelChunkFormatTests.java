@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.common.MLModel.MODEL_CONTENT_ENCODING_FIELD;
+import static org.opensearch.ml.common.MLModel.MODEL_CONTENT_FIELD;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+import org.opensearch.Version;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkFormatTests extends OpenSearchTestCase {
+
+    private final MLModel chunk = MLModel
+        .builder()
+        .modelId("model_id")
+        .name("model")
+        .algorithm(FunctionName.TEXT_EMBEDDING)
+        .version("1")
+        .chunkNumber(0)
+        .totalChunks(2)
+        .build();
+
+    public void testToXContent_Binary() throws IOException {
+        byte[] content = randomByteArrayOfLength(1000);
+        BytesReference source = BytesReference.bytes(MLModelChunkFormat.toXContent(chunk, content, false, Version.CURRENT));
+
+        assertEquals(XContentType.SMILE, MediaTypeRegistry.xContentType(source));
+        assertArrayEquals(content, MLModelChunkFormat.parseContent(source));
+        // the raw content is smaller than its base64 string
+        assertTrue(source.length() < Base64.getEncoder().encodeToString(content).length());
+    }
+
+    public void testToXContent_Compressed() throws IOException {
+        byte[] content = new byte[100_000];
+        Arrays.fill(content, (byte) 1);
+        BytesReference source = BytesReference.bytes(MLModelChunkFormat.toXContent(chunk, content, true, Version.CURRENT));
+
+        assertTrue(source.length() < 1000);
+        assertEquals(
+            MLModelChunkFormat.DEFLATE_ENCODING,
+            XContentHelper.convertToMap(source, false, XContentType.SMILE).v2().get(MODEL_CONTENT_ENCODING_FIELD)
+        );
+        assertArrayEquals(content, MLModelChunkFormat.parseContent(source));
+    }
+
+    public void testToXContent_IncompressibleContent() throws IOException {
+        byte[] content = randomByteArrayOfLength(1000);
+        BytesReference source = BytesReference.bytes(MLModelChunkFormat.toXContent(chunk, content, true, Version.CURRENT));
+
+        assertNull(XContentHelper.convertToMap(source, false, XContentType.SMILE).v2().get(MODEL_CONTENT_ENCODING_FIELD));
+        assertArrayEquals(content, MLModelChunkFormat.parseContent(source));
+    }
+
+    public void testToXContent_OldNodes() throws IOException {
+        byte[] content = new byte[100_000];
+        Arrays.fill(content, (byte) 1);
+        BytesReference source = BytesReference.bytes(MLModelChunkFormat.toXContent(chunk, content, true, Version.V_2_13_0));
+
+        // nodes of earlier versions read JSON with uncompressed base64 content only
+        assertEquals(XContentType.JSON, MediaTypeRegistry.xContentType(source));
+        Map<String, Object> fields = XContentHelper.convertToMap(source, false, XContentType.JSON).v2();
+        assertNull(fields.get(MODEL_CONTENT_ENCODING_FIELD));
+        assertEquals(Base64.getEncoder().encodeToString(content), fields.get(MODEL_CONTENT_FIELD));
+        assertArrayEquals(content, MLModelChunkFormat.parseContent(source));
+    }
+
+    public void testParseContent_Base64() throws IOException {
+        byte[] content = randomByteArrayOfLength(1000);
+        MLModel base64Chunk = chunk.toBuilder().content(Base64.getEncoder().encodeToString(content)).build();
+        BytesReference source = BytesReference.bytes(base64Chunk.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+
+        assertArrayEquals(content, MLModelChunkFormat.parseContent(source));
+    }
+
+    public void testParseModel() throws IOException {
+        byte[] content = randomByteArrayOfLength(1000);
+        BytesReference source = BytesReference.bytes(MLModelChunkFormat.toXContent(chunk, content, false, Version.CURRENT));
+
+        try (XContentParser parser = MLNodeUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, source)) {
+            parser.nextToken();
+            MLModel model = MLModel.parse(parser, FunctionName.TEXT_EMBEDDING.name());
+            assertEquals("model", model.getName());
+            assertEquals(Integer.valueOf(0), model.getChunkNumber());
+            assertEquals(Base64.getEncoder().encodeToString(content), model.getContent());
+        }
+    }
+
+    public void testParseModel_Compressed() throws IOException {
+        byte[] content = new byte[100_000];
+        Arrays.fill(content, (byte) 1);
+        BytesReference source = BytesReference.bytes(MLModelChunkFormat.toXContent(chunk, content, true, Version.CURRENT));
+        assertEquals(
+            MLModelChunkFormat.DEFLATE_ENCODING,
+            XContentHelper.convertToMap(source, false, XContentType.SMILE).v2().get(MODEL_CONTENT_ENCODING_FIELD)
+        );
+
+        try (XContentParser parser = MLNodeUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, source)) {
+            parser.nextToken();
+            MLModel model = MLModel.parse(parser, FunctionName.TEXT_EMBEDDING.name());
+            // the content is decompressed
+            assertEquals(Base64.getEncoder().encodeToString(content), model.getContent());
+        }
+    }
+}
@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -22,15 +23,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.MLTask.FUNCTION_NAME_FIELD;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
+import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_THREAD_BUDGET;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_RETRIEVALS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_UPLOADS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION_ENABLED;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
@@ -46,13 +52,16 @@ import static org.opensearch.ml.utils.MockHelper.mock_client_update_failure;
 import static org.opensearch.ml.utils.MockHelper.mock_threadpool;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 import static org.opensearch.ml.utils.TestHelper.copyFile;
+import static org.opensearch.ml.utils.TestHelper.setupTestClusterState;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -69,8 +78,12 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
@@ -81,6 +94,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.MemoryCircuitBreaker;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
@@ -193,9 +208,15 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ML_COMMONS_MAX_MODELS_PER_NODE,
             ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MONITORING_REQUEST_COUNT,
-            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE
+            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+            ML_COMMONS_LOCAL_MODEL_THREAD_BUDGET,
+            ML_COMMONS_LOCAL_MODEL_ARTIFACT_CACHE_SIZE,
+            ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_RETRIEVALS,
+            ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_UPLOADS,
+            ML_COMMONS_MODEL_CHUNK_COMPRESSION_ENABLED
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
+        doReturn(setupTestClusterState()).when(clusterService).state();
         xContentRegistry = NamedXContentRegistry.EMPTY;
 
         modelName = "model_name1";
@@ -266,7 +287,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
                 mlTaskManager,
                 modelCacheHelper,
                 mlEngine,
-                nodeHelper
+                nodeHelper,
+                null
             )
         );
 
@@ -408,7 +430,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ActionListener<Map<String, Object>> listener = invocation.getArgument(7);
             Map<String, Object> result = new HashMap<>();
             result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(newChunks[0], newChunks[1]));
+            result.put(MODEL_FILE, newChunks[0]);
             result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
             listener.onResponse(result);
             return null;
@@ -560,6 +582,102 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
     }
 
+    public void testUploadModelChunks() throws IOException {
+        List<BulkRequest> bulkRequests = mock_client_bulk();
+        // the last chunk is partial
+        long modelSizeInBytes = 2L * ModelHelper.CHUNK_SIZE + 10;
+
+        uploadModelChunks(registerModelInput, modelSizeInBytes);
+
+        // chunks are indexed MODEL_CHUNKS_PER_BULK at a time
+        assertEquals(2, bulkRequests.size());
+        assertEquals(MLModelManager.MODEL_CHUNKS_PER_BULK, bulkRequests.get(0).numberOfActions());
+        assertEquals(1, bulkRequests.get(1).numberOfActions());
+        for (int chunkNum = 0; chunkNum < 3; chunkNum++) {
+            IndexRequest indexRequest = (IndexRequest) bulkRequests
+                .get(chunkNum / MLModelManager.MODEL_CHUNKS_PER_BULK)
+                .requests()
+                .get(chunkNum % MLModelManager.MODEL_CHUNKS_PER_BULK);
+            assertEquals(modelManager.getModelChunkId(modelId, chunkNum), indexRequest.id());
+            // each chunk is read from its offset of the model file
+            byte[] content = MLModelChunkFormat.parseContent(indexRequest.source());
+            assertEquals(chunkNum < 2 ? ModelHelper.CHUNK_SIZE : 10, content.length);
+            assertEquals((byte) (chunkNum + 1), content[0]);
+        }
+        ArgumentCaptor<Map<String, Object>> updatedTask = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("taskId"), updatedTask.capture(), anyLong(), anyBoolean());
+        assertEquals(MLTaskState.COMPLETED, updatedTask.getValue().get(MLTask.STATE_FIELD));
+        verify(client, never()).delete(any(DeleteRequest.class));
+    }
+
+    public void testUploadModelChunks_NextBulkSentWhenPreviousIndexed() throws IOException {
+        List<ActionListener<BulkResponse>> bulkListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            bulkListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+        long modelSizeInBytes = 5L * ModelHelper.CHUNK_SIZE;
+
+        uploadModelChunks(registerModelInput, modelSizeInBytes);
+        // two bulk requests in flight by default
+        assertEquals(2, bulkListeners.size());
+
+        // the third bulk is only sent once a previous one is indexed
+        bulkListeners.get(0).onResponse(createBulkResponse(false));
+        assertEquals(3, bulkListeners.size());
+        verify(mlTaskManager, never()).updateMLTask(any(), any(), anyLong(), anyBoolean());
+
+        bulkListeners.get(1).onResponse(createBulkResponse(false));
+        bulkListeners.get(2).onResponse(createBulkResponse(false));
+        assertEquals(3, bulkListeners.size());
+        verify(mlTaskManager).updateMLTask(eq("taskId"), any(), anyLong(), anyBoolean());
+    }
+
+    public void testUploadModelChunks_PartialBulkFailure() throws IOException {
+        List<BulkRequest> bulkRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            bulkRequests.add(invocation.getArgument(0));
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(createBulkResponse(true));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+        long modelSizeInBytes = 2L * ModelHelper.CHUNK_SIZE + 10;
+        MLRegisterModelInput input = registerModelInput.toBuilder().doesVersionCreateModelGroup(true).build();
+
+        uploadModelChunks(input, modelSizeInBytes);
+
+        // the upload stops at the first failure
+        assertEquals(1, bulkRequests.size());
+        ArgumentCaptor<Map<String, Object>> updatedTask = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("taskId"), updatedTask.capture(), anyLong(), anyBoolean());
+        assertEquals(MLTaskState.FAILED, updatedTask.getValue().get(MLTask.STATE_FIELD));
+        // the model doc, the chunks indexed so far and the model group are removed
+        verify(client, times(2)).delete(any(DeleteRequest.class));
+        verify(client).execute(eq(DeleteByQueryAction.INSTANCE), any(DeleteByQueryRequest.class));
+    }
+
+    public void testUploadModelChunks_StopsAtFirstFailure() throws IOException {
+        List<ActionListener<BulkResponse>> bulkListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            bulkListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+        long modelSizeInBytes = 5L * ModelHelper.CHUNK_SIZE;
+        MLRegisterModelInput input = registerModelInput.toBuilder().doesVersionCreateModelGroup(true).build();
+
+        uploadModelChunks(input, modelSizeInBytes);
+        // two bulk requests in flight by default
+        assertEquals(2, bulkListeners.size());
+
+        bulkListeners.get(0).onFailure(new RuntimeException("bulk failed"));
+        bulkListeners.get(1).onResponse(createBulkResponse(false));
+
+        // no more chunks are sent after the failure, and the failure is handled once
+        assertEquals(2, bulkListeners.size());
+        verify(mlTaskManager, times(1)).updateMLTask(eq("taskId"), any(), anyLong(), anyBoolean());
+        verify(client).execute(eq(DeleteByQueryAction.INSTANCE), any(DeleteByQueryRequest.class));
+    }
+
     public void testRegisterModel_ClientFailedToGetThreadPool() {
         mock_client_ThreadContext_Exception(client, threadPool, threadContext);
         modelManager.registerMLModel(registerModelInput, mlTask);
@@ -720,8 +838,11 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         mock_client_ThreadContext(client, threadPool, threadContext);
         mock_threadpool(threadPool, taskExecutorService);
         setUpMock_GetModel(model);
-        setUpMock_GetModel(modelChunk0);
-        setUpMock_GetModel(modelChunk0);
+        doAnswer(invocation -> {
+            ActionListener<byte[]> chunkListener = invocation.getArgument(1);
+            chunkListener.onResponse(Base64.getDecoder().decode(modelChunk0.getContent()));
+            return null;
+        }).when(modelManager).getModelChunk(any(), any());
         modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, false, mlTask, listener);
         assertFalse(modelManager.isModelRunningOnNode(modelId));
         ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
@@ -1026,47 +1147,38 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     }
 
     private void setUpMock_GetModelChunks(MLModel model) {
+        setUpMock_GetModel(model);
         doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(model);
-            return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(modelChunk0);
+            ActionListener<byte[]> listener = invocation.getArgument(1);
+            listener.onResponse(Base64.getDecoder().decode(modelChunk0.getContent()));
             return null;
         }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(modelChunk1);
+            ActionListener<byte[]> listener = invocation.getArgument(1);
+            listener.onResponse(Base64.getDecoder().decode(modelChunk1.getContent()));
             return null;
-        }).when(modelManager).getModel(any(), any());
+        }).when(modelManager).getModelChunk(any(), any());
     }
 
     private void setUpMock_GetModelMeta_FailedToGetFirstChunk(MLModel model) {
+        setUpMock_GetModel(model);
         doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(model);
-            return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
+            ActionListener<byte[]> listener = invocation.getArgument(1);
             listener.onFailure(new RuntimeException("Failed to get model"));
             return null;
-        }).when(modelManager).getModel(any(), any());
+        }).when(modelManager).getModelChunk(any(), any());
     }
 
     private void setUpMock_GetModelMeta_FailedToGetLastChunk(MLModel model) {
+        setUpMock_GetModel(model);
         doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(model);
-            return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(modelChunk0);
+            ActionListener<byte[]> listener = invocation.getArgument(1);
+            listener.onResponse(Base64.getDecoder().decode(modelChunk0.getContent()));
             return null;
         }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
+            ActionListener<byte[]> listener = invocation.getArgument(1);
             listener.onFailure(new RuntimeException("Failed to get model"));
             return null;
-        }).when(modelManager).getModel(any(), any());
+        }).when(modelManager).getModelChunk(any(), any());
     }
 
     private void setUpMock_DownloadModelFileFailure() {
@@ -1082,7 +1194,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
             Map<String, Object> result = new HashMap<>();
             result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(chunks[0], chunks[1]));
+            result.put(MODEL_FILE, chunks[0]);
             result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
             listener.onResponse(result);
             return null;
@@ -1187,6 +1299,41 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         return input;
     }
 
+    private List<BulkRequest> mock_client_bulk() {
+        List<BulkRequest> bulkRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            bulkRequests.add(invocation.getArgument(0));
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(createBulkResponse(false));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+        return bulkRequests;
+    }
+
+    private BulkResponse createBulkResponse(boolean hasFailures) {
+        BulkResponse bulkResponse = mock(BulkResponse.class);
+        when(bulkResponse.hasFailures()).thenReturn(hasFailures);
+        when(bulkResponse.buildFailureMessage()).thenReturn("failure");
+        return bulkResponse;
+    }
+
+    /**
+     * Upload the chunks of a sparse model file, the first byte of each chunk is the chunk number plus one.
+     */
+    private void uploadModelChunks(MLRegisterModelInput input, long modelSizeInBytes) throws IOException {
+        when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
+        File modelFile = createTempFile().toFile();
+        try (RandomAccessFile file = new RandomAccessFile(modelFile, "rw")) {
+            file.setLength(modelSizeInBytes);
+            for (long offset = 0, chunkNum = 1; offset < modelSizeInBytes; offset += ModelHelper.CHUNK_SIZE, chunkNum++) {
+                file.seek(offset);
+                file.write((int) chunkNum);
+            }
+        }
+        FunctionName functionName = FunctionName.TEXT_EMBEDDING;
+        modelManager.uploadModelChunks(input, "taskId", functionName, modelName, version, modelId, modelFile, modelSizeInBytes, "hash");
+    }
+
     private MLRegisterModelInput mockPretrainedInput() {
         return MLRegisterModelInput
             .builder()
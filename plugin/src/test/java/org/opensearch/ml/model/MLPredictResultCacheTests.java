@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_RESULT_CACHE_SIZE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.utils.TestData;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLPredictResultCacheTests extends OpenSearchTestCase {
+    private ClusterSettings clusterSettings;
+    private MLPredictResultCache cache;
+    private MLModel modelInfo;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED.getKey(), true)
+            .put(ML_COMMONS_PREDICT_RESULT_CACHE_SIZE.getKey(), "10kb")
+            .build();
+        clusterSettings = clusterSetting(settings, ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED);
+        ClusterService clusterService = spy(new ClusterService(settings, clusterSettings, null));
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        cache = new MLPredictResultCache(clusterService, settings);
+        modelInfo = MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).version("1").modelContentHash("hash").build();
+    }
+
+    public void testCreateKey() {
+        MLPredictResultCache.Key key = cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello"));
+        assertNotNull(key);
+        assertEquals("model_id", key.getModelId());
+        assertEquals("1/hash/", key.getModelVersion());
+        assertEquals(key, cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+        assertNotEquals(key, cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("world")));
+        assertNotEquals(key, cache.createKey("model_id2", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+        MLModel newVersion = MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).version("2").modelContentHash("hash2").build();
+        assertNotEquals(key, cache.createKey("model_id", newVersion, FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+    }
+
+    public void testCreateKey_ModelUpdated() {
+        MLModel model = modelInfo.toBuilder().lastUpdateTime(Instant.ofEpochMilli(1000)).build();
+        MLPredictResultCache.Key key = cache.createKey("model_id", model, FunctionName.REMOTE, textDocsInput("hello"));
+        assertEquals("1/hash/1000", key.getModelVersion());
+        cache.put(key, embeddingOutput(4));
+
+        // updating the connector of a remote model keeps the model version
+        MLModel updatedModel = model.toBuilder().lastUpdateTime(Instant.ofEpochMilli(2000)).build();
+        MLPredictResultCache.Key updatedKey = cache.createKey("model_id", updatedModel, FunctionName.REMOTE, textDocsInput("hello"));
+        assertNotEquals(key, updatedKey);
+        assertNull(cache.get(updatedKey));
+    }
+
+    public void testCreateKey_TextSimilarity() {
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_SIMILARITY)
+            .inputDataset(TextSimilarityInputDataSet.builder().queryText("query").textDocs(List.of("doc")).build())
+            .build();
+        assertNotNull(cache.createKey("model_id", null, FunctionName.TEXT_SIMILARITY, mlInput));
+    }
+
+    public void testCreateKey_NotCacheable() {
+        assertNull(cache.createKey(null, modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+        assertNull(cache.createKey("model_id", modelInfo, FunctionName.BATCH_RCF, textDocsInput("hello")));
+
+        MLInput remoteInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(Map.of("prompt", "hello")).build())
+            .build();
+        assertNull(cache.createKey("model_id", modelInfo, FunctionName.REMOTE, remoteInput));
+
+        DataFrame dataFrame = TestData.constructTestDataFrame(10);
+        MLInput dataFrameInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(DataFrameInputDataset.builder().dataFrame(dataFrame).build())
+            .build();
+        assertNull(cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, dataFrameInput));
+    }
+
+    public void testGetAndPut() {
+        MLPredictResultCache.Key key = cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello"));
+        assertNull(cache.get(key));
+
+        ModelTensorOutput output = embeddingOutput(4);
+        cache.put(key, output);
+        assertEquals(1, cache.count());
+        MLOutput cachedOutput = cache.get(key);
+        assertNotSame(output, cachedOutput);
+        ModelTensor tensor = ((ModelTensorOutput) cachedOutput).getMlModelOutputs().get(0).getMlModelTensors().get(0);
+        assertArrayEquals(new Number[] { 0.0f, 1.0f, 2.0f, 3.0f }, tensor.getData());
+        assertEquals(MLResultDataType.FLOAT32, tensor.getDataType());
+    }
+
+    public void testPut_SizeBound() {
+        for (int i = 0; i < 100; i++) {
+            MLPredictResultCache.Key key = cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("doc" + i));
+            cache.put(key, embeddingOutput(64));
+        }
+        assertTrue(cache.count() < 100);
+        assertTrue(cache.weight() <= 10 * 1024);
+    }
+
+    public void testInvalidate() {
+        MLPredictResultCache.Key key1 = cache.createKey("model_id1", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello"));
+        MLPredictResultCache.Key key2 = cache.createKey("model_id2", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello"));
+        cache.put(key1, embeddingOutput(4));
+        cache.put(key2, embeddingOutput(4));
+
+        cache.invalidate("model_id1");
+        assertNull(cache.get(key1));
+        assertNotNull(cache.get(key2));
+    }
+
+    public void testDisable() {
+        MLPredictResultCache.Key key = cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello"));
+        cache.put(key, embeddingOutput(4));
+
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_PREDICT_RESULT_CACHE_ENABLED.getKey(), false).build());
+        assertEquals(0, cache.count());
+        assertNull(cache.createKey("model_id", modelInfo, FunctionName.TEXT_EMBEDDING, textDocsInput("hello")));
+        cache.put(key, embeddingOutput(4));
+        assertEquals(0, cache.count());
+    }
+
+    private MLInput textDocsInput(String doc) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of(doc)).build())
+            .build();
+    }
+
+    private ModelTensorOutput embeddingOutput(int dimension) {
+        Number[] data = new Number[dimension];
+        for (int i = 0; i < dimension; i++) {
+            data[i] = (float) i;
+        }
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { dimension })
+            .data(data)
+            .build();
+        return ModelTensorOutput.builder().mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(tensor)).build())).build();
+    }
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.*;
 import static org.opensearch.ml.utils.MLExceptionUtils.LOCAL_MODEL_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_PRIORITY;
 import static org.opensearch.ml.utils.TestHelper.getKMeansRestRequest;
 import static org.opensearch.ml.utils.TestHelper.verifyParsedKMeansMLInput;
 
@@ -35,6 +36,7 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelGetResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionPriority;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.model.MLModelManager;
@@ -113,6 +115,16 @@ public class RestMLPredictionActionTests extends OpenSearchTestCase {
 
         MLInput mlInput = mlPredictionTaskRequest.getMlInput();
         verifyParsedKMeansMLInput(mlInput);
+        assertNull(mlPredictionTaskRequest.getPriority());
+    }
+
+    public void testGetRequest_Priority() throws IOException {
+        RestRequest request = getRestRequest_PredictModel();
+        request.params().put(PARAMETER_PRIORITY, "batch");
+        MLPredictionTaskRequest mlPredictionTaskRequest = restMLPredictionAction.getRequest("modelId", FunctionName.KMEANS.name(), request);
+
+        assertEquals(MLPredictionPriority.BATCH, mlPredictionTaskRequest.getPriority());
+        verifyParsedKMeansMLInput(mlPredictionTaskRequest.getMlInput());
     }
 
     public void testGetRequest_RemoteInferenceDisabled() throws IOException {
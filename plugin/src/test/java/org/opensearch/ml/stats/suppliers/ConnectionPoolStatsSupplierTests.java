@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.suppliers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.opensearch.ml.engine.httpclient.MLHttpClientRegistry;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ConnectionPoolStatsSupplierTests extends OpenSearchTestCase {
+
+    public void testGet() {
+        MLHttpClientRegistry httpClientRegistry = mock(MLHttpClientRegistry.class);
+        when(httpClientRegistry.getStats()).thenReturn(new MLHttpClientRegistry.ConnectionPoolStats(2, 3, 1, 5, 40));
+        ConnectionPoolStatsSupplier leasedSupplier = new ConnectionPoolStatsSupplier(
+            httpClientRegistry,
+            MLHttpClientRegistry.ConnectionPoolStats::getLeased
+        );
+        assertEquals("get returns incorrect value", (Long) 3L, leasedSupplier.get());
+        ConnectionPoolStatsSupplier poolSupplier = new ConnectionPoolStatsSupplier(
+            httpClientRegistry,
+            MLHttpClientRegistry.ConnectionPoolStats::getPools
+        );
+        assertEquals("get returns incorrect value", (Long) 2L, poolSupplier.get());
+    }
+}
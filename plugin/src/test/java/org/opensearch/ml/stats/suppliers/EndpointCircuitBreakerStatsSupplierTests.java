@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.suppliers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.opensearch.ml.engine.algorithms.remote.EndpointCircuitBreakers;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EndpointCircuitBreakerStatsSupplierTests extends OpenSearchTestCase {
+
+    public void testGet() {
+        EndpointCircuitBreakers endpointCircuitBreakers = mock(EndpointCircuitBreakers.class);
+        when(endpointCircuitBreakers.getOpenCount()).thenReturn(2L);
+        when(endpointCircuitBreakers.getRejectedCount()).thenReturn(7L);
+        EndpointCircuitBreakerStatsSupplier openSupplier = new EndpointCircuitBreakerStatsSupplier(
+            endpointCircuitBreakers,
+            EndpointCircuitBreakers::getOpenCount
+        );
+        assertEquals("get returns incorrect value", (Long) 2L, openSupplier.get());
+        EndpointCircuitBreakerStatsSupplier rejectedSupplier = new EndpointCircuitBreakerStatsSupplier(
+            endpointCircuitBreakers,
+            EndpointCircuitBreakers::getRejectedCount
+        );
+        assertEquals("get returns incorrect value", (Long) 7L, rejectedSupplier.get());
+        assertEquals((Long) 0L, new EndpointCircuitBreakerStatsSupplier(null, EndpointCircuitBreakers::getOpenCount).get());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.transport.prediction.MLPredictionPriority;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLPredictAdmissionControllerTests extends OpenSearchTestCase {
+
+    private MLPredictAdmissionController admissionController;
+    // tasks submitted to the thread pool which haven't run yet
+    private List<Runnable> pendingTasks;
+    private List<String> executed;
+    private ThreadContext threadContext;
+
+    @Before
+    public void setup() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ExecutorService executorService = mock(ExecutorService.class);
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executorService);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(threadPool.info(PREDICT_THREAD_POOL)).thenReturn(new ThreadPool.Info(PREDICT_THREAD_POOL, ThreadPool.ThreadPoolType.FIXED, 1));
+        pendingTasks = new ArrayList<>();
+        executed = new ArrayList<>();
+        doAnswer(invocation -> {
+            // like the executors of the thread pool, the task runs with the context of the thread which submits it
+            pendingTasks.add(threadContext.preserveContext(invocation.getArgument(0)));
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL.getKey(), 2)
+            .put(ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT.getKey(), 2)
+            .build();
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(Arrays.asList(ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL, ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT))
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        admissionController = new MLPredictAdmissionController(threadPool, clusterService, settings);
+    }
+
+    public void testSubmit_RunsUpToThreadPoolSize() {
+        submit("model1", MLPredictionPriority.INTERACTIVE, "a", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.INTERACTIVE, "b", mock(ActionListener.class));
+
+        assertEquals(1, pendingTasks.size());
+        assertEquals(1, admissionController.getQueueSize(PREDICT_THREAD_POOL, "model1", MLPredictionPriority.INTERACTIVE));
+        runAll();
+        assertEquals(Arrays.asList("a", "b"), executed);
+        assertEquals(0, admissionController.getQueueSize(PREDICT_THREAD_POOL, "model1", MLPredictionPriority.INTERACTIVE));
+    }
+
+    public void testSubmit_RoundRobinAcrossModels() {
+        submit("model1", MLPredictionPriority.INTERACTIVE, "running", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.INTERACTIVE, "a1", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.INTERACTIVE, "a2", mock(ActionListener.class));
+        submit("model2", MLPredictionPriority.INTERACTIVE, "b1", mock(ActionListener.class));
+
+        runAll();
+        assertEquals(Arrays.asList("running", "a1", "b1", "a2"), executed);
+    }
+
+    public void testSubmit_InteractiveBeforeBatch() {
+        submit("model1", MLPredictionPriority.BATCH, "running", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.BATCH, "batch1", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.BATCH, "batch2", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.INTERACTIVE, "interactive1", mock(ActionListener.class));
+        submit("model2", MLPredictionPriority.INTERACTIVE, "interactive2", mock(ActionListener.class));
+        submit("model2", null, "interactive3", mock(ActionListener.class));
+
+        runAll();
+        // a batch request runs after every two interactive requests
+        assertEquals(Arrays.asList("running", "interactive1", "interactive2", "batch1", "interactive3", "batch2"), executed);
+    }
+
+    public void testSubmit_QueueFull() {
+        ActionListener<Object> listener = mock(ActionListener.class);
+        submit("model1", MLPredictionPriority.BATCH, "running", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.BATCH, "batch1", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.BATCH, "batch2", mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.BATCH, "rejected", listener);
+        // other models and priorities have their own queues
+        submit("model1", MLPredictionPriority.INTERACTIVE, "interactive", mock(ActionListener.class));
+        submit("model2", MLPredictionPriority.BATCH, "model2", mock(ActionListener.class));
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof OpenSearchRejectedExecutionException);
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, ExceptionsHelper.status(argumentCaptor.getValue()));
+        runAll();
+        assertFalse(executed.contains("rejected"));
+        assertEquals(5, executed.size());
+    }
+
+    public void testSubmit_SlotHeldUntilListenerCompletes() {
+        List<ActionListener<Object>> running = new ArrayList<>();
+        admissionController.submit(PREDICT_THREAD_POOL, "model1", null, running::add, mock(ActionListener.class));
+        submit("model1", MLPredictionPriority.INTERACTIVE, "a", mock(ActionListener.class));
+
+        // the first request released its thread, but its response is pending
+        runAll();
+        assertEquals(1, running.size());
+        assertTrue(executed.isEmpty());
+
+        running.get(0).onResponse(null);
+        // completing the listener again doesn't free another slot
+        running.get(0).onFailure(new RuntimeException("test"));
+        runAll();
+        assertEquals(Arrays.asList("a"), executed);
+    }
+
+    public void testSubmit_RunsWithCallerThreadContext() {
+        List<String> users = new ArrayList<>();
+        ActionListener<Object> listener = mock(ActionListener.class);
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient("user", "a");
+            admissionController.submit(PREDICT_THREAD_POOL, "model1", null, it -> {
+                users.add(threadContext.getTransient("user"));
+                it.onResponse(null);
+            }, listener);
+        }
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient("user", "b");
+            admissionController.submit(PREDICT_THREAD_POOL, "model1", null, it -> {
+                users.add(threadContext.getTransient("user"));
+                it.onResponse(null);
+            }, listener);
+        }
+
+        // the second request is started by the thread finishing the first one, with its own context
+        runAll();
+        assertEquals(Arrays.asList("a", "b"), users);
+    }
+
+    private void submit(String modelId, MLPredictionPriority priority, String name, ActionListener<Object> listener) {
+        admissionController.submit(PREDICT_THREAD_POOL, modelId, priority, it -> {
+            executed.add(name);
+            it.onResponse(name);
+        }, listener);
+    }
+
+    private void runAll() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+}
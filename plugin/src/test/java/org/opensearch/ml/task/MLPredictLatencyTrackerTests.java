@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLPredictLatencyTrackerTests extends OpenSearchTestCase {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private AtomicLong clock;
+    private MLPredictLatencyTracker tracker;
+
+    @Before
+    public void setup() {
+        clock = new AtomicLong();
+        tracker = new MLPredictLatencyTracker(clock::get);
+    }
+
+    public void testGetCost_NoSamples() {
+        assertEquals(0, tracker.getCost("model1", "node1"), 0);
+
+        // a node without samples is probed with one request at a time
+        tracker.onRequestStarted("model1", "node1");
+        assertEquals(Double.POSITIVE_INFINITY, tracker.getCost("model1", "node1"), 0);
+    }
+
+    public void testGetCost_MovingAverage() {
+        complete("node1", 100, false);
+        assertEquals(100, tracker.getCost("model1", "node1"), 1e-9);
+
+        complete("node1", 200, false);
+        assertEquals(130, tracker.getCost("model1", "node1"), 1e-9);
+
+        // in-flight requests multiply the latency
+        tracker.onRequestStarted("model1", "node1");
+        assertEquals(260, tracker.getCost("model1", "node1"), 1e-9);
+
+        // other models and nodes are tracked separately
+        assertEquals(0, tracker.getCost("model2", "node1"), 0);
+        assertEquals(0, tracker.getCost("model1", "node2"), 0);
+    }
+
+    public void testGetCost_FailurePenalty() {
+        complete("node1", 100, false);
+        complete("node1", 1, true);
+        assertEquals(0.3 * 200 + 0.7 * 100, tracker.getCost("model1", "node1"), 1e-9);
+
+        // failures of the predict itself are plain latency samples
+        complete("node2", 100, false);
+        complete("node2", 1, false);
+        assertEquals(0.3 * 1 + 0.7 * 100, tracker.getCost("model1", "node2"), 1e-9);
+    }
+
+    public void testExpireIdleStats() {
+        complete("node1", 100, false);
+        tracker.onRequestStarted("model1", "node2");
+        assertEquals(2, tracker.size());
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        complete("node3", 100, false);
+        // the idle node is dropped, the node with an in-flight request is kept
+        assertEquals(2, tracker.size());
+        assertEquals(0, tracker.getCost("model1", "node1"), 0);
+        assertEquals(Double.POSITIVE_INFINITY, tracker.getCost("model1", "node2"), 0);
+    }
+
+    public void testGetCost_DecayWhileIdle() {
+        complete("node1", 100, false);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(50, tracker.getCost("model1", "node1"), 1e-9);
+    }
+
+    private void complete(String nodeId, long latencyInMillis, boolean nodeFailure) {
+        tracker.onRequestStarted("model1", nodeId);
+        tracker.onRequestCompleted("model1", nodeId, latencyInMillis * MILLIS, nodeFailure);
+    }
+}
@@ -10,14 +10,21 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -32,6 +39,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.ConfigConstants;
@@ -51,16 +59,24 @@ import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.exception.MLDeadlineExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictResultCache;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
@@ -150,29 +166,33 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_PREDICT_LOCAL_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_PREDICT_FORWARDED_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_PREDICT_EXPIRED_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
 
-        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.getKey(), true).build();
-        ClusterSettings clusterSettings = new ClusterSettings(settings, new HashSet<>(Arrays.asList(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE)));
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.getKey(), true)
+            .put(ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED.getKey(), true)
+            .build();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(
+                Arrays
+                    .asList(
+                        ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE,
+                        ML_COMMONS_REMOTE_INFERENCE_ASYNC_ENABLED,
+                        ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED,
+                        ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS,
+                        ML_COMMONS_PREDICT_QUEUE_MAX_SIZE_PER_MODEL,
+                        ML_COMMONS_PREDICT_QUEUE_INTERACTIVE_WEIGHT
+                    )
+            )
+        );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.mlStats = new MLStats(stats);
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
-        taskRunner = spy(
-            new MLPredictTaskRunner(
-                threadPool,
-                clusterService,
-                client,
-                mlTaskManager,
-                mlStats,
-                mlInputDatasetHandler,
-                mlTaskDispatcher,
-                mlCircuitBreakerService,
-                xContentRegistry(),
-                mlModelManager,
-                nodeHelper,
-                mlEngine,
-                settings
-            )
-        );
+        taskRunner = createTaskRunner(settings);
 
         dataFrame = TestData.constructTestDataFrame(100);
 
@@ -248,7 +268,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         when(mlModelManager.addModelToAutoDeployCache("111", mlModel)).thenReturn(mlModel);
         taskRunner.dispatchTask(FunctionName.REMOTE, requestWithDataFrame, transportService, listener);
         verify(client).execute(any(), any(), any());
-        verify(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        verify(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
     }
 
     public void testExecuteTask_OnLocalNode_QueryInput_Failure() {
@@ -318,9 +338,187 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("No model found, please check the modelId.", argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_RemoteModel_AsyncPredict() {
+        setupMocks(true, false, false, false);
+        MLInput remoteInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(Map.of("input", "test")).build())
+            .build();
+        MLPredictionTaskRequest remoteRequest = MLPredictionTaskRequest.builder().modelId("111").mlInput(remoteInput).build();
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor("111")).thenReturn(predictor);
+        when(mlModelManager.getWorkerNodes(anyString(), any(), anyBoolean())).thenReturn(new String[] { "localNodeId" });
+        when(mlModelManager.trackPredictDuration(anyString(), any(ActionListener.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(ModelTensor.builder().name("response").build())).build()))
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(modelTensorOutput);
+            return null;
+        }).when(predictor).asyncPredict(any(), any());
+
+        taskRunner.dispatchTask(FunctionName.REMOTE, remoteRequest, transportService, listener);
+        verify(predictor).asyncPredict(any(), any());
+        verify(predictor, never()).predict(any(MLInput.class));
+        verify(mlTaskManager).remove(anyString());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(modelTensorOutput, argumentCaptor.getValue().getOutput());
+    }
+
+    public void testExecuteTask_RemoteModel_AsyncPredictFailure() {
+        setupMocks(true, false, false, false);
+        MLInput remoteInput = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(Map.of("input", "test")).build())
+            .build();
+        MLPredictionTaskRequest remoteRequest = MLPredictionTaskRequest.builder().modelId("111").mlInput(remoteInput).build();
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor("111")).thenReturn(predictor);
+        when(mlModelManager.getWorkerNodes(anyString(), any(), anyBoolean())).thenReturn(new String[] { "localNodeId" });
+        when(mlModelManager.trackPredictDuration(anyString(), any(ActionListener.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new RuntimeException(errorMessage));
+            return null;
+        }).when(predictor).asyncPredict(any(), any());
+
+        taskRunner.dispatchTask(FunctionName.REMOTE, remoteRequest, transportService, listener);
+        verify(mlTaskManager).remove(anyString());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
+    }
+
+    public void testExecuteTask_CachedPredictResult() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor("111")).thenReturn(predictor);
+        when(mlModelManager.getWorkerNodes(anyString(), any(), anyBoolean())).thenReturn(new String[] { "localNodeId" });
+        MLPredictResultCache.Key cacheKey = mock(MLPredictResultCache.Key.class);
+        when(mlModelManager.createPredictResultKey(eq("111"), any(), any())).thenReturn(cacheKey);
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(ModelTensor.builder().name("response").build())).build()))
+            .build();
+        when(mlModelManager.getCachedPredictResult(cacheKey)).thenReturn(modelTensorOutput);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(predictor, never()).predict(any(MLInput.class));
+        verify(mlModelManager, never()).cachePredictResult(any(), any());
+        verify(mlTaskManager).remove(anyString());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(modelTensorOutput, argumentCaptor.getValue().getOutput());
+    }
+
+    public void testExecuteTask_LocalFirst() {
+        setupMocks(false, false, false, false);
+        taskRunner = createTaskRunner(Settings.builder().put(ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED.getKey(), true).build());
+        when(mlModelManager.getWorkerNodes(anyString(), any(), anyBoolean())).thenReturn(new String[] { "remoteNodeId", "localNodeId" });
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher, never()).dispatchPredictTask(any(), any(), any());
+        verify(transportService, never()).sendRequest(any(), any(), any(), any());
+        verify(mlTaskManager).add(any(MLTask.class));
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_PREDICT_LOCAL_REQUEST_COUNT).getValue());
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_PREDICT_FORWARDED_REQUEST_COUNT).getValue());
+    }
+
+    public void testExecuteTask_LocalFirst_LocalNodeBusy() {
+        setupMocks(false, false, false, false);
+        taskRunner = createTaskRunner(
+            Settings
+                .builder()
+                .put(ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED.getKey(), true)
+                .put(ML_COMMONS_PREDICT_LOCAL_FIRST_MAX_EXECUTING_TASKS.getKey(), 1)
+                .build()
+        );
+        mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
+        when(mlModelManager.getWorkerNodes(anyString(), any(), anyBoolean())).thenReturn(new String[] { "remoteNodeId", "localNodeId" });
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
+        verify(transportService).sendRequest(eq(remoteNode), any(), any(), any());
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_PREDICT_LOCAL_REQUEST_COUNT).getValue());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_PREDICT_FORWARDED_REQUEST_COUNT).getValue());
+    }
+
+    public void testExecuteTask_LocalFirst_LocalNodeNotWorker() {
+        setupMocks(false, false, false, false);
+        taskRunner = createTaskRunner(Settings.builder().put(ML_COMMONS_PREDICT_LOCAL_FIRST_ENABLED.getKey(), true).build());
+        when(mlModelManager.getWorkerNodes(anyString(), any(), anyBoolean())).thenReturn(new String[] { "remoteNodeId" });
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_PREDICT_FORWARDED_REQUEST_COUNT).getValue());
+    }
+
+    public void testExecuteTask_DeadlineExceeded() {
+        setupMocks(true, false, false, false);
+        requestWithDataFrame.setTimeout(TimeValue.ZERO);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher, never()).dispatchPredictTask(any(), any(), any());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLDeadlineExceededException);
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_PREDICT_EXPIRED_REQUEST_COUNT).getValue());
+    }
+
+    public void testExecuteTask_CachePredictResult() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor("111")).thenReturn(predictor);
+        when(mlModelManager.getWorkerNodes(anyString(), any(), anyBoolean())).thenReturn(new String[] { "localNodeId" });
+        MLPredictResultCache.Key cacheKey = mock(MLPredictResultCache.Key.class);
+        when(mlModelManager.createPredictResultKey(eq("111"), any(), any())).thenReturn(cacheKey);
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(ModelTensor.builder().name("response").build())).build()))
+            .build();
+        when(mlModelManager.trackPredictDuration(anyString(), any(Supplier.class))).thenReturn(modelTensorOutput);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlModelManager).getCachedPredictResult(cacheKey);
+        verify(mlModelManager).cachePredictResult(cacheKey, modelTensorOutput);
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(modelTensorOutput, argumentCaptor.getValue().getOutput());
+    }
+
+    private MLPredictTaskRunner createTaskRunner(Settings settings) {
+        return spy(
+            new MLPredictTaskRunner(
+                threadPool,
+                clusterService,
+                client,
+                mlTaskManager,
+                mlStats,
+                mlInputDatasetHandler,
+                mlTaskDispatcher,
+                mlCircuitBreakerService,
+                xContentRegistry(),
+                mlModelManager,
+                nodeHelper,
+                mlEngine,
+                settings
+            )
+        );
+    }
+
     private void setupMocks(boolean runOnLocalNode, boolean failedToParseQueryInput, boolean failedToGetModel, boolean nullGetResponse) {
         doAnswer(invocation -> {
-            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(2);
             if (runOnLocalNode) {
                 actionListener.onResponse(localNode);
             } else {
@@ -330,14 +528,14 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlTaskDispatcher).dispatch(any(), any());
 
         doAnswer(invocation -> {
-            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(2);
             if (runOnLocalNode) {
                 actionListener.onResponse(localNode);
             } else {
                 actionListener.onResponse(remoteNode);
             }
             return null;
-        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
 
         if (failedToParseQueryInput) {
             doAnswer(invocation -> {
@@ -5,21 +5,25 @@
 
 package org.opensearch.ml.task;
 
-import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EXCLUDE_NODE_NAMES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -27,7 +31,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.Version;
-import org.opensearch.client.Client;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -36,13 +39,10 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.ml.action.stats.MLStatsNodeResponse;
-import org.opensearch.ml.action.stats.MLStatsNodesAction;
-import org.opensearch.ml.action.stats.MLStatsNodesRequest;
-import org.opensearch.ml.action.stats.MLStatsNodesResponse;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.cluster.MLNodeLoadService;
 import org.opensearch.ml.common.FunctionName;
-import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.common.transport.sync.MLNodeLoad;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.google.common.collect.ImmutableSet;
@@ -52,30 +52,43 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     @Mock
     ClusterService clusterService;
 
-    @Mock
-    Client client;
-
     @Mock
     ActionListener<DiscoveryNode> listener;
     @Mock
     DiscoveryNodeHelper nodeHelper;
 
+    MLNodeLoadService nodeLoadService;
     MLTaskDispatcher taskDispatcher;
     ClusterState testState;
     DiscoveryNode dataNode1;
     DiscoveryNode dataNode2;
     DiscoveryNode mlNode;
-    MLStatsNodesResponse mlStatsNodesResponse;
     String clusterName = "test cluster";
     Settings settings;
 
     @Before
     public void setup() {
-        settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
+        settings = Settings
+            .builder()
+            .put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load")
+            .build();
         MockitoAnnotations.openMocks(this);
-
-        taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
-        nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
+        when(clusterService.getClusterSettings())
+            .thenReturn(
+                clusterSetting(
+                    settings,
+                    ML_COMMONS_TASK_DISPATCH_POLICY,
+                    ML_COMMONS_MAX_ML_TASK_PER_NODE,
+                    ML_COMMONS_ONLY_RUN_ON_ML_NODE,
+                    ML_COMMONS_EXCLUDE_NODE_NAMES,
+                    ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
+                    ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES
+                )
+            );
+
+        nodeLoadService = new MLNodeLoadService(null, null, null, null);
+        taskDispatcher = spy(new MLTaskDispatcher(clusterService, settings, nodeHelper, nodeLoadService));
 
         Set<DiscoveryNodeRole> dataRoleSet = ImmutableSet.of(DiscoveryNodeRole.DATA_ROLE);
         dataNode1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), new HashMap<>(), dataRoleSet, Version.CURRENT);
@@ -85,36 +98,76 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         DiscoveryNodes nodes = DiscoveryNodes.builder().add(dataNode1).add(dataNode2).build();
         testState = new ClusterState(new ClusterName(clusterName), 123l, "111111", null, null, nodes, null, Map.of(), 0, false);
         when(clusterService.state()).thenReturn(testState);
+        when(nodeHelper.getEligibleNodes(FunctionName.REMOTE)).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        when(nodeHelper.getNodes(new String[] { "node1", "node2" })).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
 
-        doAnswer(invocation -> {
-            ActionListener<MLStatsNodesResponse> actionListener = invocation.getArgument(2);
-            actionListener.onResponse(mlStatsNodesResponse);
-            return null;
-        }).when(client).execute(any(), any(), any());
-
-        mlStatsNodesResponse = getMlStatsNodesResponse();
+        nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
     }
 
-    @Ignore
     public void testDispatchTask_Success() {
+        nodeLoadService.updateNodeLoads(Map.of("node1", nodeLoad(50, 5, Map.of()), "node2", nodeLoad(50, 2, Map.of())));
         taskDispatcher.dispatch(FunctionName.REMOTE, listener);
-        verify(client).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
-        verify(listener).onResponse(any());
+        verify(listener).onResponse(dataNode2);
     }
 
-    @Ignore
-    public void testDispatchTask_NullPointerException() {
-        mlStatsNodesResponse = getNodesResponse_NoTaskCounts();
+    public void testDispatchTask_SameLoad_LeastHeapUsage() {
+        nodeLoadService.updateNodeLoads(Map.of("node1", nodeLoad(60, 2, Map.of()), "node2", nodeLoad(50, 2, Map.of())));
         taskDispatcher.dispatch(FunctionName.REMOTE, listener);
-        verify(client).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
-        verify(listener).onFailure(any(NullPointerException.class));
+        verify(listener).onResponse(dataNode2);
+    }
+
+    public void testDispatchTask_NoNodeLoad() {
+        // nodes which haven't reported their load are considered idle, and dispatched tasks count as their load
+        ArgumentCaptor<DiscoveryNode> argumentCaptor = ArgumentCaptor.forClass(DiscoveryNode.class);
+        taskDispatcher.dispatch(FunctionName.REMOTE, listener);
+        taskDispatcher.dispatch(FunctionName.REMOTE, listener);
+        verify(listener, times(2)).onResponse(argumentCaptor.capture());
+        assertEquals(Set.of(dataNode1, dataNode2), Set.copyOf(argumentCaptor.getAllValues()));
+    }
+
+    public void testDispatchTask_CountDispatchedTasks() {
+        nodeLoadService.updateNodeLoads(Map.of("node1", nodeLoad(50, 5, Map.of()), "node2", nodeLoad(50, 2, Map.of())));
+        for (int i = 0; i < 4; i++) {
+            taskDispatcher.dispatch(FunctionName.REMOTE, listener);
+        }
+        assertEquals(3, nodeLoadService.getDispatchedTaskCount("node2"));
+        assertEquals(1, nodeLoadService.getDispatchedTaskCount("node1"));
+
+        // a new snapshot replaces the dispatched task counts
+        nodeLoadService.updateNodeLoads(Map.of("node1", nodeLoad(50, 5, Map.of()), "node2", nodeLoad(50, 5, Map.of())));
+        assertEquals(0, nodeLoadService.getDispatchedTaskCount("node2"));
+    }
+
+    public void testDispatchPredictTask_ModelInFlightRequests() {
+        nodeLoadService.updateNodeLoads(Map.of("node1", nodeLoad(50, 2, Map.of()), "node2", nodeLoad(50, 2, Map.of("model1", 3))));
+        taskDispatcher.dispatchPredictTask("model1", new String[] { "node1", "node2" }, listener);
+        verify(listener).onResponse(dataNode1);
+    }
+
+    public void testDispatchPredictTask_LatencyAware() {
+        taskDispatcher = new MLTaskDispatcher(
+            clusterService,
+            Settings.builder().put(settings).put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware").build(),
+            nodeHelper,
+            nodeLoadService
+        );
+        when(nodeHelper.getNode("node1")).thenReturn(dataNode1);
+        when(nodeHelper.getNode("node2")).thenReturn(dataNode2);
+        taskDispatcher.onPredictTaskStarted("model1", "node1");
+        taskDispatcher.onPredictTaskCompleted("model1", "node1", TimeUnit.MILLISECONDS.toNanos(500), false);
+        taskDispatcher.onPredictTaskStarted("model1", "node2");
+        taskDispatcher.onPredictTaskCompleted("model1", "node2", TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        // with two worker nodes both are candidates, the faster one wins
+        for (int i = 0; i < 10; i++) {
+            taskDispatcher.dispatchPredictTask("model1", new String[] { "node1", "node2" }, listener);
+        }
+        verify(listener, times(10)).onResponse(dataNode2);
     }
 
-    @Ignore
     public void testDispatchTask_MemoryExceedLimit() {
-        mlStatsNodesResponse = getNodesResponse_MemoryExceedLimits();
+        nodeLoadService.updateNodeLoads(Map.of("node1", nodeLoad(90, 5, Map.of()), "node2", nodeLoad(90, 5, Map.of())));
         taskDispatcher.dispatch(FunctionName.REMOTE, listener);
-        verify(client).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(listener).onFailure(argumentCaptor.capture());
         String errorMessage = "All nodes' memory usage exceeds limitation "
@@ -123,11 +176,9 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
     }
 
-    @Ignore
     public void testDispatchTask_TaskCountExceedLimit() {
-        mlStatsNodesResponse = getNodesResponse_TaskCountExceedLimits();
+        nodeLoadService.updateNodeLoads(Map.of("node1", nodeLoad(50, 15, Map.of()), "node2", nodeLoad(50, 15, Map.of())));
         taskDispatcher.dispatch(FunctionName.REMOTE, listener);
-        verify(client).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(listener).onFailure(argumentCaptor.capture());
         String errorMessage = "All nodes' executing ML task count reach limitation.";
@@ -158,54 +209,12 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         }
     }
 
-    private MLStatsNodesResponse getMlStatsNodesResponse() {
-        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
-        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
-        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, 5l);
-        MLStatsNodeResponse mlStatsNodeResponse1 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        MLStatsNodeResponse mlStatsNodeResponse2 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        return new MLStatsNodesResponse(
-            new ClusterName(clusterName),
-            Arrays.asList(mlStatsNodeResponse1, mlStatsNodeResponse2),
-            new ArrayList<>()
-        );
-    }
-
-    private MLStatsNodesResponse getNodesResponse_NoTaskCounts() {
-        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
-        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
-        MLStatsNodeResponse mlStatsNodeResponse1 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        MLStatsNodeResponse mlStatsNodeResponse2 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        return new MLStatsNodesResponse(
-            new ClusterName(clusterName),
-            Arrays.asList(mlStatsNodeResponse1, mlStatsNodeResponse2),
-            new ArrayList<>()
-        );
-    }
-
-    private MLStatsNodesResponse getNodesResponse_MemoryExceedLimits() {
-        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
-        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 90l);
-        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, 5l);
-        MLStatsNodeResponse mlStatsNodeResponse1 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        MLStatsNodeResponse mlStatsNodeResponse2 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        return new MLStatsNodesResponse(
-            new ClusterName(clusterName),
-            Arrays.asList(mlStatsNodeResponse1, mlStatsNodeResponse2),
-            new ArrayList<>()
-        );
-    }
-
-    private MLStatsNodesResponse getNodesResponse_TaskCountExceedLimits() {
-        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
-        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
-        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, 15l);
-        MLStatsNodeResponse mlStatsNodeResponse1 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        MLStatsNodeResponse mlStatsNodeResponse2 = new MLStatsNodeResponse(dataNode1, nodeStats);
-        return new MLStatsNodesResponse(
-            new ClusterName(clusterName),
-            Arrays.asList(mlStatsNodeResponse1, mlStatsNodeResponse2),
-            new ArrayList<>()
-        );
+    private MLNodeLoad nodeLoad(long jvmHeapUsage, long executingTaskCount, Map<String, Integer> modelInFlightRequests) {
+        return MLNodeLoad
+            .builder()
+            .jvmHeapUsage(jvmHeapUsage)
+            .executingTaskCount(executingTaskCount)
+            .modelInFlightRequests(modelInFlightRequests)
+            .build();
     }
 }